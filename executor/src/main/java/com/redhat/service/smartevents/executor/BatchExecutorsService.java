@@ -0,0 +1,139 @@
+package com.redhat.service.smartevents.executor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+import com.redhat.service.smartevents.infra.utils.EventFormat;
+import com.redhat.service.smartevents.infra.utils.JsonNodeMap;
+
+import io.cloudevents.CloudEvent;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+import io.smallrye.reactive.messaging.kafka.KafkaRecordBatch;
+
+/**
+ * Batch counterpart of {@link ExecutorsService}: the events of a Kafka batch are processed by a bounded pool of workers.
+ * Events with the same ordering key (the CloudEvent subject, or else the Kafka record key, or else the partition) are processed
+ * sequentially in offset order, while events with different keys run in parallel.
+ * Every record is acked as soon as its event has been delivered, so the commit strategy never commits past the lowest unfinished offset.
+ */
+@ApplicationScoped
+public class BatchExecutorsService {
+
+    /**
+     * Channel used for receiving batches of events.
+     */
+    public static final String EVENTS_IN_BATCH_CHANNEL = "events-in-batch";
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchExecutorsService.class);
+
+    @Inject
+    EventDispatcher eventDispatcher;
+
+    @ConfigProperty(name = "event-bridge.executor.decode-mode", defaultValue = "LAZY_VIEW")
+    EventDecodeMode decodeMode;
+
+    @ConfigProperty(name = "event-bridge.executor.batch.concurrency", defaultValue = "8")
+    int concurrency;
+
+    private ExecutorService workers;
+
+    @PostConstruct
+    void init() {
+        workers = Executors.newFixedThreadPool(concurrency);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    @Incoming(EVENTS_IN_BATCH_CHANNEL)
+    public CompletionStage<Void> processBridgeEvents(final KafkaRecordBatch<String, byte[]> batch) {
+        Map<String, List<PendingEvent>> lanes = new LinkedHashMap<>();
+        for (KafkaRecord<String, byte[]> record : batch.getRecords()) {
+            PendingEvent event = decode(record);
+            lanes.computeIfAbsent(event.orderingKey, k -> new ArrayList<>()).add(event);
+        }
+
+        CompletableFuture<?>[] completions = lanes.values().stream()
+                .map(lane -> processLane(lane).subscribeAsCompletionStage())
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(completions);
+    }
+
+    private Uni<Void> processLane(List<PendingEvent> lane) {
+        // Each event of the lane starts only when the previous one has been delivered. It runs on the workers pool, not on the thread that completed the delivery.
+        Uni<Void> chain = Uni.createFrom().voidItem();
+        for (PendingEvent event : lane) {
+            chain = chain.chain(() -> process(event).runSubscriptionOn(workers));
+        }
+        return chain;
+    }
+
+    private PendingEvent decode(KafkaRecord<String, byte[]> record) {
+        try {
+            // The event is decoded once and evaluated by all the Processors
+            byte[] payload = BinaryModeEvents.toStructured(record);
+            EventFormat format = BinaryModeEvents.formatOf(record);
+            if (decodeMode == EventDecodeMode.LAZY_VIEW) {
+                JsonNodeMap event = CloudEventUtils.decodeView(payload, format);
+                return new PendingEvent(record, getOrderingKey(record, event.get("subject")), eventDispatcher.dispatch(event));
+            }
+            CloudEvent cloudEvent = CloudEventUtils.decode(payload, format);
+            byte[] json = format == EventFormat.JSON ? payload : CloudEventUtils.encode(cloudEvent).getBytes(StandardCharsets.UTF_8);
+            return new PendingEvent(record, getOrderingKey(record, cloudEvent.getSubject()), eventDispatcher.dispatch(json, cloudEvent));
+        } catch (Throwable t) {
+            LOG.error("Failed to handle Event received on Bridge. The message is sent to the dead-letter topic.", t);
+            return new PendingEvent(record, getOrderingKey(record, null), eventDispatcher.dispatchFailure(record.getPayload(), t));
+        }
+    }
+
+    private Uni<Void> process(PendingEvent event) {
+        // The delivery never fails: the events that a Processor failed to handle are dead-lettered
+        return event.delivery
+                .chain(() -> Uni.createFrom().completionStage(event.record.ack()));
+    }
+
+    static String getOrderingKey(KafkaRecord<String, byte[]> record, Object subject) {
+        if (subject != null) {
+            return "subject:" + subject;
+        }
+        if (record.getKey() != null) {
+            return "key:" + record.getKey();
+        }
+        return "partition:" + record.getPartition();
+    }
+
+    private static class PendingEvent {
+
+        private final KafkaRecord<String, byte[]> record;
+        private final String orderingKey;
+        // Lazy: the event is processed only when the Uni is subscribed
+        private final Uni<Void> delivery;
+
+        PendingEvent(KafkaRecord<String, byte[]> record, String orderingKey, Uni<Void> delivery) {
+            this.record = record;
+            this.orderingKey = orderingKey;
+            this.delivery = delivery;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.redhat.service.smartevents.executor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+import com.redhat.service.smartevents.infra.utils.EventFormat;
+
+import io.smallrye.reactive.messaging.kafka.api.IncomingKafkaRecordMetadata;
+
+/**
+ * The ingress publishes the events either in the structured mode, the whole CloudEvent being the record value, or in the binary mode,
+ * the attributes being carried by the record headers. The Executor always handles the structured mode: the binary mode records
+ * are converted to JSON when they are received. The structured mode records are encoded in the {@link EventFormat} of their
+ * content type header.
+ */
+final class BinaryModeEvents {
+
+    private static final String SPEC_VERSION_HEADER = CloudEventUtils.KAFKA_BINARY_HEADER_PREFIX + "specversion";
+
+    /**
+     * @return the structured mode encoding of the event carried by the message.
+     */
+    @SuppressWarnings("rawtypes")
+    static byte[] toStructured(Message<byte[]> message) {
+        Optional<IncomingKafkaRecordMetadata> metadata = message.getMetadata(IncomingKafkaRecordMetadata.class);
+        if (metadata.isEmpty()) {
+            return message.getPayload();
+        }
+        Headers headers = metadata.get().getHeaders();
+        if (headers == null || headers.lastHeader(SPEC_VERSION_HEADER) == null) {
+            return message.getPayload();
+        }
+
+        Map<String, String> attributes = new HashMap<>();
+        for (Header header : headers) {
+            if (header.value() == null) {
+                continue;
+            }
+            if (header.key().startsWith(CloudEventUtils.KAFKA_BINARY_HEADER_PREFIX)) {
+                attributes.put(header.key().substring(CloudEventUtils.KAFKA_BINARY_HEADER_PREFIX.length()), new String(header.value(), StandardCharsets.UTF_8));
+            } else if (header.key().equalsIgnoreCase(CloudEventUtils.KAFKA_CONTENT_TYPE_HEADER)) {
+                attributes.put("datacontenttype", new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        return CloudEventUtils.encodeStructured(attributes, message.getPayload());
+    }
+
+    /**
+     * @return the format of the structured mode encoding returned by {@link #toStructured(Message)}.
+     */
+    @SuppressWarnings("rawtypes")
+    static EventFormat formatOf(Message<byte[]> message) {
+        Optional<IncomingKafkaRecordMetadata> metadata = message.getMetadata(IncomingKafkaRecordMetadata.class);
+        if (metadata.isEmpty()) {
+            return EventFormat.JSON;
+        }
+        Headers headers = metadata.get().getHeaders();
+        if (headers == null || headers.lastHeader(SPEC_VERSION_HEADER) != null) {
+            return EventFormat.JSON;
+        }
+        Header contentType = headers.lastHeader(CloudEventUtils.KAFKA_CONTENT_TYPE_HEADER);
+        return EventFormat.fromContentType(contentType == null || contentType.value() == null ? null : new String(contentType.value(), StandardCharsets.UTF_8));
+    }
+
+    private BinaryModeEvents() {
+        throw new IllegalStateException("Instantiation of utility class BinaryModeEvents is forbidden");
+    }
+}
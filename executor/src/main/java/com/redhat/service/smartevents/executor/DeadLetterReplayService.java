@@ -0,0 +1,120 @@
+package com.redhat.service.smartevents.executor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+import com.redhat.service.smartevents.infra.utils.JsonNodeMap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Re-injects the events of the dead-letter topic into the Executor, at a controlled rate, so that the events lost during
+ * an outage of the action target can be recovered without re-reading the whole Bridge topic.
+ * The dead-letter topic is shared by all the Processors of a Bridge: only the events that failed on a Processor handled by this
+ * instance are replayed, and only to that Processor.
+ * An event that fails again goes back to the dead-letter topic, until it reaches the maximum number of attempts.
+ */
+@ApplicationScoped
+public class DeadLetterReplayService {
+
+    /**
+     * Channel used for receiving the dead-letter events to replay.
+     */
+    public static final String EVENTS_DLQ_REPLAY_CHANNEL = "events-dlq-replay";
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeadLetterReplayService.class);
+
+    @Inject
+    ExecutorsProvider executorsProvider;
+
+    @Inject
+    DeadLetterService deadLetterService;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "event-bridge.executor.dlq.replay.rate-per-second", defaultValue = "10")
+    double ratePerSecond;
+
+    @ConfigProperty(name = "event-bridge.executor.dlq.replay.max-attempts", defaultValue = "5")
+    int maxAttempts;
+
+    private long nextReplayNanos = System.nanoTime();
+
+    @Incoming(EVENTS_DLQ_REPLAY_CHANNEL)
+    public CompletionStage<Void> replayDeadLetterEvent(final Message<byte[]> message) {
+        JsonNodeMap deadLetter;
+        try {
+            deadLetter = CloudEventUtils.decodeView(message.getPayload());
+        } catch (Throwable t) {
+            LOG.warn("Dead-letter event is not a valid CloudEvent and can not be replayed. The message is acked anyway.", t);
+            return message.ack();
+        }
+
+        Object failedProcessorId = deadLetter.get(DeadLetterService.FAILED_PROCESSOR_EXTENSION);
+        Optional<Executor> failedExecutor = executorsProvider.getExecutors().stream()
+                .filter(e -> e.getProcessor().getId().equals(failedProcessorId))
+                .findFirst();
+        if (failedExecutor.isEmpty()) {
+            return message.ack();
+        }
+        Executor executor = failedExecutor.get();
+        ProcessorDTO processor = executor.getProcessor();
+        int attempts = deadLetter.getNode().path(DeadLetterService.FAILURE_ATTEMPTS_EXTENSION).asInt(1);
+        if (attempts >= maxAttempts) {
+            LOG.error("Dead-letter event with id '{}' failed {} times on Processor with id '{}' on bridge '{}'. It is not replayed anymore.", deadLetter.get("id"), attempts,
+                    processor.getId(), processor.getBridgeId());
+            return message.ack();
+        }
+
+        Uni<Void> delivery = executor.onEvent(withoutFailureMetadata(deadLetter));
+        Duration delay = nextDelay();
+        Uni<Void> replay = delay.isZero() ? delivery : Uni.createFrom().voidItem().onItem().delayIt().by(delay).chain(() -> delivery);
+        return replay
+                .onItem().invoke(() -> registry.counter(MetricsConstants.DEAD_LETTER_REPLAY_METRIC_NAME,
+                        Tags.of(MetricsConstants.BRIDGE_ID_TAG, processor.getBridgeId(), MetricsConstants.PROCESSOR_ID_TAG, processor.getId())).increment())
+                .onFailure().invoke(t -> LOG.error("Processor with id '{}' on bridge '{}' failed to replay dead-letter Event. The message is sent to the dead-letter topic again.",
+                        processor.getId(), processor.getBridgeId(), t))
+                .onFailure().call(t -> deadLetterService.publish(processor, message.getPayload(), t))
+                .onFailure().recoverWithNull()
+                .subscribeAsCompletionStage()
+                .thenCompose(x -> message.ack());
+    }
+
+    /**
+     * Returns how long the next replay has to wait so that the events are replayed at most at the configured rate.
+     * The messages of the channel are processed one at a time, so the delays never overlap.
+     */
+    synchronized Duration nextDelay() {
+        long now = System.nanoTime();
+        long next = Math.max(now, nextReplayNanos);
+        nextReplayNanos = next + (long) (1_000_000_000L / ratePerSecond);
+        return Duration.ofNanos(next - now);
+    }
+
+    private static JsonNodeMap withoutFailureMetadata(JsonNodeMap deadLetter) {
+        // The event is replayed as it was received by the Bridge: the failure metadata must not reach the action
+        ObjectNode event = deadLetter.getNode();
+        event.remove(DeadLetterService.FAILED_PROCESSOR_EXTENSION);
+        event.remove(DeadLetterService.FAILURE_REASON_EXTENSION);
+        event.remove(DeadLetterService.FAILURE_MESSAGE_EXTENSION);
+        event.remove(DeadLetterService.FAILURE_TIME_EXTENSION);
+        event.remove(DeadLetterService.FAILURE_ATTEMPTS_EXTENSION);
+        return new JsonNodeMap(event);
+    }
+}
@@ -0,0 +1,138 @@
+package com.redhat.service.smartevents.executor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+
+/**
+ * Publishes the events that a Processor failed to handle to the dead-letter topic of the Bridge.
+ * The failure metadata is added to the event as CloudEvent extensions. When the payload is not a valid JSON object
+ * it is published untouched and the failure metadata is carried by the Kafka record headers instead.
+ */
+@ApplicationScoped
+public class DeadLetterService {
+
+    /**
+     * Channel used for publishing the failed events.
+     */
+    public static final String EVENTS_DLQ_CHANNEL = "events-dlq";
+
+    public static final String FAILED_PROCESSOR_EXTENSION = "ebfailedprocessor";
+    public static final String FAILURE_REASON_EXTENSION = "ebfailurereason";
+    public static final String FAILURE_MESSAGE_EXTENSION = "ebfailuremessage";
+    public static final String FAILURE_TIME_EXTENSION = "ebfailuretime";
+    public static final String FAILURE_ATTEMPTS_EXTENSION = "ebfailureattempts";
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeadLetterService.class);
+
+    @ConfigProperty(name = "event-bridge.executor.dlq.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Inject
+    @Channel(EVENTS_DLQ_CHANNEL)
+    Emitter<byte[]> emitter;
+
+    @Inject
+    MeterRegistry registry;
+
+    /**
+     * Publishes the event to the dead-letter topic. The returned {@link Uni} completes once the broker has acknowledged the record
+     * and never fails: a failure to dead-letter the event is logged, so that the caller can ack the original message anyway.
+     */
+    public Uni<Void> publish(ProcessorDTO processor, byte[] payload, Throwable failure) {
+        if (!enabled) {
+            return Uni.createFrom().voidItem();
+        }
+
+        Message<byte[]> message;
+        try {
+            message = buildMessage(processor, payload, failure);
+        } catch (RuntimeException e) {
+            LOG.error("Failed to build the dead-letter message for Processor with id '{}' on bridge '{}'. The event is lost.", processor.getId(), processor.getBridgeId(), e);
+            return Uni.createFrom().voidItem();
+        }
+
+        CompletableFuture<Void> delivery = new CompletableFuture<>();
+        emitter.send(message.withAck(() -> {
+            delivery.complete(null);
+            return CompletableFuture.completedFuture(null);
+        }).withNack(t -> {
+            delivery.completeExceptionally(t);
+            return CompletableFuture.completedFuture(null);
+        }));
+
+        List<Tag> tags = Arrays.asList(Tag.of(MetricsConstants.BRIDGE_ID_TAG, processor.getBridgeId()), Tag.of(MetricsConstants.PROCESSOR_ID_TAG, processor.getId()));
+        return Uni.createFrom().completionStage(delivery)
+                .onItem().invoke(() -> registry.counter(MetricsConstants.DEAD_LETTER_METRIC_NAME, tags).increment())
+                .onFailure().invoke(t -> LOG.error("Failed to publish dead-letter event for Processor with id '{}' on bridge '{}'. The event is lost.", processor.getId(),
+                        processor.getBridgeId(), t))
+                .onFailure().recoverWithNull();
+    }
+
+    private Message<byte[]> buildMessage(ProcessorDTO processor, byte[] payload, Throwable failure) {
+        String failureMessage = failure.getMessage() == null ? "" : failure.getMessage();
+        String failureTime = Instant.now().toString();
+
+        ObjectNode event = readObject(payload);
+        if (event != null) {
+            int attempts = event.path(FAILURE_ATTEMPTS_EXTENSION).asInt(0) + 1;
+            event.put(FAILED_PROCESSOR_EXTENSION, processor.getId());
+            event.put(FAILURE_REASON_EXTENSION, failure.getClass().getName());
+            event.put(FAILURE_MESSAGE_EXTENSION, failureMessage);
+            event.put(FAILURE_TIME_EXTENSION, failureTime);
+            event.put(FAILURE_ATTEMPTS_EXTENSION, attempts);
+            return Message.of(toBytes(event));
+        }
+
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(FAILED_PROCESSOR_EXTENSION, processor.getId().getBytes(StandardCharsets.UTF_8));
+        headers.add(FAILURE_REASON_EXTENSION, failure.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        headers.add(FAILURE_MESSAGE_EXTENSION, failureMessage.getBytes(StandardCharsets.UTF_8));
+        headers.add(FAILURE_TIME_EXTENSION, failureTime.getBytes(StandardCharsets.UTF_8));
+        headers.add(FAILURE_ATTEMPTS_EXTENSION, "1".getBytes(StandardCharsets.UTF_8));
+        OutgoingKafkaRecordMetadata<?> metadata = OutgoingKafkaRecordMetadata.builder()
+                .withHeaders(headers)
+                .build();
+        return Message.of(payload).addMetadata(metadata);
+    }
+
+    private static ObjectNode readObject(byte[] payload) {
+        try {
+            JsonNode node = CloudEventUtils.getMapper().readTree(payload);
+            return node instanceof ObjectNode ? (ObjectNode) node : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static byte[] toBytes(ObjectNode event) {
+        try {
+            return CloudEventUtils.getMapper().writeValueAsBytes(event);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot serialize the dead-letter event", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.redhat.service.smartevents.executor;
+
+public enum EventDecodeMode {
+    /**
+     * Decodes the payload into a {@link io.cloudevents.CloudEvent} and converts it to a {@link java.util.Map} for the processor.
+     */
+    CLOUD_EVENT,
+    /**
+     * Decodes the payload bytes straight into a lazily materialised {@link com.redhat.service.smartevents.infra.utils.JsonNodeMap}.
+     */
+    LAZY_VIEW
+}
@@ -0,0 +1,83 @@
+package com.redhat.service.smartevents.executor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+import com.redhat.service.smartevents.infra.utils.JsonNodeMap;
+
+import io.cloudevents.CloudEvent;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Delivers an event, decoded once, to the executors of all the Processors handled by this instance.
+ * The Processors are evaluated concurrently and independently: a failure on one of them dead-letters the event
+ * for that Processor only. The returned {@link Uni} completes once every Processor is done with the event and never fails.
+ */
+@ApplicationScoped
+public class EventDispatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventDispatcher.class);
+
+    @Inject
+    ExecutorsProvider executorsProvider;
+
+    @Inject
+    DeadLetterService deadLetterService;
+
+    public Uni<Void> dispatch(byte[] payload, Map<String, Object> event) {
+        return dispatchToAll(() -> payload, executor -> executor.onEvent(event));
+    }
+
+    /**
+     * Dispatches an event decoded by {@link CloudEventUtils#decodeView}. An event that was not received in JSON is encoded to JSON
+     * only if it has to be dead-lettered.
+     */
+    public Uni<Void> dispatch(JsonNodeMap event) {
+        byte[] source = event.getSource();
+        return dispatchToAll(source != null ? () -> source : () -> CloudEventUtils.toJson(event.getNode()), executor -> executor.onEvent(event));
+    }
+
+    public Uni<Void> dispatch(byte[] payload, CloudEvent event) {
+        return dispatchToAll(() -> payload, executor -> executor.onEvent(event));
+    }
+
+    /**
+     * Dead-letters an event that could not be decoded, on behalf of every Processor.
+     */
+    public Uni<Void> dispatchFailure(byte[] payload, Throwable failure) {
+        return dispatchToAll(() -> payload, executor -> Uni.createFrom().failure(failure));
+    }
+
+    private Uni<Void> dispatchToAll(Supplier<byte[]> payload, Function<Executor, Uni<Void>> delivery) {
+        Collection<Executor> executors = executorsProvider.getExecutors();
+        List<Uni<Void>> deliveries = executors.stream()
+                .map(executor -> deliver(executor, payload, delivery))
+                .collect(Collectors.toList());
+        if (deliveries.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        if (deliveries.size() == 1) {
+            return deliveries.get(0);
+        }
+        return Uni.join().all(deliveries).andFailFast().replaceWithVoid();
+    }
+
+    private Uni<Void> deliver(Executor executor, Supplier<byte[]> payload, Function<Executor, Uni<Void>> delivery) {
+        return Uni.createFrom().deferred(() -> delivery.apply(executor))
+                .onFailure().invoke(t -> LOG.error("Processor with id '{}' on bridge '{}' failed to handle Event. The message is sent to the dead-letter topic.",
+                        executor.getProcessor().getId(), executor.getProcessor().getBridgeId(), t))
+                .onFailure().call(t -> deadLetterService.publish(executor.getProcessor(), payload.get(), t))
+                .onFailure().recoverWithNull();
+    }
+}
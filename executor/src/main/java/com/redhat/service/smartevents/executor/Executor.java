@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,9 +20,13 @@ import com.redhat.service.smartevents.processor.actions.ActionInvoker;
 import com.redhat.service.smartevents.processor.actions.ActionRuntime;
 
 import io.cloudevents.CloudEvent;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 
 public class Executor {
 
@@ -35,6 +40,8 @@ public class Executor {
     private Timer filterTimer;
     private Timer actionTimer;
     private Timer transformationTimer;
+    private Counter actionSuccessCounter;
+    private Counter actionFailureCounter;
 
     public Executor(ProcessorDTO processor, FilterEvaluatorFactory filterEvaluatorFactory, TransformationEvaluatorFactory transformationFactory,
             ActionRuntime actionRuntime,
@@ -50,28 +57,47 @@ public class Executor {
         initMetricFields(processor, registry);
     }
 
-    public void onEvent(CloudEvent cloudEvent) {
-        processorProcessingTime.record(() -> process(cloudEvent));
+    /**
+     * @return a {@link Uni} that completes once the event has been delivered by the action, or straight away when the filters do not match.
+     */
+    @SuppressWarnings("unchecked")
+    public Uni<Void> onEvent(CloudEvent cloudEvent) {
+        return Uni.createFrom().deferred(() -> process(cloudEvent.getId(), CloudEventUtils.getMapper().convertValue(cloudEvent, Map.class)));
     }
 
-    @SuppressWarnings("unchecked")
-    private void process(CloudEvent cloudEvent) {
-        LOG.info("Received event with id '{}' for Processor with name '{}' on Bridge '{}", cloudEvent.getId(), processor.getName(), processor.getBridgeId());
+    /**
+     * Processes an event that has already been decoded into its {@link Map} representation,
+     * e.g. a {@link com.redhat.service.smartevents.infra.utils.JsonNodeMap} view.
+     */
+    public Uni<Void> onEvent(Map<String, Object> cloudEventData) {
+        return Uni.createFrom().deferred(() -> process(String.valueOf(cloudEventData.get("id")), cloudEventData));
+    }
 
-        Map<String, Object> cloudEventData = CloudEventUtils.getMapper().convertValue(cloudEvent, Map.class);
+    private Uni<Void> process(String eventId, Map<String, Object> cloudEventData) {
+        long start = System.nanoTime();
+        LOG.info("Received event with id '{}' for Processor with name '{}' on Bridge '{}", eventId, processor.getName(), processor.getBridgeId());
 
         // Filter evaluation
         if (Boolean.TRUE.equals(filterTimer.record(() -> filterEvaluator.evaluateFilters(cloudEventData)))) {
-            LOG.info("Filters of processor '{}' matched for event with id '{}'", processor.getId(), cloudEvent.getId());
+            LOG.info("Filters of processor '{}' matched for event with id '{}'", processor.getId(), eventId);
 
             // Transformation
-            String eventToSend = transformationTimer.record(() -> transformationEvaluator.render(cloudEventData));
+            Buffer eventToSend = transformationTimer.record(() -> transformationEvaluator.renderToBuffer(cloudEventData));
 
             // Action
-            actionTimer.record(() -> actionInvoker.onEvent(eventToSend));
+            long actionStart = System.nanoTime();
+            return actionInvoker.onEvent(eventToSend)
+                    .onItem().invoke(() -> actionSuccessCounter.increment())
+                    .onFailure().invoke(() -> actionFailureCounter.increment())
+                    .onTermination().invoke(() -> {
+                        long end = System.nanoTime();
+                        actionTimer.record(end - actionStart, TimeUnit.NANOSECONDS);
+                        processorProcessingTime.record(end - start, TimeUnit.NANOSECONDS);
+                    });
         } else {
-            LOG.debug("Filters of processor '{}' did not match for event with id '{}'", processor.getId(), cloudEvent.getId());
-            // DO NOTHING;
+            LOG.debug("Filters of processor '{}' did not match for event with id '{}'", processor.getId(), eventId);
+            processorProcessingTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Uni.createFrom().voidItem();
         }
     }
 
@@ -103,5 +129,7 @@ public class Executor {
         this.filterTimer = registry.timer(MetricsConstants.FILTER_PROCESSING_TIME_METRIC_NAME, tags);
         this.actionTimer = registry.timer(MetricsConstants.ACTION_PROCESSING_TIME_METRIC_NAME, tags);
         this.transformationTimer = registry.timer(MetricsConstants.TRANSFORMATION_PROCESSING_TIME_METRIC_NAME, tags);
+        this.actionSuccessCounter = registry.counter(MetricsConstants.ACTION_DELIVERY_METRIC_NAME, Tags.of(tags).and(MetricsConstants.OUTCOME_TAG, MetricsConstants.OUTCOME_SUCCESS));
+        this.actionFailureCounter = registry.counter(MetricsConstants.ACTION_DELIVERY_METRIC_NAME, Tags.of(tags).and(MetricsConstants.OUTCOME_TAG, MetricsConstants.OUTCOME_FAILURE));
     }
 }
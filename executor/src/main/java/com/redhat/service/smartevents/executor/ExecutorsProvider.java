@@ -1,5 +1,12 @@
 package com.redhat.service.smartevents.executor;
 
+import java.util.Collection;
+
 public interface ExecutorsProvider {
-    Executor getExecutor();
+
+    /**
+     * Returns the executors of the Processors handled by this instance: a single one, unless the executor is shared by
+     * all the Processors of a Bridge. The returned collection is a snapshot that is not affected by later reloads.
+     */
+    Collection<Executor> getExecutors();
 }
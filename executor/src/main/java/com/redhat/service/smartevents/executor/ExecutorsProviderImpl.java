@@ -1,26 +1,41 @@
 package com.redhat.service.smartevents.executor;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.redhat.service.smartevents.executor.filters.FilterEvaluatorFactory;
-import com.redhat.service.smartevents.executor.filters.FilterEvaluatorFactoryFEEL;
+import com.redhat.service.smartevents.executor.filters.FilterEngine;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
 import com.redhat.service.smartevents.infra.transformations.TransformationEvaluatorFactory;
 import com.redhat.service.smartevents.processor.actions.ActionRuntime;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
 
 @ApplicationScoped
 public class ExecutorsProviderImpl implements ExecutorsProvider {
 
-    private static final FilterEvaluatorFactory filterEvaluatorFactory = new FilterEvaluatorFactoryFEEL();
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorsProviderImpl.class);
+
+    private static final String DEFINITION_FILE_SUFFIX = ".json";
 
     @Inject
     ActionRuntime actionRuntime;
@@ -31,23 +46,94 @@ public class ExecutorsProviderImpl implements ExecutorsProvider {
     @ConfigProperty(name = "event-bridge.processor.definition")
     String processorDefinition;
 
+    /**
+     * Directory holding one definition file per Processor of the Bridge, when the executor is shared by all of them.
+     * It is mounted from a ConfigMap maintained by the shard operator, so it is updated in place.
+     */
+    @ConfigProperty(name = "event-bridge.processor.definitions-dir")
+    Optional<String> processorDefinitionsDir;
+
+    @ConfigProperty(name = "event-bridge.executor.filter-engine", defaultValue = "COMPILED")
+    FilterEngine filterEngine;
+
     @Inject
     ObjectMapper objectMapper;
 
     @Inject
     TransformationEvaluatorFactory transformationEvaluatorFactory;
 
-    private Executor executor;
+    // Replaced as a whole on every reload, so that readers never see a partially updated set of executors
+    private volatile Map<String, LoadedExecutor> executors = Collections.emptyMap();
 
     @PostConstruct
     void init() {
-        ProcessorDTO dto = readProcessor(processorDefinition);
-        this.executor = new Executor(dto, filterEvaluatorFactory, transformationEvaluatorFactory, actionRuntime, registry);
+        if (processorDefinitionsDir.isPresent()) {
+            reload();
+        } else {
+            ProcessorDTO dto = readProcessor(processorDefinition);
+            executors = Collections.singletonMap(dto.getId(), new LoadedExecutor(processorDefinition, createExecutor(dto)));
+        }
     }
 
     @Override
-    public Executor getExecutor() {
-        return executor;
+    public Collection<Executor> getExecutors() {
+        return executors.values().stream().map(e -> e.executor).collect(Collectors.toList());
+    }
+
+    @Scheduled(every = "{event-bridge.processor.definitions-reload-interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void reloadDefinitions() {
+        if (processorDefinitionsDir.isPresent()) {
+            reload();
+        }
+    }
+
+    synchronized void reload() {
+        Map<String, String> definitions = readDefinitions(Paths.get(processorDefinitionsDir.get()));
+        Map<String, LoadedExecutor> current = executors;
+        Map<String, LoadedExecutor> reloaded = new HashMap<>();
+        definitions.forEach((file, definition) -> {
+            LoadedExecutor existing = current.get(file);
+            // Unchanged Processors keep their executor, and the compiled filters and templates that come with it
+            if (existing != null && existing.definition.equals(definition)) {
+                reloaded.put(file, existing);
+                return;
+            }
+            try {
+                ProcessorDTO dto = readProcessor(definition);
+                reloaded.put(file, new LoadedExecutor(definition, createExecutor(dto)));
+                LOG.info("Loaded Processor with id '{}' on bridge '{}'", dto.getId(), dto.getBridgeId());
+            } catch (RuntimeException e) {
+                LOG.error("Failed to load the Processor definition '{}'. The previous definition, if any, is kept.", file, e);
+                if (existing != null) {
+                    reloaded.put(file, existing);
+                }
+            }
+        });
+        current.entrySet().stream()
+                .filter(e -> !reloaded.containsKey(e.getKey()))
+                .forEach(e -> LOG.info("Unloaded Processor with id '{}'", e.getValue().executor.getProcessor().getId()));
+        executors = Collections.unmodifiableMap(reloaded);
+    }
+
+    private Executor createExecutor(ProcessorDTO dto) {
+        return new Executor(dto, filterEngine.getFactory(), transformationEvaluatorFactory, actionRuntime, registry);
+    }
+
+    private static Map<String, String> readDefinitions(Path dir) {
+        // ConfigMap volumes also contain hidden "..data" entries: only the definition files are read
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> definitionFiles = files
+                    .filter(f -> f.getFileName().toString().endsWith(DEFINITION_FILE_SUFFIX) && !f.getFileName().toString().startsWith(".."))
+                    .filter(Files::isRegularFile)
+                    .collect(Collectors.toList());
+            Map<String, String> definitions = new HashMap<>();
+            for (Path file : definitionFiles) {
+                definitions.put(file.getFileName().toString(), Files.readString(file));
+            }
+            return definitions;
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Cannot read processor definitions from '%s'.", dir), e);
+        }
     }
 
     private ProcessorDTO readProcessor(String processorDefinition) {
@@ -57,4 +143,15 @@ public class ExecutorsProviderImpl implements ExecutorsProvider {
             throw new IllegalStateException("Cannot deserialize processor definition.");
         }
     }
+
+    private static class LoadedExecutor {
+
+        private final String definition;
+        private final Executor executor;
+
+        LoadedExecutor(String definition, Executor executor) {
+            this.definition = definition;
+            this.executor = executor;
+        }
+    }
 }
@@ -1,18 +1,22 @@
 package com.redhat.service.smartevents.executor;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+import com.redhat.service.smartevents.infra.utils.EventFormat;
 
 import io.cloudevents.CloudEvent;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 public class ExecutorsService {
@@ -25,24 +29,32 @@ public class ExecutorsService {
     private static final Logger LOG = LoggerFactory.getLogger(ExecutorsService.class);
 
     @Inject
-    ExecutorsProvider executorsProvider;
+    EventDispatcher eventDispatcher;
+
+    @ConfigProperty(name = "event-bridge.executor.decode-mode", defaultValue = "LAZY_VIEW")
+    EventDecodeMode decodeMode;
 
     @Incoming(EVENTS_IN_CHANNEL)
-    public CompletionStage<Void> processBridgeEvent(final Message<String> message) {
+    public CompletionStage<Void> processBridgeEvent(final Message<byte[]> message) {
+        Uni<Void> delivery;
         try {
-            CloudEvent cloudEvent = CloudEventUtils.decode(message.getPayload());
-            Executor executor = executorsProvider.getExecutor();
-            try {
-                executor.onEvent(cloudEvent);
-            } catch (Throwable t) {
-                // Inner Throwable catch is to provide more specific context around which Executor failed to handle the Event, rather than a generic failure
-                LOG.error("Processor with id '{}' on bridge '{}' failed to handle Event. The message is acked anyway.", executor.getProcessor().getId(),
-                        executor.getProcessor().getBridgeId(), t);
+            // The event is decoded once and evaluated by all the Processors
+            byte[] payload = BinaryModeEvents.toStructured(message);
+            EventFormat format = BinaryModeEvents.formatOf(message);
+            if (decodeMode == EventDecodeMode.LAZY_VIEW) {
+                delivery = eventDispatcher.dispatch(CloudEventUtils.decodeView(payload, format));
+            } else {
+                CloudEvent cloudEvent = CloudEventUtils.decode(payload, format);
+                delivery = eventDispatcher.dispatch(format == EventFormat.JSON ? payload : CloudEventUtils.encode(cloudEvent).getBytes(StandardCharsets.UTF_8), cloudEvent);
             }
         } catch (Throwable t) {
-            LOG.error("Failed to handle Event received on Bridge. The message is acked anyway.", t);
+            LOG.error("Failed to handle Event received on Bridge. The message is sent to the dead-letter topic.", t);
+            delivery = eventDispatcher.dispatchFailure(message.getPayload(), t);
         }
 
-        return message.ack();
+        // The message is acked only once every Processor has delivered the event, or dead-lettered it
+        return delivery
+                .subscribeAsCompletionStage()
+                .thenCompose(x -> message.ack());
     }
 }
@@ -7,4 +7,10 @@ public class MetricsConstants {
     public static final String FILTER_PROCESSING_TIME_METRIC_NAME = "executor.filter.evaluation";
     public static final String ACTION_PROCESSING_TIME_METRIC_NAME = "executor.action.evaluation";
     public static final String TRANSFORMATION_PROCESSING_TIME_METRIC_NAME = "executor.transformation.evaluation";
-}
\ No newline at end of file
+    public static final String ACTION_DELIVERY_METRIC_NAME = "executor.action.delivery";
+    public static final String OUTCOME_TAG = "outcome";
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+    public static final String DEAD_LETTER_METRIC_NAME = "executor.dlq.published";
+    public static final String DEAD_LETTER_REPLAY_METRIC_NAME = "executor.dlq.replayed";
+}
@@ -0,0 +1,17 @@
+package com.redhat.service.smartevents.executor.filters;
+
+public enum FilterEngine {
+    FEEL,
+    COMPILED;
+
+    public FilterEvaluatorFactory getFactory() {
+        switch (this) {
+            case FEEL:
+                return new FilterEvaluatorFactoryFEEL();
+            case COMPILED:
+                return new FilterEvaluatorFactoryCompiled();
+            default:
+                throw new IllegalArgumentException("Filter engine " + this + " is not supported.");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.redhat.service.smartevents.executor.filters;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+public class FilterEvaluatorCompiled implements FilterEvaluator {
+
+    private final List<Predicate<Map<String, Object>>> predicates;
+
+    public FilterEvaluatorCompiled(List<Predicate<Map<String, Object>>> predicates) {
+        this.predicates = predicates;
+    }
+
+    @Override
+    public boolean evaluateFilters(Map<String, Object> data) {
+        if (predicates != null) {
+            for (Predicate<Map<String, Object>> predicate : predicates) {
+                if (!predicate.test(data)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package com.redhat.service.smartevents.executor.filters;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.redhat.service.smartevents.infra.models.filters.BaseFilter;
+import com.redhat.service.smartevents.infra.models.filters.StringBeginsWith;
+import com.redhat.service.smartevents.infra.models.filters.StringContains;
+import com.redhat.service.smartevents.infra.models.filters.StringEquals;
+import com.redhat.service.smartevents.infra.models.filters.ValuesIn;
+
+/**
+ * Builds a {@link FilterEvaluator} that compiles every filter into a {@link Predicate} once, instead of
+ * interpreting a FEEL expression for each event. The semantics match {@link FilterEvaluatorFactoryFEEL}:
+ * a missing key or a value of the wrong type never matches, and numbers are compared by value.
+ * The list filters are backed by matchers whose cost does not grow with the number of values:
+ * {@link ValuesInMatcher}, {@link PrefixMatcher} and {@link SubstringMatcher}.
+ */
+public class FilterEvaluatorFactoryCompiled implements FilterEvaluatorFactory {
+
+    private static final Pattern KEY_SEPARATOR = Pattern.compile("\\.");
+
+    @Override
+    public FilterEvaluator build(Set<BaseFilter> filters) {
+        List<Predicate<Map<String, Object>>> predicates = filters == null ? null : filters.stream().map(this::getPredicateByFilterType).collect(Collectors.toList());
+        return new FilterEvaluatorCompiled(predicates);
+    }
+
+    protected Predicate<Map<String, Object>> getPredicateByFilterType(BaseFilter<?> filter) {
+        String[] path = KEY_SEPARATOR.split(filter.getKey());
+        switch (filter.getType()) {
+            case StringEquals.FILTER_TYPE_NAME:
+                String expected = ((StringEquals) filter).getValue();
+                return data -> expected.equals(resolve(data, path));
+            case StringContains.FILTER_TYPE_NAME:
+                return stringPredicate(path, new SubstringMatcher(((StringContains) filter).getValue())::matches);
+            case StringBeginsWith.FILTER_TYPE_NAME:
+                return stringPredicate(path, new PrefixMatcher(((StringBeginsWith) filter).getValue())::matches);
+            case ValuesIn.FILTER_TYPE_NAME:
+                ValuesInMatcher values = new ValuesInMatcher(((ValuesIn) filter).getValue());
+                return data -> values.matches(resolve(data, path));
+            default:
+                throw new IllegalArgumentException("Filter type " + filter.getType() + " is not supported by FilterEvaluatorFactoryCompiled.");
+        }
+    }
+
+    private static Predicate<Map<String, Object>> stringPredicate(String[] path, Predicate<String> matcher) {
+        return data -> {
+            Object value = resolve(data, path);
+            return value instanceof String && matcher.test((String) value);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object resolve(Map<String, Object> data, String[] path) {
+        Object current = data;
+        for (String segment : path) {
+            if (!(current instanceof Map)) {
+                return null;
+            }
+            current = ((Map<String, Object>) current).get(segment);
+        }
+        return current;
+    }
+
+    static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        return new BigDecimal(number.toString());
+    }
+}
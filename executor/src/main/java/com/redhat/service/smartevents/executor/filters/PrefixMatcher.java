@@ -0,0 +1,36 @@
+package com.redhat.service.smartevents.executor.filters;
+
+import java.util.Collection;
+
+/**
+ * Immutable prefix trie used to evaluate a {@link com.redhat.service.smartevents.infra.models.filters.StringBeginsWith} filter.
+ * A value is matched in O(length of the value), whatever the number of prefixes.
+ */
+public final class PrefixMatcher {
+
+    private final TrieNode root;
+
+    public PrefixMatcher(Collection<String> prefixes) {
+        this.root = TrieNode.build(prefixes);
+    }
+
+    /**
+     * @return true if the value starts with at least one of the prefixes.
+     */
+    public boolean matches(String value) {
+        TrieNode node = root;
+        if (node.terminal) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            node = node.child(value.charAt(i));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
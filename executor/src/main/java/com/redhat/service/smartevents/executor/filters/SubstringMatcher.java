@@ -0,0 +1,68 @@
+package com.redhat.service.smartevents.executor.filters;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Queue;
+
+/**
+ * Immutable Aho-Corasick automaton used to evaluate a {@link com.redhat.service.smartevents.infra.models.filters.StringContains} filter.
+ * A value is scanned once, in O(length of the value), whatever the number of substrings. Only the existence of a match
+ * is needed, so the outputs of the automaton are reduced to the {@link TrieNode#terminal} flag.
+ */
+public final class SubstringMatcher {
+
+    private final TrieNode root;
+
+    public SubstringMatcher(Collection<String> substrings) {
+        this.root = TrieNode.build(substrings);
+        linkFailures(root);
+    }
+
+    /**
+     * @return true if the value contains at least one of the substrings.
+     */
+    public boolean matches(String value) {
+        TrieNode node = root;
+        if (node.terminal) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            TrieNode next = node.child(c);
+            while (next == null && node != root) {
+                node = node.failure;
+                next = node.child(c);
+            }
+            node = next == null ? root : next;
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void linkFailures(TrieNode root) {
+        // Breadth-first, so that the failure node of a node is always complete when the node is visited
+        Queue<TrieNode> queue = new ArrayDeque<>();
+        for (TrieNode child : root.children) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            TrieNode node = queue.poll();
+            for (int i = 0; i < node.keys.length; i++) {
+                char c = node.keys[i];
+                TrieNode child = node.children[i];
+                TrieNode failure = node.failure;
+                while (failure != root && failure.child(c) == null) {
+                    failure = failure.failure;
+                }
+                TrieNode target = failure.child(c);
+                child.failure = target == null ? root : target;
+                // A word ending at a suffix of the node is a match as well
+                child.terminal |= child.failure.terminal;
+                queue.add(child);
+            }
+        }
+    }
+}
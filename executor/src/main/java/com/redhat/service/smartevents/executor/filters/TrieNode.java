@@ -0,0 +1,69 @@
+package com.redhat.service.smartevents.executor.filters;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Node of the character tries used by {@link PrefixMatcher} and {@link SubstringMatcher}.
+ * The tree is built once through {@link #build(Collection)}: the children are then frozen into sorted arrays, so that
+ * a transition is a binary search over a few primitive chars instead of a map lookup on boxed characters.
+ */
+final class TrieNode {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final TrieNode[] NO_CHILDREN = new TrieNode[0];
+
+    private Map<Character, TrieNode> pending = new TreeMap<>();
+
+    char[] keys = NO_KEYS;
+    TrieNode[] children = NO_CHILDREN;
+
+    /**
+     * Whether a word ends at this node. {@link SubstringMatcher} also sets it when a word ends at a suffix of this node.
+     */
+    boolean terminal;
+
+    /**
+     * Aho-Corasick failure link: the node of the longest proper suffix of this node that is also in the trie.
+     */
+    TrieNode failure;
+
+    private TrieNode() {
+    }
+
+    static TrieNode build(Collection<String> words) {
+        TrieNode root = new TrieNode();
+        for (String word : words) {
+            TrieNode node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.pending.computeIfAbsent(word.charAt(i), c -> new TrieNode());
+            }
+            node.terminal = true;
+        }
+        root.freeze();
+        return root;
+    }
+
+    TrieNode child(char c) {
+        int index = Arrays.binarySearch(keys, c);
+        return index < 0 ? null : children[index];
+    }
+
+    private void freeze() {
+        if (!pending.isEmpty()) {
+            keys = new char[pending.size()];
+            children = new TrieNode[pending.size()];
+            int i = 0;
+            // The TreeMap iterates in ascending order, as required by the binary search
+            for (Map.Entry<Character, TrieNode> entry : pending.entrySet()) {
+                keys[i] = entry.getKey();
+                children[i] = entry.getValue();
+                entry.getValue().freeze();
+                i++;
+            }
+        }
+        pending = null;
+    }
+}
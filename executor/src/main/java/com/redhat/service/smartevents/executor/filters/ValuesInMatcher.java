@@ -0,0 +1,123 @@
+package com.redhat.service.smartevents.executor.filters;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable hash set used to evaluate a {@link com.redhat.service.smartevents.infra.models.filters.ValuesIn} filter.
+ * Numbers are compared by value, as FEEL does: the integral ones are stored unboxed in an open-addressing table, the others
+ * as normalised {@link BigDecimal}s. Any other value is compared with {@link Object#equals(Object)}.
+ */
+public final class ValuesInMatcher {
+
+    // Doubles below this magnitude are converted to a long without loss when they have no fractional part
+    private static final double EXACT_LONG_BOUND = 0x1p53;
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final LongSet longs;
+    private final Set<BigDecimal> decimals = new HashSet<>();
+    private final Set<Object> objects = new HashSet<>();
+
+    public ValuesInMatcher(Collection<?> values) {
+        Set<Long> integrals = new HashSet<>();
+        for (Object value : values) {
+            if (value instanceof Number && !isNonFinite((Number) value)) {
+                BigDecimal decimal = normalize((Number) value);
+                if (fitsLong(decimal)) {
+                    integrals.add(decimal.longValue());
+                } else {
+                    decimals.add(decimal);
+                }
+            } else {
+                objects.add(value);
+            }
+        }
+        this.longs = new LongSet(integrals);
+    }
+
+    public boolean matches(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return longs.contains(((Number) value).longValue());
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                return objects.contains(value);
+            }
+            if (Math.abs(d) < EXACT_LONG_BOUND && d == Math.rint(d)) {
+                return longs.contains((long) d);
+            }
+        }
+        if (value instanceof Number) {
+            BigDecimal decimal = normalize((Number) value);
+            return fitsLong(decimal) ? longs.contains(decimal.longValue()) : decimals.contains(decimal);
+        }
+        return objects.contains(value);
+    }
+
+    private static boolean isNonFinite(Number number) {
+        return (number instanceof Double || number instanceof Float) && !Double.isFinite(number.doubleValue());
+    }
+
+    private static BigDecimal normalize(Number number) {
+        // Equal values must have an equal representation to be found in the set, whatever their scale: 1.50 is 1.5
+        BigDecimal decimal = FilterEvaluatorFactoryCompiled.toBigDecimal(number);
+        return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+    }
+
+    private static boolean fitsLong(BigDecimal decimal) {
+        return decimal.scale() <= 0 && decimal.compareTo(LONG_MIN) >= 0 && decimal.compareTo(LONG_MAX) <= 0;
+    }
+
+    /**
+     * Open-addressing set of primitive longs with linear probing. Zero marks the free slots, so its presence is tracked apart.
+     */
+    static final class LongSet {
+
+        private final long[] table;
+        private final int mask;
+        private final boolean containsZero;
+
+        LongSet(Collection<Long> values) {
+            int capacity = Integer.highestOneBit(Math.max(2, values.size() * 2) - 1) << 1;
+            this.table = new long[capacity];
+            this.mask = capacity - 1;
+            boolean zero = false;
+            for (long value : values) {
+                if (value == 0L) {
+                    zero = true;
+                    continue;
+                }
+                int index = index(value);
+                while (table[index] != 0L && table[index] != value) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = value;
+            }
+            this.containsZero = zero;
+        }
+
+        boolean contains(long value) {
+            if (value == 0L) {
+                return containsZero;
+            }
+            int index = index(value);
+            long current;
+            while ((current = table[index]) != 0L) {
+                if (current == value) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        private int index(long value) {
+            long hash = value * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
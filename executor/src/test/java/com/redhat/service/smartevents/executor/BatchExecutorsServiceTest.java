@@ -0,0 +1,148 @@
+package com.redhat.service.smartevents.executor;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+import io.smallrye.reactive.messaging.kafka.KafkaRecordBatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchExecutorsServiceTest {
+
+    private BatchExecutorsService batchExecutorsService;
+
+    private Executor executor;
+
+    private DeadLetterService deadLetterService;
+
+    private List<String> processed;
+
+    @BeforeEach
+    void setup() {
+        processed = Collections.synchronizedList(new ArrayList<>());
+
+        executor = mock(Executor.class);
+        when(executor.getProcessor()).thenReturn(mock(ProcessorDTO.class));
+        doAnswer(invocation -> {
+            Map<String, Object> event = invocation.getArgument(0);
+            return Uni.createFrom().voidItem().invoke(() -> processed.add(event.get("subject") + ":" + event.get("id")));
+        }).when(executor).onEvent(anyMap());
+
+        ExecutorsProvider executorsProvider = mock(ExecutorsProvider.class);
+        when(executorsProvider.getExecutors()).thenReturn(Collections.singletonList(executor));
+
+        deadLetterService = mock(DeadLetterService.class);
+        when(deadLetterService.publish(any(), any(), any())).thenReturn(Uni.createFrom().voidItem());
+
+        EventDispatcher eventDispatcher = new EventDispatcher();
+        eventDispatcher.executorsProvider = executorsProvider;
+        eventDispatcher.deadLetterService = deadLetterService;
+
+        batchExecutorsService = new BatchExecutorsService();
+        batchExecutorsService.eventDispatcher = eventDispatcher;
+        batchExecutorsService.decodeMode = EventDecodeMode.LAZY_VIEW;
+        batchExecutorsService.concurrency = 4;
+        batchExecutorsService.init();
+    }
+
+    @AfterEach
+    void teardown() {
+        batchExecutorsService.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEventsWithSameSubjectKeepTheirOrder() throws Exception {
+        List<KafkaRecord<String, byte[]>> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(createRecord("subject" + (i % 3), String.valueOf(i)));
+        }
+        KafkaRecordBatch<String, byte[]> batch = mock(KafkaRecordBatch.class);
+        when(batch.getRecords()).thenReturn(records);
+
+        batchExecutorsService.processBridgeEvents(batch).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertThat(processed).hasSize(100);
+        for (int subject = 0; subject < 3; subject++) {
+            String prefix = "subject" + subject + ":";
+            List<Integer> ids = processed.stream()
+                    .filter(p -> p.startsWith(prefix))
+                    .map(p -> Integer.valueOf(p.substring(prefix.length())))
+                    .collect(Collectors.toList());
+            assertThat(ids).isSorted();
+        }
+        records.forEach(record -> verify(record).ack());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInvalidEventIsAcked() throws Exception {
+        byte[] payload = "not a cloud event".getBytes(StandardCharsets.UTF_8);
+        KafkaRecord<String, byte[]> record = mock(KafkaRecord.class);
+        when(record.getPayload()).thenReturn(payload);
+        when(record.ack()).thenReturn(CompletableFuture.completedFuture(null));
+        KafkaRecordBatch<String, byte[]> batch = mock(KafkaRecordBatch.class);
+        when(batch.getRecords()).thenReturn(Collections.singletonList(record));
+
+        batchExecutorsService.processBridgeEvents(batch).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertThat(processed).isEmpty();
+        verify(deadLetterService).publish(any(), eq(payload), any());
+        verify(record).ack();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFailedEventIsDeadLetteredAndAcked() throws Exception {
+        RuntimeException failure = new RuntimeException("action target is down");
+        when(executor.onEvent(anyMap())).thenReturn(Uni.createFrom().failure(failure));
+        KafkaRecord<String, byte[]> record = createRecord("subject", "id");
+        byte[] payload = record.getPayload();
+        ProcessorDTO processor = executor.getProcessor();
+        KafkaRecordBatch<String, byte[]> batch = mock(KafkaRecordBatch.class);
+        when(batch.getRecords()).thenReturn(Collections.singletonList(record));
+
+        batchExecutorsService.processBridgeEvents(batch).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        verify(deadLetterService).publish(processor, payload, failure);
+        verify(record).ack();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static KafkaRecord<String, byte[]> createRecord(String subject, String id) {
+        String payload = CloudEventUtils.encode(CloudEventBuilder.v1()
+                .withId(id)
+                .withSource(URI.create("mySource"))
+                .withType("myType")
+                .withSubject(subject)
+                .build());
+        KafkaRecord<String, byte[]> record = mock(KafkaRecord.class);
+        when(record.getPayload()).thenReturn(payload.getBytes(StandardCharsets.UTF_8));
+        when(record.ack()).thenReturn(CompletableFuture.completedFuture(null));
+        return record;
+    }
+}
@@ -0,0 +1,145 @@
+package com.redhat.service.smartevents.executor;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DeadLetterReplayServiceTest {
+
+    private static final String BRIDGE_ID = "bridgeId";
+    private static final String PROCESSOR_ID = "processorId";
+
+    private DeadLetterReplayService replayService;
+
+    private Executor executor;
+
+    private DeadLetterService deadLetterService;
+
+    private ProcessorDTO processor;
+
+    @BeforeEach
+    void setup() {
+        processor = mock(ProcessorDTO.class);
+        when(processor.getId()).thenReturn(PROCESSOR_ID);
+        when(processor.getBridgeId()).thenReturn(BRIDGE_ID);
+
+        executor = mock(Executor.class);
+        when(executor.getProcessor()).thenReturn(processor);
+        when(executor.onEvent(anyMap())).thenReturn(Uni.createFrom().voidItem());
+
+        ExecutorsProvider executorsProvider = mock(ExecutorsProvider.class);
+        when(executorsProvider.getExecutors()).thenReturn(Collections.singletonList(executor));
+
+        deadLetterService = mock(DeadLetterService.class);
+        when(deadLetterService.publish(any(), any(), any())).thenReturn(Uni.createFrom().voidItem());
+
+        replayService = new DeadLetterReplayService();
+        replayService.executorsProvider = executorsProvider;
+        replayService.deadLetterService = deadLetterService;
+        replayService.registry = new SimpleMeterRegistry();
+        replayService.ratePerSecond = 1000;
+        replayService.maxAttempts = 3;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEventIsReplayedWithoutFailureMetadata() throws Exception {
+        AtomicBoolean acked = new AtomicBoolean();
+
+        replayService.replayDeadLetterEvent(createMessage(PROCESSOR_ID, 1, acked)).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(executor).onEvent(captor.capture());
+        assertThat(captor.getValue()).containsEntry("id", "myId")
+                .doesNotContainKeys(DeadLetterService.FAILED_PROCESSOR_EXTENSION, DeadLetterService.FAILURE_ATTEMPTS_EXTENSION);
+        assertThat(acked).isTrue();
+        assertThat(replayService.registry.counter(MetricsConstants.DEAD_LETTER_REPLAY_METRIC_NAME,
+                MetricsConstants.BRIDGE_ID_TAG, BRIDGE_ID, MetricsConstants.PROCESSOR_ID_TAG, PROCESSOR_ID).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testEventOfAnotherProcessorIsSkipped() throws Exception {
+        AtomicBoolean acked = new AtomicBoolean();
+
+        replayService.replayDeadLetterEvent(createMessage("anotherProcessorId", 1, acked)).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        verify(executor, never()).onEvent(anyMap());
+        assertThat(acked).isTrue();
+    }
+
+    @Test
+    public void testEventIsDroppedAfterMaxAttempts() throws Exception {
+        AtomicBoolean acked = new AtomicBoolean();
+
+        replayService.replayDeadLetterEvent(createMessage(PROCESSOR_ID, 3, acked)).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        verify(executor, never()).onEvent(anyMap());
+        verify(deadLetterService, never()).publish(any(), any(), any());
+        assertThat(acked).isTrue();
+    }
+
+    @Test
+    public void testFailedReplayIsDeadLetteredAgain() throws Exception {
+        RuntimeException failure = new RuntimeException("action target is still down");
+        when(executor.onEvent(anyMap())).thenReturn(Uni.createFrom().failure(failure));
+        AtomicBoolean acked = new AtomicBoolean();
+        Message<byte[]> message = createMessage(PROCESSOR_ID, 1, acked);
+        byte[] payload = message.getPayload();
+
+        replayService.replayDeadLetterEvent(message).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        verify(deadLetterService).publish(eq(processor), eq(payload), eq(failure));
+        assertThat(acked).isTrue();
+    }
+
+    @Test
+    public void testReplayIsRateLimited() {
+        replayService.ratePerSecond = 10;
+
+        assertThat(replayService.nextDelay()).isLessThan(Duration.ofMillis(100));
+        assertThat(replayService.nextDelay()).isBetween(Duration.ofMillis(50), Duration.ofMillis(100));
+        assertThat(replayService.nextDelay()).isBetween(Duration.ofMillis(150), Duration.ofMillis(200));
+    }
+
+    private static Message<byte[]> createMessage(String failedProcessorId, int attempts, AtomicBoolean acked) throws Exception {
+        String event = CloudEventUtils.encode(CloudEventBuilder.v1()
+                .withId("myId")
+                .withSource(URI.create("mySource"))
+                .withType("myType")
+                .build());
+        ObjectNode deadLetter = (ObjectNode) CloudEventUtils.getMapper().readTree(event);
+        deadLetter.put(DeadLetterService.FAILED_PROCESSOR_EXTENSION, failedProcessorId);
+        deadLetter.put(DeadLetterService.FAILURE_ATTEMPTS_EXTENSION, attempts);
+        return Message.of(CloudEventUtils.getMapper().writeValueAsString(deadLetter).getBytes(StandardCharsets.UTF_8), () -> {
+            acked.set(true);
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package com.redhat.service.smartevents.executor;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DeadLetterServiceTest {
+
+    private static final String BRIDGE_ID = "bridgeId";
+    private static final String PROCESSOR_ID = "processorId";
+
+    private DeadLetterService deadLetterService;
+
+    private Emitter<byte[]> emitter;
+
+    private ProcessorDTO processor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        emitter = mock(Emitter.class);
+        processor = mock(ProcessorDTO.class);
+        when(processor.getId()).thenReturn(PROCESSOR_ID);
+        when(processor.getBridgeId()).thenReturn(BRIDGE_ID);
+
+        deadLetterService = new DeadLetterService();
+        deadLetterService.enabled = true;
+        deadLetterService.emitter = emitter;
+        deadLetterService.registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void testFailureMetadataIsAddedAsExtensions() throws Exception {
+        UniAssertSubscriber<Void> subscriber = deadLetterService.publish(processor, createEvent(), new IllegalStateException("boom"))
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        Message<byte[]> message = captureMessage();
+        JsonNode deadLetter = CloudEventUtils.getMapper().readTree(message.getPayload());
+        assertThat(deadLetter.get("id").asText()).isEqualTo("myId");
+        assertThat(deadLetter.get(DeadLetterService.FAILED_PROCESSOR_EXTENSION).asText()).isEqualTo(PROCESSOR_ID);
+        assertThat(deadLetter.get(DeadLetterService.FAILURE_REASON_EXTENSION).asText()).isEqualTo(IllegalStateException.class.getName());
+        assertThat(deadLetter.get(DeadLetterService.FAILURE_MESSAGE_EXTENSION).asText()).isEqualTo("boom");
+        assertThat(deadLetter.get(DeadLetterService.FAILURE_TIME_EXTENSION).asText()).isNotBlank();
+        assertThat(deadLetter.get(DeadLetterService.FAILURE_ATTEMPTS_EXTENSION).asInt()).isEqualTo(1);
+        // The dead-letter event is still a valid CloudEvent
+        assertThat(CloudEventUtils.decode(message.getPayload()).getExtension(DeadLetterService.FAILED_PROCESSOR_EXTENSION)).isEqualTo(PROCESSOR_ID);
+
+        subscriber.assertNotTerminated();
+        message.ack();
+        subscriber.assertCompleted();
+        assertThat(deadLetterService.registry.counter(MetricsConstants.DEAD_LETTER_METRIC_NAME,
+                MetricsConstants.BRIDGE_ID_TAG, BRIDGE_ID, MetricsConstants.PROCESSOR_ID_TAG, PROCESSOR_ID).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testAttemptsAreIncrementedWhenAnEventFailsAgain() throws Exception {
+        deadLetterService.publish(processor, createEvent(), new RuntimeException()).subscribe().withSubscriber(UniAssertSubscriber.create());
+        byte[] deadLetter = captureMessage().getPayload();
+
+        deadLetterService.publish(processor, deadLetter, new RuntimeException()).subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        ArgumentCaptor<Message<byte[]>> captor = messageCaptor();
+        verify(emitter, times(2)).send(captor.capture());
+        JsonNode replayed = CloudEventUtils.getMapper().readTree(captor.getAllValues().get(1).getPayload());
+        assertThat(replayed.get(DeadLetterService.FAILURE_ATTEMPTS_EXTENSION).asInt()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInvalidPayloadIsPublishedWithHeaders() {
+        byte[] payload = "not a cloud event".getBytes(StandardCharsets.UTF_8);
+
+        deadLetterService.publish(processor, payload, new RuntimeException()).subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        Message<byte[]> message = captureMessage();
+        assertThat(message.getPayload()).isEqualTo(payload);
+        OutgoingKafkaRecordMetadata<?> metadata = message.getMetadata(OutgoingKafkaRecordMetadata.class).orElseThrow();
+        assertThat(new String(metadata.getHeaders().lastHeader(DeadLetterService.FAILED_PROCESSOR_EXTENSION).value(), StandardCharsets.UTF_8)).isEqualTo(PROCESSOR_ID);
+    }
+
+    @Test
+    public void testPublishFailureIsRecovered() {
+        UniAssertSubscriber<Void> subscriber = deadLetterService.publish(processor, createEvent(), new RuntimeException())
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        captureMessage().nack(new RuntimeException("broker is down"));
+
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void testDisabled() {
+        deadLetterService.enabled = false;
+
+        deadLetterService.publish(processor, createEvent(), new RuntimeException()).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        verify(emitter, never()).send(any(Message.class));
+    }
+
+    private Message<byte[]> captureMessage() {
+        ArgumentCaptor<Message<byte[]>> captor = messageCaptor();
+        verify(emitter).send(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Message<byte[]>> messageCaptor() {
+        return ArgumentCaptor.forClass(Message.class);
+    }
+
+    private static byte[] createEvent() {
+        return CloudEventUtils.encode(CloudEventBuilder.v1()
+                .withId("myId")
+                .withSource(URI.create("mySource"))
+                .withType("myType")
+                .build()).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,82 @@
+package com.redhat.service.smartevents.executor;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.redhat.service.smartevents.executor.filters.FilterEngine;
+import com.redhat.service.smartevents.executor.filters.FilterEvaluator;
+import com.redhat.service.smartevents.infra.models.filters.StringEquals;
+import com.redhat.service.smartevents.infra.transformations.TransformationEvaluator;
+import com.redhat.service.smartevents.infra.transformations.TransformationEvaluatorFactoryQute;
+import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+
+import io.cloudevents.SpecVersion;
+
+/**
+ * Measures throughput and allocation of the two {@link EventDecodeMode}s, from the raw Kafka payload to the rendered event.
+ * Run it with the main method, the GC profiler reports the allocation rate per operation ("gc.alloc.rate.norm").
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventDecodingBenchmark {
+
+    private static final String DATA =
+            "{\"name\":\"jacopo\",\"surname\":\"rota\",\"age\":42,\"tags\":[\"a\",\"b\",\"c\"],\"address\":{\"city\":\"Milan\",\"country\":\"Italy\",\"zip\":\"20100\"}}";
+
+    private byte[] payload;
+
+    private FilterEvaluator filterEvaluator;
+
+    private TransformationEvaluator transformationEvaluator;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        payload = CloudEventUtils.encode(CloudEventUtils.build("myId", SpecVersion.V1, URI.create("mySource"), "subject", CloudEventUtils.getMapper().readTree(DATA)))
+                .getBytes(StandardCharsets.UTF_8);
+        filterEvaluator = FilterEngine.COMPILED.getFactory().build(Collections.singleton(new StringEquals("data.name", "jacopo")));
+        transformationEvaluator = new TransformationEvaluatorFactoryQute().build("Hi {data.name} from {data.address.city}");
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public String cloudEvent() {
+        Map<String, Object> event = CloudEventUtils.getMapper().convertValue(CloudEventUtils.decode(payload), Map.class);
+        return process(event);
+    }
+
+    @Benchmark
+    public String lazyView() {
+        return process(CloudEventUtils.decodeView(payload));
+    }
+
+    private String process(Map<String, Object> event) {
+        return filterEvaluator.evaluateFilters(event) ? transformationEvaluator.render(event) : null;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EventDecodingBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+    }
+}
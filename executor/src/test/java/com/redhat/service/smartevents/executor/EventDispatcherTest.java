@@ -0,0 +1,106 @@
+package com.redhat.service.smartevents.executor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EventDispatcherTest {
+
+    private static final byte[] PAYLOAD = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private EventDispatcher eventDispatcher;
+
+    private ExecutorsProvider executorsProvider;
+
+    private DeadLetterService deadLetterService;
+
+    @BeforeEach
+    void setup() {
+        executorsProvider = mock(ExecutorsProvider.class);
+        deadLetterService = mock(DeadLetterService.class);
+        when(deadLetterService.publish(any(), any(), any())).thenReturn(Uni.createFrom().voidItem());
+
+        eventDispatcher = new EventDispatcher();
+        eventDispatcher.executorsProvider = executorsProvider;
+        eventDispatcher.deadLetterService = deadLetterService;
+    }
+
+    @Test
+    public void testEventIsDispatchedToAllProcessors() {
+        Executor executor1 = createExecutor("processorId-1", Uni.createFrom().voidItem());
+        Executor executor2 = createExecutor("processorId-2", Uni.createFrom().voidItem());
+        when(executorsProvider.getExecutors()).thenReturn(Arrays.asList(executor1, executor2));
+        Map<String, Object> event = Collections.singletonMap("id", "myId");
+
+        eventDispatcher.dispatch(PAYLOAD, event).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        verify(executor1).onEvent(event);
+        verify(executor2).onEvent(event);
+        verify(deadLetterService, never()).publish(any(), any(), any());
+    }
+
+    @Test
+    public void testFailureIsDeadLetteredForTheFailedProcessorOnly() {
+        RuntimeException failure = new RuntimeException("action target is down");
+        Executor executor1 = createExecutor("processorId-1", Uni.createFrom().failure(failure));
+        Executor executor2 = createExecutor("processorId-2", Uni.createFrom().voidItem());
+        ProcessorDTO failedProcessor = executor1.getProcessor();
+        ProcessorDTO processor2 = executor2.getProcessor();
+        when(executorsProvider.getExecutors()).thenReturn(Arrays.asList(executor1, executor2));
+
+        eventDispatcher.dispatch(PAYLOAD, Collections.singletonMap("id", "myId")).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        verify(deadLetterService).publish(failedProcessor, PAYLOAD, failure);
+        verify(deadLetterService, never()).publish(processor2, PAYLOAD, failure);
+    }
+
+    @Test
+    public void testDecodingFailureIsDeadLetteredForAllProcessors() {
+        RuntimeException failure = new RuntimeException("not a cloud event");
+        Executor executor1 = createExecutor("processorId-1", Uni.createFrom().voidItem());
+        Executor executor2 = createExecutor("processorId-2", Uni.createFrom().voidItem());
+        ProcessorDTO processor1 = executor1.getProcessor();
+        ProcessorDTO processor2 = executor2.getProcessor();
+        when(executorsProvider.getExecutors()).thenReturn(Arrays.asList(executor1, executor2));
+
+        eventDispatcher.dispatchFailure(PAYLOAD, failure).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        verify(executor1, never()).onEvent(anyMap());
+        verify(deadLetterService).publish(processor1, PAYLOAD, failure);
+        verify(deadLetterService).publish(processor2, PAYLOAD, failure);
+    }
+
+    @Test
+    public void testNoProcessors() {
+        when(executorsProvider.getExecutors()).thenReturn(Collections.emptyList());
+
+        eventDispatcher.dispatch(PAYLOAD, Collections.singletonMap("id", "myId")).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+    }
+
+    private static Executor createExecutor(String processorId, Uni<Void> delivery) {
+        ProcessorDTO processor = mock(ProcessorDTO.class);
+        when(processor.getId()).thenReturn(processorId);
+        when(processor.getBridgeId()).thenReturn("bridgeId");
+        Executor executor = mock(Executor.class);
+        when(executor.getProcessor()).thenReturn(processor);
+        when(executor.onEvent(anyMap())).thenReturn(delivery);
+        return executor;
+    }
+}
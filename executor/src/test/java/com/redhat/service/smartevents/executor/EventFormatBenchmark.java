@@ -0,0 +1,80 @@
+package com.redhat.service.smartevents.executor;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+import com.redhat.service.smartevents.infra.utils.EventFormat;
+import com.redhat.service.smartevents.infra.utils.JsonNodeMap;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.SpecVersion;
+
+/**
+ * Measures the encoding on the ingress and the decoding on the Executor of the structured mode events, for every {@link EventFormat}.
+ * Run it with the main method, which prints the encoded size of the event in every format first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventFormatBenchmark {
+
+    private static final String DATA =
+            "{\"name\":\"jacopo\",\"surname\":\"rota\",\"age\":42,\"score\":1234.5678,\"tags\":[\"a\",\"b\",\"c\"],"
+                    + "\"readings\":[1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16],\"address\":{\"city\":\"Milan\",\"country\":\"Italy\",\"zip\":\"20100\"}}";
+
+    @Param({ "JSON", "CBOR" })
+    public EventFormat format;
+
+    private CloudEvent cloudEvent;
+
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        cloudEvent = buildEvent();
+        payload = CloudEventUtils.encode(cloudEvent, format);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return CloudEventUtils.encode(cloudEvent, format);
+    }
+
+    @Benchmark
+    public JsonNodeMap decodeView() {
+        return CloudEventUtils.decodeView(payload, format);
+    }
+
+    private static CloudEvent buildEvent() throws JsonProcessingException {
+        return CloudEventUtils.build("myId", SpecVersion.V1, URI.create("mySource"), "subject", CloudEventUtils.getMapper().readTree(DATA));
+    }
+
+    public static void main(String[] args) throws RunnerException, JsonProcessingException {
+        CloudEvent event = buildEvent();
+        for (EventFormat format : EventFormat.values()) {
+            System.out.printf("%s: %d bytes%n", format, CloudEventUtils.encode(event, format).length);
+        }
+        new Runner(new OptionsBuilder().include(EventFormatBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -1,24 +1,38 @@
 package com.redhat.service.smartevents.executor;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.inject.Inject;
 
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
 import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+import com.redhat.service.smartevents.infra.utils.EventFormat;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.core.builder.CloudEventBuilder;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectMock;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.api.IncomingKafkaRecordMetadata;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,6 +48,9 @@ public class ExecutorServiceTest {
     @InjectMock
     ExecutorsProvider executorsProvider;
 
+    @InjectMock
+    DeadLetterService deadLetterService;
+
     Executor executor;
 
     @BeforeEach
@@ -47,7 +64,9 @@ public class ExecutorServiceTest {
         when(processorDTO.getBridgeId()).thenReturn(BRIDGE_ID);
 
         when(executor.getProcessor()).thenReturn(processorDTO);
-        when(executorsProvider.getExecutor()).thenReturn(executor);
+        when(executor.onEvent(anyMap())).thenReturn(Uni.createFrom().voidItem());
+        when(executorsProvider.getExecutors()).thenReturn(Collections.singletonList(executor));
+        when(deadLetterService.publish(any(), any(), any())).thenReturn(Uni.createFrom().voidItem());
     }
 
     @Test
@@ -59,8 +78,115 @@ public class ExecutorServiceTest {
                 .withType("myType")
                 .build();
 
-        executorsService.processBridgeEvent(Message.of(CloudEventUtils.encode(cloudEvent)));
+        executorsService.processBridgeEvent(Message.of(CloudEventUtils.encode(cloudEvent).getBytes(StandardCharsets.UTF_8)));
+
+        verify(executor, times(1)).onEvent(anyMap());
+        verify(executor, never()).onEvent(any(CloudEvent.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void handleBinaryModeEvent() {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add("ce_specversion", "1.0".getBytes(StandardCharsets.UTF_8));
+        headers.add("ce_id", "foo".getBytes(StandardCharsets.UTF_8));
+        headers.add("ce_source", "bar".getBytes(StandardCharsets.UTF_8));
+        headers.add("ce_type", "myType".getBytes(StandardCharsets.UTF_8));
+        headers.add("content-type", "application/json".getBytes(StandardCharsets.UTF_8));
+        IncomingKafkaRecordMetadata<String, byte[]> metadata = mock(IncomingKafkaRecordMetadata.class);
+        when(metadata.getHeaders()).thenReturn(headers);
+
+        executorsService.processBridgeEvent(Message.of("{\"key\": \"value\"}".getBytes(StandardCharsets.UTF_8)).addMetadata(metadata));
+
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(executor, times(1)).onEvent(captor.capture());
+        assertThat(captor.getValue().get("id")).isEqualTo("foo");
+        assertThat(captor.getValue().get("datacontenttype")).isEqualTo("application/json");
+        assertThat((Map<String, Object>) captor.getValue().get("data")).containsEntry("key", "value");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void handleCborEventIsDeadLetteredAsJson() {
+        RuntimeException failure = new RuntimeException("action target is down");
+        when(executor.onEvent(anyMap())).thenReturn(Uni.createFrom().failure(failure));
+
+        CloudEvent cloudEvent = CloudEventBuilder
+                .v1()
+                .withId("foo")
+                .withSource(URI.create("bar"))
+                .withType("myType")
+                .build();
+        RecordHeaders headers = new RecordHeaders();
+        headers.add("content-type", EventFormat.CBOR.getContentType().getBytes(StandardCharsets.UTF_8));
+        IncomingKafkaRecordMetadata<String, byte[]> metadata = mock(IncomingKafkaRecordMetadata.class);
+        when(metadata.getHeaders()).thenReturn(headers);
+
+        ProcessorDTO processor = executor.getProcessor();
+        executorsService.processBridgeEvent(Message.of(CloudEventUtils.encode(cloudEvent, EventFormat.CBOR)).addMetadata(metadata));
+
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(executor, times(1)).onEvent(captor.capture());
+        assertThat(captor.getValue().get("id")).isEqualTo("foo");
+        ArgumentCaptor<byte[]> payload = ArgumentCaptor.forClass(byte[].class);
+        verify(deadLetterService, times(1)).publish(eq(processor), payload.capture(), eq(failure));
+        assertThat(CloudEventUtils.decode(payload.getValue()).getId()).isEqualTo("foo");
+    }
+
+    @Test
+    public void handleInvalidEvent() {
+        executorsService.processBridgeEvent(Message.of("{\"id\": \"foo\"}".getBytes(StandardCharsets.UTF_8)));
+
+        verify(executor, never()).onEvent(anyMap());
+        verify(deadLetterService, times(1)).publish(any(), any(), any());
+    }
+
+    @Test
+    public void handleFailedEventIsDeadLettered() {
+        RuntimeException failure = new RuntimeException("action target is down");
+        when(executor.onEvent(anyMap())).thenReturn(Uni.createFrom().failure(failure));
+
+        CloudEvent cloudEvent = CloudEventBuilder
+                .v1()
+                .withId("foo")
+                .withSource(URI.create("bar"))
+                .withType("myType")
+                .build();
+        byte[] payload = CloudEventUtils.encode(cloudEvent).getBytes(StandardCharsets.UTF_8);
+        AtomicBoolean acked = new AtomicBoolean();
+        Message<byte[]> message = Message.of(payload, () -> {
+            acked.set(true);
+            return CompletableFuture.completedFuture(null);
+        });
+
+        ProcessorDTO processor = executor.getProcessor();
+        executorsService.processBridgeEvent(message);
+
+        verify(deadLetterService, times(1)).publish(processor, payload, failure);
+        assertThat(acked).isTrue();
+    }
+
+    @Test
+    public void handleEventAcksAfterDelivery() {
+        CompletableFuture<Void> delivery = new CompletableFuture<>();
+        when(executor.onEvent(anyMap())).thenReturn(Uni.createFrom().completionStage(delivery));
+
+        CloudEvent cloudEvent = CloudEventBuilder
+                .v1()
+                .withId("foo")
+                .withSource(URI.create("bar"))
+                .withType("myType")
+                .build();
+        AtomicBoolean acked = new AtomicBoolean();
+        Message<byte[]> message = Message.of(CloudEventUtils.encode(cloudEvent).getBytes(StandardCharsets.UTF_8), () -> {
+            acked.set(true);
+            return CompletableFuture.completedFuture(null);
+        });
+
+        executorsService.processBridgeEvent(message);
+        assertThat(acked).isFalse();
 
-        verify(executor, times(1)).onEvent(any(CloudEvent.class));
+        delivery.complete(null);
+        assertThat(acked).isTrue();
     }
 }
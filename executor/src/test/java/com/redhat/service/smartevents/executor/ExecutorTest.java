@@ -1,6 +1,7 @@
 package com.redhat.service.smartevents.executor;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -31,8 +32,11 @@ import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.AdditionalMatchers.not;
 import static org.mockito.AdditionalMatchers.or;
 import static org.mockito.ArgumentMatchers.any;
@@ -58,6 +62,7 @@ public class ExecutorTest {
     @BeforeEach
     void setup() {
         actionInvokerMock = mock(ActionInvoker.class);
+        when(actionInvokerMock.onEvent(any(Buffer.class))).thenReturn(Uni.createFrom().voidItem());
 
         ActionInvokerBuilder actionInvokerBuilder = mock(ActionInvokerBuilder.class);
         when(actionInvokerBuilder.build(any(), any())).thenReturn(actionInvokerMock);
@@ -87,10 +92,10 @@ public class ExecutorTest {
 
         CloudEvent cloudEvent = createCloudEvent();
 
-        executor.onEvent(cloudEvent);
+        executor.onEvent(cloudEvent).await().indefinitely();
 
         verify(actionRuntime).getInvokerBuilder(KafkaTopicAction.TYPE);
-        verify(actionInvokerMock).onEvent(any());
+        verify(actionInvokerMock).onEvent(any(Buffer.class));
     }
 
     @Test
@@ -112,10 +117,10 @@ public class ExecutorTest {
 
         CloudEvent cloudEvent = createCloudEvent();
 
-        executor.onEvent(cloudEvent);
+        executor.onEvent(cloudEvent).await().indefinitely();
 
         verify(actionRuntime).getInvokerBuilder(WebhookAction.TYPE);
-        verify(actionInvokerMock, times(1)).onEvent(any());
+        verify(actionInvokerMock, times(1)).onEvent(any(Buffer.class));
     }
 
     @Test
@@ -132,9 +137,9 @@ public class ExecutorTest {
 
         CloudEvent cloudEvent = createCloudEvent();
 
-        executor.onEvent(cloudEvent);
+        executor.onEvent(cloudEvent).await().indefinitely();
 
-        verify(actionInvokerMock, never()).onEvent(any());
+        verify(actionInvokerMock, never()).onEvent(any(Buffer.class));
     }
 
     @Test
@@ -151,10 +156,29 @@ public class ExecutorTest {
 
         CloudEvent cloudEvent = createCloudEvent();
 
-        executor.onEvent(cloudEvent);
+        executor.onEvent(cloudEvent).await().indefinitely();
 
         verify(actionRuntime).getInvokerBuilder(KafkaTopicAction.TYPE);
-        verify(actionInvokerMock).onEvent(any());
+        verify(actionInvokerMock).onEvent(any(Buffer.class));
+    }
+
+    @Test
+    public void testOnEventWithLazyView() throws JsonProcessingException {
+        Set<BaseFilter> filters = new HashSet<>();
+        filters.add(new StringEquals("data.key", "value"));
+
+        String transformationTemplate = "{\"test\": \"{data.key}\"}";
+
+        BaseAction action = new BaseAction();
+        action.setType(KafkaTopicAction.TYPE);
+
+        ProcessorDTO processorDTO = createProcessor(new ProcessorDefinition(filters, transformationTemplate, action));
+
+        Executor executor = new Executor(processorDTO, filterEvaluatorFactory, transformationEvaluatorFactory, actionRuntime, meterRegistry);
+
+        executor.onEvent(CloudEventUtils.decodeView(CloudEventUtils.encode(createCloudEvent()).getBytes(StandardCharsets.UTF_8))).await().indefinitely();
+
+        verify(actionInvokerMock).onEvent(Buffer.buffer("{\"test\": \"value\"}"));
     }
 
     @Test
@@ -173,12 +197,35 @@ public class ExecutorTest {
 
         CloudEvent cloudEvent = createCloudEvent();
 
-        executor.onEvent(cloudEvent);
+        executor.onEvent(cloudEvent).await().indefinitely();
 
         assertThat(meterRegistry.getMeters().stream().anyMatch(x -> x.getId().getName().equals(MetricsConstants.PROCESSOR_PROCESSING_TIME_METRIC_NAME))).isTrue();
         assertThat(meterRegistry.getMeters().stream().anyMatch(x -> x.getId().getName().equals(MetricsConstants.FILTER_PROCESSING_TIME_METRIC_NAME))).isTrue();
         assertThat(meterRegistry.getMeters().stream().anyMatch(x -> x.getId().getName().equals(MetricsConstants.TRANSFORMATION_PROCESSING_TIME_METRIC_NAME))).isTrue();
         assertThat(meterRegistry.getMeters().stream().anyMatch(x -> x.getId().getName().equals(MetricsConstants.ACTION_PROCESSING_TIME_METRIC_NAME))).isTrue();
+        assertThat(meterRegistry.counter(MetricsConstants.ACTION_DELIVERY_METRIC_NAME, MetricsConstants.BRIDGE_ID_TAG, "bridgeId-1", MetricsConstants.PROCESSOR_ID_TAG, "processorId-1",
+                MetricsConstants.OUTCOME_TAG, MetricsConstants.OUTCOME_SUCCESS).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testActionFailureIsPropagated() throws JsonProcessingException {
+        when(actionInvokerMock.onEvent(any(Buffer.class))).thenReturn(Uni.createFrom().failure(new IllegalStateException("delivery failed")));
+
+        Set<BaseFilter> filters = new HashSet<>();
+        filters.add(new StringEquals("data.key", "value"));
+
+        BaseAction action = new BaseAction();
+        action.setType(KafkaTopicAction.TYPE);
+
+        ProcessorDTO processorDTO = createProcessor(new ProcessorDefinition(filters, null, action));
+
+        Executor executor = new Executor(processorDTO, filterEvaluatorFactory, transformationEvaluatorFactory, actionRuntime, meterRegistry);
+
+        CloudEvent cloudEvent = createCloudEvent();
+
+        assertThatThrownBy(() -> executor.onEvent(cloudEvent).await().indefinitely()).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.counter(MetricsConstants.ACTION_DELIVERY_METRIC_NAME, MetricsConstants.BRIDGE_ID_TAG, "bridgeId-1", MetricsConstants.PROCESSOR_ID_TAG, "processorId-1",
+                MetricsConstants.OUTCOME_TAG, MetricsConstants.OUTCOME_FAILURE).count()).isEqualTo(1);
     }
 
     protected CloudEvent createCloudEvent() throws JsonProcessingException {
@@ -0,0 +1,126 @@
+package com.redhat.service.smartevents.executor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redhat.service.smartevents.executor.filters.FilterEngine;
+import com.redhat.service.smartevents.infra.models.actions.BaseAction;
+import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
+import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.models.filters.StringEquals;
+import com.redhat.service.smartevents.infra.models.processors.ProcessorDefinition;
+import com.redhat.service.smartevents.infra.transformations.TransformationEvaluatorFactoryQute;
+import com.redhat.service.smartevents.processor.actions.ActionInvoker;
+import com.redhat.service.smartevents.processor.actions.ActionInvokerBuilder;
+import com.redhat.service.smartevents.processor.actions.ActionRuntime;
+import com.redhat.service.smartevents.processor.actions.kafkatopic.KafkaTopicAction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExecutorsProviderImplTest {
+
+    private static final String BRIDGE_ID = "bridgeId";
+
+    @TempDir
+    Path definitionsDir;
+
+    private ObjectMapper objectMapper;
+
+    private ExecutorsProviderImpl executorsProvider;
+
+    @BeforeEach
+    void setup() {
+        objectMapper = new ObjectMapper();
+
+        ActionInvokerBuilder actionInvokerBuilder = mock(ActionInvokerBuilder.class);
+        when(actionInvokerBuilder.build(any(), any())).thenReturn(mock(ActionInvoker.class));
+        ActionRuntime actionRuntime = mock(ActionRuntime.class);
+        when(actionRuntime.getInvokerBuilder(KafkaTopicAction.TYPE)).thenReturn(actionInvokerBuilder);
+
+        executorsProvider = new ExecutorsProviderImpl();
+        executorsProvider.actionRuntime = actionRuntime;
+        executorsProvider.registry = new SimpleMeterRegistry();
+        executorsProvider.objectMapper = objectMapper;
+        executorsProvider.filterEngine = FilterEngine.COMPILED;
+        executorsProvider.transformationEvaluatorFactory = new TransformationEvaluatorFactoryQute();
+    }
+
+    @Test
+    public void testSingleProcessor() throws Exception {
+        executorsProvider.processorDefinition = objectMapper.writeValueAsString(createProcessor("processorId-1", "value"));
+        executorsProvider.processorDefinitionsDir = Optional.empty();
+
+        executorsProvider.init();
+
+        assertThat(executorsProvider.getExecutors()).extracting(e -> e.getProcessor().getId()).containsExactly("processorId-1");
+    }
+
+    @Test
+    public void testSharedProcessorsAreReloaded() throws Exception {
+        writeDefinition("processorId-1", "value");
+        writeDefinition("processorId-2", "value");
+        // ConfigMap volumes contain hidden entries next to the definition files
+        Files.createDirectory(definitionsDir.resolve("..data"));
+        executorsProvider.processorDefinitionsDir = Optional.of(definitionsDir.toString());
+
+        executorsProvider.init();
+
+        assertThat(executorsProvider.getExecutors()).extracting(e -> e.getProcessor().getId()).containsExactlyInAnyOrder("processorId-1", "processorId-2");
+        Executor unchanged = findExecutor("processorId-1");
+        Executor changed = findExecutor("processorId-2");
+
+        writeDefinition("processorId-2", "anotherValue");
+        writeDefinition("processorId-3", "value");
+        executorsProvider.reloadDefinitions();
+
+        assertThat(executorsProvider.getExecutors()).extracting(e -> e.getProcessor().getId()).containsExactlyInAnyOrder("processorId-1", "processorId-2", "processorId-3");
+        assertThat(findExecutor("processorId-1")).isSameAs(unchanged);
+        assertThat(findExecutor("processorId-2")).isNotSameAs(changed);
+
+        Files.delete(definitionsDir.resolve("processorId-1.json"));
+        executorsProvider.reloadDefinitions();
+
+        assertThat(executorsProvider.getExecutors()).extracting(e -> e.getProcessor().getId()).containsExactlyInAnyOrder("processorId-2", "processorId-3");
+    }
+
+    @Test
+    public void testInvalidDefinitionKeepsThePreviousExecutor() throws Exception {
+        writeDefinition("processorId-1", "value");
+        executorsProvider.processorDefinitionsDir = Optional.of(definitionsDir.toString());
+        executorsProvider.init();
+        Executor previous = findExecutor("processorId-1");
+
+        Files.writeString(definitionsDir.resolve("processorId-1.json"), "{ not json");
+        executorsProvider.reloadDefinitions();
+
+        assertThat(findExecutor("processorId-1")).isSameAs(previous);
+    }
+
+    private Executor findExecutor(String processorId) {
+        return executorsProvider.getExecutors().stream().filter(e -> e.getProcessor().getId().equals(processorId)).findFirst().orElseThrow();
+    }
+
+    private void writeDefinition(String processorId, String filterValue) throws Exception {
+        Files.writeString(definitionsDir.resolve(processorId + ".json"), objectMapper.writeValueAsString(createProcessor(processorId, filterValue)));
+    }
+
+    private static ProcessorDTO createProcessor(String processorId, String filterValue) {
+        BaseAction action = new BaseAction();
+        action.setType(KafkaTopicAction.TYPE);
+        action.setParameters(Collections.singletonMap(KafkaTopicAction.TOPIC_PARAM, "myTopic"));
+        ProcessorDefinition definition = new ProcessorDefinition(Collections.singleton(new StringEquals("data.key", filterValue)), null, action);
+        return new ProcessorDTO(processorId, processorId, definition, BRIDGE_ID, "customerId", ManagedResourceStatus.READY, null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.redhat.service.smartevents.executor.filters;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.redhat.service.smartevents.infra.models.filters.BaseFilter;
+import com.redhat.service.smartevents.infra.models.filters.StringBeginsWith;
+import com.redhat.service.smartevents.infra.models.filters.StringContains;
+import com.redhat.service.smartevents.infra.models.filters.StringEquals;
+import com.redhat.service.smartevents.infra.models.filters.ValuesIn;
+
+/**
+ * Compares the FEEL and the compiled filter engines on the same set of filters.
+ * Run it with the main method, it is not executed as part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterEvaluatorBenchmark {
+
+    @Param({ "FEEL", "COMPILED" })
+    public FilterEngine engine;
+
+    private FilterEvaluator evaluator;
+
+    private Map<String, Object> matchingEvent;
+
+    private Map<String, Object> notMatchingEvent;
+
+    @Setup
+    public void setup() {
+        Set<BaseFilter> filters = new HashSet<>();
+        filters.add(new StringEquals("source", "myService"));
+        filters.add(new StringContains("data.name", Arrays.asList("acop", "rota")));
+        filters.add(new StringBeginsWith("data.surname", Arrays.asList("ro", "ja")));
+        filters.add(new ValuesIn("data.age", Arrays.asList(18, 30, 42, "unknown")));
+        evaluator = engine.getFactory().build(filters);
+
+        matchingEvent = event("myService", "jacopo", "rota", 42);
+        notMatchingEvent = event("myService", "jacopo", "rota", 43);
+    }
+
+    @Benchmark
+    public boolean matching() {
+        return evaluator.evaluateFilters(matchingEvent);
+    }
+
+    @Benchmark
+    public boolean notMatching() {
+        return evaluator.evaluateFilters(notMatchingEvent);
+    }
+
+    private static Map<String, Object> event(String source, String name, String surname, int age) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", name);
+        data.put("surname", surname);
+        data.put("age", age);
+
+        Map<String, Object> event = new HashMap<>();
+        event.put("source", source);
+        event.put("data", data);
+        return event;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FilterEvaluatorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,120 @@
+package com.redhat.service.smartevents.executor.filters;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.redhat.service.smartevents.infra.models.filters.BaseFilter;
+import com.redhat.service.smartevents.infra.models.filters.StringBeginsWith;
+import com.redhat.service.smartevents.infra.models.filters.StringContains;
+import com.redhat.service.smartevents.infra.models.filters.StringEquals;
+import com.redhat.service.smartevents.infra.models.filters.ValuesIn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FilterEvaluatorCompiledTest {
+
+    private static final FilterEvaluatorFactoryCompiled FACTORY_COMPILED = new FilterEvaluatorFactoryCompiled();
+    private static final FilterEvaluatorFactoryFEEL FACTORY_FEEL = new FilterEvaluatorFactoryFEEL();
+
+    @Test
+    public void testStringEqualsFilter() {
+        FilterEvaluator evaluator = FACTORY_COMPILED.build(Collections.singleton(new StringEquals("source", "myService")));
+
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", "myService"))).isTrue();
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", "notMyService"))).isFalse();
+        assertThat(evaluator.evaluateFilters(Collections.emptyMap())).isFalse();
+    }
+
+    @Test
+    public void testStringBeginsWithFilter() {
+        FilterEvaluator evaluator = FACTORY_COMPILED.build(Collections.singleton(new StringBeginsWith("source", Arrays.asList("mySer"))));
+
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", "myService"))).isTrue();
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", "notMyService"))).isFalse();
+    }
+
+    @Test
+    public void testStringContainsListFilter() {
+        FilterEvaluator evaluator = FACTORY_COMPILED.build(Collections.singleton(new StringContains("source", Arrays.asList("Ser", "Tes"))));
+
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", "myService"))).isTrue();
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", "myTest"))).isTrue();
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", "notMyApplication"))).isFalse();
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", 2))).isFalse();
+    }
+
+    @Test
+    public void testInFilter() {
+        FilterEvaluator evaluator = FACTORY_COMPILED.build(Collections.singleton(new ValuesIn("source", Arrays.asList("Service", "Testing", 2))));
+
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", "Service"))).isTrue();
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", 2))).isTrue();
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", 2L))).isTrue();
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", 2.0))).isTrue();
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", "2"))).isFalse();
+        assertThat(evaluator.evaluateFilters(Collections.singletonMap("source", "notMyApplication"))).isFalse();
+    }
+
+    @Test
+    public void testFilterWithNestedObjects() {
+        FilterEvaluator evaluator = FACTORY_COMPILED.build(Collections.singleton(new StringEquals("data.name", "jacopo")));
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("data", Collections.singletonMap("name", "jacopo"));
+        assertThat(evaluator.evaluateFilters(data)).isTrue();
+
+        data = new HashMap<>();
+        data.put("data", "jacopo");
+        assertThat(evaluator.evaluateFilters(data)).isFalse();
+    }
+
+    @Test
+    public void testNullFilters() {
+        assertThat(FACTORY_COMPILED.build(null).evaluateFilters(Collections.emptyMap())).isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("parityCases")
+    public void testSameResultsAsFEEL(BaseFilter<?> filter, Map<String, Object> data) {
+        Set<BaseFilter> filters = Collections.singleton(filter);
+        boolean expected = FACTORY_FEEL.build(filters).evaluateFilters(data);
+
+        assertThat(FACTORY_COMPILED.build(filters).evaluateFilters(data)).isEqualTo(expected);
+    }
+
+    private static Stream<Arguments> parityCases() {
+        List<Object> values = Arrays.asList("Service", 2, true);
+        return Stream.of(
+                Arguments.of(new StringEquals("data.name", "jacopo"), nested("jacopo")),
+                Arguments.of(new StringEquals("data.name", "jacopo"), nested("rota")),
+                Arguments.of(new StringEquals("data.name", "2"), nested(2)),
+                Arguments.of(new StringEquals("data.missing", "jacopo"), nested("jacopo")),
+                Arguments.of(new StringContains("data.name", Arrays.asList("cop", "xyz")), nested("jacopo")),
+                Arguments.of(new StringContains("data.name", Arrays.asList("xyz")), nested("jacopo")),
+                Arguments.of(new StringContains("data.name", Arrays.asList("2")), nested(2)),
+                Arguments.of(new StringBeginsWith("data.name", Arrays.asList("jac", "xyz")), nested("jacopo")),
+                Arguments.of(new StringBeginsWith("data.name", Arrays.asList("cop")), nested("jacopo")),
+                Arguments.of(new ValuesIn("data.name", values), nested("Service")),
+                Arguments.of(new ValuesIn("data.name", values), nested(2)),
+                Arguments.of(new ValuesIn("data.name", values), nested(2.0)),
+                Arguments.of(new ValuesIn("data.name", values), nested("2")),
+                Arguments.of(new ValuesIn("data.name", values), nested(true)),
+                Arguments.of(new ValuesIn("data.name", values), nested("true")));
+    }
+
+    private static Map<String, Object> nested(Object value) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("data", Collections.singletonMap("name", value));
+        return data;
+    }
+}
@@ -0,0 +1,107 @@
+package com.redhat.service.smartevents.executor.filters;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.redhat.service.smartevents.infra.models.filters.BaseFilter;
+import com.redhat.service.smartevents.infra.models.filters.StringBeginsWith;
+import com.redhat.service.smartevents.infra.models.filters.StringContains;
+import com.redhat.service.smartevents.infra.models.filters.ValuesIn;
+
+/**
+ * Measures how the list filters scale with the number of values, on the FEEL and the compiled filter engines.
+ * The events never match, so that every value of the list has to be considered.
+ * Run it with the main method, it is not executed as part of the test suite. Building the FEEL expression
+ * of the largest lists takes a long time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterListBenchmark {
+
+    @Param({ "FEEL", "COMPILED" })
+    public FilterEngine engine;
+
+    @Param({ "10", "1000", "100000" })
+    public int size;
+
+    private FilterEvaluator valuesIn;
+
+    private FilterEvaluator stringBeginsWith;
+
+    private FilterEvaluator stringContains;
+
+    private Map<String, Object> numberEvent;
+
+    private Map<String, Object> stringEvent;
+
+    @Setup
+    public void setup() {
+        List<Object> numbers = IntStream.range(0, size).map(i -> i * 2).boxed().collect(Collectors.toList());
+        List<String> words = IntStream.range(0, size).mapToObj(i -> "value-" + i + "-").collect(Collectors.toList());
+
+        valuesIn = build(new ValuesIn("data.value", numbers));
+        stringBeginsWith = build(new StringBeginsWith("data.value", words));
+        stringContains = build(new StringContains("data.value", words));
+
+        numberEvent = event(size * 2 + 1);
+        stringEvent = event("this event mentions value-" + size + "- but none of the listed ones");
+    }
+
+    @Benchmark
+    public boolean valuesIn() {
+        return valuesIn.evaluateFilters(numberEvent);
+    }
+
+    @Benchmark
+    public boolean stringBeginsWith() {
+        return stringBeginsWith.evaluateFilters(stringEvent);
+    }
+
+    @Benchmark
+    public boolean stringContains() {
+        return stringContains.evaluateFilters(stringEvent);
+    }
+
+    private FilterEvaluator build(BaseFilter filter) {
+        Set<BaseFilter> filters = Collections.singleton(filter);
+        return engine.getFactory().build(filters);
+    }
+
+    private static Map<String, Object> event(Object value) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("value", value);
+
+        Map<String, Object> event = new HashMap<>();
+        event.put("data", data);
+        return event;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FilterListBenchmark.class.getSimpleName()).build()).run();
+    }
+}
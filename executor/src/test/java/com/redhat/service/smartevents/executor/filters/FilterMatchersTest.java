@@ -0,0 +1,125 @@
+package com.redhat.service.smartevents.executor.filters;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FilterMatchersTest {
+
+    @Test
+    public void testPrefixMatcher() {
+        PrefixMatcher matcher = new PrefixMatcher(Arrays.asList("my", "mySer", "test", "tea"));
+
+        assertThat(matcher.matches("myService")).isTrue();
+        assertThat(matcher.matches("my")).isTrue();
+        assertThat(matcher.matches("teapot")).isTrue();
+        assertThat(matcher.matches("testing")).isTrue();
+        assertThat(matcher.matches("m")).isFalse();
+        assertThat(matcher.matches("te")).isFalse();
+        assertThat(matcher.matches("notMyService")).isFalse();
+        assertThat(matcher.matches("")).isFalse();
+    }
+
+    @Test
+    public void testPrefixMatcherWithEmptyPrefix() {
+        assertThat(new PrefixMatcher(Collections.singletonList("")).matches("anything")).isTrue();
+        assertThat(new PrefixMatcher(Collections.emptyList()).matches("anything")).isFalse();
+    }
+
+    @Test
+    public void testSubstringMatcher() {
+        SubstringMatcher matcher = new SubstringMatcher(Arrays.asList("he", "she", "his", "hers"));
+
+        assertThat(matcher.matches("ushers")).isTrue();
+        assertThat(matcher.matches("this")).isTrue();
+        assertThat(matcher.matches("ahishe")).isTrue();
+        assertThat(matcher.matches("hi")).isFalse();
+        assertThat(matcher.matches("sh")).isFalse();
+        assertThat(matcher.matches("")).isFalse();
+    }
+
+    @Test
+    public void testSubstringMatcherFollowsFailureLinks() {
+        // "abcd" is not in "abce", the automaton must fall back to "bce" without re-reading the value
+        SubstringMatcher matcher = new SubstringMatcher(Arrays.asList("abcd", "bce", "c"));
+
+        assertThat(matcher.matches("xabce")).isTrue();
+        assertThat(new SubstringMatcher(Arrays.asList("abcd", "bce")).matches("xabcx")).isFalse();
+        // "c" ends inside "abcd", the match is found through the failure link of the "abc" node
+        assertThat(matcher.matches("abc")).isTrue();
+    }
+
+    @Test
+    public void testSubstringMatcherWithEmptySubstring() {
+        assertThat(new SubstringMatcher(Collections.singletonList("")).matches("anything")).isTrue();
+        assertThat(new SubstringMatcher(Collections.emptyList()).matches("anything")).isFalse();
+    }
+
+    @Test
+    public void testSubstringMatcherAgainstStringContains() {
+        List<String> substrings = IntStream.range(0, 200).mapToObj(i -> Integer.toString(i * 37, 7)).collect(Collectors.toList());
+        SubstringMatcher matcher = new SubstringMatcher(substrings);
+
+        for (int i = 0; i < 2000; i++) {
+            String value = Integer.toString(i * 7919, 5);
+            boolean expected = substrings.stream().anyMatch(value::contains);
+            assertThat(matcher.matches(value)).as(value).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testValuesInMatcherComparesNumbersByValue() {
+        ValuesInMatcher matcher = new ValuesInMatcher(Arrays.asList(2, 0, -7L, 1.5, new BigDecimal("2.50"), Long.MAX_VALUE, new BigDecimal("1E30")));
+
+        assertThat(matcher.matches(2)).isTrue();
+        assertThat(matcher.matches(2L)).isTrue();
+        assertThat(matcher.matches(2.0)).isTrue();
+        assertThat(matcher.matches(new BigDecimal("2.000"))).isTrue();
+        assertThat(matcher.matches((short) 0)).isTrue();
+        assertThat(matcher.matches(-0.0)).isTrue();
+        assertThat(matcher.matches(-7)).isTrue();
+        assertThat(matcher.matches(1.5f)).isTrue();
+        assertThat(matcher.matches(new BigDecimal("1.500"))).isTrue();
+        assertThat(matcher.matches(2.5)).isTrue();
+        assertThat(matcher.matches(Long.MAX_VALUE)).isTrue();
+        assertThat(matcher.matches(new BigInteger("1000000000000000000000000000000"))).isTrue();
+        assertThat(matcher.matches(1e30)).isTrue();
+
+        assertThat(matcher.matches(3)).isFalse();
+        assertThat(matcher.matches(2.01)).isFalse();
+        assertThat(matcher.matches(Long.MIN_VALUE)).isFalse();
+        assertThat(matcher.matches("2")).isFalse();
+        assertThat(matcher.matches(null)).isFalse();
+        assertThat(matcher.matches(Double.NaN)).isFalse();
+    }
+
+    @Test
+    public void testValuesInMatcherWithOtherValues() {
+        ValuesInMatcher matcher = new ValuesInMatcher(Arrays.asList("Service", true, null));
+
+        assertThat(matcher.matches("Service")).isTrue();
+        assertThat(matcher.matches(true)).isTrue();
+        assertThat(matcher.matches(null)).isTrue();
+        assertThat(matcher.matches("service")).isFalse();
+        assertThat(matcher.matches(false)).isFalse();
+        assertThat(matcher.matches(1)).isFalse();
+    }
+
+    @Test
+    public void testValuesInMatcherWithManyValues() {
+        List<Object> values = IntStream.range(0, 100_000).map(i -> i * 3).boxed().collect(Collectors.toList());
+        ValuesInMatcher matcher = new ValuesInMatcher(values);
+
+        for (int i = -10; i < 300_010; i++) {
+            assertThat(matcher.matches(i)).isEqualTo(i >= 0 && i < 300_000 && i % 3 == 0);
+        }
+    }
+}
@@ -65,6 +65,21 @@ public class APIConstants {
      */
     public static final String SIZE_DEFAULT = "100";
 
+    /**
+     * The cursor query parameter name. When it is set, the page starts after the item it points to and the page query parameter is ignored
+     */
+    public static final String CURSOR = "cursor";
+
+    /**
+     * The count query parameter name. When it is false, the total number of items is not computed
+     */
+    public static final String COUNT = "count";
+
+    /**
+     * The default value for the count query parameter (if it is omitted by the user)
+     */
+    public static final String COUNT_DEFAULT = "true";
+
     private APIConstants() {
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ public abstract class ListResponse<T> {
         target.setPage(source.getPage());
         target.setSize(source.getSize());
         target.setTotal(source.getTotal());
+        target.setNextCursor(source.getNextCursor());
         return target;
     }
 
@@ -37,7 +38,10 @@ public abstract class ListResponse<T> {
     private long size;
 
     @JsonProperty("total")
-    private long total;
+    private Long total;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
 
     public String getKind() {
         return kind;
@@ -67,11 +71,19 @@ public abstract class ListResponse<T> {
         this.size = size;
     }
 
-    public long getTotal() {
+    public Long getTotal() {
         return total;
     }
 
-    public void setTotal(long total) {
+    public void setTotal(Long total) {
         this.total = total;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
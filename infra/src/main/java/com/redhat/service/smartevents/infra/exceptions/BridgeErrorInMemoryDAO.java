@@ -101,7 +101,7 @@ public class BridgeErrorInMemoryDAO implements BridgeErrorDAO {
         return new ListResult<>(
                 start >= typedErrors.size() ? Collections.emptyList() : typedErrors.subList(start, Math.min(start + queryInfo.getPageSize(), typedErrors.size())),
                 queryInfo.getPageNumber(),
-                typedErrors.size());
+                (long) typedErrors.size());
     }
 
     @Override
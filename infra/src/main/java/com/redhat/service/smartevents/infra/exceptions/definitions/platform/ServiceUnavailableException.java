@@ -0,0 +1,18 @@
+package com.redhat.service.smartevents.infra.exceptions.definitions.platform;
+
+/**
+ * The platform can not take the request right now, because it is overloaded or one of its dependencies is down.
+ * Unlike the other platform exceptions, it is mapped to 503 so that the client retries later.
+ */
+public class ServiceUnavailableException extends InternalPlatformException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,27 @@
+package com.redhat.service.smartevents.infra.exceptions.definitions.user;
+
+import javax.ws.rs.core.Response;
+
+public class TooManyRequestsException extends ExternalUserException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * @return how long the client should wait before retrying, to be returned in the {@code Retry-After} header.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return Response.Status.TOO_MANY_REQUESTS.getStatusCode();
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
  * Encapsulates the result of calling a DAO method than returns a list. It not only includes
  * the results of the query, but also details on the total number of items, the page and number of items
  * on the page.
+ * The total is null when it was not requested, and the next cursor is null on the last page.
  *
  * @param <T> - The type of the entity returned in the list.
  */
@@ -13,14 +14,21 @@ public class ListResult<T> {
 
     private final List<T> items;
 
-    private final long total;
+    private final Long total;
 
     private final long page;
 
-    public ListResult(List<T> items, long page, long total) {
+    private final String nextCursor;
+
+    public ListResult(List<T> items, long page, Long total) {
+        this(items, page, total, null);
+    }
+
+    public ListResult(List<T> items, long page, Long total, String nextCursor) {
         this.items = items;
         this.page = page;
         this.total = total;
+        this.nextCursor = nextCursor;
     }
 
     public long getPage() {
@@ -31,10 +39,14 @@ public class ListResult<T> {
         return this.items == null ? 0 : items.size();
     }
 
-    public long getTotal() {
+    public Long getTotal() {
         return total;
     }
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
     public List<T> getItems() {
         return items;
     }
@@ -5,6 +5,9 @@ import javax.validation.constraints.Min;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.QueryParam;
 
+import static com.redhat.service.smartevents.infra.api.APIConstants.COUNT;
+import static com.redhat.service.smartevents.infra.api.APIConstants.COUNT_DEFAULT;
+import static com.redhat.service.smartevents.infra.api.APIConstants.CURSOR;
 import static com.redhat.service.smartevents.infra.api.APIConstants.PAGE;
 import static com.redhat.service.smartevents.infra.api.APIConstants.PAGE_DEFAULT;
 import static com.redhat.service.smartevents.infra.api.APIConstants.PAGE_MIN;
@@ -25,6 +28,11 @@ public class QueryInfo {
     @Max(SIZE_MAX)
     @QueryParam(PAGE_SIZE)
     private int pageSize;
+    @QueryParam(CURSOR)
+    private String cursor;
+    @DefaultValue(COUNT_DEFAULT)
+    @QueryParam(COUNT)
+    private boolean count;
 
     public QueryInfo() {
     }
@@ -32,6 +40,13 @@ public class QueryInfo {
     public QueryInfo(int pageNumber, int pageSize) {
         this.pageNumber = pageNumber;
         this.pageSize = pageSize;
+        this.count = true;
+    }
+
+    public QueryInfo(String cursor, int pageSize, boolean count) {
+        this.cursor = cursor;
+        this.pageSize = pageSize;
+        this.count = count;
     }
 
     public int getPageNumber() {
@@ -42,9 +57,17 @@ public class QueryInfo {
         return pageSize;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean isCount() {
+        return count;
+    }
+
     @Override
     public String toString() {
-        return "QueryInfo [pageNumber=" + pageNumber + ", pageSize=" + pageSize + "]";
+        return "QueryInfo [pageNumber=" + pageNumber + ", pageSize=" + pageSize + ", cursor=" + cursor + ", count=" + count + "]";
     }
 
 }
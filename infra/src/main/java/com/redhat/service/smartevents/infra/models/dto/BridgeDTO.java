@@ -24,6 +24,18 @@ public class BridgeDTO {
     @JsonProperty("kafkaConnection")
     private KafkaConnectionDTO kafkaConnection;
 
+    /**
+     * Events per second each subject can send to the ingress. The shard applies its default when null.
+     */
+    @JsonProperty("rateLimitPerSecond")
+    private Integer rateLimitPerSecond;
+
+    /**
+     * Events each subject can send at once after being idle. The shard applies its default when null.
+     */
+    @JsonProperty("rateLimitBurst")
+    private Integer rateLimitBurst;
+
     public BridgeDTO() {
     }
 
@@ -60,6 +72,14 @@ public class BridgeDTO {
         this.kafkaConnection = kafkaConnection;
     }
 
+    public void setRateLimitPerSecond(Integer rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public void setRateLimitBurst(Integer rateLimitBurst) {
+        this.rateLimitBurst = rateLimitBurst;
+    }
+
     public String getId() {
         return id;
     }
@@ -84,6 +104,14 @@ public class BridgeDTO {
         return kafkaConnection;
     }
 
+    public Integer getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public Integer getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -110,6 +138,8 @@ public class BridgeDTO {
                 ", customerId='" + customerId + '\'' +
                 ", status=" + status + '\'' +
                 ", kafkaConnection=" + kafkaConnection.toString() +
+                ", rateLimitPerSecond=" + rateLimitPerSecond +
+                ", rateLimitBurst=" + rateLimitBurst +
                 '}';
     }
 }
@@ -19,6 +19,9 @@ public class KafkaConnectionDTO {
     @JsonProperty("topic")
     private String topic;
 
+    @JsonProperty("deadLetterTopic")
+    private String deadLetterTopic;
+
     public KafkaConnectionDTO() {
     }
 
@@ -30,6 +33,11 @@ public class KafkaConnectionDTO {
         this.topic = topic;
     }
 
+    public KafkaConnectionDTO(String bootstrapServers, String clientId, String clientSecret, String securityProtocol, String topic, String deadLetterTopic) {
+        this(bootstrapServers, clientId, clientSecret, securityProtocol, topic);
+        this.deadLetterTopic = deadLetterTopic;
+    }
+
     public String getBootstrapServers() {
         return bootstrapServers;
     }
@@ -70,6 +78,14 @@ public class KafkaConnectionDTO {
         this.topic = topic;
     }
 
+    public String getDeadLetterTopic() {
+        return deadLetterTopic;
+    }
+
+    public void setDeadLetterTopic(String deadLetterTopic) {
+        this.deadLetterTopic = deadLetterTopic;
+    }
+
     @Override
     public String toString() {
         return "KafkaConnection{" +
@@ -78,6 +94,7 @@ public class KafkaConnectionDTO {
                 ", clientSecret=<REDACTED>" +
                 ", securityProtocol='" + securityProtocol + '\'' +
                 ", topic=" + topic + '\'' +
+                ", deadLetterTopic=" + deadLetterTopic + '\'' +
                 '}';
     }
 }
@@ -0,0 +1,42 @@
+package com.redhat.service.smartevents.infra.models.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Answer of the manager to a shard asking for the resources to deploy or delete that changed since a watermark.
+ * The shard sends the returned watermark back on its next request, so that it only gets the resources that changed in between.
+ */
+public class ResourcesDeltaDTO<T> {
+
+    @JsonProperty("items")
+    private List<T> items;
+
+    @JsonProperty("watermark")
+    private long watermark;
+
+    public ResourcesDeltaDTO() {
+    }
+
+    public ResourcesDeltaDTO(List<T> items, long watermark) {
+        this.items = items;
+        this.watermark = watermark;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public long getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(long watermark) {
+        this.watermark = watermark;
+    }
+}
@@ -0,0 +1,28 @@
+package com.redhat.service.smartevents.infra.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Answer of the manager to a shard waiting for changes: the version of the resources of the shard.
+ * The shard sends it back on its next wait, and fetches the resources whenever it changes.
+ */
+public class ShardChangesDTO {
+
+    @JsonProperty("version")
+    private String version;
+
+    public ShardChangesDTO() {
+    }
+
+    public ShardChangesDTO(String version) {
+        this.version = version;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,40 @@
+package com.redhat.service.smartevents.infra.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Answer of the manager to one of the status updates a shard sent in a batch. The update of a resource that does not
+ * exist is not applied, without failing the other updates of the batch.
+ */
+public class StatusUpdateResultDTO {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("updated")
+    private boolean updated;
+
+    public StatusUpdateResultDTO() {
+    }
+
+    public StatusUpdateResultDTO(String id, boolean updated) {
+        this.id = id;
+        this.updated = updated;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public boolean isUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(boolean updated) {
+        this.updated = updated;
+    }
+}
@@ -2,6 +2,15 @@ package com.redhat.service.smartevents.infra.transformations;
 
 import java.util.Map;
 
+import io.vertx.core.buffer.Buffer;
+
 public interface TransformationEvaluator {
     String render(Map<String, Object> data);
+
+    /**
+     * Renders the event straight into a {@link Buffer} that can be handed to the action without further conversions.
+     */
+    default Buffer renderToBuffer(Map<String, Object> data) {
+        return Buffer.buffer(render(data));
+    }
 }
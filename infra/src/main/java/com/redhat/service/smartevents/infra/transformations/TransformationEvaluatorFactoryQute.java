@@ -1,10 +1,14 @@
 package com.redhat.service.smartevents.infra.transformations;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javax.enterprise.context.ApplicationScoped;
 
 import com.redhat.service.smartevents.infra.validations.ValidationResult;
 
 import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateException;
 
 @ApplicationScoped
@@ -12,9 +16,15 @@ public class TransformationEvaluatorFactoryQute implements TransformationEvaluat
 
     private static final Engine engine = Engine.builder().addDefaults().build();
 
+    // Parsed templates are immutable and thread-safe, so processors sharing a template can share its parsed form
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
     @Override
     public TransformationEvaluator build(String template) {
-        return new TransformationEvaluatorQute(engine, template);
+        if (template == null) {
+            return new TransformationEvaluatorQute(null);
+        }
+        return new TransformationEvaluatorQute(templates.computeIfAbsent(template, engine::parse));
     }
 
     @Override
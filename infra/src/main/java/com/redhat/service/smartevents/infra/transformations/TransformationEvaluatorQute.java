@@ -4,20 +4,29 @@ import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redhat.service.smartevents.infra.utils.JsonNodeMap;
 
+import io.netty.buffer.Unpooled;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.Template;
+import io.vertx.core.buffer.Buffer;
 
 public class TransformationEvaluatorQute implements TransformationEvaluator {
 
     private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int DEFAULT_BUFFER_SIZE = 256;
 
     private Template template;
 
+    // Size of the last rendered event, used to allocate buffers that do not need to grow while rendering
+    private volatile int bufferSizeHint = DEFAULT_BUFFER_SIZE;
+
     public TransformationEvaluatorQute(Engine engine, String template) {
-        if (template != null) {
-            this.template = engine.parse(template);
-        }
+        this(template == null ? null : engine.parse(template));
+    }
+
+    public TransformationEvaluatorQute(Template template) {
+        this.template = template;
     }
 
     @Override
@@ -26,9 +35,32 @@ public class TransformationEvaluatorQute implements TransformationEvaluator {
             return template.render(data);
         }
         try {
+            if (data instanceof JsonNodeMap) {
+                return MAPPER.writeValueAsString(((JsonNodeMap) data).getNode());
+            }
             return MAPPER.writeValueAsString(data);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public Buffer renderToBuffer(Map<String, Object> data) {
+        if (template != null) {
+            Buffer buffer = Buffer.buffer(bufferSizeHint);
+            template.instance().data(data).consume(buffer::appendString).toCompletableFuture().join();
+            bufferSizeHint = Math.max(DEFAULT_BUFFER_SIZE, buffer.length());
+            return buffer;
+        }
+        if (data instanceof JsonNodeMap && ((JsonNodeMap) data).getSource() != null) {
+            // The event is forwarded as it is: wrap the original payload instead of serialising it again
+            return Buffer.buffer(Unpooled.wrappedBuffer(((JsonNodeMap) data).getSource()));
+        }
+        try {
+            Object value = data instanceof JsonNodeMap ? ((JsonNodeMap) data).getNode() : data;
+            return Buffer.buffer(MAPPER.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package com.redhat.service.smartevents.infra.utils;
 
+import java.io.IOException;
 import java.net.URI;
+import java.util.Base64;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,6 +11,8 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.redhat.service.smartevents.infra.exceptions.definitions.user.CloudEventDeserializationException;
 import com.redhat.service.smartevents.infra.exceptions.definitions.user.CloudEventSerializationException;
 
@@ -19,8 +24,23 @@ import io.cloudevents.jackson.JsonFormat;
 
 public class CloudEventUtils {
 
+    /**
+     * Prefix of the Kafka record headers that carry the attributes of a binary mode CloudEvent.
+     */
+    public static final String KAFKA_BINARY_HEADER_PREFIX = "ce_";
+
+    /**
+     * Kafka record header that carries the {@code datacontenttype} of a binary mode CloudEvent, or the {@link EventFormat}
+     * of a structured mode CloudEvent.
+     */
+    public static final String KAFKA_CONTENT_TYPE_HEADER = "content-type";
+
+    private static final String DATA_CONTENT_TYPE_ATTRIBUTE = "datacontenttype";
+
     private static final Logger LOG = LoggerFactory.getLogger(CloudEventUtils.class);
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(JsonFormat.getCloudEventJacksonModule());
+    private static final ObjectMapper CBOR_MAPPER = new CBORMapper().registerModule(JsonFormat.getCloudEventJacksonModule());
+    private static final String[] REQUIRED_ATTRIBUTES = { "specversion", "id", "source", "type" };
 
     public static CloudEventBuilder builderFor(String id, SpecVersion specVersion, URI source, String subject, JsonNode data) {
         CloudEventBuilder builder = CloudEventBuilder.fromSpecVersion(specVersion)
@@ -57,6 +77,15 @@ public class CloudEventUtils {
         }
     }
 
+    public static byte[] encode(CloudEvent event, EventFormat format) {
+        try {
+            return mapperFor(format).writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            LOG.error("Unable to encode CloudEvent", e);
+            throw new CloudEventSerializationException("Failed to encode CloudEvent");
+        }
+    }
+
     public static CloudEvent decode(String json) {
         try {
             return OBJECT_MAPPER.readValue(json, CloudEvent.class);
@@ -66,10 +95,103 @@ public class CloudEventUtils {
         }
     }
 
+    public static CloudEvent decode(byte[] json) {
+        return decode(json, EventFormat.JSON);
+    }
+
+    public static CloudEvent decode(byte[] payload, EventFormat format) {
+        try {
+            return mapperFor(format).readValue(payload, CloudEvent.class);
+        } catch (IOException e) {
+            LOG.error("Unable to decode CloudEvent", e);
+            throw new CloudEventDeserializationException("Failed to decode Cloud Event");
+        }
+    }
+
+    /**
+     * Decodes a structured mode JSON CloudEvent into a lazily materialised {@link Map} view, with the same shape that
+     * converting the decoded {@link CloudEvent} to a {@link Map} would produce, but without building an intermediate {@link CloudEvent}.
+     */
+    public static JsonNodeMap decodeView(byte[] json) {
+        return decodeView(json, EventFormat.JSON);
+    }
+
+    /**
+     * Decodes a structured mode CloudEvent encoded in the given format. Only the view of a JSON event keeps its source:
+     * see {@link JsonNodeMap#getSource()}.
+     */
+    public static JsonNodeMap decodeView(byte[] payload, EventFormat format) {
+        JsonNode node;
+        try {
+            node = mapperFor(format).readTree(payload);
+        } catch (IOException e) {
+            LOG.error("Unable to decode CloudEvent", e);
+            throw new CloudEventDeserializationException("Failed to decode Cloud Event");
+        }
+        if (node == null || !node.isObject()) {
+            throw new CloudEventDeserializationException("Failed to decode Cloud Event");
+        }
+        for (String attribute : REQUIRED_ATTRIBUTES) {
+            if (!node.hasNonNull(attribute)) {
+                throw new CloudEventDeserializationException("Failed to decode Cloud Event: missing attribute '" + attribute + "'");
+            }
+        }
+        return new JsonNodeMap((ObjectNode) node, format == EventFormat.JSON ? payload : null);
+    }
+
+    /**
+     * Encodes a decoded structured mode CloudEvent back to JSON.
+     */
+    public static byte[] toJson(ObjectNode event) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            LOG.error("Unable to encode CloudEvent", e);
+            throw new CloudEventSerializationException("Failed to encode CloudEvent");
+        }
+    }
+
+    /**
+     * Encodes a binary mode CloudEvent, made of its attributes and its data, in the structured mode JSON format.
+     * The data is embedded as JSON when the {@code datacontenttype} is JSON or missing, and as base64 otherwise.
+     */
+    public static byte[] encodeStructured(Map<String, String> attributes, byte[] data) {
+        for (String attribute : REQUIRED_ATTRIBUTES) {
+            if (attributes.get(attribute) == null) {
+                throw new CloudEventDeserializationException("Failed to decode Cloud Event: missing attribute '" + attribute + "'");
+            }
+        }
+        ObjectNode node = OBJECT_MAPPER.createObjectNode();
+        attributes.forEach(node::put);
+        if (data != null && data.length > 0) {
+            String contentType = attributes.get(DATA_CONTENT_TYPE_ATTRIBUTE);
+            if (contentType == null || contentType.contains("json")) {
+                try {
+                    node.set("data", OBJECT_MAPPER.readTree(data));
+                } catch (IOException e) {
+                    LOG.error("Unable to decode CloudEvent data", e);
+                    throw new CloudEventDeserializationException("Failed to decode Cloud Event: data is not valid JSON");
+                }
+            } else {
+                node.put("data_base64", Base64.getEncoder().encodeToString(data));
+            }
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(node);
+        } catch (JsonProcessingException e) {
+            LOG.error("Unable to encode CloudEvent", e);
+            throw new CloudEventSerializationException("Failed to encode CloudEvent");
+        }
+    }
+
     public static ObjectMapper getMapper() {
         return OBJECT_MAPPER;
     }
 
+    private static ObjectMapper mapperFor(EventFormat format) {
+        return format == EventFormat.CBOR ? CBOR_MAPPER : OBJECT_MAPPER;
+    }
+
     private CloudEventUtils() {
         throw new IllegalStateException("Instantiation of utility class CloudEventUtils is forbidden");
     }
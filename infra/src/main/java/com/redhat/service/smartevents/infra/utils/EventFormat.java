@@ -0,0 +1,44 @@
+package com.redhat.service.smartevents.infra.utils;
+
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.CloudEventDeserializationException;
+
+/**
+ * Encodings of the structured mode CloudEvents published to the Bridge topic. The format of a record is given by its
+ * {@link CloudEventUtils#KAFKA_CONTENT_TYPE_HEADER} header, and a record without it is JSON: the consumers can be upgraded
+ * before the producers switch to a new format.
+ */
+public enum EventFormat {
+
+    JSON("application/cloudevents+json"),
+
+    /**
+     * The same document as {@link #JSON}, in the binary CBOR encoding: no quoting nor escaping, and shorter numbers.
+     */
+    CBOR("application/cloudevents+cbor");
+
+    private final String contentType;
+
+    EventFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @return the format of a record with the given content type, {@link #JSON} when it is null.
+     * @throws CloudEventDeserializationException if the content type is not a known format.
+     */
+    public static EventFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return JSON;
+        }
+        for (EventFormat format : values()) {
+            if (format.contentType.equalsIgnoreCase(contentType.trim())) {
+                return format;
+            }
+        }
+        throw new CloudEventDeserializationException(String.format("Unsupported CloudEvent format '%s'", contentType));
+    }
+}
@@ -0,0 +1,61 @@
+package com.redhat.service.smartevents.infra.utils;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Caps the number of concurrent calls towards an upstream service or endpoint without blocking the caller:
+ * calls above the limit wait in a queue and start as soon as a running one terminates.
+ */
+public class InFlightLimiter {
+
+    private final int maxInFlight;
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+    private int inFlight;
+
+    public InFlightLimiter(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public <T> Uni<T> limit(Supplier<Uni<T>> operation) {
+        return Uni.createFrom().emitter(emitter -> acquire(() -> Uni.createFrom().deferred(operation)
+                .onTermination().invoke(this::release)
+                .subscribe().with(emitter::complete, emitter::fail)));
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getWaiting() {
+        return waiting.size();
+    }
+
+    private void acquire(Runnable task) {
+        synchronized (this) {
+            if (inFlight >= maxInFlight) {
+                waiting.add(task);
+                return;
+            }
+            inFlight++;
+        }
+        task.run();
+    }
+
+    private void release() {
+        Runnable next;
+        synchronized (this) {
+            // The permit is handed over to the next waiting call, if any
+            next = waiting.poll();
+            if (next == null) {
+                inFlight--;
+            }
+        }
+        if (next != null) {
+            next.run();
+        }
+    }
+}
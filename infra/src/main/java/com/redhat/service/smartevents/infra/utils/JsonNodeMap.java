@@ -0,0 +1,134 @@
+package com.redhat.service.smartevents.infra.utils;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+
+/**
+ * Read-only {@link Map} view over a Jackson {@link ObjectNode}.
+ * Values are converted only when they are read, so that filters and transformations pay only for the fields they access.
+ * The conversion follows the types that Jackson would produce when converting the same node to a {@link Map}.
+ */
+public class JsonNodeMap extends AbstractMap<String, Object> {
+
+    private final ObjectNode node;
+
+    private final byte[] source;
+
+    public JsonNodeMap(ObjectNode node) {
+        this(node, null);
+    }
+
+    public JsonNodeMap(ObjectNode node, byte[] source) {
+        this.node = node;
+        this.source = source;
+    }
+
+    public ObjectNode getNode() {
+        return node;
+    }
+
+    /**
+     * @return the JSON bytes the node was parsed from, or null for nested nodes.
+     */
+    public byte[] getSource() {
+        return source;
+    }
+
+    @Override
+    public Object get(Object key) {
+        return key instanceof String ? toValue(node.get((String) key)) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && node.has((String) key);
+    }
+
+    @Override
+    public int size() {
+        return node.size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, JsonNode>> fields = node.fields();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return fields.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        Entry<String, JsonNode> field = fields.next();
+                        return new SimpleImmutableEntry<>(field.getKey(), toValue(field.getValue()));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return node.size();
+            }
+        };
+    }
+
+    static Object toValue(JsonNode value) {
+        if (value == null || value.isNull() || value.isMissingNode()) {
+            return null;
+        }
+        switch (value.getNodeType()) {
+            case OBJECT:
+                return new JsonNodeMap((ObjectNode) value);
+            case ARRAY:
+                return new JsonNodeList((ArrayNode) value);
+            case STRING:
+                return value.textValue();
+            case NUMBER:
+                return value.numberValue();
+            case BOOLEAN:
+                return value.booleanValue();
+            case BINARY:
+                return ((BinaryNode) value).binaryValue();
+            case POJO:
+                return ((POJONode) value).getPojo();
+            default:
+                return value;
+        }
+    }
+
+    private static class JsonNodeList extends AbstractList<Object> {
+
+        private final ArrayNode node;
+
+        JsonNodeList(ArrayNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public Object get(int index) {
+            if (index < 0 || index >= node.size()) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + node.size());
+            }
+            return toValue(node.get(index));
+        }
+
+        @Override
+        public int size() {
+            return node.size();
+        }
+    }
+}
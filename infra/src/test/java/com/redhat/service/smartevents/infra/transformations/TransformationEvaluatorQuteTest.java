@@ -1,10 +1,15 @@
 package com.redhat.service.smartevents.infra.transformations;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+
+import io.vertx.core.buffer.Buffer;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class TransformationEvaluatorQuteTest {
@@ -32,4 +37,36 @@ public class TransformationEvaluatorQuteTest {
         String rendered = evaluator.render(data);
         assertThat(rendered).isEqualTo("Hi value how are you?");
     }
+
+    @Test
+    public void testTemplateToBuffer() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("key", "value");
+
+        TransformationEvaluator evaluator = FACTORY.build("Hi {key} how are you?");
+
+        Buffer rendered = evaluator.renderToBuffer(data);
+        assertThat(rendered.toString()).isEqualTo("Hi value how are you?");
+    }
+
+    @Test
+    public void testNullTemplateToBufferReusesPayload() {
+        byte[] payload = "{\"specversion\":\"1.0\",\"id\":\"myId\",\"source\":\"mySource\",\"type\":\"myType\"}".getBytes(StandardCharsets.UTF_8);
+
+        TransformationEvaluator evaluator = FACTORY.build(null);
+
+        Buffer rendered = evaluator.renderToBuffer(CloudEventUtils.decodeView(payload));
+        assertThat(rendered.getBytes()).isEqualTo(payload);
+    }
+
+    @Test
+    public void testNullTemplateToBuffer() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("key", "value");
+
+        TransformationEvaluator evaluator = FACTORY.build(null);
+
+        Buffer rendered = evaluator.renderToBuffer(data);
+        assertThat(rendered.toString()).isEqualTo("{\"key\":\"value\"}");
+    }
 }
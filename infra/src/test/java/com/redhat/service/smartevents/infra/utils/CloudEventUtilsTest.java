@@ -0,0 +1,96 @@
+package com.redhat.service.smartevents.infra.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.CloudEventDeserializationException;
+
+import io.cloudevents.CloudEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CloudEventUtilsTest {
+
+    @Test
+    public void testEncodeStructuredWithJsonData() {
+        Map<String, String> attributes = attributes();
+        attributes.put("datacontenttype", "application/json");
+        attributes.put("myextension", "myValue");
+
+        byte[] structured = CloudEventUtils.encodeStructured(attributes, "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8));
+
+        CloudEvent cloudEvent = CloudEventUtils.decode(structured);
+        assertThat(cloudEvent.getId()).isEqualTo("myId");
+        assertThat(cloudEvent.getSource().toString()).isEqualTo("mySource");
+        assertThat(cloudEvent.getType()).isEqualTo("myType");
+        assertThat(cloudEvent.getExtension("myextension")).isEqualTo("myValue");
+        assertThat(CloudEventUtils.decodeView(structured).getNode().get("data").get("key").asText()).isEqualTo("value");
+    }
+
+    @Test
+    public void testEncodeStructuredWithBinaryData() {
+        Map<String, String> attributes = attributes();
+        attributes.put("datacontenttype", "text/plain");
+
+        byte[] structured = CloudEventUtils.encodeStructured(attributes, "hello".getBytes(StandardCharsets.UTF_8));
+
+        CloudEvent cloudEvent = CloudEventUtils.decode(structured);
+        assertThat(new String(cloudEvent.getData().toBytes(), StandardCharsets.UTF_8)).isEqualTo("hello");
+    }
+
+    @Test
+    public void testEncodeStructuredWithoutData() {
+        CloudEvent cloudEvent = CloudEventUtils.decode(CloudEventUtils.encodeStructured(attributes(), new byte[0]));
+        assertThat(cloudEvent.getData()).isNull();
+    }
+
+    @Test
+    public void testEncodeStructuredWithMissingAttribute() {
+        Map<String, String> attributes = attributes();
+        attributes.remove("source");
+
+        assertThatThrownBy(() -> CloudEventUtils.encodeStructured(attributes, new byte[0])).isInstanceOf(CloudEventDeserializationException.class);
+    }
+
+    @Test
+    public void testEncodeStructuredWithInvalidJsonData() {
+        byte[] data = "not json".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> CloudEventUtils.encodeStructured(attributes(), data)).isInstanceOf(CloudEventDeserializationException.class);
+    }
+
+    @Test
+    public void testCborRoundTrip() {
+        CloudEvent cloudEvent = CloudEventUtils.decode(CloudEventUtils.encodeStructured(attributes(), "{\"key\":\"value\",\"count\":3}".getBytes(StandardCharsets.UTF_8)));
+
+        byte[] cbor = CloudEventUtils.encode(cloudEvent, EventFormat.CBOR);
+
+        assertThat(cbor.length).isLessThan(CloudEventUtils.encode(cloudEvent, EventFormat.JSON).length);
+        assertThat(CloudEventUtils.decode(cbor, EventFormat.CBOR).getId()).isEqualTo("myId");
+        JsonNodeMap view = CloudEventUtils.decodeView(cbor, EventFormat.CBOR);
+        assertThat(view.get("source")).isEqualTo("mySource");
+        assertThat(view.getNode().get("data").get("count").asInt()).isEqualTo(3);
+        assertThat(view.getSource()).isNull();
+        assertThat(CloudEventUtils.decodeView(CloudEventUtils.toJson(view.getNode())).getNode()).isEqualTo(view.getNode());
+    }
+
+    @Test
+    public void testEventFormatFromContentType() {
+        assertThat(EventFormat.fromContentType(null)).isEqualTo(EventFormat.JSON);
+        assertThat(EventFormat.fromContentType("application/cloudevents+json")).isEqualTo(EventFormat.JSON);
+        assertThat(EventFormat.fromContentType("application/cloudevents+cbor")).isEqualTo(EventFormat.CBOR);
+        assertThatThrownBy(() -> EventFormat.fromContentType("application/avro")).isInstanceOf(CloudEventDeserializationException.class);
+    }
+
+    private static Map<String, String> attributes() {
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("specversion", "1.0");
+        attributes.put("id", "myId");
+        attributes.put("source", "mySource");
+        attributes.put("type", "myType");
+        return attributes;
+    }
+}
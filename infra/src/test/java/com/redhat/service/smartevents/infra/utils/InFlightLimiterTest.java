@@ -0,0 +1,68 @@
+package com.redhat.service.smartevents.infra.utils;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InFlightLimiterTest {
+
+    @Test
+    void testCallsAboveTheLimitWait() {
+        InFlightLimiter limiter = new InFlightLimiter(2);
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        CompletableFuture<String> third = new CompletableFuture<>();
+
+        UniAssertSubscriber<String> firstSubscriber = limiter.limit(() -> Uni.createFrom().completionStage(first))
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        limiter.limit(() -> Uni.createFrom().completionStage(second))
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> thirdSubscriber = limiter.limit(() -> Uni.createFrom().completionStage(third))
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getWaiting()).isEqualTo(1);
+
+        first.complete("first");
+        firstSubscriber.assertItem("first");
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getWaiting()).isZero();
+
+        second.complete("second");
+        third.complete("third");
+        thirdSubscriber.assertItem("third");
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void testCallIsMadeOnSubscription() {
+        InFlightLimiter limiter = new InFlightLimiter(1);
+        int[] calls = { 0 };
+
+        Uni<String> limited = limiter.limit(() -> {
+            calls[0]++;
+            return Uni.createFrom().item("answer");
+        });
+
+        assertThat(calls[0]).isZero();
+        limited.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("answer");
+        assertThat(calls[0]).isEqualTo(1);
+    }
+
+    @Test
+    void testFailureReleasesThePermit() {
+        InFlightLimiter limiter = new InFlightLimiter(1);
+
+        limiter.<String> limit(() -> {
+            throw new IllegalStateException();
+        }).subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class);
+
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
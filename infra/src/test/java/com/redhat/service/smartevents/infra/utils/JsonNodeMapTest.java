@@ -0,0 +1,62 @@
+package com.redhat.service.smartevents.infra.utils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.CloudEventDeserializationException;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.SpecVersion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonNodeMapTest {
+
+    private static final String DATA = "{\"name\":\"jacopo\",\"age\":42,\"height\":1.8,\"tags\":[\"a\",1,true],\"address\":{\"city\":\"Milan\"},\"nothing\":null}";
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testViewIsEqualToConvertedCloudEvent() throws JsonProcessingException {
+        String encoded = CloudEventUtils.encode(createCloudEvent());
+
+        Map<String, Object> expected = CloudEventUtils.getMapper().convertValue(CloudEventUtils.decode(encoded), Map.class);
+        Map<String, Object> view = CloudEventUtils.decodeView(encoded.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(view).isEqualTo(expected);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNestedValues() throws JsonProcessingException {
+        Map<String, Object> view = CloudEventUtils.decodeView(CloudEventUtils.encode(createCloudEvent()).getBytes(StandardCharsets.UTF_8));
+
+        assertThat(view.get("id")).isEqualTo("myId");
+        Map<String, Object> data = (Map<String, Object>) view.get("data");
+        assertThat(data.get("name")).isEqualTo("jacopo");
+        assertThat(data.get("age")).isEqualTo(42);
+        assertThat(data.get("height")).isEqualTo(1.8);
+        assertThat(data.get("tags")).isEqualTo(Arrays.asList("a", 1, true));
+        assertThat(((Map<String, Object>) data.get("address")).get("city")).isEqualTo("Milan");
+        assertThat(data.containsKey("nothing")).isTrue();
+        assertThat(data.get("nothing")).isNull();
+        assertThat(data.get("missing")).isNull();
+    }
+
+    @Test
+    public void testInvalidCloudEvent() {
+        assertThatThrownBy(() -> CloudEventUtils.decodeView("{\"id\":\"myId\"}".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(CloudEventDeserializationException.class);
+        assertThatThrownBy(() -> CloudEventUtils.decodeView("not json".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(CloudEventDeserializationException.class);
+    }
+
+    private static CloudEvent createCloudEvent() throws JsonProcessingException {
+        return CloudEventUtils.build("myId", SpecVersion.V1, URI.create("mySource"), "subject", CloudEventUtils.getMapper().readTree(DATA));
+    }
+}
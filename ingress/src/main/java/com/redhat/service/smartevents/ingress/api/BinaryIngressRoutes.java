@@ -0,0 +1,137 @@
+package com.redhat.service.smartevents.ingress.api;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redhat.service.smartevents.infra.exceptions.definitions.platform.ServiceUnavailableException;
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.BadRequestException;
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.ExternalUserException;
+import com.redhat.service.smartevents.ingress.producer.KafkaEventPublisher;
+import com.redhat.service.smartevents.ingress.ratelimit.IngressRateLimiter;
+
+import io.cloudevents.SpecVersion;
+import io.quarkus.security.Authenticated;
+import io.quarkus.vertx.web.Route;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Reactive counterpart of {@link IngressAPI} for the CloudEvents in binary mode: the attributes are the {@code ce-*} headers
+ * and the body is the data. The request is handled on the event loop and the body is forwarded to Kafka as it is, without
+ * being parsed: the attributes become the headers of the Kafka record.
+ */
+@ApplicationScoped
+public class BinaryIngressRoutes {
+
+    public static final String BINARY_EVENTS_PATH = "/events/binary";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryIngressRoutes.class);
+
+    private static final String HEADER_PREFIX = "ce-";
+    private static final String[] REQUIRED_ATTRIBUTES = { "specversion", "id", "source", "type" };
+
+    @Inject
+    JsonWebToken jwt;
+
+    @Inject
+    IngressAuthorizer ingressAuthorizer;
+
+    @Inject
+    IngressRateLimiter rateLimiter;
+
+    @Inject
+    KafkaEventPublisher kafkaEventPublisher;
+
+    @Inject
+    IngressExternalUserExceptionMapper externalUserExceptionMapper;
+
+    @Inject
+    IngressServiceUnavailableExceptionMapper serviceUnavailableExceptionMapper;
+
+    @Inject
+    ObjectMapper mapper;
+
+    @Authenticated
+    @Route(path = BINARY_EVENTS_PATH, methods = Route.HttpMethod.POST)
+    void publishEvent(RoutingContext context) {
+        try {
+            String subject = ingressAuthorizer.failIfNotAuthorized(jwt);
+            rateLimiter.acquire(subject, 1);
+            LOGGER.debug("New event has been uploaded to endpoint {}", BINARY_EVENTS_PATH);
+            Map<String, String> attributes = readAttributes(context.request().headers());
+            Buffer body = context.getBody();
+            kafkaEventPublisher.sendBinaryEvent(attributes, body == null ? new byte[0] : body.getBytes())
+                    .subscribe().with(
+                            x -> context.response().setStatusCode(Response.Status.OK.getStatusCode()).end(),
+                            t -> fail(context, t));
+        } catch (RuntimeException e) {
+            fail(context, e);
+        }
+    }
+
+    /**
+     * Reads the CloudEvent attributes from the {@code ce-*} headers, the {@code Content-Type} header being the {@code datacontenttype}.
+     */
+    static Map<String, String> readAttributes(MultiMap headers) {
+        Map<String, String> attributes = new HashMap<>();
+        for (Map.Entry<String, String> header : headers) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (name.startsWith(HEADER_PREFIX) && name.length() > HEADER_PREFIX.length()) {
+                attributes.put(name.substring(HEADER_PREFIX.length()), header.getValue());
+            }
+        }
+        String contentType = headers.get(HttpHeaders.CONTENT_TYPE);
+        if (contentType != null) {
+            attributes.put("datacontenttype", contentType);
+        }
+
+        for (String attribute : REQUIRED_ATTRIBUTES) {
+            if (attributes.get(attribute) == null) {
+                throw new BadRequestException(String.format("Header '%s%s' is required.", HEADER_PREFIX, attribute));
+            }
+        }
+        try {
+            SpecVersion.parse(attributes.get("specversion"));
+            URI.create(attributes.get("source"));
+        } catch (Exception e) {
+            throw new BadRequestException("Header values not valid: 'ce-specversion' header must be a valid cloud event version and 'ce-source' a valid URI.");
+        }
+        return attributes;
+    }
+
+    private void fail(RoutingContext context, Throwable failure) {
+        Response response;
+        if (failure instanceof ExternalUserException) {
+            response = externalUserExceptionMapper.toResponse((ExternalUserException) failure);
+        } else if (failure instanceof ServiceUnavailableException) {
+            response = serviceUnavailableExceptionMapper.toResponse((ServiceUnavailableException) failure);
+        } else {
+            LOGGER.error("Failed to publish event received on endpoint {}", BINARY_EVENTS_PATH, failure);
+            context.response().setStatusCode(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode()).end();
+            return;
+        }
+        response.getStringHeaders().forEach((name, values) -> context.response().putHeader(name, values));
+        try {
+            context.response()
+                    .setStatusCode(response.getStatus())
+                    .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                    .end(mapper.writeValueAsString(response.getEntity()));
+        } catch (JsonProcessingException e) {
+            context.response().setStatusCode(response.getStatus()).end();
+        }
+    }
+}
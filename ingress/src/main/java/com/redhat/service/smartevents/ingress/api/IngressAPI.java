@@ -1,6 +1,8 @@
 package com.redhat.service.smartevents.ingress.api;
 
 import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import javax.inject.Inject;
 import javax.validation.constraints.NotNull;
@@ -22,15 +24,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.redhat.service.smartevents.infra.auth.IdentityResolver;
 import com.redhat.service.smartevents.infra.exceptions.definitions.user.BadRequestException;
-import com.redhat.service.smartevents.infra.exceptions.definitions.user.ForbiddenRequestException;
 import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
 import com.redhat.service.smartevents.ingress.producer.KafkaEventPublisher;
+import com.redhat.service.smartevents.ingress.ratelimit.IngressRateLimiter;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
 import io.quarkus.security.Authenticated;
+import io.smallrye.mutiny.Uni;
 
 @SecuritySchemes(value = {
         @SecurityScheme(securitySchemeName = "bearer",
@@ -44,19 +46,24 @@ import io.quarkus.security.Authenticated;
 @Authenticated
 public class IngressAPI {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(IngressAPI.class);
+    /**
+     * Media type of the batched content mode of the CloudEvents JSON format.
+     */
+    public static final String CLOUDEVENTS_BATCH_JSON = "application/cloudevents-batch+json";
 
-    @ConfigProperty(name = "event-bridge.customer.id")
-    String customerId;
+    private static final Logger LOGGER = LoggerFactory.getLogger(IngressAPI.class);
 
-    @ConfigProperty(name = "event-bridge.webhook.technical-account-id")
-    String webhookTechnicalAccountId;
+    @ConfigProperty(name = "event-bridge.ingress.batch.max-size", defaultValue = "500")
+    int maxBatchSize;
 
     @Inject
     JsonWebToken jwt;
 
     @Inject
-    IdentityResolver identityResolver;
+    IngressAuthorizer ingressAuthorizer;
+
+    @Inject
+    IngressRateLimiter rateLimiter;
 
     @Inject
     KafkaEventPublisher kafkaEventPublisher;
@@ -64,39 +71,50 @@ public class IngressAPI {
     @POST
     @Produces(MediaType.APPLICATION_JSON)
     @Consumes(MediaType.APPLICATION_JSON)
-    public Response publishEvent(@NotNull CloudEvent event) {
-        failIfNotAuthorized(jwt);
+    public CompletionStage<Response> publishEvent(@NotNull CloudEvent event) {
+        String subject = ingressAuthorizer.failIfNotAuthorized(jwt);
+        rateLimiter.acquire(subject, 1);
         LOGGER.debug("New event has been uploaded to endpoint /events");
-        kafkaEventPublisher.sendEvent(event);
-        return Response.ok().build();
+        return toResponse(kafkaEventPublisher.sendEvent(event));
+    }
+
+    @POST
+    @Path("/batch")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes({ MediaType.APPLICATION_JSON, CLOUDEVENTS_BATCH_JSON })
+    public CompletionStage<Response> publishEvents(@NotNull List<CloudEvent> events) {
+        String subject = ingressAuthorizer.failIfNotAuthorized(jwt);
+        LOGGER.debug("New batch of {} events has been uploaded to endpoint /events/batch", events.size());
+        if (events.isEmpty() || events.size() > maxBatchSize) {
+            throw new BadRequestException(String.format("A batch must contain between 1 and %d events.", maxBatchSize));
+        }
+        rateLimiter.acquire(subject, events.size());
+        return toResponse(kafkaEventPublisher.sendEvents(events));
     }
 
     @POST
     @Path("/plain")
     @Produces(MediaType.APPLICATION_JSON)
     @Consumes(MediaType.APPLICATION_JSON)
-    public Response publishEvent(
+    public CompletionStage<Response> publishEvent(
             @HeaderParam("ce-specversion") @NotNull String cloudEventSpecVersion,
             @HeaderParam("ce-type") @NotNull String cloudEventType,
             @HeaderParam("ce-id") @NotNull String cloudEventId,
             @HeaderParam("ce-source") @NotNull String cloudEventSource,
             @HeaderParam("ce-subject") String cloudEventSubject,
             @NotNull JsonNode event) {
-        failIfNotAuthorized(jwt);
+        String subject = ingressAuthorizer.failIfNotAuthorized(jwt);
+        rateLimiter.acquire(subject, 1);
         LOGGER.debug("New event has been uploaded to endpoint /events/plain");
         validateHeaders(cloudEventSpecVersion, cloudEventSource);
         CloudEvent cloudEvent = CloudEventUtils.build(cloudEventId, SpecVersion.parse(cloudEventSpecVersion),
                 URI.create(cloudEventSource), cloudEventSubject, event);
-        kafkaEventPublisher.sendEvent(cloudEvent);
-        return Response.ok().build();
+        return toResponse(kafkaEventPublisher.sendEvent(cloudEvent));
     }
 
-    private void failIfNotAuthorized(JsonWebToken jwt) {
-        String subject = identityResolver.resolve(jwt);
-        LOGGER.info(subject);
-        if (!customerId.equals(subject) && !webhookTechnicalAccountId.equals(subject)) {
-            throw new ForbiddenRequestException(String.format("User '%s' is not authorized to access this api.", subject));
-        }
+    private static CompletionStage<Response> toResponse(Uni<Void> publication) {
+        // The response is sent only once the broker has acknowledged the events
+        return publication.onItem().transform(x -> Response.ok().build()).subscribeAsCompletionStage();
     }
 
     private void validateHeaders(String cloudEventSpecVersion, String cloudEventSource) {
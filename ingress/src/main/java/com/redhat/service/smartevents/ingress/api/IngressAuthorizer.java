@@ -0,0 +1,53 @@
+package com.redhat.service.smartevents.ingress.api;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.redhat.service.smartevents.infra.auth.IdentityResolver;
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.ForbiddenRequestException;
+import com.redhat.service.smartevents.ingress.auth.VerifiedTokenCache;
+
+/**
+ * Checks that the caller of an ingress endpoint is either the owner of the Bridge or the webhook technical account.
+ * The subjects of the authorized tokens are cached, so that the claims of a token are resolved only once.
+ */
+@ApplicationScoped
+public class IngressAuthorizer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IngressAuthorizer.class);
+
+    @ConfigProperty(name = "event-bridge.customer.id")
+    String customerId;
+
+    @ConfigProperty(name = "event-bridge.webhook.technical-account-id")
+    String webhookTechnicalAccountId;
+
+    @Inject
+    IdentityResolver identityResolver;
+
+    @Inject
+    VerifiedTokenCache tokenCache;
+
+    /**
+     * @return the subject of the token.
+     * @throws ForbiddenRequestException if the subject is not allowed to send events to the Bridge.
+     */
+    public String failIfNotAuthorized(JsonWebToken jwt) {
+        String cachedSubject = tokenCache.getSubject(jwt);
+        if (cachedSubject != null) {
+            return cachedSubject;
+        }
+        String subject = identityResolver.resolve(jwt);
+        LOGGER.debug("Request from subject '{}'", subject);
+        if (!customerId.equals(subject) && !webhookTechnicalAccountId.equals(subject)) {
+            throw new ForbiddenRequestException(String.format("User '%s' is not authorized to access this api.", subject));
+        }
+        tokenCache.putSubject(jwt, subject);
+        return subject;
+    }
+}
@@ -1,11 +1,26 @@
 package com.redhat.service.smartevents.ingress.api;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.Provider;
 
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.ExternalUserException;
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.TooManyRequestsException;
 import com.redhat.service.smartevents.infra.exceptions.mappers.ExternalUserExceptionMapper;
 
 @Provider
 @ApplicationScoped
 public class IngressExternalUserExceptionMapper extends ExternalUserExceptionMapper {
+
+    @Override
+    public Response toResponse(ExternalUserException e) {
+        Response response = super.toResponse(e);
+        if (e instanceof TooManyRequestsException) {
+            return Response.fromResponse(response)
+                    .header(HttpHeaders.RETRY_AFTER, ((TooManyRequestsException) e).getRetryAfterSeconds())
+                    .build();
+        }
+        return response;
+    }
 }
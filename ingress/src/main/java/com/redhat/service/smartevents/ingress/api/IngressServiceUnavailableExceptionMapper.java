@@ -0,0 +1,11 @@
+package com.redhat.service.smartevents.ingress.api;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.ext.Provider;
+
+import com.redhat.service.smartevents.infra.exceptions.mappers.ServiceUnavailableExceptionMapper;
+
+@Provider
+@ApplicationScoped
+public class IngressServiceUnavailableExceptionMapper extends ServiceUnavailableExceptionMapper {
+}
@@ -0,0 +1,54 @@
+package com.redhat.service.smartevents.ingress.auth;
+
+import java.util.Collections;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import io.quarkus.security.identity.IdentityProviderManager;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.vertx.http.runtime.security.ChallengeData;
+import io.quarkus.vertx.http.runtime.security.HttpAuthenticationMechanism;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Authenticates the requests whose bearer token is in the {@link VerifiedTokenCache} without verifying it again.
+ * It runs before the OIDC mechanism, which verifies the tokens that are not cached yet.
+ */
+@ApplicationScoped
+public class CachedTokenAuthenticationMechanism implements HttpAuthenticationMechanism {
+
+    private static final String BEARER_SCHEME = "Bearer ";
+
+    @Inject
+    VerifiedTokenCache tokenCache;
+
+    @Override
+    public Uni<SecurityIdentity> authenticate(RoutingContext context, IdentityProviderManager identityProviderManager) {
+        String authorization = context.request().getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_SCHEME, 0, BEARER_SCHEME.length())) {
+            return Uni.createFrom().nullItem();
+        }
+        // A null identity lets the next mechanism authenticate the request
+        return Uni.createFrom().item(tokenCache.getIdentity(authorization.substring(BEARER_SCHEME.length()).trim()));
+    }
+
+    @Override
+    public Uni<ChallengeData> getChallenge(RoutingContext context) {
+        return Uni.createFrom().nullItem();
+    }
+
+    @Override
+    public Set<Class<? extends AuthenticationRequest>> getCredentialTypes() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY + 1;
+    }
+}
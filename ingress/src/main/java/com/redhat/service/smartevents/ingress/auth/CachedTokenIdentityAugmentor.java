@@ -0,0 +1,35 @@
+package com.redhat.service.smartevents.ingress.auth;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.SecurityIdentityAugmentor;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Stores the identities built from a verified bearer token in the {@link VerifiedTokenCache}.
+ * It runs after all the other augmentors, so that the cached identity is the final one.
+ */
+@ApplicationScoped
+public class CachedTokenIdentityAugmentor implements SecurityIdentityAugmentor {
+
+    @Inject
+    VerifiedTokenCache tokenCache;
+
+    @Override
+    public int priority() {
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public Uni<SecurityIdentity> augment(SecurityIdentity identity, AuthenticationRequestContext context) {
+        if (!identity.isAnonymous() && identity.getPrincipal() instanceof JsonWebToken) {
+            tokenCache.putIdentity((JsonWebToken) identity.getPrincipal(), identity);
+        }
+        return Uni.createFrom().item(identity);
+    }
+}
@@ -0,0 +1,102 @@
+package com.redhat.service.smartevents.ingress.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of values computed from bearer tokens. The entries are keyed by the SHA-256 of the token, so that the tokens
+ * themselves are not kept in memory, and every entry expires at the time given when it was stored.
+ * When the cache is full the expired entries are evicted first, then arbitrary ones.
+ */
+public class TokenCache<V> {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private final ConcurrentMap<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final LongSupplier clockMillis;
+
+    public TokenCache(int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    TokenCache(int maxSize, LongSupplier clockMillis) {
+        this.maxSize = maxSize;
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * @return the value stored for the token, or null if there is none or it expired.
+     */
+    public V get(String token) {
+        if (token == null || maxSize <= 0) {
+            return null;
+        }
+        String key = hash(token);
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis <= clockMillis.getAsLong()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public void put(String token, V value, long expiresAtMillis) {
+        if (token == null || value == null || maxSize <= 0) {
+            return;
+        }
+        long now = clockMillis.getAsLong();
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(hash(token), new Entry<>(value, expiresAtMillis));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(e -> e.expiresAtMillis <= now);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (entries.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    static String hash(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expiresAtMillis;
+
+        private Entry(V value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
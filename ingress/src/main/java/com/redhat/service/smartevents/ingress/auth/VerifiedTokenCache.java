@@ -0,0 +1,71 @@
+package com.redhat.service.smartevents.ingress.auth;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+import io.quarkus.security.identity.SecurityIdentity;
+
+/**
+ * Remembers the bearer tokens already verified by this ingress, together with the identity and the subject resolved from them,
+ * so that the producers sending many events with the same token pay for the signature check and the claim lookups only once.
+ * An entry never outlives the token it was computed from, and at most the configured max TTL, which bounds how long
+ * a revoked token can still be used.
+ */
+@ApplicationScoped
+public class VerifiedTokenCache {
+
+    @ConfigProperty(name = "event-bridge.ingress.token-cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "event-bridge.ingress.token-cache.max-size", defaultValue = "1000")
+    int maxSize;
+
+    @ConfigProperty(name = "event-bridge.ingress.token-cache.max-ttl", defaultValue = "5m")
+    Duration maxTtl;
+
+    private TokenCache<SecurityIdentity> identities;
+
+    private TokenCache<String> subjects;
+
+    @PostConstruct
+    void init() {
+        int size = enabled ? maxSize : 0;
+        identities = new TokenCache<>(size);
+        subjects = new TokenCache<>(size);
+    }
+
+    public SecurityIdentity getIdentity(String rawToken) {
+        return identities.get(rawToken);
+    }
+
+    public void putIdentity(JsonWebToken jwt, SecurityIdentity identity) {
+        if (jwt.getRawToken() != null) {
+            identities.put(jwt.getRawToken(), identity, expiresAtMillis(jwt));
+        }
+    }
+
+    /**
+     * @return the subject previously resolved from the token, or null.
+     */
+    public String getSubject(JsonWebToken jwt) {
+        return subjects.get(jwt.getRawToken());
+    }
+
+    public void putSubject(JsonWebToken jwt, String subject) {
+        if (jwt.getRawToken() != null) {
+            subjects.put(jwt.getRawToken(), subject, expiresAtMillis(jwt));
+        }
+    }
+
+    private long expiresAtMillis(JsonWebToken jwt) {
+        long maxExpiresAt = System.currentTimeMillis() + maxTtl.toMillis();
+        long expirationTime = jwt.getExpirationTime();
+        return expirationTime > 0 ? Math.min(maxExpiresAt, TimeUnit.SECONDS.toMillis(expirationTime)) : maxExpiresAt;
+    }
+}
@@ -1,35 +1,266 @@
 package com.redhat.service.smartevents.ingress.producer;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
 
-import org.eclipse.microprofile.reactive.messaging.Outgoing;
-import org.reactivestreams.Publisher;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.redhat.service.smartevents.infra.exceptions.definitions.platform.ServiceUnavailableException;
 import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+import com.redhat.service.smartevents.infra.utils.EventFormat;
 
 import io.cloudevents.CloudEvent;
-import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
 
+/**
+ * Publishes the events to the Bridge topic. The returned {@link Uni} completes only once the broker has acknowledged
+ * every event, so that the ingress never confirms an event that could still be lost.
+ * The number of events waiting for an acknowledgement is bounded: see {@link OverflowStrategy}.
+ * The structured mode events are encoded in the configured {@link EventFormat}, recorded in the content type header of the records.
+ */
 @ApplicationScoped
 public class KafkaEventPublisher {
 
+    public static final String EVENTS_OUT_CHANNEL = "events-out";
+
+    /**
+     * Channel used for publishing the binary mode events. It writes to the same topic as {@link #EVENTS_OUT_CHANNEL}.
+     */
+    public static final String EVENTS_BINARY_OUT_CHANNEL = "events-binary-out";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaEventPublisher.class);
 
-    private final BroadcastProcessor<String> eventSubject = BroadcastProcessor.create();
+    /**
+     * The format of the structured mode events. The Executors must be able to read it before it is changed.
+     */
+    @ConfigProperty(name = "event-bridge.ingress.event-format", defaultValue = "JSON")
+    EventFormat eventFormat;
+
+    @ConfigProperty(name = "event-bridge.ingress.overflow.strategy", defaultValue = "BLOCK")
+    OverflowStrategy overflowStrategy;
+
+    @ConfigProperty(name = "event-bridge.ingress.overflow.max-in-flight", defaultValue = "1024")
+    int maxInFlight;
+
+    @ConfigProperty(name = "event-bridge.ingress.overflow.block-timeout", defaultValue = "5s")
+    Duration blockTimeout;
+
+    @Inject
+    @Channel(EVENTS_OUT_CHANNEL)
+    @OnOverflow(OnOverflow.Strategy.BUFFER)
+    Emitter<byte[]> emitter;
+
+    @Inject
+    @Channel(EVENTS_BINARY_OUT_CHANNEL)
+    @OnOverflow(OnOverflow.Strategy.BUFFER)
+    Emitter<byte[]> binaryEmitter;
 
-    public void sendEvent(CloudEvent cloudEvent) {
-        LOGGER.info("Sending cloudEvent with id '{}' to event queue", cloudEvent.getId());
+    private Semaphore inFlight;
+
+    // The publications waiting for permits with the BLOCK strategy, served in order. Guarded by itself
+    private final Queue<Waiter> waiters = new ArrayDeque<>();
+
+    private OutgoingKafkaRecordMetadata<?> structuredMetadata;
+
+    @PostConstruct
+    void init() {
+        inFlight = new Semaphore(maxInFlight);
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(CloudEventUtils.KAFKA_CONTENT_TYPE_HEADER, eventFormat.getContentType().getBytes(StandardCharsets.UTF_8));
+        structuredMetadata = OutgoingKafkaRecordMetadata.builder()
+                .withHeaders(headers)
+                .build();
+    }
+
+    public Uni<Void> sendEvent(CloudEvent cloudEvent) {
+        return sendEvents(Collections.singletonList(cloudEvent));
+    }
+
+    /**
+     * Sends a binary mode event: the data is the record value, untouched, and the attributes are the record headers,
+     * as defined by the Kafka protocol binding of CloudEvents.
+     *
+     * @param attributes the CloudEvent attributes, {@code datacontenttype} included.
+     * @throws ServiceUnavailableException if the event can not be queued, according to the {@link OverflowStrategy}.
+     */
+    public Uni<Void> sendBinaryEvent(Map<String, String> attributes, byte[] data) {
+        RecordHeaders headers = new RecordHeaders();
+        attributes.forEach((name, value) -> {
+            String header = "datacontenttype".equals(name) ? CloudEventUtils.KAFKA_CONTENT_TYPE_HEADER : CloudEventUtils.KAFKA_BINARY_HEADER_PREFIX + name;
+            headers.add(header, value.getBytes(StandardCharsets.UTF_8));
+        });
+        OutgoingKafkaRecordMetadata<?> metadata = OutgoingKafkaRecordMetadata.builder()
+                .withHeaders(headers)
+                .build();
+        Message<byte[]> message = Message.of(data).addMetadata(metadata);
+        return publish(1, i -> send(binaryEmitter, message, attributes.get("id")));
+    }
 
-        String serializedCloudEvent;
-        serializedCloudEvent = CloudEventUtils.encode(cloudEvent);
-        eventSubject.onNext(serializedCloudEvent);
-        LOGGER.info("Sending cloudEvent with id '{}' to event queue - SUCCESS", cloudEvent.getId());
+    /**
+     * Sends all the events at once, so that the producer can pipeline them in the same batches.
+     * The returned {@link Uni} fails with a {@link ServiceUnavailableException} if any of them is not acknowledged.
+     *
+     * @throws ServiceUnavailableException if the events can not be queued, according to the {@link OverflowStrategy}.
+     */
+    public Uni<Void> sendEvents(List<CloudEvent> cloudEvents) {
+        return publish(cloudEvents.size(), i -> {
+            CloudEvent cloudEvent = cloudEvents.get(i);
+            Message<byte[]> message = Message.of(CloudEventUtils.encode(cloudEvent, eventFormat)).addMetadata(structuredMetadata);
+            return send(emitter, message, cloudEvent.getId());
+        });
     }
 
-    @Outgoing("events-out")
-    public Publisher<String> getEventPublisher() {
-        return eventSubject.toHotStream();
+    private Uni<Void> publish(int count, IntFunction<CompletableFuture<Void>> sender) {
+        // A batch larger than the limit takes the whole capacity instead of never fitting
+        int permits = Math.min(count, maxInFlight);
+        CompletableFuture<Boolean> acquired = acquire(permits);
+
+        Uni<Void> published;
+        if (acquired.isDone()) {
+            published = Uni.createFrom().completionStage(sendAll(count, sender, permits));
+        } else {
+            // The events are queued once the acknowledgements of other events release enough permits, or the wait times out.
+            // The result is emitted on the context of the request, that completes the response
+            Context context = Vertx.currentContext();
+            published = Uni.createFrom().completionStage(acquired.thenCompose(granted -> {
+                if (!granted) {
+                    return CompletableFuture.failedFuture(new ServiceUnavailableException("Too many events are waiting to be published."));
+                }
+                try {
+                    return sendAll(count, sender, permits);
+                } catch (ServiceUnavailableException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }));
+            if (context != null) {
+                published = published.emitOn(command -> context.runOnContext(x -> command.run()));
+            }
+        }
+        return published
+                .onFailure(t -> !(t instanceof ServiceUnavailableException)).transform(t -> new ServiceUnavailableException("The events could not be published.", t));
+    }
+
+    private CompletableFuture<Void> sendAll(int count, IntFunction<CompletableFuture<Void>> sender, int permits) {
+        CompletableFuture<?>[] acks = new CompletableFuture<?>[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                acks[i] = sender.apply(i);
+            }
+        } catch (RuntimeException e) {
+            // The events already sent are still acknowledged by the broker, but their permits are released right away
+            release(permits);
+            throw new ServiceUnavailableException("The events could not be queued for publishing.", e);
+        }
+
+        // The permits are released on the acknowledgements, whether or not the caller subscribes to the result
+        CompletableFuture<Void> all = CompletableFuture.allOf(acks);
+        all.whenComplete((x, t) -> release(permits));
+        return all;
+    }
+
+    private static <T> CompletableFuture<Void> send(Emitter<T> emitter, Message<T> message, String id) {
+        LOGGER.debug("Sending cloudEvent with id '{}' to event queue", id);
+        CompletableFuture<Void> ack = new CompletableFuture<>();
+        emitter.send(message.withAck(() -> {
+            LOGGER.debug("Sending cloudEvent with id '{}' to event queue - SUCCESS", id);
+            ack.complete(null);
+            return CompletableFuture.completedFuture(null);
+        }).withNack(t -> {
+            LOGGER.warn("Sending cloudEvent with id '{}' to event queue - FAILURE", id, t);
+            ack.completeExceptionally(t);
+            return CompletableFuture.completedFuture(null);
+        }));
+        return ack;
+    }
+
+    /**
+     * @return a future completed with true once the permits are taken, or with false when the BLOCK wait times out.
+     * @throws ServiceUnavailableException if the permits are not available with the FAIL strategy.
+     */
+    private CompletableFuture<Boolean> acquire(int permits) {
+        if (overflowStrategy == OverflowStrategy.BUFFER) {
+            return CompletableFuture.completedFuture(true);
+        }
+        if (overflowStrategy == OverflowStrategy.FAIL) {
+            if (!inFlight.tryAcquire(permits)) {
+                throw new ServiceUnavailableException("Too many events are waiting to be published.");
+            }
+            return CompletableFuture.completedFuture(true);
+        }
+        // Never parks the thread: a parked worker or event loop thread could not serve the requests that do fit
+        synchronized (waiters) {
+            if (waiters.isEmpty() && inFlight.tryAcquire(permits)) {
+                return CompletableFuture.completedFuture(true);
+            }
+            Waiter waiter = new Waiter(permits);
+            waiter.granted.completeOnTimeout(false, blockTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            waiters.add(waiter);
+            return waiter.granted;
+        }
+    }
+
+    private void release(int permits) {
+        if (overflowStrategy == OverflowStrategy.BUFFER) {
+            return;
+        }
+        inFlight.release(permits);
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (waiters) {
+            Waiter waiter;
+            while ((waiter = waiters.peek()) != null) {
+                if (waiter.granted.isDone()) {
+                    // Timed out
+                    waiters.poll();
+                    continue;
+                }
+                // The first waiter gets its permits before the next ones, so that a large batch is not starved by the small ones
+                if (!inFlight.tryAcquire(waiter.permits)) {
+                    break;
+                }
+                granted.add(waiters.poll());
+            }
+        }
+        // Completed outside of the lock, as it sends the events of the waiters
+        for (Waiter waiter : granted) {
+            if (!waiter.granted.complete(true)) {
+                // Timed out in the meantime
+                release(waiter.permits);
+            }
+        }
+    }
+
+    private static class Waiter {
+
+        private final int permits;
+
+        private final CompletableFuture<Boolean> granted = new CompletableFuture<>();
+
+        private Waiter(int permits) {
+            this.permits = permits;
+        }
     }
 }
@@ -0,0 +1,20 @@
+package com.redhat.service.smartevents.ingress.producer;
+
+/**
+ * What the ingress does when too many events are waiting for the acknowledgement of the broker.
+ */
+public enum OverflowStrategy {
+    /**
+     * The request waits for the in-flight events to be acknowledged, up to a timeout. The request is then rejected with 503.
+     * The wait does not park the thread that handles the request: the events are queued once enough permits are released.
+     */
+    BLOCK,
+    /**
+     * The request is rejected straight away with 503.
+     */
+    FAIL,
+    /**
+     * The events are buffered in memory, up to the size of the emitter buffer. The request is rejected with 503 when the buffer is full.
+     */
+    BUFFER
+}
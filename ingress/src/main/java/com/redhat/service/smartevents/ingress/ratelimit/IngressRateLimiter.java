@@ -0,0 +1,67 @@
+package com.redhat.service.smartevents.ingress.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.TooManyRequestsException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Limits the rate of the events each subject can send to the Bridge, so that a single noisy producer can not flood the
+ * Bridge topic. Every subject has its own {@link TokenBucket}: a batch of events takes one token per event.
+ * The limits are set per Bridge by the shard operator, every Bridge having its own ingress.
+ */
+@ApplicationScoped
+public class IngressRateLimiter {
+
+    public static final String AVAILABLE_TOKENS_METRIC_NAME = "ingress.rate.limit.available.tokens";
+    public static final String REJECTED_METRIC_NAME = "ingress.rate.limit.rejected";
+    public static final String SUBJECT_TAG = "subject";
+
+    /**
+     * The number of events per second each subject can send. A value of 0 or less disables the rate limit.
+     */
+    @ConfigProperty(name = "event-bridge.ingress.rate-limit.per-second", defaultValue = "0")
+    double perSecond;
+
+    /**
+     * The number of events a subject can send at once after being idle. A value of 0 or less means one second of events.
+     */
+    @ConfigProperty(name = "event-bridge.ingress.rate-limit.burst", defaultValue = "0")
+    int burst;
+
+    @Inject
+    MeterRegistry registry;
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @throws TooManyRequestsException if the subject exceeded its rate limit.
+     */
+    public void acquire(String subject, int events) {
+        if (perSecond <= 0) {
+            return;
+        }
+        long waitNanos = buckets.computeIfAbsent(subject, this::createBucket).tryAcquire(events);
+        if (waitNanos > 0) {
+            registry.counter(REJECTED_METRIC_NAME, Tags.of(SUBJECT_TAG, subject)).increment();
+            long retryAfterSeconds = Math.max(1L, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+            throw new TooManyRequestsException(String.format("The rate limit of %s events per second has been exceeded.", perSecond), retryAfterSeconds);
+        }
+    }
+
+    private TokenBucket createBucket(String subject) {
+        int capacity = burst > 0 ? burst : (int) Math.max(1, Math.ceil(perSecond));
+        TokenBucket bucket = new TokenBucket(perSecond, capacity, System::nanoTime);
+        registry.gauge(AVAILABLE_TOKENS_METRIC_NAME, Tags.of(SUBJECT_TAG, subject), bucket, TokenBucket::availableTokens);
+        return bucket;
+    }
+}
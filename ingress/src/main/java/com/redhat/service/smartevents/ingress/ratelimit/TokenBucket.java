@@ -0,0 +1,54 @@
+package com.redhat.service.smartevents.ingress.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket. Instead of a token count refilled by a timer, the bucket only stores the instant at which
+ * it will be full again: the tokens available at any instant are derived from it, and taking tokens is a single
+ * compare-and-set that moves it forward. This is the generic cell rate algorithm, equivalent to a token bucket.
+ */
+final class TokenBucket {
+
+    private final LongSupplier nanoClock;
+    private final long nanosPerToken;
+    private final int capacity;
+    private final AtomicLong fullAtNanos;
+
+    TokenBucket(double tokensPerSecond, int capacity, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.nanosPerToken = Math.max(1L, (long) (1_000_000_000L / tokensPerSecond));
+        this.capacity = capacity;
+        this.fullAtNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Takes the tokens if they are all available. A request for more tokens than the capacity waits for a full bucket, and then
+     * takes the tokens it misses ahead of time: the bucket stays empty until they are paid back, so that the rate holds whatever
+     * the size of the requests.
+     *
+     * @return 0 if the tokens have been taken, otherwise how long to wait, in nanoseconds, before they are available.
+     */
+    long tryAcquire(int tokens) {
+        long required = Math.min(tokens, capacity) * nanosPerToken;
+        long cost = tokens * nanosPerToken;
+        long burstNanos = capacity * nanosPerToken;
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long fullAt = fullAtNanos.get();
+            long start = Math.max(fullAt, now);
+            long wait = start + required - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAtNanos.compareAndSet(fullAt, start + cost)) {
+                return 0;
+            }
+        }
+    }
+
+    double availableTokens() {
+        long missing = Math.max(0L, fullAtNanos.get() - nanoClock.getAsLong());
+        return Math.max(0d, capacity - (double) missing / nanosPerToken);
+    }
+}
@@ -0,0 +1,115 @@
+package com.redhat.service.smartevents.ingress;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load-test harness comparing the JAX-RS {@code /events/plain} endpoint with the reactive {@code /events/binary} endpoint
+ * on the same events. It reports the requests per second and the latency percentiles of each endpoint.
+ * Run it with the main method against a running ingress, it is not executed as part of the test suite:
+ *
+ * <pre>
+ * -Dingress.url=http://localhost:8080 -Dingress.token=&lt;bearer token&gt; -Dingress.requests=20000 -Dingress.concurrency=64
+ * </pre>
+ */
+public class IngressLoadHarness {
+
+    private static final String BODY = "{\"name\":\"jacopo\",\"surname\":\"rota\",\"age\":42,\"tags\":[\"a\",\"b\",\"c\"]}";
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final String url;
+    private final String token;
+    private final int concurrency;
+
+    IngressLoadHarness(String url, String token, int concurrency) {
+        this.url = url;
+        this.token = token;
+        this.concurrency = concurrency;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String url = System.getProperty("ingress.url", "http://localhost:8080");
+        String token = System.getProperty("ingress.token", "");
+        int requests = Integer.getInteger("ingress.requests", 20_000);
+        int concurrency = Integer.getInteger("ingress.concurrency", 64);
+
+        IngressLoadHarness harness = new IngressLoadHarness(url, token, concurrency);
+        for (String path : Arrays.asList("/events/plain", "/events/binary")) {
+            // The warm-up lets both the JIT and the Kafka producer settle before measuring
+            harness.run(path, requests / 10);
+            harness.run(path, requests).print(path);
+        }
+    }
+
+    Result run(String path, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(requests);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            client.sendAsync(request(path, index), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, t) -> {
+                        latencies[index] = System.nanoTime() - sent;
+                        if (t != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        inFlight.release();
+                        done.countDown();
+                    });
+        }
+        done.await();
+        return new Result(latencies, failures.get(), System.nanoTime() - start);
+    }
+
+    private HttpRequest request(String path, int index) {
+        return HttpRequest.newBuilder(URI.create(url + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .header("ce-specversion", "1.0")
+                .header("ce-id", "load-" + index)
+                .header("ce-type", "LoadTest")
+                .header("ce-source", "ingress-load-harness")
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build();
+    }
+
+    static class Result {
+
+        private final long[] latencies;
+        private final int failures;
+        private final long elapsedNanos;
+
+        Result(long[] latencies, int failures, long elapsedNanos) {
+            this.latencies = latencies.clone();
+            Arrays.sort(this.latencies);
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        double requestsPerSecond() {
+            return latencies.length * 1_000_000_000d / elapsedNanos;
+        }
+
+        double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / 1_000_000d;
+        }
+
+        void print(String path) {
+            System.out.printf("%-16s requests=%d failures=%d req/s=%.0f p50=%.2fms p99=%.2fms max=%.2fms%n", path, latencies.length, failures, requestsPerSecond(),
+                    percentileMillis(50), percentileMillis(99), percentileMillis(100));
+        }
+    }
+}
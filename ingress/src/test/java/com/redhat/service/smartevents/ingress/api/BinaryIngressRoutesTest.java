@@ -0,0 +1,135 @@
+package com.redhat.service.smartevents.ingress.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.http.HttpStatus;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.redhat.service.smartevents.infra.api.APIConstants;
+import com.redhat.service.smartevents.infra.exceptions.definitions.platform.ServiceUnavailableException;
+import com.redhat.service.smartevents.ingress.TestConstants;
+import com.redhat.service.smartevents.ingress.producer.KafkaEventPublisher;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.mockito.InjectMock;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.http.ContentType;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.smallrye.mutiny.Uni;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@QuarkusTest
+public class BinaryIngressRoutesTest {
+
+    private static final String BODY = "{\"key\": \"value\"}";
+
+    @InjectMock
+    KafkaEventPublisher kafkaEventPublisher;
+
+    @InjectMock
+    JsonWebToken jwt;
+
+    @BeforeEach
+    public void cleanUp() {
+        mockJwt(TestConstants.DEFAULT_CUSTOMER_ID);
+        when(kafkaEventPublisher.sendBinaryEvent(anyMap(), any())).thenReturn(Uni.createFrom().voidItem());
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    @SuppressWarnings("unchecked")
+    public void testBinaryEvent() {
+        Headers headers = new Headers(
+                new Header("ce-specversion", "1.0"),
+                new Header("ce-id", "myId"),
+                new Header("ce-type", "myType"),
+                new Header("ce-source", "mySource"),
+                new Header("Ce-MyExtension", "myValue"));
+        doApiCall(headers, HttpStatus.SC_OK);
+
+        ArgumentCaptor<Map<String, String>> attributes = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<byte[]> data = ArgumentCaptor.forClass(byte[].class);
+        verify(kafkaEventPublisher, times(1)).sendBinaryEvent(attributes.capture(), data.capture());
+        assertThat(attributes.getValue())
+                .containsEntry("specversion", "1.0")
+                .containsEntry("id", "myId")
+                .containsEntry("type", "myType")
+                .containsEntry("source", "mySource")
+                .containsEntry("myextension", "myValue")
+                .containsKey("datacontenttype");
+        assertThat(new String(data.getValue(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testBinaryEventWithoutHeaders() {
+        doApiCall(new Headers(), HttpStatus.SC_BAD_REQUEST);
+        verify(kafkaEventPublisher, times(0)).sendBinaryEvent(anyMap(), any());
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testBinaryEventWithInvalidSource() {
+        Headers headers = new Headers(
+                new Header("ce-specversion", "1.0"),
+                new Header("ce-id", "myId"),
+                new Header("ce-type", "myType"),
+                new Header("ce-source", "{not-a-valid-source}"));
+        doApiCall(headers, HttpStatus.SC_BAD_REQUEST);
+        verify(kafkaEventPublisher, times(0)).sendBinaryEvent(anyMap(), any());
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testBinaryEventWhenBrokerDoesNotAck() {
+        when(kafkaEventPublisher.sendBinaryEvent(anyMap(), any())).thenReturn(Uni.createFrom().failure(new ServiceUnavailableException("broker down")));
+        doApiCall(validHeaders(), HttpStatus.SC_SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    @TestSecurity(user = "hacker")
+    public void testBinaryEventWithUnauthorizedUser() {
+        reset(jwt);
+        mockJwt("hacker");
+        doApiCall(validHeaders(), HttpStatus.SC_FORBIDDEN);
+        verify(kafkaEventPublisher, times(0)).sendBinaryEvent(anyMap(), any());
+    }
+
+    private void doApiCall(Headers headers, int expectedStatusCode) {
+        given()
+                .filter(new ResponseLoggingFilter())
+                .contentType(ContentType.JSON)
+                .headers(headers)
+                .when()
+                .body(BODY)
+                .post(BinaryIngressRoutes.BINARY_EVENTS_PATH)
+                .then().statusCode(expectedStatusCode);
+    }
+
+    private static Headers validHeaders() {
+        return new Headers(
+                new Header("ce-specversion", "1.0"),
+                new Header("ce-id", "myId"),
+                new Header("ce-type", "myType"),
+                new Header("ce-source", "mySource"));
+    }
+
+    private void mockJwt(String user) {
+        when(jwt.getClaim(APIConstants.ACCOUNT_ID_USER_ATTRIBUTE_CLAIM)).thenReturn(user);
+        when(jwt.containsClaim(APIConstants.ACCOUNT_ID_USER_ATTRIBUTE_CLAIM)).thenReturn(true);
+    }
+}
@@ -9,10 +9,13 @@ import org.mockito.Mockito;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.redhat.service.smartevents.infra.api.APIConstants;
+import com.redhat.service.smartevents.infra.exceptions.definitions.platform.ServiceUnavailableException;
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.TooManyRequestsException;
 import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
 import com.redhat.service.smartevents.ingress.TestConstants;
 import com.redhat.service.smartevents.ingress.TestUtils;
 import com.redhat.service.smartevents.ingress.producer.KafkaEventPublisher;
+import com.redhat.service.smartevents.ingress.ratelimit.IngressRateLimiter;
 
 import io.cloudevents.CloudEvent;
 import io.quarkus.test.junit.QuarkusMock;
@@ -23,9 +26,14 @@ import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
+import io.smallrye.mutiny.Uni;
 
 import static io.restassured.RestAssured.given;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -46,15 +54,19 @@ public class IngressAPITest {
     @InjectMock
     JsonWebToken jwt;
 
+    @InjectMock
+    IngressRateLimiter rateLimiter;
+
     @BeforeEach
     public void cleanUp() {
         mockJwt(TestConstants.DEFAULT_CUSTOMER_ID);
+        when(kafkaEventPublisher.sendEvent(any(CloudEvent.class))).thenReturn(Uni.createFrom().voidItem());
+        when(kafkaEventPublisher.sendEvents(anyList())).thenReturn(Uni.createFrom().voidItem());
     }
 
     @BeforeAll
     public static void setup() {
         KafkaEventPublisher mock = Mockito.mock(KafkaEventPublisher.class);
-        Mockito.doNothing().when(mock).sendEvent(any(CloudEvent.class));
         QuarkusMock.installMockForType(mock, KafkaEventPublisher.class);
     }
 
@@ -65,6 +77,75 @@ public class IngressAPITest {
         verify(kafkaEventPublisher, times(1)).sendEvent(any(CloudEvent.class));
     }
 
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testSendCloudEventWhenBrokerDoesNotAck() throws JsonProcessingException {
+        when(kafkaEventPublisher.sendEvent(any(CloudEvent.class))).thenReturn(Uni.createFrom().failure(new ServiceUnavailableException("broker down")));
+        doApiCall(TestUtils.buildTestCloudEvent(), HttpStatus.SC_SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testSendCloudEventWhenOverloaded() throws JsonProcessingException {
+        when(kafkaEventPublisher.sendEvent(any(CloudEvent.class))).thenThrow(new ServiceUnavailableException("overloaded"));
+        doApiCall(TestUtils.buildTestCloudEvent(), HttpStatus.SC_SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testSendCloudEventWhenRateLimited() throws JsonProcessingException {
+        doThrow(new TooManyRequestsException("slow down", 3)).when(rateLimiter).acquire(anyString(), anyInt());
+        given()
+                .filter(new ResponseLoggingFilter())
+                .contentType(ContentType.JSON)
+                .when()
+                .body(CloudEventUtils.encode(TestUtils.buildTestCloudEvent()))
+                .post("/events")
+                .then().statusCode(HttpStatus.SC_TOO_MANY_REQUESTS)
+                .header("Retry-After", "3");
+        verify(kafkaEventPublisher, times(0)).sendEvent(any(CloudEvent.class));
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testSendCloudEventBatchIsRateLimitedPerEvent() throws JsonProcessingException {
+        String batch = "[" + CloudEventUtils.encode(TestUtils.buildTestCloudEvent()) + "," + CloudEventUtils.encode(TestUtils.buildTestCloudEvent()) + "]";
+        doBatchApiCall(batch, ContentType.JSON.toString(), 200);
+        verify(rateLimiter, times(1)).acquire(TestConstants.DEFAULT_CUSTOMER_ID, 2);
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testSendCloudEventBatch() throws JsonProcessingException {
+        String batch = "[" + CloudEventUtils.encode(TestUtils.buildTestCloudEvent()) + "," + CloudEventUtils.encode(TestUtils.buildTestCloudEvent()) + "]";
+        doBatchApiCall(batch, ContentType.JSON.toString(), 200);
+        doBatchApiCall(batch, IngressAPI.CLOUDEVENTS_BATCH_JSON, 200);
+        verify(kafkaEventPublisher, times(2)).sendEvents(anyList());
+        verify(kafkaEventPublisher, times(0)).sendEvent(any(CloudEvent.class));
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testSendEmptyCloudEventBatch() {
+        doBatchApiCall("[]", ContentType.JSON.toString(), 400);
+        verify(kafkaEventPublisher, times(0)).sendEvents(anyList());
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testSendInvalidCloudEventBatch() {
+        doBatchApiCall("[{\"key\": \"not a cloud event\"}]", ContentType.JSON.toString(), 400);
+        verify(kafkaEventPublisher, times(0)).sendEvents(anyList());
+    }
+
+    @Test
+    @TestSecurity(user = "hacker")
+    public void testCloudEventBatchEndpointWithUnauthorizedUser() throws JsonProcessingException {
+        reset(jwt);
+        mockJwt("hacker");
+        doBatchApiCall("[" + CloudEventUtils.encode(TestUtils.buildTestCloudEvent()) + "]", ContentType.JSON.toString(), HttpStatus.SC_FORBIDDEN);
+    }
+
     @Test
     @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
     public void testNonCloudEvent() {
@@ -142,6 +223,16 @@ public class IngressAPITest {
                 .then().statusCode(expectedStatusCode);
     }
 
+    private void doBatchApiCall(String body, String contentType, int expectedStatusCode) {
+        given()
+                .filter(new ResponseLoggingFilter())
+                .contentType(contentType)
+                .when()
+                .body(body)
+                .post("/events/batch")
+                .then().statusCode(expectedStatusCode);
+    }
+
     private void doPlainApiCall(String body, Headers headers, int expectedStatusCode) {
         given()
                 .filter(new ResponseLoggingFilter())
@@ -0,0 +1,59 @@
+package com.redhat.service.smartevents.ingress.api;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.service.smartevents.infra.auth.IdentityResolver;
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.ForbiddenRequestException;
+import com.redhat.service.smartevents.ingress.auth.VerifiedTokenCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IngressAuthorizerTest {
+
+    private IngressAuthorizer authorizer;
+
+    private JsonWebToken jwt;
+
+    @BeforeEach
+    void setup() {
+        authorizer = new IngressAuthorizer();
+        authorizer.customerId = "customer";
+        authorizer.webhookTechnicalAccountId = "robot";
+        authorizer.identityResolver = mock(IdentityResolver.class);
+        authorizer.tokenCache = mock(VerifiedTokenCache.class);
+        jwt = mock(JsonWebToken.class);
+    }
+
+    @Test
+    void testCachedSubjectSkipsTheResolution() {
+        when(authorizer.tokenCache.getSubject(jwt)).thenReturn("customer");
+
+        assertThat(authorizer.failIfNotAuthorized(jwt)).isEqualTo("customer");
+        verify(authorizer.identityResolver, never()).resolve(any());
+    }
+
+    @Test
+    void testAuthorizedSubjectIsCached() {
+        when(authorizer.identityResolver.resolve(jwt)).thenReturn("robot");
+
+        assertThat(authorizer.failIfNotAuthorized(jwt)).isEqualTo("robot");
+        verify(authorizer.tokenCache).putSubject(jwt, "robot");
+    }
+
+    @Test
+    void testForbiddenSubjectIsNotCached() {
+        when(authorizer.identityResolver.resolve(jwt)).thenReturn("intruder");
+
+        assertThatThrownBy(() -> authorizer.failIfNotAuthorized(jwt)).isInstanceOf(ForbiddenRequestException.class);
+        verify(authorizer.tokenCache, never()).putSubject(any(), anyString());
+    }
+}
@@ -0,0 +1,102 @@
+package com.redhat.service.smartevents.ingress.auth;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TokenCacheTest {
+
+    @Test
+    void testEntriesExpire() {
+        AtomicLong now = new AtomicLong(1_000L);
+        TokenCache<String> cache = new TokenCache<>(10, now::get);
+
+        cache.put("token", "subject", 2_000L);
+        cache.put("expired", "subject", 1_000L);
+
+        assertThat(cache.get("token")).isEqualTo("subject");
+        assertThat(cache.get("expired")).isNull();
+        assertThat(cache.get("unknown")).isNull();
+
+        now.set(2_000L);
+        assertThat(cache.get("token")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        AtomicLong now = new AtomicLong(1_000L);
+        TokenCache<String> cache = new TokenCache<>(2, now::get);
+
+        cache.put("short", "a", 1_500L);
+        cache.put("long", "b", 5_000L);
+        now.set(1_500L);
+        cache.put("new", "c", 5_000L);
+
+        // The expired entry is evicted first
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("long")).isEqualTo("b");
+        assertThat(cache.get("new")).isEqualTo("c");
+
+        cache.put("newer", "d", 5_000L);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("newer")).isEqualTo("d");
+    }
+
+    @Test
+    void testDisabledCache() {
+        TokenCache<String> cache = new TokenCache<>(0);
+        cache.put("token", "subject", Long.MAX_VALUE);
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void testEntriesDoNotOutliveTheToken() {
+        VerifiedTokenCache tokenCache = tokenCache();
+        JsonWebToken expired = jwt("expired-token");
+        when(expired.getExpirationTime()).thenReturn(System.currentTimeMillis() / 1000 - 1);
+        JsonWebToken valid = jwt("valid-token");
+        when(valid.getExpirationTime()).thenReturn(System.currentTimeMillis() / 1000 + 60);
+
+        tokenCache.putSubject(expired, "customer");
+        tokenCache.putSubject(valid, "customer");
+
+        assertThat(tokenCache.getSubject(expired)).isNull();
+        assertThat(tokenCache.getSubject(valid)).isEqualTo("customer");
+    }
+
+    @Test
+    void testTokensWithoutRawValueAreNotCached() {
+        VerifiedTokenCache tokenCache = tokenCache();
+        JsonWebToken jwt = jwt(null);
+
+        tokenCache.putSubject(jwt, "customer");
+
+        assertThat(tokenCache.getSubject(jwt)).isNull();
+        verify(jwt, times(0)).getExpirationTime();
+    }
+
+    private static VerifiedTokenCache tokenCache() {
+        VerifiedTokenCache tokenCache = new VerifiedTokenCache();
+        tokenCache.enabled = true;
+        tokenCache.maxSize = 10;
+        tokenCache.maxTtl = Duration.ofMinutes(5);
+        tokenCache.init();
+        return tokenCache;
+    }
+
+    private static JsonWebToken jwt(String rawToken) {
+        JsonWebToken jwt = mock(JsonWebToken.class);
+        when(jwt.getRawToken()).thenReturn(rawToken);
+        return jwt;
+    }
+}
@@ -0,0 +1,82 @@
+package com.redhat.service.smartevents.ingress.auth;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jose4j.jwk.RsaJsonWebKey;
+import org.jose4j.jwk.RsaJwkGenerator;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.jwt.JwtClaims;
+import org.jose4j.jwt.consumer.JwtConsumer;
+import org.jose4j.jwt.consumer.JwtConsumerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the verification of an RS256 bearer token, as done by the OIDC extension on every request, with a lookup
+ * in the {@link TokenCache} of the verified tokens.
+ * Run it with the main method, it is not executed as part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenVerificationBenchmark {
+
+    private String token;
+
+    private JwtConsumer consumer;
+
+    private TokenCache<String> cache;
+
+    @Setup
+    public void setup() throws Exception {
+        RsaJsonWebKey key = RsaJwkGenerator.generateJwk(2048);
+
+        JwtClaims claims = new JwtClaims();
+        claims.setSubject("customer");
+        claims.setClaim("account_id", "customer");
+        claims.setExpirationTimeMinutesInTheFuture(60);
+
+        JsonWebSignature signature = new JsonWebSignature();
+        signature.setPayload(claims.toJson());
+        signature.setKey(key.getPrivateKey());
+        signature.setAlgorithmHeaderValue(AlgorithmIdentifiers.RSA_USING_SHA256);
+        token = signature.getCompactSerialization();
+
+        consumer = new JwtConsumerBuilder()
+                .setRequireExpirationTime()
+                .setVerificationKey(key.getKey())
+                .build();
+
+        cache = new TokenCache<>(1000);
+        cache.put(token, consumer.processToClaims(token).getSubject(), System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(60));
+    }
+
+    @Benchmark
+    public String verify() throws Exception {
+        return consumer.processToClaims(token).getSubject();
+    }
+
+    @Benchmark
+    public String cached() {
+        return cache.get(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TokenVerificationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
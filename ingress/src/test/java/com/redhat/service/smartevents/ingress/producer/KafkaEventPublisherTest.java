@@ -1,33 +1,226 @@
 package com.redhat.service.smartevents.ingress.producer;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.kafka.common.header.Headers;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import com.redhat.service.smartevents.infra.exceptions.definitions.platform.ServiceUnavailableException;
 import com.redhat.service.smartevents.infra.utils.CloudEventUtils;
+import com.redhat.service.smartevents.infra.utils.EventFormat;
 import com.redhat.service.smartevents.ingress.TestUtils;
 
 import io.cloudevents.CloudEvent;
-import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class KafkaEventPublisherTest {
 
+    private KafkaEventPublisher producer;
+
+    private Emitter<byte[]> emitter;
+
+    private Emitter<byte[]> binaryEmitter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        emitter = mock(Emitter.class);
+        binaryEmitter = mock(Emitter.class);
+        producer = new KafkaEventPublisher();
+        producer.emitter = emitter;
+        producer.binaryEmitter = binaryEmitter;
+        producer.eventFormat = EventFormat.JSON;
+        producer.overflowStrategy = OverflowStrategy.FAIL;
+        producer.maxInFlight = 2;
+        producer.blockTimeout = Duration.ofMillis(10);
+        producer.init();
+    }
+
+    @Test
+    void testEventIsProducedAndCompletesOnAck() throws IOException {
+        CloudEvent cloudEvent = TestUtils.buildTestCloudEvent();
+
+        UniAssertSubscriber<Void> subscriber = producer.sendEvent(cloudEvent).subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        List<Message<byte[]>> messages = captureMessages(1);
+        CloudEvent retrievedCloudEvent = CloudEventUtils.decode(messages.get(0).getPayload());
+        assertThat(retrievedCloudEvent.getId()).isEqualTo(cloudEvent.getId());
+        assertThat(contentType(messages.get(0))).isEqualTo("application/cloudevents+json");
+
+        subscriber.assertNotTerminated();
+        messages.get(0).ack();
+        subscriber.assertCompleted();
+    }
+
     @Test
-    void testEventIsProduced() throws IOException {
+    void testEventIsProducedInTheConfiguredFormat() throws IOException {
+        producer.eventFormat = EventFormat.CBOR;
+        producer.init();
         CloudEvent cloudEvent = TestUtils.buildTestCloudEvent();
-        AssertSubscriber<String> subscriber = AssertSubscriber.create(1);
 
-        KafkaEventPublisher producer = new KafkaEventPublisher();
-        producer.getEventPublisher().subscribe(subscriber);
+        producer.sendEvent(cloudEvent);
+
+        Message<byte[]> message = captureMessages(1).get(0);
+        assertThat(contentType(message)).isEqualTo("application/cloudevents+cbor");
+        assertThat(CloudEventUtils.decode(message.getPayload(), EventFormat.CBOR).getId()).isEqualTo(cloudEvent.getId());
+    }
+
+    @Test
+    void testEventFailsOnNack() throws IOException {
+        UniAssertSubscriber<Void> subscriber = producer.sendEvent(TestUtils.buildTestCloudEvent()).subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        captureMessages(1).get(0).nack(new IllegalStateException("broker down"));
+        subscriber.assertFailedWith(ServiceUnavailableException.class);
+    }
+
+    @Test
+    void testBatchCompletesWhenAllEventsAreAcked() throws IOException {
+        List<CloudEvent> cloudEvents = Arrays.asList(TestUtils.buildTestCloudEvent(), TestUtils.buildTestCloudEvent());
 
+        UniAssertSubscriber<Void> subscriber = producer.sendEvents(cloudEvents).subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        List<Message<byte[]>> messages = captureMessages(2);
+        messages.get(0).ack();
+        subscriber.assertNotTerminated();
+        messages.get(1).ack();
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    void testFailStrategyRejectsWhenTooManyEventsAreInFlight() throws IOException {
+        producer.sendEvents(Arrays.asList(TestUtils.buildTestCloudEvent(), TestUtils.buildTestCloudEvent()));
+
+        assertThatThrownBy(() -> producer.sendEvent(TestUtils.buildTestCloudEvent())).isInstanceOf(ServiceUnavailableException.class);
+
+        // The capacity is given back once the broker acknowledges the in-flight events
+        captureMessages(2).forEach(Message::ack);
         producer.sendEvent(TestUtils.buildTestCloudEvent());
-        List<String> sentEvents = subscriber.getItems();
-        assertThat(sentEvents.size()).isEqualTo(1);
+        verify(emitter, times(3)).send(any(Message.class));
+    }
 
-        CloudEvent retrievedCloudEvent = CloudEventUtils.decode(sentEvents.get(0));
-        assertThat(retrievedCloudEvent.getId()).isEqualTo(cloudEvent.getId());
+    @Test
+    void testBlockStrategyRejectsAfterTimeout() throws IOException {
+        producer.overflowStrategy = OverflowStrategy.BLOCK;
+        producer.sendEvents(Arrays.asList(TestUtils.buildTestCloudEvent(), TestUtils.buildTestCloudEvent()));
+
+        CompletableFuture<Void> rejected = producer.sendEvent(TestUtils.buildTestCloudEvent()).subscribeAsCompletionStage();
+
+        assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(ServiceUnavailableException.class);
+        verify(emitter, times(2)).send(any(Message.class));
+    }
+
+    @Test
+    void testBlockStrategyPublishesOnceThePermitsAreReleased() throws IOException {
+        producer.overflowStrategy = OverflowStrategy.BLOCK;
+        producer.blockTimeout = Duration.ofSeconds(30);
+        producer.sendEvents(Arrays.asList(TestUtils.buildTestCloudEvent(), TestUtils.buildTestCloudEvent()));
+
+        // The call returns straight away, the events wait for the permits without holding the thread
+        UniAssertSubscriber<Void> subscriber = producer.sendEvent(TestUtils.buildTestCloudEvent()).subscribe().withSubscriber(UniAssertSubscriber.create());
+        List<Message<byte[]>> messages = captureMessages(2);
+        subscriber.assertNotTerminated();
+
+        messages.get(0).ack();
+        Message<byte[]> waiting = captureMessages(3).get(2);
+        messages.get(1).ack();
+        subscriber.assertNotTerminated();
+        waiting.ack();
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    void testBlockStrategyCompletesOnTheContextOfTheRequest() throws Exception {
+        producer.overflowStrategy = OverflowStrategy.BLOCK;
+        producer.blockTimeout = Duration.ofSeconds(30);
+        producer.sendEvents(Arrays.asList(TestUtils.buildTestCloudEvent(), TestUtils.buildTestCloudEvent()));
+        Vertx vertx = Vertx.vertx();
+        try {
+            CompletableFuture<Void> subscribed = new CompletableFuture<>();
+            CompletableFuture<Boolean> completedOnEventLoop = new CompletableFuture<>();
+            vertx.getOrCreateContext().runOnContext(x -> {
+                producer.sendEvent(TestUtils.buildTestCloudEvent()).subscribe()
+                        .with(item -> completedOnEventLoop.complete(Context.isOnEventLoopThread()), completedOnEventLoop::completeExceptionally);
+                subscribed.complete(null);
+            });
+            subscribed.get(5, TimeUnit.SECONDS);
+
+            // The acknowledgements come from the threads of the Kafka producer, not from the event loop
+            List<Message<byte[]>> messages = captureMessages(2);
+            messages.forEach(Message::ack);
+            captureMessages(3).get(2).ack();
+
+            assertThat(completedOnEventLoop.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    void testBufferStrategyRejectsWhenTheEmitterIsFull() throws IOException {
+        producer.overflowStrategy = OverflowStrategy.BUFFER;
+        doThrow(new IllegalStateException("buffer full")).when(emitter).send(any(Message.class));
+
+        assertThatThrownBy(() -> producer.sendEvent(TestUtils.buildTestCloudEvent())).isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBinaryEventAttributesAreRecordHeaders() {
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("specversion", "1.0");
+        attributes.put("id", "myId");
+        attributes.put("datacontenttype", "application/json");
+        byte[] data = "{\"key\": \"value\"}".getBytes(StandardCharsets.UTF_8);
+
+        UniAssertSubscriber<Void> subscriber = producer.sendBinaryEvent(attributes, data).subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(binaryEmitter, times(1)).send(captor.capture());
+        Message<byte[]> message = captor.getValue();
+        assertThat(message.getPayload()).isSameAs(data);
+        Headers headers = message.getMetadata(OutgoingKafkaRecordMetadata.class).orElseThrow().getHeaders();
+        assertThat(new String(headers.lastHeader("ce_specversion").value(), StandardCharsets.UTF_8)).isEqualTo("1.0");
+        assertThat(new String(headers.lastHeader("ce_id").value(), StandardCharsets.UTF_8)).isEqualTo("myId");
+        assertThat(new String(headers.lastHeader("content-type").value(), StandardCharsets.UTF_8)).isEqualTo("application/json");
+        assertThat(headers.lastHeader("ce_datacontenttype")).isNull();
+
+        message.ack();
+        subscriber.assertCompleted();
+    }
+
+    private static String contentType(Message<byte[]> message) {
+        Headers headers = message.getMetadata(OutgoingKafkaRecordMetadata.class).orElseThrow().getHeaders();
+        return new String(headers.lastHeader("content-type").value(), StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Message<byte[]>> captureMessages(int count) {
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(emitter, times(count)).send(captor.capture());
+        return captor.getAllValues();
     }
 }
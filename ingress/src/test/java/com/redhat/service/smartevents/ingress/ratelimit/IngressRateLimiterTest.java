@@ -0,0 +1,95 @@
+package com.redhat.service.smartevents.ingress.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IngressRateLimiterTest {
+
+    private IngressRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setup() {
+        rateLimiter = new IngressRateLimiter();
+        rateLimiter.perSecond = 2;
+        rateLimiter.burst = 3;
+        rateLimiter.registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testTokenBucketRefillsOverTime() {
+        AtomicLong now = new AtomicLong(1_000L);
+        TokenBucket bucket = new TokenBucket(2, 3, now::get);
+
+        assertThat(bucket.availableTokens()).isEqualTo(3);
+        assertThat(bucket.tryAcquire(2)).isZero();
+        assertThat(bucket.tryAcquire(1)).isZero();
+        assertThat(bucket.availableTokens()).isZero();
+        // One token comes back every 500ms
+        assertThat(bucket.tryAcquire(1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.tryAcquire(1)).isZero();
+        assertThat(bucket.tryAcquire(1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // The bucket never holds more than its capacity
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertThat(bucket.availableTokens()).isEqualTo(3);
+        assertThat(bucket.tryAcquire(4)).isZero();
+        // The token taken beyond the capacity is paid back before the next one
+        assertThat(bucket.tryAcquire(1)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void testBatchLargerThanTheCapacityIsChargedInFull() {
+        AtomicLong now = new AtomicLong(1_000L);
+        TokenBucket bucket = new TokenBucket(10, 10, now::get);
+
+        assertThat(bucket.tryAcquire(500)).isZero();
+        assertThat(bucket.availableTokens()).isZero();
+
+        // 500 events at 10 per second: the next batch waits for 50 seconds of tokens
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(bucket.tryAcquire(500)).isEqualTo(TimeUnit.SECONDS.toNanos(49));
+        assertThat(bucket.tryAcquire(1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(48_100));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(49));
+        assertThat(bucket.tryAcquire(500)).isZero();
+    }
+
+    @Test
+    void testSubjectIsRejectedWithRetryAfter() {
+        rateLimiter.acquire("customer", 3);
+
+        assertThatThrownBy(() -> rateLimiter.acquire("customer", 1))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfterSeconds()).isEqualTo(1));
+        assertThat(rateLimiter.registry.counter(IngressRateLimiter.REJECTED_METRIC_NAME, IngressRateLimiter.SUBJECT_TAG, "customer").count()).isEqualTo(1);
+    }
+
+    @Test
+    void testSubjectsHaveTheirOwnBucket() {
+        rateLimiter.acquire("customer", 3);
+        rateLimiter.acquire("robot", 3);
+
+        assertThat(rateLimiter.registry.get(IngressRateLimiter.AVAILABLE_TOKENS_METRIC_NAME).tag(IngressRateLimiter.SUBJECT_TAG, "robot").gauge().value()).isLessThan(1);
+    }
+
+    @Test
+    void testDisabledRateLimit() {
+        rateLimiter.perSecond = 0;
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.acquire("customer", 10);
+        }
+        assertThat(rateLimiter.registry.getMeters()).isEmpty();
+    }
+}
@@ -25,8 +25,25 @@ public interface BridgesService {
 
     List<Bridge> findByShardIdWithReadyDependencies(String shardId);
 
+    /**
+     * Finds the resources of the shard to deploy or delete whose change_sequence is in (since, until].
+     */
+    List<Bridge> findByShardIdWithReadyDependenciesChangedSince(String shardId, long since, long until);
+
+    /**
+     * @return the highest change_sequence under which no change can be committed anymore.
+     */
+    long getChangeWatermark();
+
     Bridge updateBridge(BridgeDTO bridgeDTO);
 
+    /**
+     * Applies the updates of several Bridges in a single transaction. The updates of the Bridges that do not exist anymore are skipped.
+     *
+     * @return the updated Bridges.
+     */
+    List<Bridge> updateBridges(List<BridgeDTO> bridgeDTOs);
+
     BridgeDTO toDTO(Bridge bridge);
 
     BridgeResponse toResponse(Bridge bridge);
@@ -2,9 +2,13 @@ package com.redhat.service.smartevents.manager;
 
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -70,7 +74,7 @@ public class BridgesServiceImpl implements BridgesService {
         bridge.setStatus(ManagedResourceStatus.ACCEPTED);
         bridge.setSubmittedAt(ZonedDateTime.now(ZoneOffset.UTC));
         bridge.setCustomerId(customerId);
-        bridge.setShardId(shardService.getAssignedShardId(bridge.getId()));
+        bridge.setShardId(shardService.getAssignedShardId(customerId));
 
         // Bridge and Work creation should always be in the same transaction
         bridgeDAO.persist(bridge);
@@ -153,10 +157,44 @@ public class BridgesServiceImpl implements BridgesService {
         return bridgeDAO.findByShardIdWithReadyDependencies(shardId);
     }
 
+    @Transactional
+    @Override
+    public List<Bridge> findByShardIdWithReadyDependenciesChangedSince(String shardId, long since, long until) {
+        return bridgeDAO.findByShardIdWithReadyDependenciesChangedSince(shardId, since, until);
+    }
+
+    @Transactional
+    @Override
+    public long getChangeWatermark() {
+        return bridgeDAO.findChangeWatermark();
+    }
+
     @Transactional
     @Override
     public Bridge updateBridge(BridgeDTO bridgeDTO) {
-        Bridge bridge = getBridge(bridgeDTO.getId(), bridgeDTO.getCustomerId());
+        return updateBridge(getBridge(bridgeDTO.getId(), bridgeDTO.getCustomerId()), bridgeDTO);
+    }
+
+    @Transactional
+    @Override
+    public List<Bridge> updateBridges(List<BridgeDTO> bridgeDTOs) {
+        Map<String, Bridge> bridges = bridgeDAO.findByIds(bridgeDTOs.stream().map(BridgeDTO::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Bridge::getId, Function.identity()));
+        List<Bridge> updated = new ArrayList<>(bridgeDTOs.size());
+        for (BridgeDTO bridgeDTO : bridgeDTOs) {
+            Bridge bridge = bridges.get(bridgeDTO.getId());
+            if (bridge == null || !bridge.getCustomerId().equals(bridgeDTO.getCustomerId())) {
+                LOGGER.warn("Bridge with id '{}' for customer '{}' does not exist. Its update to status '{}' is skipped.", bridgeDTO.getId(), bridgeDTO.getCustomerId(),
+                        bridgeDTO.getStatus());
+                continue;
+            }
+            updated.add(updateBridge(bridge, bridgeDTO));
+        }
+        return updated;
+    }
+
+    private Bridge updateBridge(Bridge bridge, BridgeDTO bridgeDTO) {
         bridge.setStatus(bridgeDTO.getStatus());
         bridge.setEndpoint(bridgeDTO.getEndpoint());
         bridge.setModifiedAt(ZonedDateTime.now());
@@ -191,6 +229,8 @@ public class BridgesServiceImpl implements BridgesService {
         dto.setStatus(bridge.getStatus());
         dto.setCustomerId(bridge.getCustomerId());
         dto.setKafkaConnection(kafkaConnectionDTO);
+        dto.setRateLimitPerSecond(bridge.getRateLimitPerSecond());
+        dto.setRateLimitBurst(bridge.getRateLimitBurst());
         return dto;
     }
 
@@ -203,6 +243,8 @@ public class BridgesServiceImpl implements BridgesService {
         response.setSubmittedAt(bridge.getSubmittedAt());
         response.setPublishedAt(bridge.getPublishedAt());
         response.setStatus(bridge.getStatus());
+        response.setRateLimitPerSecond(bridge.getRateLimitPerSecond());
+        response.setRateLimitBurst(bridge.getRateLimitBurst());
         response.setHref(APIConstants.USER_API_BASE_PATH + bridge.getId());
         return response;
     }
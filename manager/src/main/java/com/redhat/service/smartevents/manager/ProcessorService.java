@@ -19,8 +19,26 @@ public interface ProcessorService {
 
     List<Processor> findByShardIdWithReadyDependencies(String shardId);
 
+    /**
+     * Finds the resources of the shard to deploy or delete whose change_sequence is in (since, until].
+     */
+    List<Processor> findByShardIdWithReadyDependenciesChangedSince(String shardId, long since, long until);
+
+    /**
+     * @return the highest change_sequence under which no change can be committed anymore.
+     */
+    long getChangeWatermark();
+
     Processor updateProcessorStatus(ProcessorDTO processorDTO);
 
+    /**
+     * Applies the status updates of several Processors in a single transaction. The updates of the Processors that do not exist on their Bridge,
+     * for instance because they were deleted already, are skipped.
+     *
+     * @return the updated Processors.
+     */
+    List<Processor> updateProcessorsStatus(List<ProcessorDTO> processorDTOs);
+
     Long getProcessorsCount(String bridgeId, String customerId);
 
     ListResult<Processor> getProcessors(String bridgeId, String customerId, QueryInfo queryInfo);
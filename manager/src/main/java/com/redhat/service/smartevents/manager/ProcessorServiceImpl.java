@@ -1,15 +1,21 @@
 package com.redhat.service.smartevents.manager;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.transaction.Transactional;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +43,7 @@ import com.redhat.service.smartevents.manager.models.Bridge;
 import com.redhat.service.smartevents.manager.models.Processor;
 import com.redhat.service.smartevents.manager.providers.InternalKafkaConfigurationProvider;
 import com.redhat.service.smartevents.manager.providers.ResourceNamesProvider;
+import com.redhat.service.smartevents.manager.utils.VersionedCache;
 import com.redhat.service.smartevents.manager.workers.WorkManager;
 import com.redhat.service.smartevents.processor.actions.ActionConfigurator;
 
@@ -72,12 +79,24 @@ public class ProcessorServiceImpl implements ProcessorService {
     @Inject
     ResourceNamesProvider resourceNamesProvider;
 
-    @Inject
-    ShardService shardService;
-
     @Inject
     WorkManager workManager;
 
+    @ConfigProperty(name = "event-bridge.processors.cache.max-size", defaultValue = "10000")
+    int cacheMaxSize;
+
+    // The shards poll the Processors and the users list them far more often than they change
+    private VersionedCache<Processor, ProcessorDefinition> definitions;
+    private VersionedCache<Processor, ProcessorDTO> dtos;
+    private VersionedCache<Processor, ProcessorResponse> responses;
+
+    @PostConstruct
+    void init() {
+        definitions = new VersionedCache<>("processor-definitions", cacheMaxSize, meterRegistry);
+        dtos = new VersionedCache<>("processor-dtos", cacheMaxSize, meterRegistry);
+        responses = new VersionedCache<>("processor-responses", cacheMaxSize, meterRegistry);
+    }
+
     @Transactional
     @Override
     public Processor getProcessor(String bridgeId, String processorId, String customerId) {
@@ -116,7 +135,8 @@ public class ProcessorServiceImpl implements ProcessorService {
         newProcessor.setSubmittedAt(ZonedDateTime.now());
         newProcessor.setStatus(ManagedResourceStatus.ACCEPTED);
         newProcessor.setBridge(bridge);
-        newProcessor.setShardId(shardService.getAssignedShardId(newProcessor.getId()));
+        // The Processors are deployed next to their Bridge
+        newProcessor.setShardId(bridge.getShardId());
 
         ProcessorDefinition definition = new ProcessorDefinition(requestedFilters, requestedTransformationTemplate, requestedAction, resolvedAction);
         newProcessor.setDefinition(definitionToJsonNode(definition));
@@ -188,20 +208,59 @@ public class ProcessorServiceImpl implements ProcessorService {
         return processorDAO.findByShardIdWithReadyDependencies(shardId);
     }
 
+    @Transactional
+    @Override
+    public List<Processor> findByShardIdWithReadyDependenciesChangedSince(String shardId, long since, long until) {
+        return processorDAO.findByShardIdWithReadyDependenciesChangedSince(shardId, since, until);
+    }
+
+    @Transactional
+    @Override
+    public long getChangeWatermark() {
+        return processorDAO.findChangeWatermark();
+    }
+
     @Transactional
     @Override
     public Processor updateProcessorStatus(ProcessorDTO processorDTO) {
         Bridge bridge = bridgesService.getBridge(processorDTO.getBridgeId());
         Processor p = processorDAO.findById(processorDTO.getId());
         if (p == null) {
-            throw new ItemNotFoundException(String.format("Processor with id '%s' does not exist for Bridge '%s' for customer '%s'", bridge.getId(), bridge.getCustomerId(),
-                    processorDTO.getCustomerId()));
+            throw new ItemNotFoundException(String.format("Processor with id '%s' does not exist for Bridge '%s' for customer '%s'", processorDTO.getId(), bridge.getId(),
+                    bridge.getCustomerId()));
         }
+        return updateProcessorStatus(p, processorDTO);
+    }
+
+    @Transactional
+    @Override
+    public List<Processor> updateProcessorsStatus(List<ProcessorDTO> processorDTOs) {
+        Map<String, Processor> processors = processorDAO.findByIds(processorDTOs.stream().map(ProcessorDTO::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Processor::getId, Function.identity()));
+        List<Processor> updated = new ArrayList<>(processorDTOs.size());
+        for (ProcessorDTO processorDTO : processorDTOs) {
+            Processor p = processors.get(processorDTO.getId());
+            // The Processor must exist on the Bridge and for the customer of the update. An unknown one does not fail the other updates
+            if (p == null || !p.getBridge().getId().equals(processorDTO.getBridgeId()) || !p.getBridge().getCustomerId().equals(processorDTO.getCustomerId())) {
+                LOGGER.warn("Processor with id '{}' does not exist for Bridge '{}' for customer '{}'. Its update to status '{}' is skipped.", processorDTO.getId(),
+                        processorDTO.getBridgeId(), processorDTO.getCustomerId(), processorDTO.getStatus());
+                continue;
+            }
+            updated.add(updateProcessorStatus(p, processorDTO));
+        }
+        return updated;
+    }
+
+    private Processor updateProcessorStatus(Processor p, ProcessorDTO processorDTO) {
         p.setStatus(processorDTO.getStatus());
         p.setModifiedAt(ZonedDateTime.now());
 
         if (processorDTO.getStatus().equals(ManagedResourceStatus.DELETED)) {
             processorDAO.deleteById(processorDTO.getId());
+            definitions.invalidate(processorDTO.getId());
+            dtos.invalidate(processorDTO.getId());
+            responses.invalidate(processorDTO.getId());
         }
         if (processorDTO.getStatus().equals(ManagedResourceStatus.READY) && Objects.isNull(p.getPublishedAt())) {
             p.setPublishedAt(ZonedDateTime.now());
@@ -256,13 +315,18 @@ public class ProcessorServiceImpl implements ProcessorService {
 
     @Override
     public ProcessorDTO toDTO(Processor processor) {
-        ProcessorDefinition definition = processor.getDefinition() != null ? jsonNodeToDefinition(processor.getDefinition()) : null;
+        return dtos.get(processor, this::buildDTO);
+    }
+
+    private ProcessorDTO buildDTO(Processor processor) {
+        ProcessorDefinition definition = getDefinition(processor);
         KafkaConnectionDTO kafkaConnectionDTO = new KafkaConnectionDTO(
                 internalKafkaConfigurationProvider.getBootstrapServers(),
                 internalKafkaConfigurationProvider.getClientId(),
                 internalKafkaConfigurationProvider.getClientSecret(),
                 internalKafkaConfigurationProvider.getSecurityProtocol(),
-                resourceNamesProvider.getBridgeTopicName(processor.getBridge().getId()));
+                resourceNamesProvider.getBridgeTopicName(processor.getBridge().getId()),
+                resourceNamesProvider.getBridgeDeadLetterTopicName(processor.getBridge().getId()));
         return new ProcessorDTO(processor.getId(),
                 processor.getName(),
                 definition,
@@ -274,6 +338,10 @@ public class ProcessorServiceImpl implements ProcessorService {
 
     @Override
     public ProcessorResponse toResponse(Processor processor) {
+        return responses.get(processor, this::buildResponse);
+    }
+
+    private ProcessorResponse buildResponse(Processor processor) {
         ProcessorResponse processorResponse = new ProcessorResponse();
 
         processorResponse.setId(processor.getId());
@@ -282,8 +350,8 @@ public class ProcessorServiceImpl implements ProcessorService {
         processorResponse.setPublishedAt(processor.getPublishedAt());
         processorResponse.setSubmittedAt(processor.getSubmittedAt());
 
-        if (processor.getDefinition() != null) {
-            ProcessorDefinition definition = jsonNodeToDefinition(processor.getDefinition());
+        ProcessorDefinition definition = getDefinition(processor);
+        if (definition != null) {
             processorResponse.setFilters(definition.getFilters());
             processorResponse.setTransformationTemplate(definition.getTransformationTemplate());
             processorResponse.setAction(definition.getRequestedAction());
@@ -296,6 +364,10 @@ public class ProcessorServiceImpl implements ProcessorService {
         return processorResponse;
     }
 
+    private ProcessorDefinition getDefinition(Processor processor) {
+        return processor.getDefinition() != null ? definitions.get(processor, p -> jsonNodeToDefinition(p.getDefinition())) : null;
+    }
+
     JsonNode definitionToJsonNode(ProcessorDefinition definition) {
         return mapper.valueToTree(definition);
     }
@@ -3,9 +3,11 @@ package com.redhat.service.smartevents.manager;
 import com.openshift.cloud.api.kas.auth.models.Topic;
 import com.redhat.service.smartevents.rhoas.RhoasTopicAccessType;
 
+import io.smallrye.mutiny.Uni;
+
 public interface RhoasService {
 
-    Topic createTopicAndGrantAccessFor(String topicName, RhoasTopicAccessType accessType);
+    Uni<Topic> createTopicAndGrantAccessFor(String topicName, RhoasTopicAccessType accessType);
 
-    void deleteTopicAndRevokeAccessFor(String topicName, RhoasTopicAccessType accessType);
+    Uni<Void> deleteTopicAndRevokeAccessFor(String topicName, RhoasTopicAccessType accessType);
 }
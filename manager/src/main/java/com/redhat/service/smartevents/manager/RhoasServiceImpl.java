@@ -1,8 +1,9 @@
 package com.redhat.service.smartevents.manager;
 
 import java.time.Duration;
-import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
@@ -12,11 +13,18 @@ import com.openshift.cloud.api.kas.auth.models.NewTopicInput;
 import com.openshift.cloud.api.kas.auth.models.Topic;
 import com.openshift.cloud.api.kas.auth.models.TopicSettings;
 import com.redhat.service.smartevents.infra.exceptions.definitions.platform.InternalPlatformException;
+import com.redhat.service.smartevents.infra.utils.InFlightLimiter;
 import com.redhat.service.smartevents.rhoas.RhoasClient;
 import com.redhat.service.smartevents.rhoas.RhoasTopicAccessType;
 
 import io.smallrye.mutiny.TimeoutException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
+/**
+ * The calls to RHOAS do not block the caller: the returned {@link Uni} completes once RHOAS answered, or failed after the retries,
+ * or the timeout is reached. At most {@code rhoas.max-concurrent-calls} calls are in flight at the same time, the others wait for their turn.
+ */
 @ApplicationScoped
 public class RhoasServiceImpl implements RhoasService {
 
@@ -35,36 +43,42 @@ public class RhoasServiceImpl implements RhoasService {
     @ConfigProperty(name = "rhoas.ops-account.client-id")
     String rhoasOpsAccountClientId;
 
+    @ConfigProperty(name = "rhoas.max-concurrent-calls", defaultValue = "50")
+    int rhoasMaxConcurrentCalls;
+
     @Inject
     RhoasClient rhoasClient;
 
+    private InFlightLimiter limiter;
+
+    @PostConstruct
+    void init() {
+        limiter = new InFlightLimiter(rhoasMaxConcurrentCalls);
+    }
+
     @Override
-    public Topic createTopicAndGrantAccessFor(String topicName, RhoasTopicAccessType accessType) {
-        try {
-            NewTopicInput newTopicInput = new NewTopicInput()
-                    .name(topicName)
-                    .settings(new TopicSettings().numPartitions(1));
-            return rhoasClient.createTopicAndGrantAccess(newTopicInput, rhoasOpsAccountClientId, accessType)
-                    .onFailure().retry().withJitter(rhoasJitter).withBackOff(Duration.parse(rhoasBackoff)).atMost(rhoasMaxRetries)
-                    .await().atMost(Duration.ofSeconds(rhoasTimeout));
-        } catch (CompletionException e) {
-            throw new InternalPlatformException(createFailureErrorMessageFor(topicName), e);
-        } catch (TimeoutException e) {
-            throw new InternalPlatformException(createTimeoutErrorMessageFor(topicName), e);
-        }
+    public Uni<Topic> createTopicAndGrantAccessFor(String topicName, RhoasTopicAccessType accessType) {
+        NewTopicInput newTopicInput = new NewTopicInput()
+                .name(topicName)
+                .settings(new TopicSettings().numPartitions(1));
+        return withRetriesAndTimeout(() -> rhoasClient.createTopicAndGrantAccess(newTopicInput, rhoasOpsAccountClientId, accessType),
+                createFailureErrorMessageFor(topicName), createTimeoutErrorMessageFor(topicName));
     }
 
     @Override
-    public void deleteTopicAndRevokeAccessFor(String topicName, RhoasTopicAccessType accessType) {
-        try {
-            rhoasClient.deleteTopicAndRevokeAccess(topicName, rhoasOpsAccountClientId, accessType)
-                    .onFailure().retry().withJitter(rhoasJitter).withBackOff(Duration.parse(rhoasBackoff)).atMost(rhoasMaxRetries)
-                    .await().atMost(Duration.ofSeconds(rhoasTimeout));
-        } catch (CompletionException e) {
-            throw new InternalPlatformException(deleteFailureErrorMessageFor(topicName), e);
-        } catch (TimeoutException e) {
-            throw new InternalPlatformException(deleteTimeoutErrorMessageFor(topicName), e);
-        }
+    public Uni<Void> deleteTopicAndRevokeAccessFor(String topicName, RhoasTopicAccessType accessType) {
+        return withRetriesAndTimeout(() -> rhoasClient.deleteTopicAndRevokeAccess(topicName, rhoasOpsAccountClientId, accessType),
+                deleteFailureErrorMessageFor(topicName), deleteTimeoutErrorMessageFor(topicName));
+    }
+
+    private <T> Uni<T> withRetriesAndTimeout(Supplier<Uni<T>> call, String failureMessage, String timeoutMessage) {
+        return limiter.limit(() -> call.get()
+                .onFailure().retry().withJitter(rhoasJitter).withBackOff(Duration.parse(rhoasBackoff)).atMost(rhoasMaxRetries)
+                .ifNoItem().after(Duration.ofSeconds(rhoasTimeout)).fail())
+                // The callers go on with database accesses, that must not run on the event loop
+                .emitOn(Infrastructure.getDefaultWorkerPool())
+                .onFailure(TimeoutException.class).transform(e -> new InternalPlatformException(timeoutMessage, e))
+                .onFailure(e -> !(e instanceof InternalPlatformException)).transform(e -> new InternalPlatformException(failureMessage, e));
     }
 
     public static String createFailureErrorMessageFor(String topicName) {
@@ -0,0 +1,125 @@
+package com.redhat.service.smartevents.manager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.redhat.service.smartevents.manager.dao.ShardChangesDAO;
+
+import io.quarkus.scheduler.Scheduled;
+
+/**
+ * Wakes up the shards waiting for changes as soon as the Bridges and Processors they have to deploy or delete change,
+ * so that they do not have to poll the manager.
+ * The version is shared by all the instances of the manager: the instance where a change happens wakes up its own waiting
+ * shards right away, and the other instances check the version every check interval while shards are waiting on them.
+ */
+@ApplicationScoped
+public class ShardChangesNotifier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardChangesNotifier.class);
+
+    /**
+     * The waiting shards, with the version they wait with.
+     */
+    private final Map<CompletableFuture<String>, String> waiters = new ConcurrentHashMap<>();
+
+    @ConfigProperty(name = "event-bridge.shard.changes.timeout", defaultValue = "25s")
+    Duration timeout;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @Inject
+    ShardChangesDAO shardChangesDAO;
+
+    public String currentVersion() {
+        return String.valueOf(shardChangesDAO.getVersion());
+    }
+
+    /**
+     * @return the current version if it is not the given one, or else the version after the next change. The given version
+     *         when no change happens before the timeout.
+     */
+    public CompletionStage<String> awaitChange(String sinceVersion) {
+        String current = currentVersion();
+        if (sinceVersion == null || !sinceVersion.equals(current)) {
+            return CompletableFuture.completedFuture(current);
+        }
+
+        CompletableFuture<String> waiter = new CompletableFuture<>();
+        waiters.put(waiter, sinceVersion);
+        return waiter.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(t -> sinceVersion)
+                .whenComplete((v, t) -> waiters.remove(waiter));
+    }
+
+    /**
+     * Notifies the waiting shards once the current transaction commits, so that they see the changes when they fetch them.
+     * Without a transaction, they are notified right away.
+     */
+    public void notifyChangesAfterCommit() {
+        if (transactionSynchronizationRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            notifyChanges();
+            return;
+        }
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // Nothing to do before the commit
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    notifyChanges();
+                }
+            }
+        });
+    }
+
+    public void notifyChanges() {
+        wakeUp(String.valueOf(shardChangesDAO.incrementVersion()));
+    }
+
+    /**
+     * Wakes up the shards waiting on this instance for the changes made on the other instances.
+     * The waiters registered between the check and a change are woken up by the next check, or by the change itself.
+     */
+    @Scheduled(every = "{event-bridge.shard.changes.check-interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void checkChanges() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        try {
+            wakeUp(currentVersion());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to check the version of the shard changes", e);
+        }
+    }
+
+    private void wakeUp(String version) {
+        waiters.forEach((waiter, sinceVersion) -> {
+            if (!sinceVersion.equals(version)) {
+                waiter.complete(version);
+            }
+        });
+    }
+
+    int getWaitersCount() {
+        return waiters.size();
+    }
+}
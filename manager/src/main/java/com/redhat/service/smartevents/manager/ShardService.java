@@ -2,10 +2,18 @@ package com.redhat.service.smartevents.manager;
 
 public interface ShardService {
 
-    String getAssignedShardId(String id);
+    /**
+     * @return the id of the shard where a new Bridge of the customer is deployed. The Processors of a Bridge are deployed on its shard.
+     */
+    String getAssignedShardId(String customerId);
 
     boolean isAuthorizedShard(String shardId);
 
+    /**
+     * Moves the Bridges that are not deployed yet off the shards that host more resources than their capacity.
+     */
+    void rebalance();
+
     /**
      * TODO: Shard-admin api to be implemented.
      * void addShard();
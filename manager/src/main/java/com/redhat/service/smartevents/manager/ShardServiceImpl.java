@@ -1,53 +1,233 @@
 package com.redhat.service.smartevents.manager;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import javax.transaction.Transactional;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.SessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.redhat.service.smartevents.manager.dao.BridgeDAO;
 import com.redhat.service.smartevents.manager.dao.ShardDAO;
+import com.redhat.service.smartevents.manager.models.Bridge;
 import com.redhat.service.smartevents.manager.models.Shard;
 import com.redhat.service.smartevents.manager.models.ShardType;
 
+import io.quarkus.scheduler.Scheduled;
+
+/**
+ * Places the Bridges on the 'TRADITIONAL' shards with a consistent hash of the customer id, so that the Bridges of a customer
+ * stay together and adding a shard only moves the placement of a share of the customers.
+ * Every shard owns a number of points of the ring proportional to its capacity. A shard that already hosts as many resources
+ * as its capacity is skipped, and the next shard on the ring is used instead.
+ */
 @ApplicationScoped
 public class ShardServiceImpl implements ShardService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ShardServiceImpl.class);
 
-    private Set<String> shards;
-
     @Inject
     ShardDAO shardDAO;
 
+    @Inject
+    BridgeDAO bridgeDAO;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @ConfigProperty(name = "event-bridge.shards.placement.capacity-per-virtual-node", defaultValue = "10")
+    int capacityPerVirtualNode;
+
+    @ConfigProperty(name = "event-bridge.shards.rebalance.batch-size", defaultValue = "50")
+    int rebalanceBatchSize;
+
+    @ConfigProperty(name = "event-bridge.shards.unknown-shard-expiry", defaultValue = "5s")
+    Duration unknownShardExpiry;
+
+    private volatile Set<String> authorizedShards = ConcurrentHashMap.newKeySet();
+
+    // The ids that are not shards, with the nano time until which they are refused without querying the database
+    private final Map<String, Long> unknownShards = new ConcurrentHashMap<>();
+
+    private volatile Ring ring;
+
     @PostConstruct
     public void init() {
-        /*
-         * Fetch the list of authorized shards at startup.
-         * This needs to be changed when admin api will include the CRUD of a shard at runtime.
-         */
-        shards = shardDAO.listAll().stream().map(Shard::getId).collect(Collectors.toSet());
+        refreshAuthorizedShards();
+    }
+
+    /**
+     * Shards registered after the last refresh are authorized on their first request, see {@link #isAuthorizedShard(String)}.
+     * The refresh revokes the shards that were removed, and forgets the unknown ids.
+     * The shards are managed directly in the database, so the refresh also evicts them from the second-level cache of Hibernate.
+     */
+    @Scheduled(every = "{event-bridge.shards.refresh-interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void refreshAuthorizedShards() {
+        sessionFactory.getCache().evict(Shard.class);
+        sessionFactory.getCache().evictQueryRegions();
+
+        Set<String> shards = ConcurrentHashMap.newKeySet();
+        shardDAO.listAll().forEach(s -> shards.add(s.getId()));
+        authorizedShards = shards;
+        unknownShards.clear();
     }
 
     @Override
-    public String getAssignedShardId(String id) {
+    @Transactional
+    public String getAssignedShardId(String customerId) {
         List<Shard> shards = shardDAO.findByType(ShardType.TRADITIONAL);
-
-        // add the assignment logic here
-        if (shards.size() != 1) {
-            LOGGER.error("The number of 'TRADITIONAL' shards is not equal to 1. This situation is not supported yet. Using the first in the list.");
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("There are no 'TRADITIONAL' shards.");
         }
-
-        return shards.get(0).getId();
+        Map<String, Long> counts = shardDAO.countResourcesByShardId();
+        return findShardWithRoom(customerId, shards, counts, null).orElseGet(() -> {
+            Shard leastLoaded = shards.stream().min(Comparator.comparingDouble(s -> getLoad(s, counts))).get();
+            LOGGER.warn("All the 'TRADITIONAL' shards are full. Using the least loaded shard '{}' for customer '{}'.", leastLoaded.getId(), customerId);
+            return leastLoaded.getId();
+        });
     }
 
     @Override
     public boolean isAuthorizedShard(String shardId) {
-        return shards.contains(shardId);
+        if (authorizedShards.contains(shardId)) {
+            return true;
+        }
+        // An unknown id is looked up in the database at most once per expiry, instead of on every request it sends
+        Long refusedUntil = unknownShards.get(shardId);
+        if (refusedUntil != null && System.nanoTime() - refusedUntil < 0) {
+            return false;
+        }
+        if (shardDAO.findById(shardId) == null) {
+            unknownShards.put(shardId, System.nanoTime() + unknownShardExpiry.toNanos());
+            return false;
+        }
+        unknownShards.remove(shardId);
+        authorizedShards.add(shardId);
+        return true;
+    }
+
+    /**
+     * Moves Bridges off the shards that host more resources than their capacity, for instance because their capacity was lowered.
+     * Only the Bridges that the shard can not see yet are moved: moving a deployed Bridge would leave its resources behind on the shard.
+     */
+    @Override
+    @Transactional
+    @Scheduled(every = "{event-bridge.shards.rebalance.interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public void rebalance() {
+        List<Shard> shards = shardDAO.findByType(ShardType.TRADITIONAL);
+        Map<String, Long> counts = shardDAO.countResourcesByShardId();
+        for (Shard shard : shards) {
+            long excess = counts.getOrDefault(shard.getId(), 0L) - shard.getCapacity();
+            if (excess <= 0) {
+                continue;
+            }
+            List<Bridge> bridges = bridgeDAO.findNotVisibleToShardByShardId(shard.getId(), (int) Math.min(excess, rebalanceBatchSize));
+            for (Bridge bridge : bridges) {
+                Optional<String> target = findShardWithRoom(bridge.getCustomerId(), shards, counts, shard.getId());
+                if (target.isEmpty()) {
+                    LOGGER.warn("Shard '{}' is overloaded but all the other 'TRADITIONAL' shards are full.", shard.getId());
+                    break;
+                }
+                if (bridgeDAO.moveToShard(bridge.getId(), shard.getId(), target.get())) {
+                    counts.merge(shard.getId(), -1L, Long::sum);
+                    counts.merge(target.get(), 1L, Long::sum);
+                    LOGGER.info("Bridge with id '{}' has been moved from overloaded shard '{}' to shard '{}'", bridge.getId(), shard.getId(), target.get());
+                }
+            }
+        }
+    }
+
+    private Optional<String> findShardWithRoom(String customerId, List<Shard> shards, Map<String, Long> counts, String excludedShardId) {
+        Map<String, Shard> shardsById = shards.stream().collect(Collectors.toMap(Shard::getId, s -> s));
+        for (String shardId : getRing(shards).walk(customerId)) {
+            if (!shardId.equals(excludedShardId) && getLoad(shardsById.get(shardId), counts) < 1) {
+                return Optional.of(shardId);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Ring getRing(List<Shard> shards) {
+        Map<String, Integer> capacities = shards.stream().collect(Collectors.toMap(Shard::getId, Shard::getCapacity));
+        Ring current = ring;
+        if (current == null || !current.capacities.equals(capacities)) {
+            current = new Ring(capacities, capacityPerVirtualNode);
+            ring = current;
+        }
+        return current;
+    }
+
+    private static double getLoad(Shard shard, Map<String, Long> counts) {
+        return (double) counts.getOrDefault(shard.getId(), 0L) / Math.max(1, shard.getCapacity());
+    }
+
+    static final class Ring {
+
+        private final Map<String, Integer> capacities;
+
+        private final NavigableMap<Long, String> nodes = new TreeMap<>();
+
+        Ring(Map<String, Integer> capacities, int capacityPerVirtualNode) {
+            this.capacities = capacities;
+            capacities.forEach((shardId, capacity) -> {
+                int virtualNodes = Math.max(1, capacity / capacityPerVirtualNode);
+                for (int i = 0; i < virtualNodes; i++) {
+                    nodes.put(hash(shardId + "#" + i), shardId);
+                }
+            });
+        }
+
+        /**
+         * @return the shard ids, in the order of the ring starting from the position of the key.
+         */
+        List<String> walk(String key) {
+            Set<String> order = new LinkedHashSet<>();
+            long position = hash(key);
+            for (String shardId : nodes.tailMap(position, true).values()) {
+                order.add(shardId);
+                if (order.size() == capacities.size()) {
+                    return new ArrayList<>(order);
+                }
+            }
+            for (String shardId : nodes.headMap(position, false).values()) {
+                order.add(shardId);
+                if (order.size() == capacities.size()) {
+                    break;
+                }
+            }
+            return new ArrayList<>(order);
+        }
+
+        private static long hash(String key) {
+            try {
+                byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+                long hash = 0;
+                for (int i = 0; i < 8; i++) {
+                    hash = (hash << 8) | (digest[i] & 0xFF);
+                }
+                return hash;
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
     }
 }
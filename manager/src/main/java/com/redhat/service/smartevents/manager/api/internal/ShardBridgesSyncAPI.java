@@ -1,13 +1,17 @@
 package com.redhat.service.smartevents.manager.api.internal;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -31,8 +35,12 @@ import com.redhat.service.smartevents.infra.auth.IdentityResolver;
 import com.redhat.service.smartevents.infra.exceptions.definitions.user.ForbiddenRequestException;
 import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.models.dto.ResourcesDeltaDTO;
+import com.redhat.service.smartevents.infra.models.dto.ShardChangesDTO;
+import com.redhat.service.smartevents.infra.models.dto.StatusUpdateResultDTO;
 import com.redhat.service.smartevents.manager.BridgesService;
 import com.redhat.service.smartevents.manager.ProcessorService;
+import com.redhat.service.smartevents.manager.ShardChangesNotifier;
 import com.redhat.service.smartevents.manager.ShardService;
 import com.redhat.service.smartevents.manager.models.Bridge;
 import com.redhat.service.smartevents.manager.models.Processor;
@@ -40,6 +48,7 @@ import com.redhat.service.smartevents.manager.models.Processor;
 import io.quarkus.security.Authenticated;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 @Tag(name = "Shard", description = "The API that allow a shard to retrieve and update resources.")
 @SecuritySchemes(value = {
@@ -65,6 +74,9 @@ public class ShardBridgesSyncAPI {
     @Inject
     ShardService shardService;
 
+    @Inject
+    ShardChangesNotifier shardChangesNotifier;
+
     @Inject
     IdentityResolver identityResolver;
 
@@ -117,6 +129,52 @@ public class ShardBridgesSyncAPI {
                 .build();
     }
 
+    @APIResponses(value = {
+            @APIResponse(description = "Success.", responseCode = "200",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(type = SchemaType.ARRAY, implementation = StatusUpdateResultDTO.class))),
+            @APIResponse(description = "Bad request.", responseCode = "400", content = @Content(mediaType = MediaType.APPLICATION_JSON)),
+            @APIResponse(description = "Unauthorized.", responseCode = "401"),
+            @APIResponse(description = "Forbidden.", responseCode = "403"),
+            @APIResponse(description = "Internal error.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON))
+    })
+    @Operation(summary = "Update several Processors.",
+            description = "Update the status of several Processors in a single transaction. The updates of the Processors that do not exist are skipped, and reported as not updated.")
+    @PUT
+    @Path("processors/batch")
+    public Response updateProcessorsStatus(List<ProcessorDTO> processorDTOs) {
+        String shardId = identityResolver.resolve(jwt);
+        failIfNotAuthorized(shardId);
+        LOGGER.info("Processing update from shard for {} Processor(s)", processorDTOs.size());
+        Set<String> updated = processorService.updateProcessorsStatus(processorDTOs).stream().map(Processor::getId).collect(toSet());
+        return Response.ok(toResults(processorDTOs.stream().map(ProcessorDTO::getId).collect(toList()), updated)).build();
+    }
+
+    @APIResponses(value = {
+            @APIResponse(description = "Success.", responseCode = "200",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = ResourcesDeltaDTO.class))),
+            @APIResponse(description = "Bad request.", responseCode = "400", content = @Content(mediaType = MediaType.APPLICATION_JSON)),
+            @APIResponse(description = "Unauthorized.", responseCode = "401"),
+            @APIResponse(description = "Forbidden.", responseCode = "403"),
+            @APIResponse(description = "Internal error.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON))
+    })
+    @Operation(summary = "Get the Processors to be processed by a shard that changed since a watermark.",
+            description = "Get the Processors to be processed by a shard that changed since the watermark returned by the previous call, or all of them for the watermark 0.")
+    @GET
+    @Path("processors/delta")
+    public Response getProcessorsDelta(@QueryParam("since") @DefaultValue("0") long since) {
+        String shardId = identityResolver.resolve(jwt);
+        failIfNotAuthorized(shardId);
+        // Only the changes up to the watermark are returned: above it, a transaction still running may commit a change under the ones already visible
+        long watermark = Math.max(since, processorService.getChangeWatermark());
+        List<Processor> processorToDeployOrDelete = processorService.findByShardIdWithReadyDependenciesChangedSince(shardId, since, watermark);
+        LOGGER.debug("Found {} processor(s) to deploy or delete changed since {}", processorToDeployOrDelete.size(), since);
+        return Response.ok(new ResourcesDeltaDTO<>(processorToDeployOrDelete
+                .stream()
+                .map(processorService::toDTO)
+                .collect(toList()), watermark))
+                .build();
+    }
+
     @APIResponses(value = {
             @APIResponse(description = "Success.", responseCode = "200",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(type = SchemaType.ARRAY, implementation = BridgeDTO.class))),
@@ -140,6 +198,32 @@ public class ShardBridgesSyncAPI {
                 .build();
     }
 
+    @APIResponses(value = {
+            @APIResponse(description = "Success.", responseCode = "200",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = ResourcesDeltaDTO.class))),
+            @APIResponse(description = "Bad request.", responseCode = "400", content = @Content(mediaType = MediaType.APPLICATION_JSON)),
+            @APIResponse(description = "Unauthorized.", responseCode = "401"),
+            @APIResponse(description = "Forbidden.", responseCode = "403"),
+            @APIResponse(description = "Internal error.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON))
+    })
+    @Operation(summary = "Get the Bridge instances to be processed by a shard that changed since a watermark.",
+            description = "Get the Bridge instances to be processed by a shard that changed since the watermark returned by the previous call, or all of them for the watermark 0.")
+    @GET
+    @Path("delta")
+    public Response getBridgesDelta(@QueryParam("since") @DefaultValue("0") long since) {
+        String shardId = identityResolver.resolve(jwt);
+        failIfNotAuthorized(shardId);
+        // Only the changes up to the watermark are returned: above it, a transaction still running may commit a change under the ones already visible
+        long watermark = Math.max(since, bridgesService.getChangeWatermark());
+        List<Bridge> bridgesToDeployOrDelete = bridgesService.findByShardIdWithReadyDependenciesChangedSince(shardId, since, watermark);
+        LOGGER.debug("Found {} bridge(s) to deploy or delete changed since {}", bridgesToDeployOrDelete.size(), since);
+        return Response.ok(new ResourcesDeltaDTO<>(bridgesToDeployOrDelete
+                .stream()
+                .map(bridgesService::toDTO)
+                .collect(toList()), watermark))
+                .build();
+    }
+
     @APIResponses(value = {
             @APIResponse(description = "Success.", responseCode = "200"),
             @APIResponse(description = "Bad request.", responseCode = "400", content = @Content(mediaType = MediaType.APPLICATION_JSON)),
@@ -157,6 +241,49 @@ public class ShardBridgesSyncAPI {
         return Response.ok().build();
     }
 
+    @APIResponses(value = {
+            @APIResponse(description = "Success.", responseCode = "200",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(type = SchemaType.ARRAY, implementation = StatusUpdateResultDTO.class))),
+            @APIResponse(description = "Bad request.", responseCode = "400", content = @Content(mediaType = MediaType.APPLICATION_JSON)),
+            @APIResponse(description = "Unauthorized.", responseCode = "401"),
+            @APIResponse(description = "Forbidden.", responseCode = "403"),
+            @APIResponse(description = "Internal error.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON))
+    })
+    @Operation(summary = "Update several Bridge instances.",
+            description = "Update several Bridge instances in a single transaction. The updates of the Bridges that do not exist are skipped, and reported as not updated.")
+    @PUT
+    @Path("batch")
+    public Response updateBridges(List<BridgeDTO> dtos) {
+        String subject = identityResolver.resolve(jwt);
+        failIfNotAuthorized(subject);
+        LOGGER.info("Shard wants to update {} Bridge(s)", dtos.size());
+        Set<String> updated = bridgesService.updateBridges(dtos).stream().map(Bridge::getId).collect(toSet());
+        return Response.ok(toResults(dtos.stream().map(BridgeDTO::getId).collect(toList()), updated)).build();
+    }
+
+    @APIResponses(value = {
+            @APIResponse(description = "Success.", responseCode = "200",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = ShardChangesDTO.class))),
+            @APIResponse(description = "Unauthorized.", responseCode = "401"),
+            @APIResponse(description = "Forbidden.", responseCode = "403"),
+            @APIResponse(description = "Internal error.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON))
+    })
+    @Operation(summary = "Wait for changes of the resources to be processed by a shard.",
+            description = "Returns as soon as the Bridges or Processors to deploy or delete may have changed since the given version, or after a timeout with the same version.")
+    @GET
+    @Path("changes")
+    public CompletionStage<Response> awaitChanges(@QueryParam("since") String sinceVersion) {
+        String shardId = identityResolver.resolve(jwt);
+        failIfNotAuthorized(shardId);
+        LOGGER.debug("Shard waits for changes since version '{}'", sinceVersion);
+        return shardChangesNotifier.awaitChange(sinceVersion)
+                .thenApply(version -> Response.ok(new ShardChangesDTO(version)).build());
+    }
+
+    private static List<StatusUpdateResultDTO> toResults(List<String> ids, Set<String> updated) {
+        return ids.stream().map(id -> new StatusUpdateResultDTO(id, updated.contains(id))).collect(toList());
+    }
+
     private void failIfNotAuthorized(String shardId) {
         if (!shardService.isAuthorizedShard(shardId)) {
             throw new ForbiddenRequestException(String.format("User '%s' is not authorized to access this api.", shardId));
@@ -1,6 +1,7 @@
 package com.redhat.service.smartevents.manager.api.models.requests;
 
 import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.PositiveOrZero;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.redhat.service.smartevents.manager.models.Bridge;
@@ -11,6 +12,20 @@ public class BridgeRequest {
     @JsonProperty("name")
     private String name;
 
+    /**
+     * Events per second each subject can send to the ingress of the Bridge. 0 disables the rate limit, the default of the shard applies when null.
+     */
+    @PositiveOrZero(message = "Bridge rate limit per second cannot be negative")
+    @JsonProperty("rate_limit_per_second")
+    private Integer rateLimitPerSecond;
+
+    /**
+     * Events each subject can send at once after being idle. The default of the shard applies when null.
+     */
+    @PositiveOrZero(message = "Bridge rate limit burst cannot be negative")
+    @JsonProperty("rate_limit_burst")
+    private Integer rateLimitBurst;
+
     public BridgeRequest() {
     }
 
@@ -18,11 +33,28 @@ public class BridgeRequest {
         this.name = name;
     }
 
+    public BridgeRequest(String name, Integer rateLimitPerSecond, Integer rateLimitBurst) {
+        this.name = name;
+        this.rateLimitPerSecond = rateLimitPerSecond;
+        this.rateLimitBurst = rateLimitBurst;
+    }
+
     public Bridge toEntity() {
-        return new Bridge(name);
+        Bridge bridge = new Bridge(name);
+        bridge.setRateLimitPerSecond(rateLimitPerSecond);
+        bridge.setRateLimitBurst(rateLimitBurst);
+        return bridge;
     }
 
     public String getName() {
         return name;
     }
+
+    public Integer getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public Integer getRateLimitBurst() {
+        return rateLimitBurst;
+    }
 }
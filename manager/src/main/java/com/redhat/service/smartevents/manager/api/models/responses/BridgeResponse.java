@@ -25,6 +25,12 @@ public class BridgeResponse extends BaseResponse {
     @JsonProperty("endpoint")
     private String endpoint;
 
+    @JsonProperty("rate_limit_per_second")
+    private Integer rateLimitPerSecond;
+
+    @JsonProperty("rate_limit_burst")
+    private Integer rateLimitBurst;
+
     public BridgeResponse() {
         super("Bridge");
     }
@@ -45,6 +51,14 @@ public class BridgeResponse extends BaseResponse {
         return endpoint;
     }
 
+    public Integer getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public Integer getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+
     public void setSubmittedAt(ZonedDateTime submittedAt) {
         this.submittedAt = submittedAt;
     }
@@ -60,4 +74,12 @@ public class BridgeResponse extends BaseResponse {
     public void setEndpoint(String endpoint) {
         this.endpoint = endpoint;
     }
+
+    public void setRateLimitPerSecond(Integer rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public void setRateLimitBurst(Integer rateLimitBurst) {
+        this.rateLimitBurst = rateLimitBurst;
+    }
 }
@@ -4,6 +4,8 @@ import com.openshift.cloud.api.connector.models.Connector;
 import com.openshift.cloud.api.connector.models.ConnectorRequest;
 import com.redhat.service.smartevents.manager.models.ConnectorEntity;
 
+import io.smallrye.mutiny.Uni;
+
 public interface ConnectorsApiClient {
 
     /**
@@ -12,12 +14,12 @@ public interface ConnectorsApiClient {
      * @param connectorExternalId The ID of the Managed Connector
      * @return The Managed Connector or null if not found.
      */
-    Connector getConnector(String connectorExternalId);
+    Uni<Connector> getConnector(String connectorExternalId);
 
-    Connector createConnector(ConnectorRequest connectorRequest);
+    Uni<Connector> createConnector(ConnectorRequest connectorRequest);
 
-    Connector createConnector(ConnectorEntity connectorEntity);
+    Uni<Connector> createConnector(ConnectorEntity connectorEntity);
 
-    void deleteConnector(String id);
+    Uni<Void> deleteConnector(String id);
 
 }
@@ -1,8 +1,10 @@
 package com.redhat.service.smartevents.manager.connectors;
 
+import java.util.function.Function;
 import java.util.function.Supplier;
 
-import javax.enterprise.context.RequestScoped;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.apache.http.HttpStatus;
@@ -14,7 +16,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.openshift.cloud.api.connector.ConnectorsApi;
 import com.openshift.cloud.api.connector.invoker.ApiClient;
 import com.openshift.cloud.api.connector.invoker.ApiException;
-import com.openshift.cloud.api.connector.invoker.Configuration;
 import com.openshift.cloud.api.connector.invoker.auth.HttpBearerAuth;
 import com.openshift.cloud.api.connector.models.Connector;
 import com.openshift.cloud.api.connector.models.ConnectorRequest;
@@ -24,9 +25,19 @@ import com.openshift.cloud.api.connector.models.ServiceAccount;
 import com.redhat.service.smartevents.infra.exceptions.definitions.platform.ConnectorCreationException;
 import com.redhat.service.smartevents.infra.exceptions.definitions.platform.ConnectorDeletionException;
 import com.redhat.service.smartevents.infra.exceptions.definitions.platform.ConnectorGetException;
+import com.redhat.service.smartevents.infra.utils.InFlightLimiter;
 import com.redhat.service.smartevents.manager.models.ConnectorEntity;
 
-@RequestScoped
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * The Managed Connectors SDK is blocking: its calls are made on the Vert.x worker pool, so that the callers are not blocked.
+ * A single {@link ApiClient}, and so a single pool of HTTP connections, is shared by all the calls, and at most
+ * {@code managed-connectors.max-concurrent-calls} calls are in flight at the same time.
+ */
+@ApplicationScoped
 public class ConnectorsApiClientImpl implements ConnectorsApiClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ConnectorsApiClientImpl.class);
@@ -48,50 +59,65 @@ public class ConnectorsApiClientImpl implements ConnectorsApiClient {
     @ConfigProperty(name = "managed-connectors.kafka.client.secret")
     String serviceAccountSecret;
 
+    @ConfigProperty(name = "managed-connectors.max-concurrent-calls", defaultValue = "50")
+    int maxConcurrentCalls;
+
     @Inject
     ConnectorsOidcClient connectorsAuth;
 
-    // The API is provided by a Supplier to (easily) support overriding it for Unit Tests
-    private Supplier<ConnectorsApi> apiSupplier = () -> {
-        ApiClient defaultClient = Configuration.getDefaultApiClient();
-        defaultClient.setBasePath(mcServicesBaseUrl);
+    @Inject
+    Vertx vertx;
 
-        HttpBearerAuth Bearer = (HttpBearerAuth) defaultClient.getAuthentication("Bearer");
-        Bearer.setBearerToken(connectorsAuth.getToken());
+    private InFlightLimiter limiter;
 
-        return new com.openshift.cloud.api.connector.ConnectorsApi(defaultClient);
-    };
+    // The API is provided by a Supplier to (easily) support overriding it for Unit Tests
+    private Supplier<ConnectorsApi> apiSupplier;
+
+    @PostConstruct
+    void init() {
+        limiter = new InFlightLimiter(maxConcurrentCalls);
+
+        ApiClient apiClient = new ApiClient();
+        apiClient.setBasePath(mcServicesBaseUrl);
+        HttpBearerAuth bearer = (HttpBearerAuth) apiClient.getAuthentication("Bearer");
+        ConnectorsApi connectorsApi = new ConnectorsApi(apiClient);
+        apiSupplier = () -> {
+            // The token is refreshed in the background: all the calls set the same, current, token
+            bearer.setBearerToken(connectorsAuth.getToken());
+            return connectorsApi;
+        };
+    }
 
     @Override
-    public Connector getConnector(String connectorExternalId) {
-        ConnectorsApi connectorsAPI = createConnectorsAPI();
-
-        try {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(String.format("Retrieving Connector with ID '%s'", connectorExternalId));
-            }
-            return connectorsAPI.getConnector(connectorExternalId);
-        } catch (ApiException e) {
-            if (e.getCode() == HttpStatus.SC_NOT_FOUND) {
-                return null;
+    public Uni<Connector> getConnector(String connectorExternalId) {
+        return call(connectorsAPI -> {
+            try {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(String.format("Retrieving Connector with ID '%s'", connectorExternalId));
+                }
+                return connectorsAPI.getConnector(connectorExternalId);
+            } catch (ApiException e) {
+                if (e.getCode() == HttpStatus.SC_NOT_FOUND) {
+                    return null;
+                }
+                throw new ConnectorGetException("Error while retrieving the connector on MC Fleet Manager", e);
             }
-            throw new ConnectorGetException("Error while retrieving the connector on MC Fleet Manager", e);
-        }
+        });
     }
 
     @Override
-    public Connector createConnector(ConnectorRequest connectorRequest) {
-        ConnectorsApi connectorsAPI = createConnectorsAPI();
-
-        try {
-            return connectorsAPI.createConnector(true, connectorRequest);
-        } catch (ApiException e) {
-            throw new ConnectorCreationException("Error while creating the connector on MC Fleet Manager", e);
-        }
+    public Uni<Connector> createConnector(ConnectorRequest connectorRequest) {
+        return call(connectorsAPI -> {
+            try {
+                return connectorsAPI.createConnector(true, connectorRequest);
+            } catch (ApiException e) {
+                throw new ConnectorCreationException("Error while creating the connector on MC Fleet Manager", e);
+            }
+        });
     }
 
     @Override
-    public Connector createConnector(ConnectorEntity connectorEntity) {
+    public Uni<Connector> createConnector(ConnectorEntity connectorEntity) {
         ConnectorRequest createConnectorRequest = new ConnectorRequest();
 
         String newConnectorName = connectorEntity.getName();
@@ -120,24 +146,27 @@ public class ConnectorsApiClientImpl implements ConnectorsApiClient {
     }
 
     @Override
-    public void deleteConnector(String id) {
-        ConnectorsApi connectorsAPI = createConnectorsAPI();
-
-        try {
-            Error error = connectorsAPI.deleteConnector(id);
-            if (error != null) {
-                throw new ConnectorDeletionException("Error while deleting the connector on MC Fleet Manager: " + error);
+    public Uni<Void> deleteConnector(String id) {
+        return call(connectorsAPI -> {
+            try {
+                Error error = connectorsAPI.deleteConnector(id);
+                if (error != null) {
+                    throw new ConnectorDeletionException("Error while deleting the connector on MC Fleet Manager: " + error);
+                }
+                return null;
+            } catch (ApiException e) {
+                throw new ConnectorDeletionException("Error while deleting the connector on MC Fleet Manager", e);
             }
-        } catch (ApiException e) {
-            throw new ConnectorDeletionException("Error while deleting the connector on MC Fleet Manager", e);
-        }
+        }).replaceWithVoid();
     }
 
     void setApiSupplier(Supplier<ConnectorsApi> apiSupplier) {
         this.apiSupplier = apiSupplier;
     }
 
-    private ConnectorsApi createConnectorsAPI() {
-        return apiSupplier.get();
+    private <T> Uni<T> call(Function<ConnectorsApi, T> call) {
+        // The calls are not ordered, so that they run concurrently on the worker pool, and so are their results
+        return limiter.limit(() -> vertx.executeBlocking(Uni.createFrom().item(() -> call.apply(apiSupplier.get())), false))
+                .emitOn(Infrastructure.getDefaultWorkerPool());
     }
 }
@@ -1,12 +1,16 @@
 package com.redhat.service.smartevents.manager.dao;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.persistence.TypedQuery;
 import javax.transaction.Transactional;
 
 import com.redhat.service.smartevents.infra.models.ListResult;
 import com.redhat.service.smartevents.infra.models.QueryInfo;
+import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
 import com.redhat.service.smartevents.manager.models.Bridge;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
@@ -22,6 +26,45 @@ public class BridgeDAO implements PanacheRepositoryBase<Bridge, String> {
         return find("#BRIDGE.findByShardIdWithReadyDependencies", params).list();
     }
 
+    public List<Bridge> findByShardIdWithReadyDependenciesChangedSince(String shardId, long since, long until) {
+        Parameters params = Parameters
+                .with("shardId", shardId).and("since", since).and("until", until);
+        return find("#BRIDGE.findByShardIdWithReadyDependenciesChangedSince", params).list();
+    }
+
+    /**
+     * The ids of the transactions below the oldest one still running are all committed or rolled back: no change can appear under
+     * the id just below it anymore, whatever the order the transactions commit in.
+     */
+    public long findChangeWatermark() {
+        Number xmin = (Number) getEntityManager().createNativeQuery("select txid_snapshot_xmin(txid_current_snapshot())").getSingleResult();
+        return xmin.longValue() - 1;
+    }
+
+    /**
+     * Finds the Bridges of the shard that the shard can not see yet, because their dependencies are not ready.
+     * The most recent come first, as they are the least advanced in their provisioning.
+     */
+    public List<Bridge> findNotVisibleToShardByShardId(String shardId, int limit) {
+        return find("#BRIDGE.findNotVisibleToShardByShardId", Parameters.with("shardId", shardId)).range(0, limit - 1).list();
+    }
+
+    /**
+     * Moves the Bridge to another shard, as long as it is still not visible to its current shard.
+     *
+     * @return false if the Bridge was moved already, or became visible to its current shard in the meantime.
+     */
+    public boolean moveToShard(String id, String from, String to) {
+        return update("#BRIDGE.moveToShard",
+                Parameters.with("id", id)
+                        .and("from", from)
+                        .and("to", to)) == 1;
+    }
+
+    public List<Bridge> findByIds(List<String> ids) {
+        return find("#BRIDGE.findByIds", Parameters.with("ids", ids)).list();
+    }
+
     public Bridge findByNameAndCustomerId(String name, String customerId) {
         Parameters params = Parameters
                 .with("name", name).and("customerId", customerId);
@@ -34,10 +77,41 @@ public class BridgeDAO implements PanacheRepositoryBase<Bridge, String> {
         return find("#BRIDGE.findByIdAndCustomerId", params).firstResult();
     }
 
+    /**
+     * Lists the Bridges of the customer, the most recent first, from the cursor of the {@link QueryInfo} if any, else from its page.
+     * The Bridges are built from a projection of the columns of the responses: they are not managed and must not be modified.
+     */
     public ListResult<Bridge> findByCustomerId(String customerId, QueryInfo queryInfo) {
-        Parameters parameters = Parameters.with("customerId", customerId);
-        long total = find("#BRIDGE.findByCustomerId", parameters).count();
-        List<Bridge> bridges = find("#BRIDGE.findByCustomerId", parameters).page(queryInfo.getPageNumber(), queryInfo.getPageSize()).list();
-        return new ListResult<>(bridges, queryInfo.getPageNumber(), total);
+        Long total = queryInfo.isCount()
+                ? getEntityManager().createNamedQuery("BRIDGE.countByCustomerId", Long.class).setParameter("customerId", customerId).getSingleResult()
+                : null;
+
+        TypedQuery<Object[]> query;
+        if (queryInfo.getCursor() == null) {
+            query = getEntityManager().createNamedQuery("BRIDGE.viewsByCustomerId", Object[].class)
+                    .setFirstResult(queryInfo.getPageNumber() * queryInfo.getPageSize());
+        } else {
+            PageCursor cursor = PageCursor.decode(queryInfo.getCursor());
+            query = getEntityManager().createNamedQuery("BRIDGE.viewsByCustomerIdBefore", Object[].class)
+                    .setParameter("submittedAt", cursor.getSubmittedAt())
+                    .setParameter("id", cursor.getId());
+        }
+        List<Bridge> bridges = query.setParameter("customerId", customerId)
+                .setMaxResults(queryInfo.getPageSize() + 1)
+                .getResultStream()
+                .map(row -> toView(row, customerId))
+                .collect(Collectors.toList());
+        return PageCursor.toListResult(bridges, queryInfo, total);
+    }
+
+    private static Bridge toView(Object[] row, String customerId) {
+        Bridge bridge = new Bridge((String) row[1]);
+        bridge.setId((String) row[0]);
+        bridge.setEndpoint((String) row[2]);
+        bridge.setStatus((ManagedResourceStatus) row[3]);
+        bridge.setSubmittedAt((ZonedDateTime) row[4]);
+        bridge.setPublishedAt((ZonedDateTime) row[5]);
+        bridge.setCustomerId(customerId);
+        return bridge;
     }
 }
@@ -0,0 +1,78 @@
+package com.redhat.service.smartevents.manager.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.BadRequestException;
+import com.redhat.service.smartevents.infra.models.ListResult;
+import com.redhat.service.smartevents.infra.models.QueryInfo;
+import com.redhat.service.smartevents.manager.models.ManagedResource;
+
+/**
+ * The position of a resource in a list sorted on the submission date then on the id of the resources.
+ * The clients get it as an opaque string and send it back to get the page that follows the resource, which is found
+ * with an index seek instead of skipping all the previous pages.
+ */
+public class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final ZonedDateTime submittedAt;
+
+    private final String id;
+
+    public PageCursor(ZonedDateTime submittedAt, String id) {
+        this.submittedAt = submittedAt;
+        this.id = id;
+    }
+
+    public static PageCursor of(ManagedResource resource) {
+        return new PageCursor(resource.getSubmittedAt(), resource.getId());
+    }
+
+    public static PageCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException(String.format("Cursor '%s' is not valid", cursor));
+            }
+            Instant submittedAt = Instant.parse(decoded.substring(0, separator));
+            return new PageCursor(ZonedDateTime.ofInstant(submittedAt, ZoneOffset.UTC), decoded.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(String.format("Cursor '%s' is not valid", cursor), e);
+        }
+    }
+
+    /**
+     * Builds the page from the result of a query that fetched one more item than the page size, to know if there is a next page
+     * without counting the items.
+     */
+    public static <T extends ManagedResource> ListResult<T> toListResult(List<T> items, QueryInfo queryInfo, Long total) {
+        int pageSize = queryInfo.getPageSize();
+        if (items.size() <= pageSize) {
+            return new ListResult<>(items, queryInfo.getPageNumber(), total);
+        }
+        List<T> page = new ArrayList<>(items.subList(0, pageSize));
+        return new ListResult<>(page, queryInfo.getPageNumber(), total, PageCursor.of(page.get(pageSize - 1)).encode());
+    }
+
+    public String encode() {
+        String decoded = submittedAt.toInstant().toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ZonedDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
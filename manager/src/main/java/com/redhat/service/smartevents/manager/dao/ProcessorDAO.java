@@ -1,13 +1,17 @@
 package com.redhat.service.smartevents.manager.dao;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.persistence.TypedQuery;
 import javax.transaction.Transactional;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.redhat.service.smartevents.infra.models.ListResult;
 import com.redhat.service.smartevents.infra.models.QueryInfo;
+import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
 import com.redhat.service.smartevents.manager.models.Bridge;
 import com.redhat.service.smartevents.manager.models.Processor;
 
@@ -15,8 +19,6 @@ import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import io.quarkus.panache.common.Parameters;
 
-import static java.util.Collections.emptyList;
-
 @ApplicationScoped
 @Transactional
 public class ProcessorDAO implements PanacheRepositoryBase<Processor, String> {
@@ -68,6 +70,20 @@ public class ProcessorDAO implements PanacheRepositoryBase<Processor, String> {
         return find("#PROCESSOR.findByShardIdWithReadyDependencies", p).list();
     }
 
+    public List<Processor> findByShardIdWithReadyDependenciesChangedSince(String shardId, long since, long until) {
+        Parameters p = Parameters
+                .with("shardId", shardId).and("since", since).and("until", until);
+        return find("#PROCESSOR.findByShardIdWithReadyDependenciesChangedSince", p).list();
+    }
+
+    /**
+     * @see BridgeDAO#findChangeWatermark()
+     */
+    public long findChangeWatermark() {
+        Number xmin = (Number) getEntityManager().createNativeQuery("select txid_snapshot_xmin(txid_current_snapshot())").getSingleResult();
+        return xmin.longValue() - 1;
+    }
+
     private Long countProcessorsOnBridge(Parameters params) {
         TypedQuery<Long> namedQuery = getEntityManager().createNamedQuery("PROCESSOR.countByBridgeIdAndCustomerId", Long.class);
         addParamsToNamedQuery(params, namedQuery);
@@ -78,31 +94,44 @@ public class ProcessorDAO implements PanacheRepositoryBase<Processor, String> {
         params.map().forEach((key, value) -> namedQuery.setParameter(key, value.toString()));
     }
 
+    /**
+     * Lists the Processors of the Bridge, the oldest first, from the cursor of the {@link QueryInfo} if any, else from its page.
+     * The Processors are built from a projection of the columns of the responses, without fetching their Bridge: they are not managed
+     * and must not be modified.
+     */
     public ListResult<Processor> findByBridgeIdAndCustomerId(String bridgeId, String customerId, QueryInfo queryInfo) {
-
-        /*
-         * Unfortunately we can't rely on Panaches in-built Paging due the fetched join in our query
-         * for Processor e.g. join fetch p.bridge. Instead, we simply build a list of ids to fetch and then
-         * execute the join fetch as normal. So the workflow here is:
-         *
-         * - Count the number of Processors on a bridge. If > 0
-         * - Select the ids of the Processors that need to be retrieved based on the page/size requirements
-         * - Select the Processors in the list of ids, performing the fetch join of the Bridge
-         */
-
         Parameters p = Parameters.with(Bridge.CUSTOMER_ID_PARAM, customerId).and(Processor.BRIDGE_ID_PARAM, bridgeId);
-        Long processorCount = countProcessorsOnBridge(p);
-        if (processorCount == 0L) {
-            return new ListResult<>(emptyList(), queryInfo.getPageNumber(), processorCount);
+        Long total = queryInfo.isCount() ? countProcessorsOnBridge(p) : null;
+
+        TypedQuery<Object[]> query;
+        if (queryInfo.getCursor() == null) {
+            query = getEntityManager().createNamedQuery("PROCESSOR.viewsByBridgeIdAndCustomerId", Object[].class)
+                    .setFirstResult(getFirstResult(queryInfo.getPageNumber(), queryInfo.getPageSize()));
+        } else {
+            PageCursor cursor = PageCursor.decode(queryInfo.getCursor());
+            query = getEntityManager().createNamedQuery("PROCESSOR.viewsByBridgeIdAndCustomerIdAfter", Object[].class)
+                    .setParameter("submittedAt", cursor.getSubmittedAt())
+                    .setParameter("id", cursor.getId());
         }
+        addParamsToNamedQuery(p, query);
+
+        Bridge bridge = new Bridge();
+        bridge.setId(bridgeId);
+        bridge.setCustomerId(customerId);
+        List<Processor> processors = query.setMaxResults(queryInfo.getPageSize() + 1)
+                .getResultStream()
+                .map(row -> toView(row, bridge))
+                .collect(Collectors.toList());
+        return PageCursor.toListResult(processors, queryInfo, total);
+    }
 
-        int firstResult = getFirstResult(queryInfo.getPageNumber(), queryInfo.getPageSize());
-        TypedQuery<String> idsQuery = getEntityManager().createNamedQuery("PROCESSOR.idsByBridgeIdAndCustomerId", String.class);
-        addParamsToNamedQuery(p, idsQuery);
-        List<String> ids = idsQuery.setMaxResults(queryInfo.getPageSize()).setFirstResult(firstResult).getResultList();
+    private static Processor toView(Object[] row, Bridge bridge) {
+        return Processor.view((String) row[0], (String) row[1], (ManagedResourceStatus) row[2], (ZonedDateTime) row[3], (ZonedDateTime) row[4], (JsonNode) row[5],
+                (Long) row[6], bridge);
+    }
 
-        List<Processor> processors = getEntityManager().createNamedQuery("PROCESSOR.findByIds", Processor.class).setParameter(IDS_PARAM, ids).getResultList();
-        return new ListResult<>(processors, queryInfo.getPageNumber(), processorCount);
+    public List<Processor> findByIds(List<String> ids) {
+        return getEntityManager().createNamedQuery("PROCESSOR.findByIds", Processor.class).setParameter(IDS_PARAM, ids).getResultList();
     }
 
     public Long countByBridgeIdAndCustomerId(String bridgeId, String customerId) {
@@ -0,0 +1,44 @@
+package com.redhat.service.smartevents.manager.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import com.redhat.service.smartevents.infra.exceptions.definitions.platform.InternalPlatformException;
+
+import io.agroal.api.AgroalDataSource;
+
+/**
+ * Reads and moves the version of the changes the shards wait for. The version is a database sequence: it is shared by all
+ * the instances of the manager, and it moves outside of any transaction, so that it can be moved once a change is committed.
+ */
+@ApplicationScoped
+public class ShardChangesDAO {
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    public long getVersion() {
+        // Until the first change, last_value is the start value that nextval returns next
+        return querySingleValue("select case when is_called then last_value else 0 end from SHARD_CHANGES_SEQUENCE");
+    }
+
+    public long incrementVersion() {
+        return querySingleValue("select nextval('SHARD_CHANGES_SEQUENCE')");
+    }
+
+    private long querySingleValue(String sql) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sql);
+                ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            throw new InternalPlatformException("Failed to read the version of the shard changes.", e);
+        }
+    }
+}
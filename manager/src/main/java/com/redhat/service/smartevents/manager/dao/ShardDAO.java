@@ -1,6 +1,8 @@
 package com.redhat.service.smartevents.manager.dao;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.transaction.Transactional;
@@ -19,4 +21,20 @@ public class ShardDAO implements PanacheRepositoryBase<Shard, String> {
         Parameters p = Parameters.with(Shard.TYPE_PARAM, type);
         return find("#SHARD.findByType", p).list();
     }
+
+    /**
+     * Counts the Bridges and the Processors assigned to each shard, whatever their status.
+     *
+     * @return the number of resources by shard id. The shards without any resource are not in the map.
+     */
+    public Map<String, Long> countResourcesByShardId() {
+        Map<String, Long> counts = new HashMap<>();
+        for (String query : List.of("SHARD.countBridges", "SHARD.countProcessors")) {
+            List<Object[]> rows = getEntityManager().createNamedQuery(query, Object[].class).getResultList();
+            for (Object[] row : rows) {
+                counts.merge((String) row[0], (Long) row[1], Long::sum);
+            }
+        }
+        return counts;
+    }
 }
@@ -24,10 +24,34 @@ public class WorkDAO implements PanacheRepositoryBase<Work, String> {
         return list("#Work.findByWorkerId", Parameters.with("workerId", workerId));
     }
 
-    public int reconnectDroppedWorkers(String workerId, ZonedDateTime lastUpdated) {
-        return update("#Work.reconnectDroppedWorkers",
-                Parameters.with("workerId", workerId)
-                        .and("now", ZonedDateTime.now())
-                        .and("age", lastUpdated));
+    /**
+     * Leases up to {@code limit} items of {@link Work} that are not leased, or whose lease expired, to the given worker.
+     * The lease is committed with the transaction: concurrent callers lease distinct items.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Work> lease(String workerId, ZonedDateTime now, ZonedDateTime leaseExpiresAt, int limit) {
+        List<Work> leased = getEntityManager().createNamedQuery("Work.findLeasable")
+                .setParameter("now", now)
+                .setParameter("limit", limit)
+                .getResultList();
+        for (Work w : leased) {
+            w.setWorkerId(workerId);
+            w.setLeaseExpiresAt(leaseExpiresAt);
+            w.setModifiedAt(now);
+        }
+        return leased;
+    }
+
+    /**
+     * Extends the lease of the {@link Work}, if it is still held by the given worker.
+     *
+     * @return false if the Work is complete, or leased by another worker.
+     */
+    public boolean renewLease(String workId, String workerId, ZonedDateTime leaseExpiresAt) {
+        return update("#Work.renewLease",
+                Parameters.with("id", workId)
+                        .and("workerId", workerId)
+                        .and("leaseExpiresAt", leaseExpiresAt)
+                        .and("now", ZonedDateTime.now())) == 1;
     }
 }
@@ -17,12 +17,36 @@ import javax.persistence.UniqueConstraint;
                         "  or " +
                         "  (status='DEPROVISION' and dependencyStatus='DELETED') " +
                         ")"),
+        @NamedQuery(name = "BRIDGE.findByShardIdWithReadyDependenciesChangedSince",
+                query = "from Bridge where shard_id=:shardId and changeSequence > :since and changeSequence <= :until and " +
+                        "( " +
+                        "  (status='ACCEPTED' and dependencyStatus='READY') " +
+                        "  or " +
+                        "  (status='DEPROVISION' and dependencyStatus='DELETED') " +
+                        ")"),
+        @NamedQuery(name = "BRIDGE.findNotVisibleToShardByShardId",
+                query = "from Bridge where shardId=:shardId and status='ACCEPTED' and " +
+                        "(dependencyStatus is null or dependencyStatus<>'READY') " +
+                        "order by submitted_at desc"),
+        // Versioned, so that a worker merging a Bridge it loaded before the move fails instead of moving it back
+        @NamedQuery(name = "BRIDGE.moveToShard",
+                query = "update versioned Bridge set shardId=:to where id=:id and shardId=:from and status='ACCEPTED' and " +
+                        "(dependencyStatus is null or dependencyStatus<>'READY')"),
         @NamedQuery(name = "BRIDGE.findByNameAndCustomerId",
                 query = "from Bridge where name=:name and customer_id=:customerId"),
         @NamedQuery(name = "BRIDGE.findByIdAndCustomerId",
                 query = "from Bridge where id=:id and customer_id=:customerId"),
-        @NamedQuery(name = "BRIDGE.findByCustomerId",
-                query = "from Bridge where customer_id=:customerId order by submitted_at desc"),
+        @NamedQuery(name = "BRIDGE.findByIds",
+                query = "from Bridge where id in (:ids)"),
+        @NamedQuery(name = "BRIDGE.countByCustomerId",
+                query = "select count(b.id) from Bridge b where b.customerId=:customerId"),
+        @NamedQuery(name = "BRIDGE.viewsByCustomerId",
+                query = "select b.id, b.name, b.endpoint, b.status, b.submittedAt, b.publishedAt from Bridge b where b.customerId=:customerId " +
+                        "order by b.submittedAt desc, b.id desc"),
+        @NamedQuery(name = "BRIDGE.viewsByCustomerIdBefore",
+                query = "select b.id, b.name, b.endpoint, b.status, b.submittedAt, b.publishedAt from Bridge b where b.customerId=:customerId and " +
+                        "(b.submittedAt < :submittedAt or (b.submittedAt = :submittedAt and b.id < :id)) " +
+                        "order by b.submittedAt desc, b.id desc"),
 })
 @Entity
 @Table(name = "BRIDGE", uniqueConstraints = { @UniqueConstraint(columnNames = { "name", "customer_id" }) })
@@ -39,6 +63,17 @@ public class Bridge extends ManagedResource {
     @Column(name = "shard_id")
     private String shardId;
 
+    // The default of the shard applies when null
+    @Column(name = "rate_limit_per_second")
+    private Integer rateLimitPerSecond;
+
+    @Column(name = "rate_limit_burst")
+    private Integer rateLimitBurst;
+
+    // Assigned by the database on every change, see the CHANGE_SEQUENCE migration
+    @Column(name = "change_sequence", insertable = false, updatable = false)
+    private long changeSequence;
+
     public Bridge() {
     }
 
@@ -58,6 +93,18 @@ public class Bridge extends ManagedResource {
         return shardId;
     }
 
+    public Integer getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public Integer getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+
+    public long getChangeSequence() {
+        return changeSequence;
+    }
+
     public void setEndpoint(String endpoint) {
         this.endpoint = endpoint;
     }
@@ -70,6 +117,14 @@ public class Bridge extends ManagedResource {
         this.shardId = shardId;
     }
 
+    public void setRateLimitPerSecond(Integer rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public void setRateLimitBurst(Integer rateLimitBurst) {
+        this.rateLimitBurst = rateLimitBurst;
+    }
+
     /*
      * See: https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
      * In the context of JPA equality, our id is our unique business key as we generate it via UUID.
@@ -22,6 +22,7 @@ public class ManagedDefinedResource extends ManagedResource {
 
     public void setDefinition(JsonNode definition) {
         this.definition = definition;
+        this.modified = true;
     }
 
 }
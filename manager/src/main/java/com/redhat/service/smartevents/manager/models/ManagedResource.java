@@ -8,6 +8,7 @@ import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.Id;
 import javax.persistence.MappedSuperclass;
+import javax.persistence.Transient;
 import javax.persistence.Version;
 
 import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
@@ -23,7 +24,6 @@ public class ManagedResource {
     protected String id = UUID.randomUUID().toString();
 
     @Version
-    @SuppressWarnings("unused")
     protected long version;
 
     @Column(name = "status")
@@ -46,6 +46,10 @@ public class ManagedResource {
     @Column(name = "modified_at", columnDefinition = "TIMESTAMP")
     private ZonedDateTime modifiedAt;
 
+    // Whether the status, the publication date or the definition changed since the resource was loaded, see VersionedCache
+    @Transient
+    protected boolean modified;
+
     public String getId() {
         return id;
     }
@@ -54,12 +58,21 @@ public class ManagedResource {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isModified() {
+        return modified;
+    }
+
     public ManagedResourceStatus getStatus() {
         return status;
     }
 
     public void setStatus(ManagedResourceStatus status) {
         this.status = status;
+        this.modified = true;
     }
 
     public ManagedResourceStatus getDependencyStatus() {
@@ -92,6 +105,7 @@ public class ManagedResource {
 
     public void setPublishedAt(ZonedDateTime publishedAt) {
         this.publishedAt = publishedAt;
+        this.modified = true;
     }
 
     public ZonedDateTime getModifiedAt() {
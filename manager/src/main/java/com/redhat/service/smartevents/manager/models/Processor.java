@@ -1,5 +1,6 @@
 package com.redhat.service.smartevents.manager.models;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -15,6 +16,9 @@ import javax.persistence.OneToMany;
 
 import org.hibernate.annotations.TypeDef;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
+
 import io.quarkiverse.hibernate.types.json.JsonBinaryType;
 import io.quarkiverse.hibernate.types.json.JsonTypes;
 
@@ -34,14 +38,36 @@ import io.quarkiverse.hibernate.types.json.JsonTypes;
                         "  or " +
                         "  (p.status='DEPROVISION' and p.dependencyStatus='DELETED') " +
                         ")"),
+        @NamedQuery(name = "PROCESSOR.findByShardIdWithReadyDependenciesChangedSince",
+                query = "select p " +
+                        "from Processor p " +
+                        "join fetch p.bridge " +
+                        "left join p.connectorEntities as c " +
+                        "where " +
+                        "p.bridge.status='READY' and " +
+                        "p.shardId=:shardId and " +
+                        "p.changeSequence > :since and " +
+                        "p.changeSequence <= :until and " +
+                        "(" +
+                        "  (p.status='ACCEPTED' and p.dependencyStatus='READY') " +
+                        "  or " +
+                        "  (p.status='DEPROVISION' and p.dependencyStatus='DELETED') " +
+                        ")"),
         @NamedQuery(name = "PROCESSOR.findByIdBridgeIdAndCustomerId",
                 query = "from Processor p join fetch p.bridge where p.id=:id and (p.bridge.id=:bridgeId and p.bridge.customerId=:customerId)"),
         @NamedQuery(name = "PROCESSOR.findByBridgeIdAndCustomerId",
                 query = "from Processor p join fetch p.bridge where p.bridge.id=:bridgeId and p.bridge.customerId=:customerId"),
         @NamedQuery(name = "PROCESSOR.countByBridgeIdAndCustomerId",
                 query = "select count(p.id) from Processor p where p.bridge.id=:bridgeId and p.bridge.customerId=:customerId"),
-        @NamedQuery(name = "PROCESSOR.idsByBridgeIdAndCustomerId",
-                query = "select p.id from Processor p where p.bridge.id=:bridgeId and p.bridge.customerId=:customerId order by p.submittedAt asc"),
+        @NamedQuery(name = "PROCESSOR.viewsByBridgeIdAndCustomerId",
+                query = "select p.id, p.name, p.status, p.submittedAt, p.publishedAt, p.definition, p.version from Processor p " +
+                        "where p.bridge.id=:bridgeId and p.bridge.customerId=:customerId " +
+                        "order by p.submittedAt asc, p.id asc"),
+        @NamedQuery(name = "PROCESSOR.viewsByBridgeIdAndCustomerIdAfter",
+                query = "select p.id, p.name, p.status, p.submittedAt, p.publishedAt, p.definition, p.version from Processor p " +
+                        "where p.bridge.id=:bridgeId and p.bridge.customerId=:customerId and " +
+                        "(p.submittedAt > :submittedAt or (p.submittedAt = :submittedAt and p.id > :id)) " +
+                        "order by p.submittedAt asc, p.id asc"),
         @NamedQuery(name = "PROCESSOR.findByIds",
                 query = "select p from Processor p join fetch p.bridge where p.id in (:ids)")
 })
@@ -61,6 +87,10 @@ public class Processor extends ManagedDefinedResource {
     @Column(name = "shard_id")
     private String shardId;
 
+    // Assigned by the database on every change of the Processor or of the status of its Bridge, see the CHANGE_SEQUENCE migration
+    @Column(name = "change_sequence", insertable = false, updatable = false)
+    private long changeSequence;
+
     public Bridge getBridge() {
         return bridge;
     }
@@ -85,6 +115,27 @@ public class Processor extends ManagedDefinedResource {
         this.shardId = shardId;
     }
 
+    public long getChangeSequence() {
+        return changeSequence;
+    }
+
+    /**
+     * Builds a read-only view of a Processor from a projection of its columns. It is not modified, so that it is cached like a loaded Processor.
+     */
+    public static Processor view(String id, String name, ManagedResourceStatus status, ZonedDateTime submittedAt, ZonedDateTime publishedAt, JsonNode definition, long version,
+            Bridge bridge) {
+        Processor processor = new Processor();
+        processor.id = id;
+        processor.name = name;
+        processor.status = status;
+        processor.submittedAt = submittedAt;
+        processor.publishedAt = publishedAt;
+        processor.definition = definition;
+        processor.version = version;
+        processor.bridge = bridge;
+        return processor;
+    }
+
     /*
      * See: https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
      * In the context of JPA equality, our id is our unique business key as we generate it via UUID.
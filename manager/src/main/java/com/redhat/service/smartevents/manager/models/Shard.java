@@ -3,6 +3,7 @@ package com.redhat.service.smartevents.manager.models;
 import java.util.Objects;
 import java.util.UUID;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -10,18 +11,30 @@ import javax.persistence.Enumerated;
 import javax.persistence.Id;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
+
+import org.hibernate.annotations.QueryHints;
 
 @NamedQueries({
         @NamedQuery(name = "SHARD.findByType",
-                query = "from Shard where type=:type")
+                query = "from Shard where type=:type",
+                hints = @QueryHint(name = QueryHints.HINT_CACHEABLE, value = "true")),
+        @NamedQuery(name = "SHARD.countBridges",
+                query = "select b.shardId, count(b) from Bridge b where b.shardId is not null group by b.shardId"),
+        @NamedQuery(name = "SHARD.countProcessors",
+                query = "select p.shardId, count(p) from Processor p where p.shardId is not null group by p.shardId")
 })
+// The shards are read on every placement and rarely change, see ShardServiceImpl for the eviction of the cache
 @Entity
+@Cacheable
 public class Shard {
 
     public static final String ID_PARAM = "id";
 
     public static final String TYPE_PARAM = "type";
 
+    public static final int DEFAULT_CAPACITY = 1000;
+
     @Id
     private String id = UUID.randomUUID().toString();
 
@@ -29,6 +42,10 @@ public class Shard {
     @Enumerated(EnumType.STRING)
     private ShardType type;
 
+    // The number of Bridges and Processors that the shard can host
+    @Column(nullable = false, name = "capacity")
+    private int capacity = DEFAULT_CAPACITY;
+
     public String getId() {
         return id;
     }
@@ -45,6 +62,14 @@ public class Shard {
         this.type = type;
     }
 
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
     /*
      * See: https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
      * In the context of JPA equality, our id is our unique business key as we generate it via UUID.
@@ -6,6 +6,8 @@ import java.util.UUID;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.NamedNativeQueries;
+import javax.persistence.NamedNativeQuery;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 import javax.persistence.Version;
@@ -13,7 +15,14 @@ import javax.persistence.Version;
 @NamedQueries({
         @NamedQuery(name = "Work.findByManagedResourceId", query = "from Work w where w.managedResourceId=:managedResourceId"),
         @NamedQuery(name = "Work.findByWorkerId", query = "from Work w where w.workerId=:workerId"),
-        @NamedQuery(name = "Work.reconnectDroppedWorkers", query = "update Work w set w.workerId=:workerId, w.submittedAt=:now where w.modifiedAt >= :age")
+        @NamedQuery(name = "Work.renewLease",
+                query = "update Work w set w.leaseExpiresAt=:leaseExpiresAt, w.modifiedAt=:now where w.id=:id and w.workerId=:workerId")
+})
+@NamedNativeQueries({
+        // Rows being leased by another instance are skipped rather than waited for, so that the instances never lease the same Work
+        @NamedNativeQuery(name = "Work.findLeasable",
+                query = "select * from WORK where lease_expires_at is null or lease_expires_at < :now order by modified_at limit :limit for update skip locked",
+                resultClass = Work.class)
 })
 @Entity
 public class Work {
@@ -39,6 +48,9 @@ public class Work {
     @Column(name = "attempts", nullable = false)
     private int attempts = 0;
 
+    @Column(name = "lease_expires_at", columnDefinition = "TIMESTAMP")
+    private ZonedDateTime leaseExpiresAt;
+
     @Version
     @SuppressWarnings("unused")
     private long version;
@@ -99,6 +111,14 @@ public class Work {
         this.attempts = attempts;
     }
 
+    public ZonedDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(ZonedDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
     public static Work forResource(ManagedResource managedResource, String workerId) {
         Work w = new Work();
         w.setSubmittedAt(ZonedDateTime.now());
@@ -118,6 +138,7 @@ public class Work {
         w.setManagedResourceId(dependency.getId());
         w.setWorkerId(originalWork.getWorkerId());
         w.setAttempts(originalWork.getAttempts());
+        w.setLeaseExpiresAt(originalWork.getLeaseExpiresAt());
         return w;
     }
 
@@ -131,6 +152,7 @@ public class Work {
                 ", submittedAt=" + getSubmittedAt() +
                 ", modifiedAt=" + getModifiedAt() +
                 ", attempts=" + getAttempts() +
+                ", leaseExpiresAt=" + getLeaseExpiresAt() +
                 '}';
     }
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ public interface ResourceNamesProvider {
 
     String getBridgeTopicName(String bridgeId);
 
+    String getBridgeDeadLetterTopicName(String bridgeId);
+
     String getProcessorConnectorName(String processorId);
 
     String getProcessorTopicName(String processorId);
@@ -11,6 +11,7 @@ public class ResourceNamesProviderImpl implements ResourceNamesProvider {
     public static final String RESOURCE_PREFIX_PROPERTY = "event-bridge.resource-prefix";
     public static final String BRIDGE_SHORTNAME = "brdg";
     public static final String PROCESSOR_SHORTNAME = "prcs";
+    public static final String DEAD_LETTER_SHORTNAME = "dlq";
 
     private static final String VALIDATION_REGEX = "^[a-z][a-z0-9-]{0,19}$";
 
@@ -32,6 +33,11 @@ public class ResourceNamesProviderImpl implements ResourceNamesProvider {
         return String.format("%s%s-%s", validatedResourcePrefix, BRIDGE_SHORTNAME, bridgeId);
     }
 
+    @Override
+    public String getBridgeDeadLetterTopicName(String bridgeId) {
+        return String.format("%s-%s", getBridgeTopicName(bridgeId), DEAD_LETTER_SHORTNAME);
+    }
+
     @Override
     public String getProcessorConnectorName(String processorId) {
         return getProcessorTopicName(processorId);
@@ -0,0 +1,82 @@
+package com.redhat.service.smartevents.manager.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.redhat.service.smartevents.manager.models.ManagedResource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Caches a value computed from a {@link ManagedResource}, for as long as the version of the resource does not change.
+ * A resource modified since it was loaded is not cached, as its version does not identify its content anymore.
+ * The least recently used values are evicted above the maximum size. The hits and the misses are published
+ * as the {@code cache.gets} metric, tagged with the name of the cache.
+ *
+ * @param <R> the type of the resources.
+ * @param <V> the type of the values computed from the resources. They are shared by the callers and must not be modified.
+ */
+public class VersionedCache<R extends ManagedResource, V> {
+
+    public static final String GETS_METRIC_NAME = "cache.gets";
+    public static final String SIZE_METRIC_NAME = "cache.size";
+    public static final String CACHE_TAG = "cache";
+    public static final String RESULT_TAG = "result";
+
+    private final Map<String, Entry<V>> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public VersionedCache(String name, int maxSize, MeterRegistry registry) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hits = registry.counter(GETS_METRIC_NAME, Tags.of(CACHE_TAG, name, RESULT_TAG, "hit"));
+        this.misses = registry.counter(GETS_METRIC_NAME, Tags.of(CACHE_TAG, name, RESULT_TAG, "miss"));
+        registry.gauge(SIZE_METRIC_NAME, Tags.of(CACHE_TAG, name), this, VersionedCache::size);
+    }
+
+    public V get(R resource, Function<R, V> compute) {
+        if (resource.isModified()) {
+            return compute.apply(resource);
+        }
+        synchronized (this) {
+            Entry<V> entry = entries.get(resource.getId());
+            if (entry != null && entry.version == resource.getVersion()) {
+                hits.increment();
+                return entry.value;
+            }
+        }
+        misses.increment();
+        V value = compute.apply(resource);
+        synchronized (this) {
+            entries.put(resource.getId(), new Entry<>(resource.getVersion(), value));
+        }
+        return value;
+    }
+
+    public synchronized void invalidate(String id) {
+        entries.remove(id);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry<V> {
+
+        private final long version;
+        private final V value;
+
+        private Entry(long version, V value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.redhat.service.smartevents.manager.workers;
 import com.redhat.service.smartevents.manager.models.ManagedResource;
 import com.redhat.service.smartevents.manager.models.Work;
 
+import io.smallrye.mutiny.Uni;
+
 /**
  * Handles the completion of {@link Work} for {@link ManagedResource}.
  * If a suitable {@link Worker} is not defined for a given {@link ManagedResource}
@@ -35,6 +37,23 @@ public interface WorkManager {
      */
     void recordAttempt(Work work);
 
+    /**
+     * Executes incomplete {@link Work} again after a delay that grows exponentially with the number of times it was rescheduled.
+     *
+     * @param work the {@link Work} that is not complete yet. The number of times it was already rescheduled sets the delay.
+     */
+    void reschedule(Work work);
+
+    /**
+     * Renews the lease of the {@link Work} held by this instance while the given operation on it is pending, so that the other
+     * instances do not execute the Work at the same time, however long the operation takes.
+     *
+     * @param work the Work the operation is executed for
+     * @param operation the operation, subscribed to by the returned Uni
+     * @return the operation, that stops renewing the lease when it terminates
+     */
+    <T> Uni<T> holdLease(Work work, Uni<T> operation);
+
     /**
      * Marks {@link Work} as complete so that it can be removed from the work queue.
      * 
@@ -1,24 +1,44 @@
 package com.redhat.service.smartevents.manager.workers;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
 import javax.transaction.Transactional;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.redhat.service.smartevents.manager.ShardChangesNotifier;
 import com.redhat.service.smartevents.manager.dao.WorkDAO;
 import com.redhat.service.smartevents.manager.models.ManagedResource;
 import com.redhat.service.smartevents.manager.models.Work;
 
 import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
 import io.vertx.mutiny.core.eventbus.EventBus;
 
+/**
+ * Executes the {@link Work} leased by this instance. On every run, the instance leases the items of Work that are not leased
+ * by another instance, or whose lease expired, so that the Work is shared among all the instances of the manager and the
+ * Work of an instance that went away is picked up by the others once its lease expired.
+ * The number of attempts of a Work is kept in its row, so that it is shared by all the instances too.
+ * New Work is executed as soon as the transaction that scheduled it commits, and incomplete Work is retried by the instance
+ * that executed it after a delay that grows exponentially. The schedule only picks up the Work whose lease expired.
+ * The lease of a Work is renewed while a worker executes it, so that it is not executed again by another instance meanwhile.
+ */
 @ApplicationScoped
 public class WorkManagerImpl implements WorkManager {
 
@@ -30,16 +50,47 @@ public class WorkManagerImpl implements WorkManager {
     @Inject
     EventBus eventBus;
 
+    @Inject
+    ShardChangesNotifier shardChangesNotifier;
+
     @ConfigProperty(name = "event-bridge.resources.workers.id")
     String workerId;
 
+    /**
+     * How long an instance holds the Work it leased. It is shorter than the period of the schedule, so that the Work
+     * is retried on the next run when it is not complete.
+     */
+    @ConfigProperty(name = "event-bridge.resources.workers.lease-duration", defaultValue = "25s")
+    Duration leaseDuration;
+
+    @ConfigProperty(name = "event-bridge.resources.workers.lease-batch-size", defaultValue = "100")
+    int leaseBatchSize;
+
+    @ConfigProperty(name = "event-bridge.resources.workers.retry.initial-delay", defaultValue = "1s")
+    Duration retryInitialDelay;
+
+    @ConfigProperty(name = "event-bridge.resources.workers.retry.max-delay", defaultValue = "30s")
+    Duration retryMaxDelay;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    // The number of retries of the Work executed by this instance, to compute the delay of the next one
+    private final Map<String, Integer> retries = new ConcurrentHashMap<>();
+
+    // The Work waiting for its next retry on this instance
+    private final Set<String> pendingRetries = ConcurrentHashMap.newKeySet();
+
     @Override
     @Transactional(Transactional.TxType.MANDATORY)
     public Work schedule(ManagedResource managedResource) {
         Work w = workDAO.findByManagedResource(managedResource);
         if (w == null) {
             w = Work.forResource(managedResource, workerId);
+            // This instance executes the Work as soon as it is committed: the other instances must not lease it meanwhile
+            w.setLeaseExpiresAt(ZonedDateTime.now().plus(leaseDuration));
             workDAO.persist(w);
+            fireEventAfterCommit(w);
 
             if (LOGGER.isInfoEnabled()) {
                 LOGGER.info(String.format("Scheduling work for '%s' [%s]",
@@ -47,13 +98,28 @@ public class WorkManagerImpl implements WorkManager {
                         w.getType()));
             }
         }
+        // The resource changed: the shards pick it up as soon as its dependencies are ready
+        shardChangesNotifier.notifyChangesAfterCommit();
 
         return w;
     }
 
-    private void fireEvent(Work w) {
-        setModifiedAt(w);
+    private void fireEventAfterCommit(Work w) {
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
 
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    fireEvent(w);
+                }
+            }
+        });
+    }
+
+    private void fireEvent(Work w) {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info(String.format("Executing work for '%s' [%s]",
                     w.getManagedResourceId(),
@@ -62,11 +128,6 @@ public class WorkManagerImpl implements WorkManager {
         eventBus.requestAndForget(w.getType(), w);
     }
 
-    @Transactional
-    protected void setModifiedAt(Work work) {
-        work.setModifiedAt(ZonedDateTime.now());
-    }
-
     @Override
     @Transactional
     public boolean exists(Work work) {
@@ -95,6 +156,70 @@ public class WorkManagerImpl implements WorkManager {
         // Work has been serialised by VertX at this point and has therefore lost all affinity with
         // a JPA session. We therefore need to delete it by Id and not the entity itself.
         workDAO.deleteById(work.getId());
+        retries.remove(work.getId());
+        // The dependencies of the resource are ready, or deleted: the shards can deploy, or delete, it now
+        shardChangesNotifier.notifyChangesAfterCommit();
+    }
+
+    @Override
+    public void reschedule(Work work) {
+        if (!pendingRetries.add(work.getId())) {
+            // A dependency of the Work already rescheduled it
+            return;
+        }
+        int retry = retries.merge(work.getId(), 1, Integer::sum);
+        Duration delay = getRetryDelay(retry);
+        // The lease is kept until the retry: the other instances do not execute the Work meanwhile, unless this instance goes away
+        if (!workDAO.renewLease(work.getId(), workerId, ZonedDateTime.now().plus(delay).plus(leaseDuration))) {
+            pendingRetries.remove(work.getId());
+            retries.remove(work.getId());
+            return;
+        }
+        LOGGER.debug("Retrying work for '{}' [{}] in {}", work.getManagedResourceId(), work.getType(), delay);
+        Uni.createFrom().voidItem().onItem().delayIt().by(delay).subscribe().with(x -> retry(work.getId()));
+    }
+
+    Duration getRetryDelay(int retry) {
+        Duration delay = retryInitialDelay.multipliedBy(1L << Math.min(retry - 1, 30));
+        return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+    }
+
+    private void retry(String workId) {
+        pendingRetries.remove(workId);
+        try {
+            if (!workDAO.renewLease(workId, workerId, ZonedDateTime.now().plus(leaseDuration))) {
+                // The Work is complete, or another instance took it over
+                retries.remove(workId);
+                return;
+            }
+            Work w = workDAO.findById(workId);
+            if (w != null) {
+                fireEvent(w);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to retry work with id '{}'. It is retried once its lease expires.", workId, e);
+        }
+    }
+
+    @Override
+    public <T> Uni<T> holdLease(Work work, Uni<T> operation) {
+        return Uni.createFrom().deferred(() -> {
+            // The lease is renewed well before it expires, so that a renewal that is late does not let another instance take it
+            Cancellable heartbeat = Multi.createFrom().ticks().every(leaseDuration.dividedBy(3))
+                    .onOverflow().drop()
+                    .subscribe().with(tick -> renewLease(work));
+            return operation.onTermination().invoke(heartbeat::cancel);
+        });
+    }
+
+    private void renewLease(Work work) {
+        try {
+            if (!workDAO.renewLease(work.getId(), workerId, ZonedDateTime.now().plus(leaseDuration))) {
+                LOGGER.warn("Lost the lease of work for '{}' [{}] while executing it", work.getManagedResourceId(), work.getType());
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to renew the lease of work with id '{}'", work.getId(), e);
+        }
     }
 
     @SuppressWarnings("unused")
@@ -105,20 +230,12 @@ public class WorkManagerImpl implements WorkManager {
 
     @Transactional
     protected List<Work> getWorkQueue() {
-        return workDAO.findByWorkerId(workerId);
+        ZonedDateTime now = ZonedDateTime.now();
+        return workDAO.lease(workerId, now, now.plus(leaseDuration), leaseBatchSize);
     }
 
     @Transactional(Transactional.TxType.NEVER)
     protected void processWorkQueue(List<Work> work) {
         work.forEach(this::fireEvent);
     }
-
-    @SuppressWarnings("unused")
-    @Transactional
-    @Scheduled(every = "5m", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
-    void reconnectDroppedWorkers() {
-        ZonedDateTime age = ZonedDateTime.now().minusMinutes(5);
-        workDAO.reconnectDroppedWorkers(workerId, age);
-    }
-
 }
@@ -3,6 +3,8 @@ package com.redhat.service.smartevents.manager.workers;
 import com.redhat.service.smartevents.manager.models.ManagedResource;
 import com.redhat.service.smartevents.manager.models.Work;
 
+import io.smallrye.mutiny.Uni;
+
 /**
  * Handles completion of {@link Work} for a {@link ManagedResource}.
  *
@@ -12,10 +14,11 @@ public interface Worker<T extends ManagedResource> {
 
     /**
      * Execute work. When complete {@link WorkManager#complete(Work)} should be invoked.
+     * The calls to the external services do not block the caller: the work goes on once they answered.
      * 
      * @param work
      * @return The updated resource.
      */
-    T handleWork(Work work);
+    Uni<T> handleWork(Work work);
 
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import com.redhat.service.smartevents.manager.workers.WorkManager;
 import com.redhat.service.smartevents.manager.workers.Worker;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractWorker<T extends ManagedResource> implements Worker<T> {
 
@@ -39,13 +40,13 @@ public abstract class AbstractWorker<T extends ManagedResource> implements Worke
     WorkManager workManager;
 
     @Override
-    public T handleWork(Work work) {
+    public Uni<T> handleWork(Work work) {
         T managedResource = load(work);
         if (Objects.isNull(managedResource)) {
             //Work has been scheduled but cannot be found. Something (horribly) wrong has happened.
             workManager.complete(work);
             String message = String.format("Resource of type '%s' with id '%s' no longer exists in the database.", work.getType(), work.getManagedResourceId());
-            throw new IllegalStateException(message);
+            return Uni.createFrom().failure(new IllegalStateException(message));
         }
 
         // Fail when we've had enough
@@ -53,50 +54,58 @@ public abstract class AbstractWorker<T extends ManagedResource> implements Worke
             workManager.complete(work);
             managedResource.setStatus(ManagedResourceStatus.FAILED);
             persist(managedResource);
-            return managedResource;
+            return Uni.createFrom().item(managedResource);
         }
 
-        boolean complete = false;
-        T updated = managedResource;
         if (PROVISIONING_STARTED.contains(managedResource.getStatus())) {
-            try {
-                updated = createDependencies(work, managedResource);
-                complete = isProvisioningComplete(updated);
-            } catch (Exception e) {
-                LOGGER.error(
-                        "Failed to create dependencies for '{}' [{}].\n"
-                                + "Work status: {}\n"
-                                + "{}",
-                        managedResource.getName(),
-                        managedResource.getId(),
-                        work,
-                        e);
-                // Something has gone wrong. We need to retry.
-                workManager.recordAttempt(work);
-            }
-
-        } else if (DEPROVISIONING_STARTED.contains(managedResource.getStatus())) {
-            try {
-                updated = deleteDependencies(work, managedResource);
-                complete = isDeprovisioningComplete(updated);
-            } catch (Exception e) {
-                LOGGER.info("Failed to delete dependencies for '{}' [{}].\n"
-                        + "Work status: {}\n"
-                        + "{}",
-                        managedResource.getName(),
-                        managedResource.getId(),
-                        work,
-                        e.getMessage());
-                // Something has gone wrong. We need to retry.
-                workManager.recordAttempt(work);
-            }
+            return workManager.holdLease(work, Uni.createFrom().deferred(() -> createDependencies(work, managedResource)))
+                    .onItemOrFailure().transform((updated, failure) -> {
+                        if (failure != null) {
+                            LOGGER.error(
+                                    "Failed to create dependencies for '{}' [{}].\n"
+                                            + "Work status: {}\n"
+                                            + "{}",
+                                    managedResource.getName(),
+                                    managedResource.getId(),
+                                    work,
+                                    failure);
+                            // Something has gone wrong. We need to retry.
+                            workManager.recordAttempt(work);
+                            return completeOrReschedule(work, managedResource, false);
+                        }
+                        return completeOrReschedule(work, updated, isProvisioningComplete(updated));
+                    });
         }
 
+        if (DEPROVISIONING_STARTED.contains(managedResource.getStatus())) {
+            return workManager.holdLease(work, Uni.createFrom().deferred(() -> deleteDependencies(work, managedResource)))
+                    .onItemOrFailure().transform((updated, failure) -> {
+                        if (failure != null) {
+                            LOGGER.info("Failed to delete dependencies for '{}' [{}].\n"
+                                    + "Work status: {}\n"
+                                    + "{}",
+                                    managedResource.getName(),
+                                    managedResource.getId(),
+                                    work,
+                                    failure.getMessage());
+                            // Something has gone wrong. We need to retry.
+                            workManager.recordAttempt(work);
+                            return completeOrReschedule(work, managedResource, false);
+                        }
+                        return completeOrReschedule(work, updated, isDeprovisioningComplete(updated));
+                    });
+        }
+
+        return Uni.createFrom().item(completeOrReschedule(work, managedResource, false));
+    }
+
+    private T completeOrReschedule(Work work, T managedResource, boolean complete) {
         if (complete) {
             workManager.complete(work);
+        } else {
+            workManager.reschedule(work);
         }
-
-        return updated;
+        return managedResource;
     }
 
     @Transactional
@@ -134,9 +143,10 @@ public abstract class AbstractWorker<T extends ManagedResource> implements Worke
 
     protected abstract PanacheRepositoryBase<T, String> getDao();
 
-    protected abstract T createDependencies(Work work, T managedResource);
+    // The dependencies are created, and deleted, by calling external services: the returned Uni completes once they answered.
+    protected abstract Uni<T> createDependencies(Work work, T managedResource);
 
-    protected abstract T deleteDependencies(Work work, T managedResource);
+    protected abstract Uni<T> deleteDependencies(Work work, T managedResource);
 
     // When Work is "complete" the Work is removed from the Work Queue acted on by WorkManager.
     // For simple two-step chains (e.g. our existing Processor->Connector resource) it does not matter
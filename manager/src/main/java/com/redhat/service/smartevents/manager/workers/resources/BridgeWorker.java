@@ -17,6 +17,7 @@ import com.redhat.service.smartevents.rhoas.RhoasTopicAccessType;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import io.quarkus.vertx.ConsumeEvent;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 public class BridgeWorker extends AbstractWorker<Bridge> {
@@ -42,26 +43,30 @@ public class BridgeWorker extends AbstractWorker<Bridge> {
 
     // This must be equal to the Bridge.class.getName()
     @ConsumeEvent(value = "com.redhat.service.smartevents.manager.models.Bridge", blocking = true)
-    public Bridge handleWork(Work work) {
+    public Uni<Bridge> handleWork(Work work) {
         return super.handleWork(work);
     }
 
     @Override
-    public Bridge createDependencies(Work work, Bridge bridge) {
+    public Uni<Bridge> createDependencies(Work work, Bridge bridge) {
         LOGGER.info("Creating dependencies for '{}' [{}]",
                 bridge.getName(),
                 bridge.getId());
         // This is idempotent as it gets overridden later depending on actual state
         bridge.setDependencyStatus(ManagedResourceStatus.PROVISIONING);
-        bridge = persist(bridge);
-
-        // If this call throws an exception the Bridge's dependencies will be left in PROVISIONING state...
-        rhoasService.createTopicAndGrantAccessFor(resourceNamesProvider.getBridgeTopicName(bridge.getId()),
-                RhoasTopicAccessType.CONSUMER_AND_PRODUCER);
-
-        // ...otherwise the Bridge's dependencies are READY
-        bridge.setDependencyStatus(ManagedResourceStatus.READY);
-        return persist(bridge);
+        Bridge provisioning = persist(bridge);
+
+        // If this call fails the Bridge's dependencies will be left in PROVISIONING state...
+        return rhoasService.createTopicAndGrantAccessFor(resourceNamesProvider.getBridgeTopicName(provisioning.getId()),
+                RhoasTopicAccessType.CONSUMER_AND_PRODUCER)
+                // The executors publish the events they failed to process to the dead-letter topic, and replay them from there
+                .chain(() -> rhoasService.createTopicAndGrantAccessFor(resourceNamesProvider.getBridgeDeadLetterTopicName(provisioning.getId()),
+                        RhoasTopicAccessType.CONSUMER_AND_PRODUCER))
+                // ...otherwise the Bridge's dependencies are READY
+                .onItem().transform(topic -> {
+                    provisioning.setDependencyStatus(ManagedResourceStatus.READY);
+                    return persist(provisioning);
+                });
     }
 
     @Override
@@ -71,21 +76,24 @@ public class BridgeWorker extends AbstractWorker<Bridge> {
     }
 
     @Override
-    public Bridge deleteDependencies(Work work, Bridge bridge) {
+    public Uni<Bridge> deleteDependencies(Work work, Bridge bridge) {
         LOGGER.info("Destroying dependencies for '{}' [{}]",
                 bridge.getName(),
                 bridge.getId());
         // This is idempotent as it gets overridden later depending on actual state
         bridge.setDependencyStatus(ManagedResourceStatus.DELETING);
-        bridge = persist(bridge);
-
-        // If this call throws an exception the Bridge's dependencies will be left in DELETING state...
-        rhoasService.deleteTopicAndRevokeAccessFor(resourceNamesProvider.getBridgeTopicName(bridge.getId()),
-                RhoasTopicAccessType.CONSUMER_AND_PRODUCER);
-
-        // ...otherwise the Bridge's dependencies are DELETED
-        bridge.setDependencyStatus(ManagedResourceStatus.DELETED);
-        return persist(bridge);
+        Bridge deleting = persist(bridge);
+
+        // If this call fails the Bridge's dependencies will be left in DELETING state...
+        return rhoasService.deleteTopicAndRevokeAccessFor(resourceNamesProvider.getBridgeTopicName(deleting.getId()),
+                RhoasTopicAccessType.CONSUMER_AND_PRODUCER)
+                .chain(() -> rhoasService.deleteTopicAndRevokeAccessFor(resourceNamesProvider.getBridgeDeadLetterTopicName(deleting.getId()),
+                        RhoasTopicAccessType.CONSUMER_AND_PRODUCER))
+                // ...otherwise the Bridge's dependencies are DELETED
+                .onItem().transform(x -> {
+                    deleting.setDependencyStatus(ManagedResourceStatus.DELETED);
+                    return persist(deleting);
+                });
     }
 
     @Override
@@ -3,7 +3,6 @@ package com.redhat.service.smartevents.manager.workers.resources;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Objects;
-import java.util.Optional;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -24,6 +23,7 @@ import com.redhat.service.smartevents.manager.models.Work;
 import com.redhat.service.smartevents.rhoas.RhoasTopicAccessType;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 public class ConnectorWorker extends AbstractWorker<ConnectorEntity> {
@@ -45,7 +45,7 @@ public class ConnectorWorker extends AbstractWorker<ConnectorEntity> {
     }
 
     @Override
-    public ConnectorEntity createDependencies(Work work, ConnectorEntity connectorEntity) {
+    public Uni<ConnectorEntity> createDependencies(Work work, ConnectorEntity connectorEntity) {
         LOGGER.info("Creating dependencies for '{}' [{}]",
                 connectorEntity.getName(),
                 connectorEntity.getId());
@@ -53,32 +53,38 @@ public class ConnectorWorker extends AbstractWorker<ConnectorEntity> {
         // This is idempotent as it gets overridden later depending on actual state
         connectorEntity.setStatus(ManagedResourceStatus.PROVISIONING);
         connectorEntity.setDependencyStatus(ManagedResourceStatus.PROVISIONING);
-        connectorEntity = persist(connectorEntity);
+        ConnectorEntity provisioning = persist(connectorEntity);
 
         // Step 1 - Create Kafka Topic
         LOGGER.debug("Creating Kafka Topic for '{}' [{}]",
-                connectorEntity.getName(),
-                connectorEntity.getId());
-        rhoasService.createTopicAndGrantAccessFor(connectorEntity.getTopicName(), RhoasTopicAccessType.PRODUCER);
-
-        // Step 2 - Create Connector
-        LOGGER.debug("Creating Managed Connector for '{}' [{}]",
-                connectorEntity.getName(),
-                connectorEntity.getId());
-        Optional<Connector> optConnector = Optional.of(connectorEntity)
-                .filter(ce -> Objects.nonNull(ce.getConnectorExternalId()) && !ce.getConnectorExternalId().isBlank())
-                .map(ConnectorEntity::getConnectorExternalId)
-                .map(connectorsApi::getConnector);
-        if (optConnector.isEmpty()) {
-            LOGGER.debug("Managed Connector for '{}' [{}] not found. Provisioning...",
-                    connectorEntity.getName(),
-                    connectorEntity.getId());
-            // This is an asynchronous operation so exit and wait for it's READY state to be detected on the next poll.
-            return deployConnector(connectorEntity);
-        }
+                provisioning.getName(),
+                provisioning.getId());
+        return rhoasService.createTopicAndGrantAccessFor(provisioning.getTopicName(), RhoasTopicAccessType.PRODUCER)
+                .chain(() -> {
+                    // Step 2 - Create Connector
+                    LOGGER.debug("Creating Managed Connector for '{}' [{}]",
+                            provisioning.getName(),
+                            provisioning.getId());
+                    String connectorExternalId = provisioning.getConnectorExternalId();
+                    if (Objects.isNull(connectorExternalId) || connectorExternalId.isBlank()) {
+                        return Uni.createFrom().<Connector> nullItem();
+                    }
+                    return connectorsApi.getConnector(connectorExternalId);
+                })
+                .chain(connector -> {
+                    if (Objects.isNull(connector)) {
+                        LOGGER.debug("Managed Connector for '{}' [{}] not found. Provisioning...",
+                                provisioning.getName(),
+                                provisioning.getId());
+                        // This is an asynchronous operation so exit and wait for it's READY state to be detected on the next poll.
+                        return deployConnector(provisioning);
+                    }
+                    // Step 3 - Check it has been provisioned
+                    return Uni.createFrom().item(checkConnectorProvisioned(provisioning, connector));
+                });
+    }
 
-        // Step 3 - Check it has been provisioned
-        Connector connector = optConnector.get();
+    private ConnectorEntity checkConnectorProvisioned(ConnectorEntity connectorEntity, Connector connector) {
         ConnectorStatusStatus status = connector.getStatus();
         if (Objects.isNull(status)) {
             LOGGER.debug("Managed Connector status for '{}' [{}] is undetermined.",
@@ -120,15 +126,17 @@ public class ConnectorWorker extends AbstractWorker<ConnectorEntity> {
         return false;
     }
 
-    private ConnectorEntity deployConnector(ConnectorEntity connectorEntity) {
+    private Uni<ConnectorEntity> deployConnector(ConnectorEntity connectorEntity) {
         // Creation is performed asynchronously. The returned Connector is a place-holder.
-        Connector connector = connectorsApi.createConnector(connectorEntity);
-        connectorEntity.setConnectorExternalId(connector.getId());
-        return persist(connectorEntity);
+        return connectorsApi.createConnector(connectorEntity)
+                .onItem().transform(connector -> {
+                    connectorEntity.setConnectorExternalId(connector.getId());
+                    return persist(connectorEntity);
+                });
     }
 
     @Override
-    public ConnectorEntity deleteDependencies(Work work, ConnectorEntity connectorEntity) {
+    public Uni<ConnectorEntity> deleteDependencies(Work work, ConnectorEntity connectorEntity) {
         LOGGER.info("Destroying dependencies for '{}' [{}]",
                 connectorEntity.getName(),
                 connectorEntity.getId());
@@ -136,36 +144,36 @@ public class ConnectorWorker extends AbstractWorker<ConnectorEntity> {
         // This is idempotent as it gets overridden later depending on actual state
         connectorEntity.setStatus(ManagedResourceStatus.DELETING);
         connectorEntity.setDependencyStatus(ManagedResourceStatus.DELETING);
-        connectorEntity = persist(connectorEntity);
+        ConnectorEntity deleting = persist(connectorEntity);
 
         // Steps, in reverse order...
         // Step 3 - Connector has been deleted and does not exist: Clean up Kafka Topic
-        String connectorExternalId = connectorEntity.getConnectorExternalId();
+        String connectorExternalId = deleting.getConnectorExternalId();
         if (Objects.isNull(connectorExternalId)) {
-            return deleteTopic(connectorEntity);
+            return deleteTopic(deleting);
         }
-        Connector connector = connectorsApi.getConnector(connectorExternalId);
-        if (Objects.isNull(connector)) {
-            return deleteTopic(connectorEntity);
-        }
-        ConnectorStatusStatus status = connector.getStatus();
-        if (Objects.isNull(status)) {
-            return connectorEntity;
-        }
-        if (status.getState() == ConnectorState.DELETED) {
-            LOGGER.debug("Managed Connector for '{}' [{}] has status 'DELETED'. Continuing with deletion of Kafka Topic..",
-                    connectorEntity.getName(),
-                    connectorEntity.getId());
-            return deleteTopic(connectorEntity);
-        }
-
-        // Step 2 - Delete Connector
-        LOGGER.debug("Deleting Managed Connector for '{}' [{}]",
-                connectorEntity.getName(),
-                connectorEntity.getId());
-        connectorsApi.deleteConnector(connectorEntity.getConnectorExternalId());
-
-        return connectorEntity;
+        return connectorsApi.getConnector(connectorExternalId)
+                .chain(connector -> {
+                    if (Objects.isNull(connector)) {
+                        return deleteTopic(deleting);
+                    }
+                    ConnectorStatusStatus status = connector.getStatus();
+                    if (Objects.isNull(status)) {
+                        return Uni.createFrom().item(deleting);
+                    }
+                    if (status.getState() == ConnectorState.DELETED) {
+                        LOGGER.debug("Managed Connector for '{}' [{}] has status 'DELETED'. Continuing with deletion of Kafka Topic..",
+                                deleting.getName(),
+                                deleting.getId());
+                        return deleteTopic(deleting);
+                    }
+
+                    // Step 2 - Delete Connector
+                    LOGGER.debug("Deleting Managed Connector for '{}' [{}]",
+                            deleting.getName(),
+                            deleting.getId());
+                    return connectorsApi.deleteConnector(connectorExternalId).replaceWith(deleting);
+                });
     }
 
     @Override
@@ -175,14 +183,13 @@ public class ConnectorWorker extends AbstractWorker<ConnectorEntity> {
         return false;
     }
 
-    private ConnectorEntity deleteTopic(ConnectorEntity connectorEntity) {
+    private Uni<ConnectorEntity> deleteTopic(ConnectorEntity connectorEntity) {
         // Step 1 - Delete Kafka Topic
         LOGGER.debug("Deleting Kafka Topic for '{}' [{}]",
                 connectorEntity.getName(),
                 connectorEntity.getId());
-        rhoasService.deleteTopicAndRevokeAccessFor(connectorEntity.getTopicName(), RhoasTopicAccessType.PRODUCER);
-
-        return doDeleteDependencies(connectorEntity);
+        return rhoasService.deleteTopicAndRevokeAccessFor(connectorEntity.getTopicName(), RhoasTopicAccessType.PRODUCER)
+                .onItem().transform(x -> doDeleteDependencies(connectorEntity));
     }
 
     @Transactional
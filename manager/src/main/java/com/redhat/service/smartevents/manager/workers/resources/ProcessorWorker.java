@@ -17,6 +17,7 @@ import com.redhat.service.smartevents.manager.models.Work;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import io.quarkus.vertx.ConsumeEvent;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 public class ProcessorWorker extends AbstractWorker<Processor> {
@@ -39,12 +40,12 @@ public class ProcessorWorker extends AbstractWorker<Processor> {
 
     // This must be equal to the Processor.class.getName()
     @ConsumeEvent(value = "com.redhat.service.smartevents.manager.models.Processor", blocking = true)
-    public Processor handleWork(Work work) {
+    public Uni<Processor> handleWork(Work work) {
         return super.handleWork(work);
     }
 
     @Override
-    public Processor createDependencies(Work work, Processor processor) {
+    public Uni<Processor> createDependencies(Work work, Processor processor) {
         LOGGER.info("Creating dependencies for '{}' [{}]",
                 processor.getName(),
                 processor.getId());
@@ -55,7 +56,7 @@ public class ProcessorWorker extends AbstractWorker<Processor> {
                     processor.getName(),
                     processor.getId());
             processor.setDependencyStatus(ManagedResourceStatus.READY);
-            return persist(processor);
+            return Uni.createFrom().item(persist(processor));
         }
 
         // If we have to deploy a Managed Connector, delegate to the ConnectorWorker.
@@ -70,7 +71,7 @@ public class ProcessorWorker extends AbstractWorker<Processor> {
     }
 
     @Override
-    public Processor deleteDependencies(Work work, Processor processor) {
+    public Uni<Processor> deleteDependencies(Work work, Processor processor) {
         LOGGER.info("Destroying dependencies for '{}' [{}]",
                 processor.getName(),
                 processor.getId());
@@ -80,7 +81,7 @@ public class ProcessorWorker extends AbstractWorker<Processor> {
                     processor.getName(),
                     processor.getId());
             processor.setDependencyStatus(ManagedResourceStatus.DELETED);
-            return persist(processor);
+            return Uni.createFrom().item(persist(processor));
         }
 
         return delegate(work, processor);
@@ -92,21 +93,22 @@ public class ProcessorWorker extends AbstractWorker<Processor> {
         return DEPROVISIONING_COMPLETED.contains(managedResource.getDependencyStatus());
     }
 
-    private Processor delegate(Work work, Processor processor) {
+    private Uni<Processor> delegate(Work work, Processor processor) {
         //Get Processor's Connector for which work needs completing
         final ConnectorEntity connectorEntity = getConnectorEntity(processor);
 
         //Delegate to the ConnectorWorker however mimic that the Work originated from the Processor.
         Work connectorEntityWork = Work.forDependentResource(connectorEntity, work);
-        ConnectorEntity updatedConnectorEntity = connectorWorker.handleWork(connectorEntityWork);
-        processor.setDependencyStatus(updatedConnectorEntity.getStatus());
+        return connectorWorker.handleWork(connectorEntityWork).onItem().transform(updatedConnectorEntity -> {
+            processor.setDependencyStatus(updatedConnectorEntity.getStatus());
 
-        // If the Connector failed we should mark the Processor as failed too
-        if (updatedConnectorEntity.getStatus() == ManagedResourceStatus.FAILED) {
-            processor.setStatus(ManagedResourceStatus.FAILED);
-        }
+            // If the Connector failed we should mark the Processor as failed too
+            if (updatedConnectorEntity.getStatus() == ManagedResourceStatus.FAILED) {
+                processor.setStatus(ManagedResourceStatus.FAILED);
+            }
 
-        return persist(processor);
+            return persist(processor);
+        });
     }
 
     protected boolean hasZeroConnectors(Processor processor) {
@@ -0,0 +1,6 @@
+-- The worker_id of a Work is the manager instance that holds its lease, until lease_expires_at.
+-- Any instance can lease a Work that is not leased, or whose lease expired.
+alter table WORK
+    add column lease_expires_at timestamp;
+
+create index work_lease_expires_at on WORK (lease_expires_at);
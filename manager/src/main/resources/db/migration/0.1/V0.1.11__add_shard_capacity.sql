@@ -0,0 +1,5 @@
+-- The number of Bridges and Processors that a shard can host. The placement of new Bridges avoids the shards that are full.
+ALTER TABLE SHARD ADD capacity integer NOT NULL DEFAULT 1000;
+
+create index bridge_shard_id on BRIDGE (shard_id);
+create index processor_shard_id on PROCESSOR (shard_id);
@@ -0,0 +1,4 @@
+-- The Bridges and the Processors are listed in the order of (submitted_at, id), and the next page is found from the last
+-- item of the previous page: these indexes let the database seek to it instead of skipping the previous pages.
+create index bridge_customer_id_submitted_at on BRIDGE (customer_id, submitted_at, id);
+create index processor_bridge_id_submitted_at on PROCESSOR (bridge_id, submitted_at, id);
@@ -0,0 +1,31 @@
+-- The change_sequence of a Bridge or a Processor is now the id of the transaction that changed it, instead of a value of
+-- CHANGE_SEQUENCE. The values of a sequence are taken when the rows are written, not when they are committed: a shard
+-- could move its watermark past a change that was not committed yet, and miss it until its next full resync.
+-- The transaction ids let the manager return as watermark the highest id below the oldest transaction still running,
+-- under which no change can appear anymore.
+-- The existing rows get the id of this transaction: the shards fetch them again at their next full resync.
+alter table BRIDGE
+    alter column change_sequence set default txid_current();
+alter table PROCESSOR
+    alter column change_sequence set default txid_current();
+
+drop sequence CHANGE_SEQUENCE;
+
+create or replace function next_change_sequence() returns trigger as
+$$
+begin
+    NEW.change_sequence := txid_current();
+    return NEW;
+end;
+$$ language plpgsql;
+
+create or replace function next_processors_change_sequence() returns trigger as
+$$
+begin
+    update PROCESSOR set change_sequence = txid_current() where bridge_id = NEW.id;
+    return NEW;
+end;
+$$ language plpgsql;
+
+update BRIDGE set change_sequence = txid_current();
+update PROCESSOR set change_sequence = txid_current();
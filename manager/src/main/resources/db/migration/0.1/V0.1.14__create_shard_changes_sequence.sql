@@ -0,0 +1,3 @@
+-- Version of the changes the shards wait for, shared by all the instances of the manager. An instance takes the next value
+-- once the transaction of a change is committed, and the instances waiting for changes compare it with its last value.
+create sequence SHARD_CHANGES_SEQUENCE;
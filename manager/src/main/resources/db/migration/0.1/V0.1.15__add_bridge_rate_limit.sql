@@ -0,0 +1,5 @@
+-- The rate limit of the ingress of each Bridge. The shard operator applies its own default when they are null.
+alter table BRIDGE
+    add column rate_limit_per_second integer;
+alter table BRIDGE
+    add column rate_limit_burst integer;
@@ -0,0 +1,47 @@
+-- Every change of a Bridge or a Processor takes the next value of the sequence, so that a shard can ask only for the
+-- resources that changed since the highest value it has already seen.
+create sequence CHANGE_SEQUENCE;
+
+alter table BRIDGE
+    add column change_sequence bigint NOT NULL default nextval('CHANGE_SEQUENCE');
+alter table PROCESSOR
+    add column change_sequence bigint NOT NULL default nextval('CHANGE_SEQUENCE');
+
+create index bridge_shard_change_sequence on BRIDGE (shard_id, change_sequence);
+create index processor_shard_change_sequence on PROCESSOR (shard_id, change_sequence);
+
+create function next_change_sequence() returns trigger as
+$$
+begin
+    NEW.change_sequence := nextval('CHANGE_SEQUENCE');
+    return NEW;
+end;
+$$ language plpgsql;
+
+create trigger bridge_change_sequence
+    before insert or update
+    on BRIDGE
+    for each row
+execute procedure next_change_sequence();
+
+create trigger processor_change_sequence
+    before insert or update
+    on PROCESSOR
+    for each row
+execute procedure next_change_sequence();
+
+-- The Processors to deploy or delete depend on the status of their Bridge: they change along with it.
+create function next_processors_change_sequence() returns trigger as
+$$
+begin
+    update PROCESSOR set change_sequence = nextval('CHANGE_SEQUENCE') where bridge_id = NEW.id;
+    return NEW;
+end;
+$$ language plpgsql;
+
+create trigger bridge_processors_change_sequence
+    after update of status
+    on BRIDGE
+    for each row
+    when (OLD.status is distinct from NEW.status)
+execute procedure next_processors_change_sequence();
@@ -8,10 +8,12 @@ import javax.inject.Inject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.openshift.cloud.api.kas.auth.models.Topic;
 import com.redhat.service.smartevents.infra.exceptions.definitions.user.BridgeLifecycleException;
 import com.redhat.service.smartevents.infra.exceptions.definitions.user.ItemNotFoundException;
 import com.redhat.service.smartevents.infra.models.ListResult;
 import com.redhat.service.smartevents.infra.models.QueryInfo;
+import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
 import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
 import com.redhat.service.smartevents.manager.api.models.requests.BridgeRequest;
 import com.redhat.service.smartevents.manager.dao.BridgeDAO;
@@ -25,8 +27,11 @@ import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
 import io.quarkus.test.junit.mockito.InjectMock;
+import io.smallrye.mutiny.Uni;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
 
 @QuarkusTest
 @TestProfile(WorkerSchedulerProfile.class)
@@ -48,6 +53,8 @@ public class BridgesServiceTest {
     @BeforeEach
     public void cleanUp() {
         databaseManagerUtils.cleanUpAndInitWithDefaultShard();
+        when(rhoasServiceMock.createTopicAndGrantAccessFor(any(), any())).thenReturn(Uni.createFrom().item(new Topic()));
+        when(rhoasServiceMock.deleteTopicAndRevokeAccessFor(any(), any())).thenReturn(Uni.createFrom().voidItem());
     }
 
     @Test
@@ -128,6 +135,19 @@ public class BridgesServiceTest {
         assertThat(bridges.getSize()).isEqualTo(1);
     }
 
+    @Test
+    public void testCreateBridgeWithRateLimit() {
+        BridgeRequest request = new BridgeRequest(TestConstants.DEFAULT_BRIDGE_NAME, 100, 500);
+        bridgesService.createBridge(TestConstants.DEFAULT_CUSTOMER_ID, request);
+
+        //Wait for Workers to complete
+        Bridge bridge = TestUtils.waitForBridgeToBeReady(bridgesService);
+
+        BridgeDTO dto = bridgesService.toDTO(bridge);
+        assertThat(dto.getRateLimitPerSecond()).isEqualTo(100);
+        assertThat(dto.getRateLimitBurst()).isEqualTo(500);
+    }
+
     @Test
     public void testUpdateBridgeStatus() {
         BridgeRequest request = new BridgeRequest(TestConstants.DEFAULT_BRIDGE_NAME);
@@ -59,6 +59,7 @@ import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
 import io.quarkus.test.junit.mockito.InjectMock;
+import io.smallrye.mutiny.Uni;
 
 import static com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus.DEPROVISION;
 import static com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus.READY;
@@ -71,7 +72,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
@@ -110,11 +111,16 @@ public class ProcessorServiceTest {
     public void cleanUp() {
         databaseManagerUtils.cleanUpAndInitWithDefaultShard();
         reset(rhoasService);
+        when(rhoasService.createTopicAndGrantAccessFor(anyString(), any())).thenReturn(Uni.createFrom().item(new Topic()));
+        when(rhoasService.deleteTopicAndRevokeAccessFor(anyString(), any())).thenReturn(Uni.createFrom().voidItem());
+        when(connectorsApiClient.getConnector(any())).thenReturn(Uni.createFrom().nullItem());
+        when(connectorsApiClient.deleteConnector(any())).thenReturn(Uni.createFrom().voidItem());
     }
 
     private Bridge createPersistBridge(ManagedResourceStatus status) {
         Bridge b = Fixtures.createBridge();
         b.setStatus(status);
+        b.setShardId(TestConstants.SHARD_ID);
         bridgeDAO.persist(b);
         return b;
     }
@@ -288,6 +294,44 @@ public class ProcessorServiceTest {
         assertThatExceptionOfType(ItemNotFoundException.class).isThrownBy(() -> processorService.updateProcessorStatus(processor));
     }
 
+    @Test
+    public void updateProcessorsStatus() {
+        Bridge b = createPersistBridge(ManagedResourceStatus.READY);
+        Processor processor = processorService.createProcessor(b.getId(), b.getCustomerId(), new ProcessorRequest("My Processor", createKafkaAction()));
+        Processor processor2 = processorService.createProcessor(b.getId(), b.getCustomerId(), new ProcessorRequest("My Processor 2", createKafkaAction()));
+
+        ProcessorDTO dto = processorService.toDTO(processor);
+        dto.setStatus(ManagedResourceStatus.FAILED);
+        ProcessorDTO dto2 = processorService.toDTO(processor2);
+        dto2.setStatus(ManagedResourceStatus.PROVISIONING);
+
+        List<Processor> updated = processorService.updateProcessorsStatus(List.of(dto, dto2));
+        assertThat(updated).extracting(Processor::getStatus).containsExactly(ManagedResourceStatus.FAILED, ManagedResourceStatus.PROVISIONING);
+    }
+
+    @Test
+    public void updateProcessorsStatus_skipsUnknownProcessors() {
+        Bridge b = createPersistBridge(ManagedResourceStatus.READY);
+        Processor processor = processorService.createProcessor(b.getId(), b.getCustomerId(), new ProcessorRequest("My Processor", createKafkaAction()));
+        Processor processor2 = processorService.createProcessor(b.getId(), b.getCustomerId(), new ProcessorRequest("My Processor 2", createKafkaAction()));
+        ProcessorDTO dto = processorService.toDTO(processor);
+        dto.setStatus(ManagedResourceStatus.FAILED);
+        ProcessorDTO onOtherBridge = processorService.toDTO(processor2);
+        onOtherBridge.setBridgeId("foo");
+        onOtherBridge.setStatus(ManagedResourceStatus.FAILED);
+
+        Processor p = new Processor();
+        p.setBridge(b);
+        p.setId("foo");
+        ProcessorDTO missing = processorService.toDTO(p);
+        missing.setStatus(ManagedResourceStatus.FAILED);
+
+        List<Processor> updated = processorService.updateProcessorsStatus(List.of(missing, dto, onOtherBridge));
+        assertThat(updated).extracting(Processor::getId).containsExactly(processor.getId());
+        assertThat(processorService.getProcessor(b.getId(), processor.getId(), b.getCustomerId()).getStatus()).isEqualTo(ManagedResourceStatus.FAILED);
+        assertThat(processorService.getProcessor(b.getId(), processor2.getId(), b.getCustomerId()).getStatus()).isNotEqualTo(ManagedResourceStatus.FAILED);
+    }
+
     @Test
     public void getProcessor() {
         Bridge b = createPersistBridge(ManagedResourceStatus.READY);
@@ -578,10 +622,9 @@ public class ProcessorServiceTest {
         externalConnectorStatus.setState(ConnectorState.READY);
         externalConnector.setStatus(externalConnectorStatus);
 
-        when(connectorsApiClient.getConnector(any())).thenReturn(externalConnector);
+        when(connectorsApiClient.getConnector(any())).thenReturn(Uni.createFrom().item(externalConnector));
         when(connectorsApiClient.createConnector(any(ConnectorEntity.class))).thenCallRealMethod();
-        when(connectorsApiClient.createConnector(any(ConnectorRequest.class))).thenReturn(externalConnector);
-        when(rhoasService.createTopicAndGrantAccessFor(anyString(), any())).thenReturn(new Topic());
+        when(connectorsApiClient.createConnector(any(ConnectorRequest.class))).thenReturn(Uni.createFrom().item(externalConnector));
 
         Processor processor = processorService.createProcessor(b.getId(), b.getCustomerId(), processorRequest);
 
@@ -610,9 +653,9 @@ public class ProcessorServiceTest {
         BaseAction slackAction = createSlackAction();
         ProcessorRequest processorRequest = new ProcessorRequest("ManagedConnectorProcessor", slackAction);
 
-        when(rhoasService.createTopicAndGrantAccessFor(anyString(), any())).thenThrow(
-                new InternalPlatformException(RhoasServiceImpl.createFailureErrorMessageFor("errorTopic"), new RuntimeException("error")));
-        when(connectorsApiClient.createConnector(any(ConnectorRequest.class))).thenReturn(new Connector());
+        when(rhoasService.createTopicAndGrantAccessFor(anyString(), any())).thenReturn(Uni.createFrom().failure(
+                new InternalPlatformException(RhoasServiceImpl.createFailureErrorMessageFor("errorTopic"), new RuntimeException("error"))));
+        when(connectorsApiClient.createConnector(any(ConnectorRequest.class))).thenReturn(Uni.createFrom().item(new Connector()));
 
         Processor processor = processorService.createProcessor(b.getId(), b.getCustomerId(), processorRequest);
 
@@ -629,7 +672,7 @@ public class ProcessorServiceTest {
         BaseAction slackAction = createSlackAction();
         ProcessorRequest processorRequest = new ProcessorRequest("ManagedConnectorProcessor", slackAction);
 
-        doThrow(new InternalPlatformException(RhoasServiceImpl.createFailureErrorMessageFor("errorDeletingConnector"), new RuntimeException("error")))
+        doReturn(Uni.createFrom().failure(new InternalPlatformException(RhoasServiceImpl.createFailureErrorMessageFor("errorDeletingConnector"), new RuntimeException("error"))))
                 .when(connectorsApiClient).deleteConnector(anyString());
 
         Processor processor = processorService.createProcessor(b.getId(), b.getCustomerId(), processorRequest);
@@ -648,12 +691,12 @@ public class ProcessorServiceTest {
         final ConnectorStatusStatus externalConnectorStatus = new ConnectorStatusStatus();
         externalConnectorStatus.setState(ConnectorState.READY);
         externalConnector.setStatus(externalConnectorStatus);
-        when(connectorsApiClient.getConnector(any())).thenReturn(externalConnector);
+        when(connectorsApiClient.getConnector(any())).thenReturn(Uni.createFrom().item(externalConnector));
 
         //Emulate successful External Connector deletion
         doAnswer(i -> {
             externalConnectorStatus.setState(ConnectorState.DELETED);
-            return null;
+            return Uni.createFrom().voidItem();
         }).when(connectorsApiClient).deleteConnector(any());
 
         processorService.deleteProcessor(bridge.getId(), processor.getId(), TestConstants.DEFAULT_CUSTOMER_ID);
@@ -679,15 +722,15 @@ public class ProcessorServiceTest {
         final ConnectorStatusStatus externalConnectorStatus = new ConnectorStatusStatus();
         externalConnectorStatus.setState(ConnectorState.READY);
         externalConnector.setStatus(externalConnectorStatus);
-        when(connectorsApiClient.getConnector(any())).thenReturn(externalConnector);
+        when(connectorsApiClient.getConnector(any())).thenReturn(Uni.createFrom().item(externalConnector));
 
         //Emulate successful External Connector deletion
         doAnswer(i -> {
             externalConnectorStatus.setState(ConnectorState.DELETED);
-            return null;
+            return Uni.createFrom().voidItem();
         }).when(connectorsApiClient).deleteConnector(any());
 
-        doThrow(new InternalPlatformException(RhoasServiceImpl.createFailureErrorMessageFor("errorTopic"), new RuntimeException("error")))
+        doReturn(Uni.createFrom().failure(new InternalPlatformException(RhoasServiceImpl.createFailureErrorMessageFor("errorTopic"), new RuntimeException("error"))))
                 .when(rhoasService).deleteTopicAndRevokeAccessFor(anyString(), any());
 
         processorService.deleteProcessor(bridge.getId(), processor.getId(), TestConstants.DEFAULT_CUSTOMER_ID);
@@ -713,9 +756,9 @@ public class ProcessorServiceTest {
         final ConnectorStatusStatus externalConnectorStatus = new ConnectorStatusStatus();
         externalConnectorStatus.setState(ConnectorState.READY);
         externalConnector.setStatus(externalConnectorStatus);
-        when(connectorsApiClient.getConnector(any())).thenReturn(externalConnector);
+        when(connectorsApiClient.getConnector(any())).thenReturn(Uni.createFrom().item(externalConnector));
 
-        doThrow(new InternalPlatformException(RhoasServiceImpl.createFailureErrorMessageFor("errorDeletingConnector"), new RuntimeException("error")))
+        doReturn(Uni.createFrom().failure(new InternalPlatformException(RhoasServiceImpl.createFailureErrorMessageFor("errorDeletingConnector"), new RuntimeException("error"))))
                 .when(connectorsApiClient).deleteConnector(anyString());
 
         processorService.deleteProcessor(bridge.getId(), processor.getId(), TestConstants.DEFAULT_CUSTOMER_ID);
@@ -56,15 +56,15 @@ class RhoasServiceTest {
         RhoasService testService = buildTestService();
 
         assertThatNoException()
-                .isThrownBy(() -> testService.createTopicAndGrantAccessFor(testBridgeTopicName(), RhoasTopicAccessType.CONSUMER_AND_PRODUCER));
+                .isThrownBy(() -> testService.createTopicAndGrantAccessFor(testBridgeTopicName(), RhoasTopicAccessType.CONSUMER_AND_PRODUCER).await().indefinitely());
         assertThatNoException()
-                .isThrownBy(() -> testService.createTopicAndGrantAccessFor(testProcessorTopicName(), RhoasTopicAccessType.PRODUCER));
+                .isThrownBy(() -> testService.createTopicAndGrantAccessFor(testProcessorTopicName(), RhoasTopicAccessType.PRODUCER).await().indefinitely());
         verify(rhoasClientMock, times(2)).createTopicAndGrantAccess(any(), eq(TEST_OPS_CLIENT_ID), any());
 
         assertThatNoException()
-                .isThrownBy(() -> testService.deleteTopicAndRevokeAccessFor(testBridgeTopicName(), RhoasTopicAccessType.CONSUMER_AND_PRODUCER));
+                .isThrownBy(() -> testService.deleteTopicAndRevokeAccessFor(testBridgeTopicName(), RhoasTopicAccessType.CONSUMER_AND_PRODUCER).await().indefinitely());
         assertThatNoException()
-                .isThrownBy(() -> testService.deleteTopicAndRevokeAccessFor(testProcessorTopicName(), RhoasTopicAccessType.PRODUCER));
+                .isThrownBy(() -> testService.deleteTopicAndRevokeAccessFor(testProcessorTopicName(), RhoasTopicAccessType.PRODUCER).await().indefinitely());
         verify(rhoasClientMock, times(2)).deleteTopicAndRevokeAccess(any(), eq(TEST_OPS_CLIENT_ID), any());
     }
 
@@ -78,18 +78,18 @@ class RhoasServiceTest {
         RhoasService testService = buildTestService();
 
         assertThatExceptionOfType(InternalPlatformException.class)
-                .isThrownBy(() -> testService.createTopicAndGrantAccessFor(testBridgeTopicName(), RhoasTopicAccessType.CONSUMER_AND_PRODUCER))
+                .isThrownBy(() -> testService.createTopicAndGrantAccessFor(testBridgeTopicName(), RhoasTopicAccessType.CONSUMER_AND_PRODUCER).await().indefinitely())
                 .withMessage(RhoasServiceImpl.createFailureErrorMessageFor(testBridgeTopicName()));
         assertThatExceptionOfType(InternalPlatformException.class)
-                .isThrownBy(() -> testService.createTopicAndGrantAccessFor(testProcessorTopicName(), RhoasTopicAccessType.PRODUCER))
+                .isThrownBy(() -> testService.createTopicAndGrantAccessFor(testProcessorTopicName(), RhoasTopicAccessType.PRODUCER).await().indefinitely())
                 .withMessage(RhoasServiceImpl.createFailureErrorMessageFor(testProcessorTopicName()));
         assertThat(createTopicAndGrantAccessLatch.await(60, TimeUnit.SECONDS)).isTrue();
 
         assertThatExceptionOfType(InternalPlatformException.class)
-                .isThrownBy(() -> testService.deleteTopicAndRevokeAccessFor(testBridgeTopicName(), RhoasTopicAccessType.CONSUMER_AND_PRODUCER))
+                .isThrownBy(() -> testService.deleteTopicAndRevokeAccessFor(testBridgeTopicName(), RhoasTopicAccessType.CONSUMER_AND_PRODUCER).await().indefinitely())
                 .withMessage(RhoasServiceImpl.deleteFailureErrorMessageFor(testBridgeTopicName()));
         assertThatExceptionOfType(InternalPlatformException.class)
-                .isThrownBy(() -> testService.deleteTopicAndRevokeAccessFor(testProcessorTopicName(), RhoasTopicAccessType.PRODUCER))
+                .isThrownBy(() -> testService.deleteTopicAndRevokeAccessFor(testProcessorTopicName(), RhoasTopicAccessType.PRODUCER).await().indefinitely())
                 .withMessage(RhoasServiceImpl.deleteFailureErrorMessageFor(testProcessorTopicName()));
         assertThat(deleteTopicAndRevokeAccessLatch.await(60, TimeUnit.SECONDS)).isTrue();
     }
@@ -104,18 +104,18 @@ class RhoasServiceTest {
         RhoasService testService = buildTestService();
 
         assertThatExceptionOfType(InternalPlatformException.class)
-                .isThrownBy(() -> testService.createTopicAndGrantAccessFor(testBridgeTopicName(), RhoasTopicAccessType.CONSUMER_AND_PRODUCER))
+                .isThrownBy(() -> testService.createTopicAndGrantAccessFor(testBridgeTopicName(), RhoasTopicAccessType.CONSUMER_AND_PRODUCER).await().indefinitely())
                 .withMessage(RhoasServiceImpl.createTimeoutErrorMessageFor(testBridgeTopicName()));
         assertThatExceptionOfType(InternalPlatformException.class)
-                .isThrownBy(() -> testService.createTopicAndGrantAccessFor(testProcessorTopicName(), RhoasTopicAccessType.PRODUCER))
+                .isThrownBy(() -> testService.createTopicAndGrantAccessFor(testProcessorTopicName(), RhoasTopicAccessType.PRODUCER).await().indefinitely())
                 .withMessage(RhoasServiceImpl.createTimeoutErrorMessageFor(testProcessorTopicName()));
         assertThat(createTopicAndGrantAccessLatch.await(60, TimeUnit.SECONDS)).isTrue();
 
         assertThatExceptionOfType(InternalPlatformException.class)
-                .isThrownBy(() -> testService.deleteTopicAndRevokeAccessFor(testBridgeTopicName(), RhoasTopicAccessType.CONSUMER_AND_PRODUCER))
+                .isThrownBy(() -> testService.deleteTopicAndRevokeAccessFor(testBridgeTopicName(), RhoasTopicAccessType.CONSUMER_AND_PRODUCER).await().indefinitely())
                 .withMessage(RhoasServiceImpl.deleteTimeoutErrorMessageFor(testBridgeTopicName()));
         assertThatExceptionOfType(InternalPlatformException.class)
-                .isThrownBy(() -> testService.deleteTopicAndRevokeAccessFor(testProcessorTopicName(), RhoasTopicAccessType.PRODUCER))
+                .isThrownBy(() -> testService.deleteTopicAndRevokeAccessFor(testProcessorTopicName(), RhoasTopicAccessType.PRODUCER).await().indefinitely())
                 .withMessage(RhoasServiceImpl.deleteTimeoutErrorMessageFor(testProcessorTopicName()));
         assertThat(deleteTopicAndRevokeAccessLatch.await(60, TimeUnit.SECONDS)).isTrue();
     }
@@ -127,7 +127,9 @@ class RhoasServiceTest {
         service.rhoasBackoff = "PT1S";
         service.rhoasJitter = 0.1;
         service.rhoasOpsAccountClientId = TEST_OPS_CLIENT_ID;
+        service.rhoasMaxConcurrentCalls = 2;
         service.rhoasClient = rhoasClientMock;
+        service.init();
         return service;
     }
 
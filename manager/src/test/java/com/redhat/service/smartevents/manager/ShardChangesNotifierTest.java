@@ -0,0 +1,110 @@
+package com.redhat.service.smartevents.manager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.redhat.service.smartevents.manager.dao.ShardChangesDAO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ShardChangesNotifierTest {
+
+    // The version in the database, shared by all the instances of the manager
+    private final AtomicLong sharedVersion = new AtomicLong(1);
+
+    private ShardChangesNotifier notifier;
+
+    @BeforeEach
+    void setup() {
+        notifier = createNotifier();
+    }
+
+    private ShardChangesNotifier createNotifier() {
+        ShardChangesNotifier instance = new ShardChangesNotifier();
+        instance.timeout = Duration.ofSeconds(10);
+        instance.transactionSynchronizationRegistry = mock(TransactionSynchronizationRegistry.class);
+        instance.shardChangesDAO = mock(ShardChangesDAO.class);
+        when(instance.shardChangesDAO.getVersion()).thenAnswer(i -> sharedVersion.get());
+        when(instance.shardChangesDAO.incrementVersion()).thenAnswer(i -> sharedVersion.incrementAndGet());
+        return instance;
+    }
+
+    @Test
+    void testFirstWaitReturnsTheCurrentVersion() {
+        assertThat(notifier.awaitChange(null).toCompletableFuture().join()).isEqualTo(notifier.currentVersion());
+    }
+
+    @Test
+    void testWaitCompletesOnChange() {
+        String version = notifier.currentVersion();
+        CompletableFuture<String> change = notifier.awaitChange(version).toCompletableFuture();
+        assertThat(change).isNotDone();
+
+        notifier.notifyChanges();
+
+        assertThat(change.join()).isNotEqualTo(version).isEqualTo(notifier.currentVersion());
+        assertThat(notifier.getWaitersCount()).isZero();
+    }
+
+    @Test
+    void testStaleVersionReturnsImmediately() {
+        String version = notifier.currentVersion();
+        notifier.notifyChanges();
+
+        assertThat(notifier.awaitChange(version).toCompletableFuture().join()).isEqualTo(notifier.currentVersion());
+    }
+
+    @Test
+    void testVersionIsSharedByTheInstances() {
+        ShardChangesNotifier other = createNotifier();
+        String version = other.currentVersion();
+
+        // A shard waiting on this instance with the version returned by the other one keeps waiting
+        CompletableFuture<String> change = notifier.awaitChange(version).toCompletableFuture();
+        notifier.checkChanges();
+        assertThat(change).isNotDone();
+
+        // The change made on the other instance is seen by the next check
+        other.notifyChanges();
+        notifier.checkChanges();
+        assertThat(change.join()).isEqualTo(other.currentVersion());
+        assertThat(notifier.getWaitersCount()).isZero();
+    }
+
+    @Test
+    void testWaitTimesOutWithTheSameVersion() {
+        notifier.timeout = Duration.ofMillis(10);
+        String version = notifier.currentVersion();
+
+        assertThat(notifier.awaitChange(version).toCompletableFuture().join()).isEqualTo(version);
+        assertThat(notifier.getWaitersCount()).isZero();
+    }
+
+    @Test
+    void testShardsAreNotifiedAfterCommit() {
+        when(notifier.transactionSynchronizationRegistry.getTransactionStatus()).thenReturn(Status.STATUS_ACTIVE);
+        String version = notifier.currentVersion();
+
+        notifier.notifyChangesAfterCommit();
+        assertThat(notifier.currentVersion()).isEqualTo(version);
+
+        ArgumentCaptor<Synchronization> captor = ArgumentCaptor.forClass(Synchronization.class);
+        verify(notifier.transactionSynchronizationRegistry).registerInterposedSynchronization(captor.capture());
+        captor.getValue().afterCompletion(Status.STATUS_ROLLEDBACK);
+        assertThat(notifier.currentVersion()).isEqualTo(version);
+        captor.getValue().afterCompletion(Status.STATUS_COMMITTED);
+        assertThat(notifier.currentVersion()).isNotEqualTo(version);
+    }
+}
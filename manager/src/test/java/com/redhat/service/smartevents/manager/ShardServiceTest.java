@@ -1,10 +1,19 @@
 package com.redhat.service.smartevents.manager;
 
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
 import javax.inject.Inject;
+import javax.transaction.Transactional;
 
 import org.junit.jupiter.api.Test;
 
+import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
+import com.redhat.service.smartevents.manager.dao.BridgeDAO;
 import com.redhat.service.smartevents.manager.dao.ShardDAO;
+import com.redhat.service.smartevents.manager.models.Bridge;
 import com.redhat.service.smartevents.manager.models.Shard;
 import com.redhat.service.smartevents.manager.models.ShardType;
 import com.redhat.service.smartevents.manager.utils.DatabaseManagerUtils;
@@ -19,9 +28,15 @@ public class ShardServiceTest {
     @Inject
     ShardDAO shardDAO;
 
+    @Inject
+    BridgeDAO bridgeDAO;
+
     @Inject
     ShardService shardService;
 
+    @Inject
+    ShardServiceImpl shardServiceImpl;
+
     @Inject
     DatabaseManagerUtils databaseManagerUtils;
 
@@ -45,4 +60,121 @@ public class ShardServiceTest {
 
         assertThat(id).isEqualTo(TestConstants.SHARD_ID);
     }
+
+    @Test
+    public void testGetAssignedShardIdSpreadsTheCustomers() {
+        databaseManagerUtils.cleanUp();
+        Shard first = persistShard(ShardType.TRADITIONAL, 1000);
+        Shard second = persistShard(ShardType.TRADITIONAL, 1000);
+        Shard knative = persistShard(ShardType.KNATIVE, 1000);
+
+        Map<String, Integer> customersByShard = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            String customerId = "customer-" + i;
+            String id = shardService.getAssignedShardId(customerId);
+            // The Bridges of a customer stay together
+            assertThat(shardService.getAssignedShardId(customerId)).isEqualTo(id);
+            customersByShard.merge(id, 1, Integer::sum);
+        }
+
+        assertThat(customersByShard).containsOnlyKeys(first.getId(), second.getId()).doesNotContainKey(knative.getId());
+        assertThat(customersByShard.values()).allSatisfy(count -> assertThat(count).isGreaterThan(50));
+    }
+
+    @Test
+    public void testGetAssignedShardIdSkipsFullShards() {
+        databaseManagerUtils.cleanUp();
+        Shard full = persistShard(ShardType.TRADITIONAL, 1);
+        Shard free = persistShard(ShardType.TRADITIONAL, 1000);
+        persistBridge(full, null);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(shardService.getAssignedShardId("customer-" + i)).isEqualTo(free.getId());
+        }
+    }
+
+    @Test
+    public void testGetAssignedShardIdWhenAllShardsAreFull() {
+        databaseManagerUtils.cleanUp();
+        Shard full = persistShard(ShardType.TRADITIONAL, 1);
+        Shard leastLoaded = persistShard(ShardType.TRADITIONAL, 2);
+        persistBridge(full, null);
+        persistBridge(leastLoaded, null);
+        persistBridge(leastLoaded, null);
+        persistBridge(full, null);
+
+        assertThat(shardService.getAssignedShardId("myId")).isEqualTo(leastLoaded.getId());
+    }
+
+    @Test
+    public void testShardRegisteredAtRuntimeIsAuthorized() {
+        databaseManagerUtils.cleanUp();
+        assertThat(shardService.isAuthorizedShard("new-shard")).isFalse();
+
+        Shard shard = new Shard();
+        shard.setId("new-shard");
+        shard.setType(ShardType.TRADITIONAL);
+        shardDAO.persist(shard);
+
+        // The unknown id is refused without querying the database until the next refresh, or until it expires
+        assertThat(shardService.isAuthorizedShard("new-shard")).isFalse();
+        shardServiceImpl.refreshAuthorizedShards();
+        assertThat(shardService.isAuthorizedShard("new-shard")).isTrue();
+    }
+
+    @Test
+    public void testShardAddedInTheDatabaseIsUsedAfterTheRefresh() {
+        databaseManagerUtils.cleanUp();
+        Shard full = persistShard(ShardType.TRADITIONAL, 1);
+        persistBridge(full, null);
+        assertThat(shardService.getAssignedShardId("myId")).isEqualTo(full.getId());
+
+        // The shards are registered directly in the database, outside of the second-level cache of Hibernate
+        insertShardInDatabase("new-shard");
+        shardServiceImpl.refreshAuthorizedShards();
+
+        assertThat(shardService.getAssignedShardId("myId")).isEqualTo("new-shard");
+    }
+
+    @Test
+    public void testRebalanceMovesOnlyBridgesNotDeployedYet() {
+        databaseManagerUtils.cleanUp();
+        Shard overloaded = persistShard(ShardType.TRADITIONAL, 1);
+        Shard free = persistShard(ShardType.TRADITIONAL, 1000);
+        Bridge deployed = persistBridge(overloaded, ManagedResourceStatus.READY);
+        Bridge provisioning = persistBridge(overloaded, ManagedResourceStatus.PROVISIONING);
+        Bridge accepted = persistBridge(overloaded, null);
+
+        shardService.rebalance();
+
+        assertThat(bridgeDAO.findById(deployed.getId()).getShardId()).isEqualTo(overloaded.getId());
+        assertThat(bridgeDAO.findById(provisioning.getId()).getShardId()).isEqualTo(free.getId());
+        assertThat(bridgeDAO.findById(accepted.getId()).getShardId()).isEqualTo(free.getId());
+    }
+
+    @Transactional
+    void insertShardInDatabase(String id) {
+        shardDAO.getEntityManager().createNativeQuery("insert into SHARD (id, type, capacity) values (:id, 'TRADITIONAL', 1000)")
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    private Shard persistShard(ShardType type, int capacity) {
+        Shard shard = new Shard();
+        shard.setType(type);
+        shard.setCapacity(capacity);
+        shardDAO.persist(shard);
+        return shard;
+    }
+
+    private Bridge persistBridge(Shard shard, ManagedResourceStatus dependencyStatus) {
+        Bridge bridge = new Bridge(UUID.randomUUID().toString());
+        bridge.setCustomerId(TestConstants.DEFAULT_CUSTOMER_ID);
+        bridge.setStatus(ManagedResourceStatus.ACCEPTED);
+        bridge.setDependencyStatus(dependencyStatus);
+        bridge.setSubmittedAt(ZonedDateTime.now());
+        bridge.setShardId(shard.getId());
+        bridgeDAO.persist(bridge);
+        return bridge;
+    }
 }
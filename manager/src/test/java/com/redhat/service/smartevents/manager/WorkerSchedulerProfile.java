@@ -10,7 +10,8 @@ import io.quarkus.test.junit.QuarkusTestProfile;
 public class WorkerSchedulerProfile implements QuarkusTestProfile {
 
     private static final Map<String, String> OVERRIDES = Map.of("quarkus.scheduler.enabled", "true",
-            "event-bridge.resources.workers.schedule", "* * * * * ?");
+            "event-bridge.resources.workers.schedule", "* * * * * ?",
+            "event-bridge.resources.workers.lease-duration", "0s");
 
     @Override
     public Map<String, String> getConfigOverrides() {
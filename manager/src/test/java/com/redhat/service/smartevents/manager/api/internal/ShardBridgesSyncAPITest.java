@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -11,12 +12,16 @@ import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.openshift.cloud.api.kas.auth.models.Topic;
 import com.redhat.service.smartevents.infra.api.APIConstants;
 import com.redhat.service.smartevents.infra.models.actions.BaseAction;
 import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
 import com.redhat.service.smartevents.infra.models.dto.KafkaConnectionDTO;
 import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.models.dto.ResourcesDeltaDTO;
+import com.redhat.service.smartevents.infra.models.dto.ShardChangesDTO;
+import com.redhat.service.smartevents.infra.models.dto.StatusUpdateResultDTO;
 import com.redhat.service.smartevents.infra.models.filters.BaseFilter;
 import com.redhat.service.smartevents.infra.models.filters.StringEquals;
 import com.redhat.service.smartevents.manager.RhoasService;
@@ -38,11 +43,14 @@ import io.quarkus.test.security.TestSecurity;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
+import io.smallrye.mutiny.Uni;
 
 import static io.restassured.RestAssured.given;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.when;
 
@@ -67,6 +75,8 @@ public class ShardBridgesSyncAPITest {
         databaseManagerUtils.cleanUpAndInitWithDefaultShard();
         when(jwt.getClaim(APIConstants.ACCOUNT_ID_SERVICE_ACCOUNT_ATTRIBUTE_CLAIM)).thenReturn(TestConstants.SHARD_ID);
         when(jwt.containsClaim(APIConstants.ACCOUNT_ID_SERVICE_ACCOUNT_ATTRIBUTE_CLAIM)).thenReturn(true);
+        when(rhoasServiceMock.createTopicAndGrantAccessFor(any(), any())).thenReturn(Uni.createFrom().item(new Topic()));
+        when(rhoasServiceMock.deleteTopicAndRevokeAccessFor(any(), any())).thenReturn(Uni.createFrom().voidItem());
     }
 
     @Test
@@ -201,6 +211,16 @@ public class ShardBridgesSyncAPITest {
         assertThat(metrics).contains("manager_bridge_status_change_total");
     }
 
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testChangesAreNotifiedWhenABridgeIsCreated() {
+        String version = TestUtils.awaitShardChanges(null).as(ShardChangesDTO.class).getVersion();
+
+        TestUtils.createBridge(new BridgeRequest(TestConstants.DEFAULT_BRIDGE_NAME));
+
+        assertThat(TestUtils.awaitShardChanges(version).as(ShardChangesDTO.class).getVersion()).isNotEqualTo(version);
+    }
+
     @Test
     @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
     public void testGetEmptyBridgesToDeploy() {
@@ -264,6 +284,65 @@ public class ShardBridgesSyncAPITest {
 
     }
 
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testGetBridgesDelta() {
+        TestUtils.createBridge(new BridgeRequest(TestConstants.DEFAULT_BRIDGE_NAME));
+
+        final List<ResourcesDeltaDTO<BridgeDTO>> deltas = new ArrayList<>();
+        await().atMost(5, SECONDS).untilAsserted(() -> {
+            deltas.clear();
+            deltas.add(TestUtils.getBridgesDelta(0).as(new TypeRef<ResourcesDeltaDTO<BridgeDTO>>() {
+            }));
+            assertThat(deltas.get(0).getItems()).hasSize(1);
+        });
+        long watermark = deltas.get(0).getWatermark();
+        assertThat(watermark).isPositive();
+
+        // Nothing changed since the watermark
+        ResourcesDeltaDTO<BridgeDTO> unchanged = TestUtils.getBridgesDelta(watermark).as(new TypeRef<ResourcesDeltaDTO<BridgeDTO>>() {
+        });
+        assertThat(unchanged.getItems()).isEmpty();
+        // The watermark follows the transactions of the whole database, not only the changes of the shard
+        assertThat(unchanged.getWatermark()).isGreaterThanOrEqualTo(watermark);
+
+        // The Bridge changed, but it has nothing left to deploy: only the watermark moves
+        BridgeDTO bridge = deltas.get(0).getItems().get(0);
+        bridge.setStatus(ManagedResourceStatus.PROVISIONING);
+        TestUtils.updateBridge(bridge).then().statusCode(200);
+
+        ResourcesDeltaDTO<BridgeDTO> provisioning = TestUtils.getBridgesDelta(watermark).as(new TypeRef<ResourcesDeltaDTO<BridgeDTO>>() {
+        });
+        assertThat(provisioning.getItems()).isEmpty();
+        assertThat(provisioning.getWatermark()).isGreaterThan(watermark);
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testGetProcessorsDelta() {
+        BridgeResponse bridgeResponse = TestUtils.createBridge(new BridgeRequest(TestConstants.DEFAULT_BRIDGE_NAME)).as(BridgeResponse.class);
+        BridgeDTO bridge =
+                new BridgeDTO(bridgeResponse.getId(), bridgeResponse.getName(), TEST_BRIDGE_ENDPOINT, TestConstants.DEFAULT_CUSTOMER_ID, ManagedResourceStatus.READY, new KafkaConnectionDTO());
+        TestUtils.updateBridge(bridge);
+        long watermark = TestUtils.getProcessorsDelta(0).as(new TypeRef<ResourcesDeltaDTO<ProcessorDTO>>() {
+        }).getWatermark();
+
+        TestUtils.addProcessorToBridge(bridgeResponse.getId(), new ProcessorRequest(TestConstants.DEFAULT_PROCESSOR_NAME, TestUtils.createKafkaAction()));
+
+        final List<ResourcesDeltaDTO<ProcessorDTO>> deltas = new ArrayList<>();
+        await().atMost(5, SECONDS).untilAsserted(() -> {
+            deltas.clear();
+            deltas.add(TestUtils.getProcessorsDelta(watermark).as(new TypeRef<ResourcesDeltaDTO<ProcessorDTO>>() {
+            }));
+            assertThat(deltas.get(0).getItems()).hasSize(1);
+        });
+        assertThat(deltas.get(0).getItems().get(0).getName()).isEqualTo(TestConstants.DEFAULT_PROCESSOR_NAME);
+        assertThat(deltas.get(0).getWatermark()).isGreaterThan(watermark);
+
+        assertThat(TestUtils.getProcessorsDelta(deltas.get(0).getWatermark()).as(new TypeRef<ResourcesDeltaDTO<ProcessorDTO>>() {
+        }).getItems()).isEmpty();
+    }
+
     @Test
     @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
     public void testNotifyDeployment() {
@@ -289,6 +368,73 @@ public class ShardBridgesSyncAPITest {
         });
     }
 
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testNotifyDeploymentOfSeveralBridges() {
+        TestUtils.createBridge(new BridgeRequest(TestConstants.DEFAULT_BRIDGE_NAME));
+        TestUtils.createBridge(new BridgeRequest(TestConstants.DEFAULT_BRIDGE_NAME + "-2"));
+
+        final List<BridgeDTO> bridgesToDeployOrDelete = new ArrayList<>();
+        await().atMost(5, SECONDS).untilAsserted(() -> {
+            bridgesToDeployOrDelete.clear();
+            bridgesToDeployOrDelete.addAll(TestUtils.getBridgesToDeployOrDelete().as(new TypeRef<List<BridgeDTO>>() {
+            }));
+            assertThat(bridgesToDeployOrDelete).hasSize(2);
+        });
+
+        List<BridgeDTO> updates = new ArrayList<>(bridgesToDeployOrDelete);
+        updates.forEach(b -> b.setStatus(ManagedResourceStatus.PROVISIONING));
+        // The update of a Bridge that does not exist anymore does not prevent the others
+        updates.add(new BridgeDTO("not-there", "not-there", null, TestConstants.DEFAULT_CUSTOMER_ID, ManagedResourceStatus.PROVISIONING, new KafkaConnectionDTO()));
+        List<StatusUpdateResultDTO> results = TestUtils.updateBridges(updates).then().statusCode(200).extract().as(new TypeRef<List<StatusUpdateResultDTO>>() {
+        });
+        assertThat(results).extracting(StatusUpdateResultDTO::getId).containsExactlyElementsOf(updates.stream().map(BridgeDTO::getId).collect(Collectors.toList()));
+        assertThat(results).filteredOn(StatusUpdateResultDTO::isUpdated).extracting(StatusUpdateResultDTO::getId)
+                .containsExactlyInAnyOrderElementsOf(bridgesToDeployOrDelete.stream().map(BridgeDTO::getId).collect(Collectors.toList()));
+
+        assertThat(TestUtils.getBridgesToDeployOrDelete().as(new TypeRef<List<BridgeDTO>>() {
+        })).isEmpty();
+        for (BridgeDTO bridge : bridgesToDeployOrDelete) {
+            assertThat(TestUtils.getBridge(bridge.getId()).as(BridgeResponse.class).getStatus()).isEqualTo(ManagedResourceStatus.PROVISIONING);
+        }
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void testNotifyDeploymentOfSeveralProcessors() {
+        BridgeResponse bridgeResponse = TestUtils.createBridge(new BridgeRequest(TestConstants.DEFAULT_BRIDGE_NAME)).as(BridgeResponse.class);
+        BridgeDTO bridge =
+                new BridgeDTO(bridgeResponse.getId(), bridgeResponse.getName(), TEST_BRIDGE_ENDPOINT, TestConstants.DEFAULT_CUSTOMER_ID, ManagedResourceStatus.READY, new KafkaConnectionDTO());
+        TestUtils.updateBridge(bridge);
+        TestUtils.addProcessorToBridge(bridgeResponse.getId(), new ProcessorRequest(TestConstants.DEFAULT_PROCESSOR_NAME, TestUtils.createKafkaAction()));
+        TestUtils.addProcessorToBridge(bridgeResponse.getId(), new ProcessorRequest(TestConstants.DEFAULT_PROCESSOR_NAME + "-2", TestUtils.createKafkaAction()));
+
+        final List<ProcessorDTO> processors = new ArrayList<>();
+        await().atMost(5, SECONDS).untilAsserted(() -> {
+            processors.clear();
+            processors.addAll(TestUtils.getProcessorsToDeployOrDelete().as(new TypeRef<List<ProcessorDTO>>() {
+            }));
+            assertThat(processors).hasSize(2);
+        });
+
+        List<ProcessorDTO> updates = new ArrayList<>(processors);
+        updates.forEach(p -> p.setStatus(ManagedResourceStatus.PROVISIONING));
+        // The update of a Processor that does not exist anymore does not prevent the others
+        ProcessorDTO missing = new ProcessorDTO();
+        missing.setId("not-there");
+        missing.setBridgeId(bridgeResponse.getId());
+        missing.setCustomerId(TestConstants.DEFAULT_CUSTOMER_ID);
+        missing.setStatus(ManagedResourceStatus.PROVISIONING);
+        updates.add(missing);
+        List<StatusUpdateResultDTO> results = TestUtils.updateProcessors(updates).then().statusCode(200).extract().as(new TypeRef<List<StatusUpdateResultDTO>>() {
+        });
+        assertThat(results).extracting(StatusUpdateResultDTO::getId, StatusUpdateResultDTO::isUpdated)
+                .containsExactly(tuple(processors.get(0).getId(), true), tuple(processors.get(1).getId(), true), tuple("not-there", false));
+
+        assertThat(TestUtils.getProcessorsToDeployOrDelete().as(new TypeRef<List<ProcessorDTO>>() {
+        })).isEmpty();
+    }
+
     @Test
     @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
     public void testNotifyDeletion() {
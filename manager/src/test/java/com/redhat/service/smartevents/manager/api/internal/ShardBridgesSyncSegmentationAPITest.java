@@ -9,6 +9,7 @@ import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.openshift.cloud.api.kas.auth.models.Topic;
 import com.redhat.service.smartevents.infra.api.APIConstants;
 import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
 import com.redhat.service.smartevents.manager.RhoasService;
@@ -24,6 +25,7 @@ import io.quarkus.test.junit.TestProfile;
 import io.quarkus.test.junit.mockito.InjectMock;
 import io.quarkus.test.security.TestSecurity;
 import io.restassured.common.mapper.TypeRef;
+import io.smallrye.mutiny.Uni;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -57,11 +59,13 @@ public class ShardBridgesSyncSegmentationAPITest {
 
         // Always assign to the default shard id
         when(shardService.getAssignedShardId(any(String.class))).thenReturn(TestConstants.SHARD_ID);
+        when(rhoasServiceMock.createTopicAndGrantAccessFor(any(), any())).thenReturn(Uni.createFrom().item(new Topic()));
+        when(rhoasServiceMock.deleteTopicAndRevokeAccessFor(any(), any())).thenReturn(Uni.createFrom().voidItem());
     }
 
     /**
-     * This test needs to be in a separated class since for the current implementation the ShardService fetches
-     * the authorized shards at startup. We inject a mock for this scenario.
+     * This test needs to be in a separated class since it injects a mock of the ShardService, that authorizes
+     * any shard and assigns all the Bridges to the default shard.
      */
     @Test
     @TestSecurity(user = "knative")
@@ -14,6 +14,7 @@ import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.openshift.cloud.api.kas.auth.models.Topic;
 import com.redhat.service.smartevents.infra.api.APIConstants;
 import com.redhat.service.smartevents.infra.models.actions.BaseAction;
 import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
@@ -46,10 +47,12 @@ import io.quarkus.test.junit.mockito.InjectMock;
 import io.quarkus.test.security.TestSecurity;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.response.Response;
+import io.smallrye.mutiny.Uni;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @QuarkusTest
@@ -69,8 +72,6 @@ public class ProcessorAPITest {
     JsonWebToken jwt;
 
     @InjectMock
-    @SuppressWarnings("unused")
-    //Although this is unused, we need to inject it to set-up RHOAS
     RhoasService rhoasServiceMock;
 
     @BeforeEach
@@ -78,6 +79,8 @@ public class ProcessorAPITest {
         databaseManagerUtils.cleanUpAndInitWithDefaultShard();
         when(jwt.getClaim(APIConstants.ACCOUNT_ID_SERVICE_ACCOUNT_ATTRIBUTE_CLAIM)).thenReturn(TestConstants.SHARD_ID);
         when(jwt.containsClaim(APIConstants.ACCOUNT_ID_SERVICE_ACCOUNT_ATTRIBUTE_CLAIM)).thenReturn(true);
+        when(rhoasServiceMock.createTopicAndGrantAccessFor(any(), any())).thenReturn(Uni.createFrom().item(new Topic()));
+        when(rhoasServiceMock.deleteTopicAndRevokeAccessFor(any(), any())).thenReturn(Uni.createFrom().voidItem());
     }
 
     @Test
@@ -119,6 +122,34 @@ public class ProcessorAPITest {
         assertRequestedAction(listResponse.getItems().get(0));
     }
 
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void listProcessors_cursor() {
+        BridgeResponse bridgeResponse = createAndDeployBridge();
+
+        ProcessorResponse p = TestUtils.addProcessorToBridge(bridgeResponse.getId(), new ProcessorRequest("myProcessor", TestUtils.createKafkaAction())).as(ProcessorResponse.class);
+        ProcessorResponse p2 = TestUtils.addProcessorToBridge(bridgeResponse.getId(), new ProcessorRequest("myProcessor2", TestUtils.createKafkaAction())).as(ProcessorResponse.class);
+
+        ProcessorListResponse listResponse = TestUtils.listProcessors(bridgeResponse.getId(), 0, 1).as(ProcessorListResponse.class);
+        assertThat(listResponse.getItems().get(0).getId()).isEqualTo(p.getId());
+        assertThat(listResponse.getNextCursor()).isNotNull();
+
+        listResponse = TestUtils.listProcessors(bridgeResponse.getId(), listResponse.getNextCursor(), 1).as(ProcessorListResponse.class);
+        assertThat(listResponse.getSize()).isEqualTo(1L);
+        assertThat(listResponse.getTotal()).isNull();
+        assertThat(listResponse.getNextCursor()).isNull();
+        assertThat(listResponse.getItems().get(0).getId()).isEqualTo(p2.getId());
+        assertRequestedAction(listResponse.getItems().get(0));
+    }
+
+    @Test
+    @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
+    public void listProcessors_invalidCursor() {
+        BridgeResponse bridgeResponse = createAndDeployBridge();
+
+        assertThat(TestUtils.listProcessors(bridgeResponse.getId(), "not-a-cursor", 1).getStatusCode()).isEqualTo(400);
+    }
+
     @Test
     @TestSecurity(user = TestConstants.DEFAULT_CUSTOMER_ID)
     public void listProcessors_bridgeDoesNotExist() {
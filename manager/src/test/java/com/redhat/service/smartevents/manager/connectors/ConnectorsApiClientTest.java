@@ -68,7 +68,7 @@ class ConnectorsApiClientTest {
 
         when(connectorsApi.getConnector(any())).thenThrow(exception);
 
-        assertThat(connectorsApiClient.getConnector(TEST_CONNECTOR_EXTERNAL_ID)).isNull();
+        assertThat(connectorsApiClient.getConnector(TEST_CONNECTOR_EXTERNAL_ID).await().indefinitely()).isNull();
     }
 
     @Test
@@ -80,14 +80,14 @@ class ConnectorsApiClientTest {
 
         when(connectorsApi.getConnector(any())).thenThrow(exception);
 
-        assertThatThrownBy(() -> connectorsApiClient.getConnector(TEST_CONNECTOR_EXTERNAL_ID)).isInstanceOf(ConnectorGetException.class);
+        assertThatThrownBy(() -> connectorsApiClient.getConnector(TEST_CONNECTOR_EXTERNAL_ID).await().indefinitely()).isInstanceOf(ConnectorGetException.class);
     }
 
     @Test
     void doCreateConnectorApi() throws ApiException {
         when(connectorsApi.createConnector(any(), any())).thenReturn(testConnector());
 
-        Connector connector = connectorsApiClient.createConnector(testConnectorEntity());
+        Connector connector = connectorsApiClient.createConnector(testConnectorEntity()).await().indefinitely();
         assertThat(connector).isNotNull();
         assertThat(connector.getId()).isEqualTo(TEST_CONNECTOR_EXTERNAL_ID);
 
@@ -113,12 +113,12 @@ class ConnectorsApiClientTest {
 
         when(connectorsApi.createConnector(any(), any())).thenThrow(exception);
 
-        assertThatThrownBy(() -> connectorsApiClient.createConnector(testConnectorEntity())).isInstanceOf(ConnectorCreationException.class);
+        assertThatThrownBy(() -> connectorsApiClient.createConnector(testConnectorEntity()).await().indefinitely()).isInstanceOf(ConnectorCreationException.class);
     }
 
     @Test
     void doDeleteConnector() throws ApiException {
-        connectorsApiClient.deleteConnector(TEST_CONNECTOR_ID);
+        connectorsApiClient.deleteConnector(TEST_CONNECTOR_ID).await().indefinitely();
 
         verify(connectorsApi).deleteConnector(TEST_CONNECTOR_ID);
     }
@@ -132,7 +132,7 @@ class ConnectorsApiClientTest {
 
         when(connectorsApi.deleteConnector(any())).thenThrow(exception);
 
-        assertThatThrownBy(() -> connectorsApiClient.deleteConnector(TEST_CONNECTOR_ID)).isInstanceOf(ConnectorDeletionException.class);
+        assertThatThrownBy(() -> connectorsApiClient.deleteConnector(TEST_CONNECTOR_ID).await().indefinitely()).isInstanceOf(ConnectorDeletionException.class);
     }
 
     @Test
@@ -141,7 +141,7 @@ class ConnectorsApiClientTest {
 
         when(connectorsApi.deleteConnector(any())).thenReturn(error);
 
-        assertThatThrownBy(() -> connectorsApiClient.deleteConnector(TEST_CONNECTOR_ID)).isInstanceOf(ConnectorDeletionException.class);
+        assertThatThrownBy(() -> connectorsApiClient.deleteConnector(TEST_CONNECTOR_ID).await().indefinitely()).isInstanceOf(ConnectorDeletionException.class);
     }
 
     private Connector testConnector() {
@@ -2,13 +2,20 @@ package com.redhat.service.smartevents.manager.dao;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.inject.Inject;
 import javax.transaction.Transactional;
+import javax.transaction.UserTransaction;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.redhat.service.smartevents.infra.exceptions.definitions.user.BadRequestException;
 import com.redhat.service.smartevents.infra.models.ListResult;
 import com.redhat.service.smartevents.infra.models.QueryInfo;
 import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
@@ -19,6 +26,7 @@ import com.redhat.service.smartevents.manager.utils.DatabaseManagerUtils;
 import io.quarkus.test.junit.QuarkusTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 @QuarkusTest
 public class BridgeDAOTest {
@@ -29,6 +37,9 @@ public class BridgeDAOTest {
     @Inject
     DatabaseManagerUtils databaseManagerUtils;
 
+    @Inject
+    UserTransaction userTransaction;
+
     @BeforeEach
     public void cleanUp() {
         databaseManagerUtils.cleanUpAndInitWithDefaultShard();
@@ -139,6 +150,68 @@ public class BridgeDAOTest {
         assertThat(retrievedBridges.getPage()).isEqualTo(5);
     }
 
+    @Test
+    public void testListByCustomerIdWithCursor() {
+        for (int i = 0; i < 10; i++) {
+            String id = String.valueOf(i);
+            Bridge bridge = buildBridge(id, id);
+            bridgeDAO.persist(bridge);
+        }
+
+        ListResult<Bridge> retrievedBridges = bridgeDAO.findByCustomerId(TestConstants.DEFAULT_CUSTOMER_ID, new QueryInfo(null, 4, false));
+        assertThat(retrievedBridges.getTotal()).isNull();
+        assertThat(retrievedBridges.getItems()).extracting(Bridge::getId).containsExactly("9", "8", "7", "6");
+        assertThat(retrievedBridges.getNextCursor()).isNotNull();
+
+        retrievedBridges = bridgeDAO.findByCustomerId(TestConstants.DEFAULT_CUSTOMER_ID, new QueryInfo(retrievedBridges.getNextCursor(), 4, false));
+        assertThat(retrievedBridges.getItems()).extracting(Bridge::getId).containsExactly("5", "4", "3", "2");
+        assertThat(retrievedBridges.getNextCursor()).isNotNull();
+
+        retrievedBridges = bridgeDAO.findByCustomerId(TestConstants.DEFAULT_CUSTOMER_ID, new QueryInfo(retrievedBridges.getNextCursor(), 4, true));
+        assertThat(retrievedBridges.getItems()).extracting(Bridge::getId).containsExactly("1", "0");
+        assertThat(retrievedBridges.getTotal()).isEqualTo(10);
+        assertThat(retrievedBridges.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void testListByCustomerIdWithInvalidCursor() {
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> bridgeDAO.findByCustomerId(TestConstants.DEFAULT_CUSTOMER_ID, new QueryInfo("not-a-cursor", 4, false)));
+    }
+
+    @Test
+    public void testChangeWatermarkStaysBelowRunningTransactions() throws Exception {
+        Bridge bridge = buildBridge(TestConstants.DEFAULT_BRIDGE_ID, TestConstants.DEFAULT_BRIDGE_NAME);
+        bridge.setDependencyStatus(ManagedResourceStatus.READY);
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> transactionId = executor.submit(() -> {
+                userTransaction.begin();
+                bridgeDAO.persist(bridge);
+                bridgeDAO.flush();
+                long id = ((Number) bridgeDAO.getEntityManager().createNativeQuery("select txid_current()").getSingleResult()).longValue();
+                written.countDown();
+                commit.await(10, TimeUnit.SECONDS);
+                userTransaction.commit();
+                return id;
+            });
+            assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // A change that is not committed yet may commit after more recent ones: the watermark does not move past it
+            long watermark = bridgeDAO.findChangeWatermark();
+            commit.countDown();
+            assertThat(watermark).isLessThan(transactionId.get(10, TimeUnit.SECONDS));
+
+            assertThat(bridgeDAO.findByShardIdWithReadyDependenciesChangedSince(TestConstants.SHARD_ID, watermark, bridgeDAO.findChangeWatermark()))
+                    .extracting(Bridge::getId)
+                    .containsExactly(TestConstants.DEFAULT_BRIDGE_ID);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private Bridge buildBridge(String id, String name) {
         Bridge bridge = new Bridge();
         bridge.setId(id);
@@ -214,6 +214,25 @@ public class ProcessorDAOTest {
         listResult.getItems().forEach((px) -> assertThat(px.getId()).isIn(p.getId(), p1.getId()));
     }
 
+    @Test
+    public void findByBridgeIdAndCustomerId_cursor() {
+        Bridge b = createBridge();
+        Processor p = createProcessor(b, "foo");
+        Processor p1 = createProcessor(b, "bar");
+        Processor p2 = createProcessor(b, "baz");
+
+        ListResult<Processor> listResult = processorDAO.findByBridgeIdAndCustomerId(b.getId(), TestConstants.DEFAULT_CUSTOMER_ID, new QueryInfo(null, 2, false));
+        assertThat(listResult.getTotal()).isNull();
+        assertThat(listResult.getItems()).extracting(Processor::getId).containsExactly(p.getId(), p1.getId());
+        assertThat(listResult.getItems()).allSatisfy(px -> assertThat(px.getBridge().getId()).isEqualTo(b.getId()));
+        assertThat(listResult.getNextCursor()).isNotNull();
+
+        listResult = processorDAO.findByBridgeIdAndCustomerId(b.getId(), TestConstants.DEFAULT_CUSTOMER_ID, new QueryInfo(listResult.getNextCursor(), 2, false));
+        assertThat(listResult.getItems()).extracting(Processor::getId).containsExactly(p2.getId());
+        assertThat(listResult.getItems().get(0).getDefinition()).isNotNull();
+        assertThat(listResult.getNextCursor()).isNull();
+    }
+
     @Test
     public void findByBridgeIdAndCustomerId_noProcessors() {
         Bridge b = createBridge();
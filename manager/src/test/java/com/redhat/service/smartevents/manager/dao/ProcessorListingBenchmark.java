@@ -0,0 +1,132 @@
+package com.redhat.service.smartevents.manager.dao;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.redhat.service.smartevents.infra.models.ListResult;
+import com.redhat.service.smartevents.infra.models.QueryInfo;
+import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
+import com.redhat.service.smartevents.manager.TestConstants;
+import com.redhat.service.smartevents.manager.models.Bridge;
+import com.redhat.service.smartevents.manager.models.Processor;
+import com.redhat.service.smartevents.manager.utils.DatabaseManagerUtils;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the listing of the Processors of a Bridge with 100k Processors by page number, counting them on every request as the
+ * API did, with the listing from the cursor of the previous page without counting them.
+ * Run it with {@code mvn test -Dtest=ProcessorListingBenchmark}, it is not executed as part of the test suite.
+ */
+@QuarkusTest
+public class ProcessorListingBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessorListingBenchmark.class);
+
+    private static final int PROCESSORS = 100_000;
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final int[] PAGES = { 0, 100, 250, 500, 750, 999 };
+
+    private static final int ITERATIONS = 20;
+
+    @Inject
+    BridgeDAO bridgeDAO;
+
+    @Inject
+    ProcessorDAO processorDAO;
+
+    @Inject
+    DatabaseManagerUtils databaseManagerUtils;
+
+    private Bridge bridge;
+
+    @BeforeEach
+    public void setup() {
+        databaseManagerUtils.cleanUpAndInitWithDefaultShard();
+        bridge = createProcessors();
+    }
+
+    @Test
+    public void benchmark() {
+        // Walks all the pages with the cursors once, to know the cursor of every page
+        List<String> cursors = new ArrayList<>();
+        String cursor = null;
+        long walkStart = System.nanoTime();
+        do {
+            cursors.add(cursor);
+            cursor = listFromCursor(cursor).getNextCursor();
+        } while (cursor != null);
+        long walkMillis = (System.nanoTime() - walkStart) / 1_000_000;
+        assertThat(cursors).hasSize(PROCESSORS / PAGE_SIZE);
+        LOGGER.info("Listed the {} Processors with the cursors in {} ms", PROCESSORS, walkMillis);
+
+        for (int page : PAGES) {
+            String pageCursor = cursors.get(page);
+            assertThat(ids(listFromPage(page))).isEqualTo(ids(listFromCursor(pageCursor)));
+
+            double pageMillis = averageMillis(() -> listFromPage(page));
+            double cursorMillis = averageMillis(() -> listFromCursor(pageCursor));
+            LOGGER.info("Page {}: {} ms by page number and count, {} ms from the cursor", page, String.format("%.2f", pageMillis), String.format("%.2f", cursorMillis));
+        }
+    }
+
+    @Transactional
+    Bridge createProcessors() {
+        Bridge b = new Bridge(TestConstants.DEFAULT_BRIDGE_NAME);
+        b.setCustomerId(TestConstants.DEFAULT_CUSTOMER_ID);
+        b.setStatus(ManagedResourceStatus.READY);
+        b.setSubmittedAt(ZonedDateTime.now());
+        b.setShardId(TestConstants.SHARD_ID);
+        bridgeDAO.persist(b);
+
+        processorDAO.getEntityManager().createNativeQuery("insert into PROCESSOR (id, bridge_id, name, submitted_at, status, version, definition, shard_id) " +
+                "select md5(cast(random() as text) || i), :bridgeId, 'processor-' || i, now() - (i * interval '1 millisecond'), 'READY', 0, " +
+                "cast('{\"filters\": [], \"requestedAction\": {\"type\": \"KafkaTopic\", \"parameters\": {\"topic\": \"topic\"}}}' as jsonb), :shardId " +
+                "from generate_series(1, :count) i")
+                .setParameter("bridgeId", b.getId())
+                .setParameter("shardId", TestConstants.SHARD_ID)
+                .setParameter("count", PROCESSORS)
+                .executeUpdate();
+        processorDAO.getEntityManager().createNativeQuery("analyze PROCESSOR").executeUpdate();
+        return b;
+    }
+
+    private ListResult<Processor> listFromPage(int page) {
+        return processorDAO.findByBridgeIdAndCustomerId(bridge.getId(), bridge.getCustomerId(), new QueryInfo(page, PAGE_SIZE));
+    }
+
+    private ListResult<Processor> listFromCursor(String cursor) {
+        return processorDAO.findByBridgeIdAndCustomerId(bridge.getId(), bridge.getCustomerId(), new QueryInfo(cursor, PAGE_SIZE, false));
+    }
+
+    private static List<String> ids(ListResult<Processor> result) {
+        return result.getItems().stream().map(Processor::getId).collect(Collectors.toList());
+    }
+
+    private static double averageMillis(Supplier<?> listing) {
+        // Warm up
+        for (int i = 0; i < ITERATIONS; i++) {
+            listing.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            listing.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000d / ITERATIONS;
+    }
+}
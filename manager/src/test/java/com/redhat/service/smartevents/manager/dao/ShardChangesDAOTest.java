@@ -0,0 +1,26 @@
+package com.redhat.service.smartevents.manager.dao;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+public class ShardChangesDAOTest {
+
+    @Inject
+    ShardChangesDAO shardChangesDAO;
+
+    @Test
+    public void testIncrementVersion() {
+        long version = shardChangesDAO.getVersion();
+
+        long incremented = shardChangesDAO.incrementVersion();
+
+        assertThat(incremented).isGreaterThan(version);
+        assertThat(shardChangesDAO.getVersion()).isEqualTo(incremented);
+    }
+}
@@ -1,5 +1,6 @@
 package com.redhat.service.smartevents.manager.dao;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -7,6 +8,10 @@ import javax.inject.Inject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
+import com.redhat.service.smartevents.manager.TestConstants;
+import com.redhat.service.smartevents.manager.models.Bridge;
+import com.redhat.service.smartevents.manager.models.Processor;
 import com.redhat.service.smartevents.manager.models.Shard;
 import com.redhat.service.smartevents.manager.models.ShardType;
 import com.redhat.service.smartevents.manager.utils.DatabaseManagerUtils;
@@ -21,6 +26,12 @@ public class ShardDAOTest {
     @Inject
     ShardDAO shardDAO;
 
+    @Inject
+    BridgeDAO bridgeDAO;
+
+    @Inject
+    ProcessorDAO processorDAO;
+
     @Inject
     DatabaseManagerUtils databaseManagerUtils;
 
@@ -50,4 +61,48 @@ public class ShardDAOTest {
         assertThat(knativeShards.size()).isEqualTo(1);
         assertThat(knativeShards.get(0).getId()).isEqualTo(knative.getId());
     }
+
+    @Test
+    public void testCountResourcesByShardId() {
+        Shard first = new Shard();
+        first.setType(ShardType.TRADITIONAL);
+        Shard second = new Shard();
+        second.setType(ShardType.TRADITIONAL);
+        Shard empty = new Shard();
+        empty.setType(ShardType.TRADITIONAL);
+        shardDAO.persist(first);
+        shardDAO.persist(second);
+        shardDAO.persist(empty);
+
+        Bridge firstBridge = persistBridge("firstBridge", first);
+        persistBridge("secondBridge", first);
+        Bridge thirdBridge = persistBridge("thirdBridge", second);
+        persistProcessor("firstProcessor", firstBridge);
+        persistProcessor("secondProcessor", thirdBridge);
+
+        assertThat(shardDAO.countResourcesByShardId())
+                .containsEntry(first.getId(), 3L)
+                .containsEntry(second.getId(), 2L)
+                .doesNotContainKey(empty.getId());
+    }
+
+    private Bridge persistBridge(String name, Shard shard) {
+        Bridge bridge = new Bridge(name);
+        bridge.setCustomerId(TestConstants.DEFAULT_CUSTOMER_ID);
+        bridge.setStatus(ManagedResourceStatus.ACCEPTED);
+        bridge.setSubmittedAt(ZonedDateTime.now());
+        bridge.setShardId(shard.getId());
+        bridgeDAO.persist(bridge);
+        return bridge;
+    }
+
+    private void persistProcessor(String name, Bridge bridge) {
+        Processor processor = new Processor();
+        processor.setName(name);
+        processor.setBridge(bridge);
+        processor.setStatus(ManagedResourceStatus.ACCEPTED);
+        processor.setSubmittedAt(ZonedDateTime.now());
+        processor.setShardId(bridge.getShardId());
+        processorDAO.persist(processor);
+    }
 }
@@ -48,6 +48,10 @@ class ResourceNamesProviderTest {
         assertIsRFC1035Label(bridgeTopicName);
         assertThat(bridgeTopicName).isEqualTo(expectedValidatedPrefix + ResourceNamesProviderImpl.BRIDGE_SHORTNAME + "-" + TEST_BRIDGE_ID);
 
+        String bridgeDeadLetterTopicName = resourceNamesProvider.getBridgeDeadLetterTopicName(TEST_BRIDGE_ID);
+        assertIsRFC1035Label(bridgeDeadLetterTopicName);
+        assertThat(bridgeDeadLetterTopicName).isEqualTo(bridgeTopicName + "-" + ResourceNamesProviderImpl.DEAD_LETTER_SHORTNAME);
+
         String processorConnectorName = resourceNamesProvider.getProcessorConnectorName(TEST_PROCESSOR_ID);
         assertIsRFC1035Label(processorConnectorName);
         assertThat(processorConnectorName).isEqualTo(expectedValidatedPrefix + ResourceNamesProviderImpl.PROCESSOR_SHORTNAME + "-" + TEST_PROCESSOR_ID);
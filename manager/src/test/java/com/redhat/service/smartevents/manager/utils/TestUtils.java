@@ -54,6 +54,14 @@ public class TestUtils {
                 .get(APIConstants.USER_API_BASE_PATH + bridgeId + "/processors?size=" + size + "&page=" + page);
     }
 
+    public static Response listProcessors(String bridgeId, String cursor, int size) {
+        return jsonRequest()
+                .queryParam("size", size)
+                .queryParam("cursor", cursor)
+                .queryParam("count", false)
+                .get(APIConstants.USER_API_BASE_PATH + bridgeId + "/processors");
+    }
+
     public static Response getProcessor(String bridgeId, String processorId) {
         return jsonRequest()
                 .get(APIConstants.USER_API_BASE_PATH + bridgeId + "/processors/" + processorId);
@@ -109,6 +117,38 @@ public class TestUtils {
                 .get(APIConstants.SHARD_API_BASE_PATH + "processors");
     }
 
+    public static Response getBridgesDelta(long since) {
+        return jsonRequest()
+                .queryParam("since", since)
+                .get(APIConstants.SHARD_API_BASE_PATH + "delta");
+    }
+
+    public static Response getProcessorsDelta(long since) {
+        return jsonRequest()
+                .queryParam("since", since)
+                .get(APIConstants.SHARD_API_BASE_PATH + "processors/delta");
+    }
+
+    public static Response awaitShardChanges(String sinceVersion) {
+        RequestSpecification request = jsonRequest();
+        if (sinceVersion != null) {
+            request = request.queryParam("since", sinceVersion);
+        }
+        return request.get(APIConstants.SHARD_API_BASE_PATH + "changes");
+    }
+
+    public static Response updateBridges(List<BridgeDTO> bridgeDTOs) {
+        return jsonRequest()
+                .body(bridgeDTOs)
+                .put(APIConstants.SHARD_API_BASE_PATH + "batch");
+    }
+
+    public static Response updateProcessors(List<ProcessorDTO> processorDTOs) {
+        return jsonRequest()
+                .body(processorDTOs)
+                .put(APIConstants.SHARD_API_BASE_PATH + "processors/batch");
+    }
+
     public static Response updateProcessor(ProcessorDTO processorDTO) {
         return jsonRequest()
                 .body(processorDTO)
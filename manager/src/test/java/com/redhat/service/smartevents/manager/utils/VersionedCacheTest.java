@@ -0,0 +1,97 @@
+package com.redhat.service.smartevents.manager.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
+import com.redhat.service.smartevents.manager.models.Processor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionedCacheTest {
+
+    private MeterRegistry registry;
+
+    private AtomicInteger computations;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        computations = new AtomicInteger();
+    }
+
+    @Test
+    void testValueIsComputedOncePerVersion() {
+        VersionedCache<Processor, String> cache = new VersionedCache<>("test", 10, registry);
+
+        assertThat(cache.get(processor("p1", 0), this::compute)).isEqualTo("p1-0");
+        assertThat(cache.get(processor("p1", 0), this::compute)).isEqualTo("p1-0");
+        assertThat(computations.get()).isEqualTo(1);
+
+        assertThat(cache.get(processor("p1", 1), this::compute)).isEqualTo("p1-1");
+        assertThat(computations.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(2);
+        assertThat(registry.get(VersionedCache.SIZE_METRIC_NAME).tag(VersionedCache.CACHE_TAG, "test").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void testModifiedResourceIsNotCached() {
+        VersionedCache<Processor, String> cache = new VersionedCache<>("test", 10, registry);
+        Processor modified = processor("p1", 0);
+        modified.setStatus(ManagedResourceStatus.DEPROVISION);
+
+        cache.get(modified, this::compute);
+        cache.get(modified, this::compute);
+
+        assertThat(computations.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testLeastRecentlyUsedValueIsEvicted() {
+        VersionedCache<Processor, String> cache = new VersionedCache<>("test", 2, registry);
+        cache.get(processor("p1", 0), this::compute);
+        cache.get(processor("p2", 0), this::compute);
+        cache.get(processor("p1", 0), this::compute);
+        cache.get(processor("p3", 0), this::compute);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(computations.get()).isEqualTo(3);
+
+        cache.get(processor("p1", 0), this::compute);
+        assertThat(computations.get()).isEqualTo(3);
+        cache.get(processor("p2", 0), this::compute);
+        assertThat(computations.get()).isEqualTo(4);
+    }
+
+    @Test
+    void testInvalidate() {
+        VersionedCache<Processor, String> cache = new VersionedCache<>("test", 10, registry);
+        cache.get(processor("p1", 0), this::compute);
+
+        cache.invalidate("p1");
+        cache.get(processor("p1", 0), this::compute);
+
+        assertThat(computations.get()).isEqualTo(2);
+    }
+
+    private String compute(Processor processor) {
+        computations.incrementAndGet();
+        return processor.getId() + "-" + processor.getVersion();
+    }
+
+    private double count(String result) {
+        return registry.get(VersionedCache.GETS_METRIC_NAME).tag(VersionedCache.CACHE_TAG, "test").tag(VersionedCache.RESULT_TAG, result).counter().count();
+    }
+
+    private static Processor processor(String id, long version) {
+        return Processor.view(id, id, ManagedResourceStatus.READY, null, null, null, version, null);
+    }
+}
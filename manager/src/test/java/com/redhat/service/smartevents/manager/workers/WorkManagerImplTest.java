@@ -1,8 +1,13 @@
 package com.redhat.service.smartevents.manager.workers;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.List;
 
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,19 +16,25 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.redhat.service.smartevents.manager.ShardChangesNotifier;
 import com.redhat.service.smartevents.manager.dao.WorkDAO;
 import com.redhat.service.smartevents.manager.models.Processor;
 import com.redhat.service.smartevents.manager.models.Work;
 
+import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.core.eventbus.EventBus;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,6 +50,12 @@ public class WorkManagerImplTest {
     @Mock
     EventBus eventBus;
 
+    @Mock
+    ShardChangesNotifier shardChangesNotifier;
+
+    @Mock
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
     @Mock
     Processor resource;
 
@@ -52,7 +69,13 @@ public class WorkManagerImplTest {
         this.manager = new WorkManagerImpl();
         this.manager.workDAO = this.workDAO;
         this.manager.eventBus = this.eventBus;
+        this.manager.shardChangesNotifier = this.shardChangesNotifier;
         this.manager.workerId = FIXED_WORKER_ID;
+        this.manager.leaseDuration = Duration.ofSeconds(25);
+        this.manager.leaseBatchSize = 10;
+        this.manager.retryInitialDelay = Duration.ofSeconds(1);
+        this.manager.retryMaxDelay = Duration.ofSeconds(30);
+        this.manager.transactionSynchronizationRegistry = this.transactionSynchronizationRegistry;
     }
 
     @Test
@@ -70,6 +93,34 @@ public class WorkManagerImplTest {
         assertThat(work.getManagedResourceId()).isEqualTo(RESOURCE_ID);
 
         verify(eventBus, never()).requestAndForget(anyString(), any(Work.class));
+        verify(shardChangesNotifier).notifyChangesAfterCommit();
+    }
+
+    @Test
+    void scheduleFiresEventForWorkAfterCommit() {
+        when(resource.getId()).thenReturn(RESOURCE_ID);
+        when(workDAO.findByManagedResource(resource)).thenReturn(null);
+        ArgumentCaptor<Synchronization> synchronization = ArgumentCaptor.forClass(Synchronization.class);
+
+        Work work = manager.schedule(resource);
+
+        assertThat(work.getLeaseExpiresAt()).isNotNull();
+        verify(transactionSynchronizationRegistry).registerInterposedSynchronization(synchronization.capture());
+        synchronization.getValue().afterCompletion(Status.STATUS_COMMITTED);
+        verify(eventBus).requestAndForget(work.getType(), work);
+    }
+
+    @Test
+    void scheduleDoesNotFireEventForWorkRolledBack() {
+        when(resource.getId()).thenReturn(RESOURCE_ID);
+        when(workDAO.findByManagedResource(resource)).thenReturn(null);
+        ArgumentCaptor<Synchronization> synchronization = ArgumentCaptor.forClass(Synchronization.class);
+
+        manager.schedule(resource);
+
+        verify(transactionSynchronizationRegistry).registerInterposedSynchronization(synchronization.capture());
+        synchronization.getValue().afterCompletion(Status.STATUS_ROLLEDBACK);
+        verify(eventBus, never()).requestAndForget(anyString(), any(Work.class));
     }
 
     @Test
@@ -121,6 +172,7 @@ public class WorkManagerImplTest {
         manager.complete(work);
 
         verify(workDAO).deleteById(work.getId());
+        verify(shardChangesNotifier).notifyChangesAfterCommit();
     }
 
     @Test
@@ -130,6 +182,7 @@ public class WorkManagerImplTest {
         manager.complete(new Work());
 
         verify(workDAO, never()).deleteById(anyString());
+        verify(shardChangesNotifier, never()).notifyChangesAfterCommit();
     }
 
     @Test
@@ -139,7 +192,7 @@ public class WorkManagerImplTest {
         Work work2 = new Work();
         work2.setType("Type2");
 
-        when(workDAO.findByWorkerId(anyString())).thenReturn(List.of(work1, work2));
+        when(workDAO.lease(eq(FIXED_WORKER_ID), any(ZonedDateTime.class), any(ZonedDateTime.class), eq(10))).thenReturn(List.of(work1, work2));
 
         manager.processWorkQueue();
 
@@ -148,10 +201,67 @@ public class WorkManagerImplTest {
     }
 
     @Test
-    void reconnectDroppedWorkers() {
-        manager.reconnectDroppedWorkers();
+    void rescheduleKeepsTheLeaseUntilTheRetry() {
+        manager.retryInitialDelay = Duration.ofHours(1);
+        Work work = new Work();
+        when(workDAO.renewLease(eq(work.getId()), eq(FIXED_WORKER_ID), any(ZonedDateTime.class))).thenReturn(true);
+
+        manager.reschedule(work);
+        // The Work is already waiting for its retry
+        manager.reschedule(work);
 
-        verify(workDAO).reconnectDroppedWorkers(eq(FIXED_WORKER_ID), any(ZonedDateTime.class));
+        verify(workDAO).renewLease(eq(work.getId()), eq(FIXED_WORKER_ID), any(ZonedDateTime.class));
+        verify(eventBus, never()).requestAndForget(anyString(), any(Work.class));
+    }
+
+    @Test
+    void rescheduleWhenLeaseIsLost() {
+        Work work = new Work();
+        when(workDAO.renewLease(eq(work.getId()), eq(FIXED_WORKER_ID), any(ZonedDateTime.class))).thenReturn(false);
+
+        manager.reschedule(work);
+        manager.reschedule(work);
+
+        verify(workDAO, times(2)).renewLease(eq(work.getId()), eq(FIXED_WORKER_ID), any(ZonedDateTime.class));
+        verify(eventBus, never()).requestAndForget(anyString(), any(Work.class));
+    }
+
+    @Test
+    void holdLeaseRenewsTheLeaseUntilTheOperationTerminates() {
+        manager.leaseDuration = Duration.ofMillis(300);
+        Work work = new Work();
+        when(workDAO.renewLease(eq(work.getId()), eq(FIXED_WORKER_ID), any(ZonedDateTime.class))).thenReturn(true);
+
+        String result = manager.holdLease(work, Uni.createFrom().item("done").onItem().delayIt().by(Duration.ofMillis(1000)))
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(result).isEqualTo("done");
+        verify(workDAO, atLeast(3)).renewLease(eq(work.getId()), eq(FIXED_WORKER_ID), any(ZonedDateTime.class));
+        // The lease is not renewed anymore once the operation terminated
+        clearInvocations(workDAO);
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(1))
+                .untilAsserted(() -> verify(workDAO, never()).renewLease(anyString(), anyString(), any(ZonedDateTime.class)));
+    }
+
+    @Test
+    void retryDelayGrowsExponentially() {
+        assertThat(manager.getRetryDelay(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(manager.getRetryDelay(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(manager.getRetryDelay(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(manager.getRetryDelay(6)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(manager.getRetryDelay(100)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void processWorkQueueLeasesTheWork() {
+        ArgumentCaptor<ZonedDateTime> now = ArgumentCaptor.forClass(ZonedDateTime.class);
+        ArgumentCaptor<ZonedDateTime> leaseExpiresAt = ArgumentCaptor.forClass(ZonedDateTime.class);
+        when(workDAO.lease(eq(FIXED_WORKER_ID), now.capture(), leaseExpiresAt.capture(), eq(10))).thenReturn(List.of());
+
+        manager.processWorkQueue();
+
+        assertThat(leaseExpiresAt.getValue()).isEqualTo(now.getValue().plusSeconds(25));
+        verify(eventBus, never()).requestAndForget(anyString(), any(Work.class));
     }
 
 }
@@ -0,0 +1,142 @@
+package com.redhat.service.smartevents.manager.workers;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.service.smartevents.manager.dao.WorkDAO;
+import com.redhat.service.smartevents.manager.models.Bridge;
+import com.redhat.service.smartevents.manager.models.Work;
+import com.redhat.service.smartevents.manager.utils.DatabaseManagerUtils;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.mutiny.core.eventbus.EventBus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs several instances of the {@link WorkManagerImpl} against the same database, as several replicas of the manager would.
+ */
+@QuarkusTest
+public class WorkManagerLeasingTest {
+
+    private static final int WORK_COUNT = 30;
+
+    private static final int INSTANCES = 3;
+
+    @Inject
+    WorkDAO workDAO;
+
+    @Inject
+    WorkManager workManager;
+
+    @Inject
+    DatabaseManagerUtils databaseManagerUtils;
+
+    private final Map<String, List<String>> firedWorkByInstance = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        databaseManagerUtils.cleanUp();
+        for (int i = 0; i < WORK_COUNT; i++) {
+            workDAO.persist(Work.forResource(new Bridge("bridge-" + i), "scheduler"));
+        }
+        executor = Executors.newFixedThreadPool(INSTANCES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testInstancesLeaseDistinctWork() throws Exception {
+        CyclicBarrier start = new CyclicBarrier(INSTANCES);
+        List<Future<?>> runs = new ArrayList<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            WorkManagerImpl instance = newInstance("instance-" + i);
+            runs.add(executor.submit(() -> {
+                start.await();
+                instance.processWorkQueue();
+                return null;
+            }));
+        }
+        for (Future<?> run : runs) {
+            run.get(30, TimeUnit.SECONDS);
+        }
+
+        List<String> fired = firedWorkByInstance.values().stream().flatMap(List::stream).collect(Collectors.toList());
+        assertThat(fired).hasSize(WORK_COUNT).doesNotHaveDuplicates();
+        assertThat(workDAO.listAll()).allSatisfy(w -> {
+            assertThat(firedWorkByInstance.get(w.getWorkerId())).contains(w.getId());
+            assertThat(w.getLeaseExpiresAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void testLeasedWorkIsNotLeasedAgainUntilTheLeaseExpires() {
+        newInstance("instance-0").processWorkQueue();
+        newInstance("instance-1").processWorkQueue();
+
+        assertThat(firedWorkByInstance.get("instance-0")).hasSize(WORK_COUNT);
+        assertThat(firedWorkByInstance.get("instance-1")).isNullOrEmpty();
+
+        // Once the lease of the first instance expired, for instance because it went away, another instance takes over its Work
+        ZonedDateTime afterExpiry = ZonedDateTime.now().plusHours(2);
+        List<Work> leased = workDAO.lease("instance-1", afterExpiry, afterExpiry.plusHours(1), WORK_COUNT);
+
+        assertThat(leased).hasSize(WORK_COUNT);
+        assertThat(workDAO.listAll()).allSatisfy(w -> assertThat(w.getWorkerId()).isEqualTo("instance-1"));
+    }
+
+    @Test
+    void testAttemptsAreSharedByTheInstances() {
+        newInstance("instance-0").processWorkQueue();
+        Work work = workDAO.findById(firedWorkByInstance.get("instance-0").get(0));
+        workManager.recordAttempt(work);
+
+        ZonedDateTime afterExpiry = ZonedDateTime.now().plusHours(2);
+        List<Work> leased = workDAO.lease("instance-1", afterExpiry, afterExpiry.plusHours(1), WORK_COUNT);
+
+        assertThat(leased).filteredOn(w -> w.getId().equals(work.getId())).singleElement().satisfies(w -> assertThat(w.getAttempts()).isEqualTo(1));
+    }
+
+    private WorkManagerImpl newInstance(String workerId) {
+        EventBus eventBus = mock(EventBus.class);
+        doAnswer(invocation -> {
+            Work fired = invocation.getArgument(1);
+            firedWorkByInstance.computeIfAbsent(workerId, k -> new CopyOnWriteArrayList<>()).add(fired.getId());
+            return null;
+        }).when(eventBus).requestAndForget(anyString(), any());
+
+        WorkManagerImpl instance = new WorkManagerImpl();
+        instance.workDAO = workDAO;
+        instance.eventBus = eventBus;
+        instance.workerId = workerId;
+        instance.leaseDuration = Duration.ofHours(1);
+        instance.leaseBatchSize = WORK_COUNT;
+        return instance;
+    }
+}
@@ -31,7 +31,6 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 public class AbstractWorkerTest {
 
     @InjectMock
-    @SuppressWarnings("unused")
     //Needed to set up RHOAS for tests
     RhoasService rhoasService;
 
@@ -66,7 +65,7 @@ public class AbstractWorkerTest {
         Work work = workManager.schedule(bridge);
         assertThat(workManager.exists(work)).isTrue();
 
-        assertThatThrownBy(() -> worker.handleWork(work)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> worker.handleWork(work).await().indefinitely()).isInstanceOf(IllegalStateException.class);
     }
 
     @Test
@@ -80,7 +79,7 @@ public class AbstractWorkerTest {
         assertThat(workManager.exists(work)).isTrue();
         work.setAttempts(maxRetries + 1);
 
-        worker.handleWork(work);
+        worker.handleWork(work).await().indefinitely();
 
         assertThat(bridge.getStatus()).isEqualTo(ManagedResourceStatus.FAILED);
 
@@ -98,7 +97,7 @@ public class AbstractWorkerTest {
         assertThat(workManager.exists(work)).isTrue();
         work.setSubmittedAt(ZonedDateTime.now().minusSeconds(timeoutSeconds * 2L));
 
-        worker.handleWork(work);
+        worker.handleWork(work).await().indefinitely();
 
         assertThat(bridge.getStatus()).isEqualTo(ManagedResourceStatus.FAILED);
 
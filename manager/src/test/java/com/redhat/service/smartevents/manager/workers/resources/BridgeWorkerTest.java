@@ -11,11 +11,16 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import com.openshift.cloud.api.kas.auth.models.Topic;
 import com.redhat.service.smartevents.infra.exceptions.definitions.platform.InternalPlatformException;
 import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
 import com.redhat.service.smartevents.manager.RhoasService;
+import com.redhat.service.smartevents.manager.ShardService;
 import com.redhat.service.smartevents.manager.dao.BridgeDAO;
+import com.redhat.service.smartevents.manager.dao.ShardDAO;
 import com.redhat.service.smartevents.manager.models.Bridge;
+import com.redhat.service.smartevents.manager.models.Shard;
+import com.redhat.service.smartevents.manager.models.ShardType;
 import com.redhat.service.smartevents.manager.models.Work;
 import com.redhat.service.smartevents.manager.providers.ResourceNamesProvider;
 import com.redhat.service.smartevents.manager.utils.DatabaseManagerUtils;
@@ -27,11 +32,12 @@ import com.redhat.service.smartevents.test.resource.PostgresResource;
 import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectMock;
+import io.smallrye.mutiny.Uni;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +47,7 @@ public class BridgeWorkerTest {
 
     private static final String TEST_RESOURCE_ID = "123";
     private static final String TEST_TOPIC_NAME = "TopicName";
+    private static final String TEST_DEAD_LETTER_TOPIC_NAME = "TopicName-dlq";
 
     @InjectMock
     RhoasService rhoasService;
@@ -57,12 +64,20 @@ public class BridgeWorkerTest {
     @Inject
     BridgeDAO bridgeDAO;
 
+    @Inject
+    ShardDAO shardDAO;
+
+    @Inject
+    ShardService shardService;
+
     @Inject
     DatabaseManagerUtils databaseManagerUtils;
 
     @BeforeEach
     public void setup() {
         databaseManagerUtils.cleanUp();
+        when(rhoasService.createTopicAndGrantAccessFor(any(), any())).thenReturn(Uni.createFrom().item(new Topic()));
+        when(rhoasService.deleteTopicAndRevokeAccessFor(any(), any())).thenReturn(Uni.createFrom().voidItem());
     }
 
     @Test
@@ -70,7 +85,7 @@ public class BridgeWorkerTest {
         Work work = new Work();
         work.setManagedResourceId(TEST_RESOURCE_ID);
 
-        assertThatCode(() -> worker.handleWork(work)).isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> worker.handleWork(work).await().indefinitely()).isInstanceOf(IllegalStateException.class);
     }
 
     @Transactional
@@ -87,15 +102,17 @@ public class BridgeWorkerTest {
         Work work = workManager.schedule(bridge);
 
         when(resourceNamesProvider.getBridgeTopicName(bridge.getId())).thenReturn(TEST_TOPIC_NAME);
+        when(resourceNamesProvider.getBridgeDeadLetterTopicName(bridge.getId())).thenReturn(TEST_DEAD_LETTER_TOPIC_NAME);
         if (throwRhosError) {
-            when(rhoasService.createTopicAndGrantAccessFor(any(), any())).thenThrow(new InternalPlatformException("error"));
+            when(rhoasService.createTopicAndGrantAccessFor(any(), any())).thenReturn(Uni.createFrom().failure(new InternalPlatformException("error")));
         }
 
-        Bridge refreshed = worker.handleWork(work);
+        Bridge refreshed = worker.handleWork(work).await().indefinitely();
 
         assertThat(refreshed.getDependencyStatus()).isEqualTo(dependencyStatusWhenComplete);
         assertThat(workManager.exists(work)).isNotEqualTo(isWorkComplete);
         verify(rhoasService).createTopicAndGrantAccessFor(TEST_TOPIC_NAME, RhoasTopicAccessType.CONSUMER_AND_PRODUCER);
+        verify(rhoasService, times(throwRhosError ? 0 : 1)).createTopicAndGrantAccessFor(TEST_DEAD_LETTER_TOPIC_NAME, RhoasTopicAccessType.CONSUMER_AND_PRODUCER);
     }
 
     private static Stream<Arguments> srcHandleWorkProvisioningWithKnownResource() {
@@ -120,15 +137,17 @@ public class BridgeWorkerTest {
         Work work = workManager.schedule(bridge);
 
         when(resourceNamesProvider.getBridgeTopicName(bridge.getId())).thenReturn(TEST_TOPIC_NAME);
+        when(resourceNamesProvider.getBridgeDeadLetterTopicName(bridge.getId())).thenReturn(TEST_DEAD_LETTER_TOPIC_NAME);
         if (throwRhosError) {
-            doThrow(new InternalPlatformException("error")).when(rhoasService).deleteTopicAndRevokeAccessFor(any(), any());
+            when(rhoasService.deleteTopicAndRevokeAccessFor(any(), any())).thenReturn(Uni.createFrom().failure(new InternalPlatformException("error")));
         }
 
-        Bridge refreshed = worker.handleWork(work);
+        Bridge refreshed = worker.handleWork(work).await().indefinitely();
 
         assertThat(refreshed.getDependencyStatus()).isEqualTo(dependencyStatusWhenComplete);
         assertThat(workManager.exists(work)).isNotEqualTo(isWorkComplete);
         verify(rhoasService).deleteTopicAndRevokeAccessFor(TEST_TOPIC_NAME, RhoasTopicAccessType.CONSUMER_AND_PRODUCER);
+        verify(rhoasService, times(throwRhosError ? 0 : 1)).deleteTopicAndRevokeAccessFor(TEST_DEAD_LETTER_TOPIC_NAME, RhoasTopicAccessType.CONSUMER_AND_PRODUCER);
     }
 
     private static Stream<Arguments> srcHandleWorkDeletingWithKnownResource() {
@@ -139,4 +158,45 @@ public class BridgeWorkerTest {
                 Arguments.of(ManagedResourceStatus.DELETING, ManagedResourceStatus.DELETING, true, false));
     }
 
+    @Test
+    void handleWorkProvisioningDoesNotUndoARebalance() {
+        Shard overloaded = persistShard(0);
+        Shard free = persistShard(1000);
+        Bridge bridge = Fixtures.createBridge();
+        bridge.setStatus(ManagedResourceStatus.ACCEPTED);
+        bridge.setShardId(overloaded.getId());
+        bridgeDAO.persist(bridge);
+        Work work = workManager.schedule(bridge);
+
+        when(resourceNamesProvider.getBridgeTopicName(bridge.getId())).thenReturn(TEST_TOPIC_NAME);
+        when(resourceNamesProvider.getBridgeDeadLetterTopicName(bridge.getId())).thenReturn(TEST_DEAD_LETTER_TOPIC_NAME);
+        // The Bridge is moved to another shard while the worker waits for its topic
+        when(rhoasService.createTopicAndGrantAccessFor(any(), any())).thenReturn(Uni.createFrom().item(() -> {
+            shardService.rebalance();
+            return new Topic();
+        }), Uni.createFrom().item(new Topic()));
+
+        worker.handleWork(work).await().indefinitely();
+
+        // The worker merged a stale Bridge: its update fails instead of moving the Bridge back, and the Work is retried
+        Bridge moved = bridgeDAO.findById(bridge.getId());
+        assertThat(moved.getShardId()).isEqualTo(free.getId());
+        assertThat(moved.getDependencyStatus()).isEqualTo(ManagedResourceStatus.PROVISIONING);
+        assertThat(workManager.exists(work)).isTrue();
+
+        worker.handleWork(work).await().indefinitely();
+
+        Bridge ready = bridgeDAO.findById(bridge.getId());
+        assertThat(ready.getShardId()).isEqualTo(free.getId());
+        assertThat(ready.getDependencyStatus()).isEqualTo(ManagedResourceStatus.READY);
+        assertThat(workManager.exists(work)).isFalse();
+    }
+
+    private Shard persistShard(int capacity) {
+        Shard shard = new Shard();
+        shard.setType(ShardType.TRADITIONAL);
+        shard.setCapacity(capacity);
+        shardDAO.persist(shard);
+        return shard;
+    }
 }
@@ -14,6 +14,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import com.openshift.cloud.api.connector.models.Connector;
 import com.openshift.cloud.api.connector.models.ConnectorState;
 import com.openshift.cloud.api.connector.models.ConnectorStatusStatus;
+import com.openshift.cloud.api.kas.auth.models.Topic;
 import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
 import com.redhat.service.smartevents.manager.RhoasService;
 import com.redhat.service.smartevents.manager.connectors.ConnectorsApiClient;
@@ -33,9 +34,11 @@ import com.redhat.service.smartevents.test.resource.PostgresResource;
 import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectMock;
+import io.smallrye.mutiny.Uni;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -76,6 +79,9 @@ class ConnectorWorkerTest {
     @BeforeEach
     public void setup() {
         databaseManagerUtils.cleanUpAndInitWithDefaultShard();
+        when(rhoasService.createTopicAndGrantAccessFor(any(), any())).thenReturn(Uni.createFrom().item(new Topic()));
+        when(rhoasService.deleteTopicAndRevokeAccessFor(any(), any())).thenReturn(Uni.createFrom().voidItem());
+        when(connectorsApi.deleteConnector(any())).thenReturn(Uni.createFrom().voidItem());
     }
 
     @Test
@@ -83,7 +89,7 @@ class ConnectorWorkerTest {
         Work work = new Work();
         work.setManagedResourceId(TEST_RESOURCE_ID);
 
-        assertThatCode(() -> worker.handleWork(work)).isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> worker.handleWork(work).await().indefinitely()).isInstanceOf(IllegalStateException.class);
     }
 
     @Transactional
@@ -107,10 +113,10 @@ class ConnectorWorkerTest {
         connector.setId(TEST_CONNECTOR_EXTERNAL_ID);
         connector.setStatus(new ConnectorStatusStatus().state(connectorState));
 
-        when(connectorsApi.getConnector(TEST_CONNECTOR_EXTERNAL_ID)).thenReturn(null, connector);
-        when(connectorsApi.createConnector(connectorEntity)).thenReturn(connector);
+        when(connectorsApi.getConnector(TEST_CONNECTOR_EXTERNAL_ID)).thenReturn(Uni.createFrom().nullItem(), Uni.createFrom().item(connector));
+        when(connectorsApi.createConnector(connectorEntity)).thenReturn(Uni.createFrom().item(connector));
 
-        ConnectorEntity refreshed = worker.handleWork(work);
+        ConnectorEntity refreshed = worker.handleWork(work).await().indefinitely();
 
         verify(rhoasService).createTopicAndGrantAccessFor(connectorEntity.getTopicName(), RhoasTopicAccessType.PRODUCER);
         verify(connectorsApi).createConnector(connectorEntity);
@@ -118,7 +124,7 @@ class ConnectorWorkerTest {
         assertThat(refreshed.getDependencyStatus()).isEqualTo(ManagedResourceStatus.PROVISIONING);
 
         // This emulates a subsequent invocation by WorkManager
-        refreshed = worker.handleWork(work);
+        refreshed = worker.handleWork(work).await().indefinitely();
 
         verify(rhoasService, times(2)).createTopicAndGrantAccessFor(connectorEntity.getTopicName(), RhoasTopicAccessType.PRODUCER);
         verify(connectorsApi, atMostOnce()).createConnector(connectorEntity);
@@ -154,9 +160,9 @@ class ConnectorWorkerTest {
         connector.setStatus(new ConnectorStatusStatus().state(connectorState));
 
         // Managed Connector will initially be available before it is deleted
-        when(connectorsApi.getConnector(connectorEntity.getConnectorExternalId())).thenReturn(connector, null);
+        when(connectorsApi.getConnector(connectorEntity.getConnectorExternalId())).thenReturn(Uni.createFrom().item(connector), Uni.createFrom().nullItem());
 
-        ConnectorEntity refreshed = worker.handleWork(work);
+        ConnectorEntity refreshed = worker.handleWork(work).await().indefinitely();
 
         if (connectorState != ConnectorState.DELETED) {
             assertThat(refreshed.getStatus()).isEqualTo(ManagedResourceStatus.DELETING);
@@ -165,7 +171,7 @@ class ConnectorWorkerTest {
             verify(connectorsApi).deleteConnector(connectorEntity.getConnectorExternalId());
 
             // This emulates a subsequent invocation by WorkManager
-            refreshed = worker.handleWork(work);
+            refreshed = worker.handleWork(work).await().indefinitely();
         }
 
         verify(rhoasService).deleteTopicAndRevokeAccessFor(connectorEntity.getTopicName(), RhoasTopicAccessType.PRODUCER);
@@ -29,6 +29,7 @@ import com.redhat.service.smartevents.test.resource.PostgresResource;
 import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectMock;
+import io.smallrye.mutiny.Uni;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -73,7 +74,7 @@ public class ProcessorWorkerTest {
         Work work = new Work();
         work.setManagedResourceId(TEST_RESOURCE_ID);
 
-        assertThatCode(() -> worker.handleWork(work)).isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> worker.handleWork(work).await().indefinitely()).isInstanceOf(IllegalStateException.class);
     }
 
     @Transactional
@@ -88,7 +89,7 @@ public class ProcessorWorkerTest {
 
         Work work = workManager.schedule(processor);
 
-        Processor refreshed = worker.handleWork(work);
+        Processor refreshed = worker.handleWork(work).await().indefinitely();
 
         assertThat(refreshed.getDependencyStatus()).isEqualTo(ManagedResourceStatus.READY);
         assertThat(workManager.exists(work)).isFalse();
@@ -115,10 +116,10 @@ public class ProcessorWorkerTest {
         doAnswer((i) -> {
             //Emulate ConnectorWorker completing work
             connectorEntity.setStatus(dependencyStatusWhenComplete);
-            return connectorEntity;
+            return Uni.createFrom().item(connectorEntity);
         }).when(connectorWorker).handleWork(any(Work.class));
 
-        Processor refreshed = worker.handleWork(work);
+        Processor refreshed = worker.handleWork(work).await().indefinitely();
 
         assertThat(refreshed.getStatus()).isEqualTo(statusWhenComplete);
         assertThat(refreshed.getDependencyStatus()).isEqualTo(dependencyStatusWhenComplete);
@@ -157,7 +158,7 @@ public class ProcessorWorkerTest {
 
         Work work = workManager.schedule(processor);
 
-        Processor refreshed = worker.handleWork(work);
+        Processor refreshed = worker.handleWork(work).await().indefinitely();
 
         assertThat(refreshed.getDependencyStatus()).isEqualTo(ManagedResourceStatus.DELETED);
         assertThat(refreshed.getModifiedAt()).isNotNull();
@@ -185,10 +186,10 @@ public class ProcessorWorkerTest {
         doAnswer((i) -> {
             //Emulate ConnectorWorker completing work
             connectorEntity.setStatus(dependencyStatusWhenComplete);
-            return connectorEntity;
+            return Uni.createFrom().item(connectorEntity);
         }).when(connectorWorker).handleWork(any(Work.class));
 
-        Processor refreshed = worker.handleWork(work);
+        Processor refreshed = worker.handleWork(work).await().indefinitely();
 
         assertThat(refreshed.getStatus()).isEqualTo(statusWhenComplete);
         assertThat(refreshed.getDependencyStatus()).isEqualTo(dependencyStatusWhenComplete);
@@ -1,5 +1,19 @@
 package com.redhat.service.smartevents.processor.actions;
 
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+
 public interface ActionInvoker {
-    void onEvent(String event);
+
+    /**
+     * @return a {@link Uni} that completes when the event has been delivered, or fails when the delivery failed.
+     */
+    Uni<Void> onEvent(String event);
+
+    /**
+     * Invoked with the bytes of the transformed event. Invokers that can send bytes as they are should override it.
+     */
+    default Uni<Void> onEvent(Buffer event) {
+        return onEvent(event.toString());
+    }
 }
@@ -1,5 +1,7 @@
 package com.redhat.service.smartevents.processor.actions.kafkatopic;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.eclipse.microprofile.reactive.messaging.Emitter;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.slf4j.Logger;
@@ -8,6 +10,7 @@ import org.slf4j.LoggerFactory;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
 import com.redhat.service.smartevents.processor.actions.ActionInvoker;
 
+import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
 
 public class KafkaTopicActionInvoker implements ActionInvoker {
@@ -27,7 +30,7 @@ public class KafkaTopicActionInvoker implements ActionInvoker {
     }
 
     @Override
-    public void onEvent(String event) {
+    public Uni<Void> onEvent(String event) {
 
         /*
          * As the user can specify their target topic in the Action configuration, we set
@@ -37,7 +40,16 @@ public class KafkaTopicActionInvoker implements ActionInvoker {
         OutgoingKafkaRecordMetadata<?> metadata = OutgoingKafkaRecordMetadata.builder()
                 .withTopic(topic)
                 .build();
-        emitter.send(Message.of(event).addMetadata(metadata));
+        CompletableFuture<Void> delivery = new CompletableFuture<>();
+        Message<String> message = Message.of(event, () -> {
+            delivery.complete(null);
+            return CompletableFuture.completedFuture(null);
+        }, t -> {
+            delivery.completeExceptionally(t);
+            return CompletableFuture.completedFuture(null);
+        });
+        emitter.send(message.addMetadata(metadata));
         LOG.info("Emitted CloudEvent to target topic '{}' for Action on Processor '{}' on Bridge '{}'", topic, processor.getId(), processor.getBridgeId());
+        return Uni.createFrom().completionStage(delivery);
     }
 }
@@ -1,38 +1,118 @@
 package com.redhat.service.smartevents.processor.actions.webhook;
 
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.redhat.service.smartevents.infra.auth.AbstractOidcClient;
+import com.redhat.service.smartevents.infra.exceptions.definitions.platform.HTTPResponseException;
+import com.redhat.service.smartevents.infra.utils.InFlightLimiter;
 import com.redhat.service.smartevents.processor.actions.ActionInvoker;
 
-import io.vertx.core.json.JsonObject;
+import io.smallrye.mutiny.TimeoutException;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.mutiny.core.buffer.Buffer;
 import io.vertx.mutiny.ext.web.client.HttpRequest;
+import io.vertx.mutiny.ext.web.client.HttpResponse;
 import io.vertx.mutiny.ext.web.client.WebClient;
 
 public class WebhookActionInvoker implements ActionInvoker {
 
+    private static final Logger LOG = LoggerFactory.getLogger(WebhookActionInvoker.class);
+
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String TEXT_PLAIN = "text/plain";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int TOO_MANY_REQUESTS = 429;
+
     private final String endpoint;
     private final WebClient client;
     private final AbstractOidcClient oidcClient;
+    private final WebhookDeliveryOptions options;
+    private final InFlightLimiter limiter;
 
     public WebhookActionInvoker(String endpoint, WebClient client) {
         this(endpoint, client, null);
     }
 
     public WebhookActionInvoker(String endpoint, WebClient client, AbstractOidcClient oidcClient) {
+        this(endpoint, client, oidcClient, WebhookDeliveryOptions.DEFAULT, new InFlightLimiter(Integer.MAX_VALUE));
+    }
+
+    public WebhookActionInvoker(String endpoint, WebClient client, AbstractOidcClient oidcClient, WebhookDeliveryOptions options, InFlightLimiter limiter) {
         this.endpoint = endpoint;
         this.client = client;
         this.oidcClient = oidcClient;
+        this.options = options;
+        this.limiter = limiter;
     }
 
     @Override
-    public void onEvent(String event) {
-        HttpRequest<Buffer> request = client.postAbs(endpoint);
+    public Uni<Void> onEvent(String event) {
+        return onEvent(io.vertx.core.buffer.Buffer.buffer(event));
+    }
+
+    /**
+     * Sends the rendered event as it is, without parsing it back into a {@link io.vertx.core.json.JsonObject}.
+     * A transformation template can render anything: the event is sent as JSON only when it is a JSON document, and as text otherwise.
+     * Server errors, throttling responses, timeouts and connection failures are retried with an exponential backoff.
+     */
+    @Override
+    public Uni<Void> onEvent(io.vertx.core.buffer.Buffer event) {
+        Buffer body = Buffer.newInstance(event);
+        String contentType = isJson(event) ? APPLICATION_JSON : TEXT_PLAIN;
+        return limiter.limit(() -> send(body, contentType))
+                .onFailure(WebhookActionInvoker::isRetryable).invoke(t -> LOG.warn("Failed to deliver event to webhook '{}', retrying: {}", endpoint, t.getMessage()))
+                .onFailure(WebhookActionInvoker::isRetryable).retry().withBackOff(options.getInitialBackoff(), options.getMaxBackoff()).atMost(options.getMaxRetries());
+    }
+
+    private Uni<Void> send(Buffer body, String contentType) {
+        // The request is built for every attempt, so that a retry picks up a refreshed token
+        HttpRequest<Buffer> request = client.postAbs(endpoint)
+                .putHeader(HttpHeaders.CONTENT_TYPE.toString(), contentType);
         if (oidcClient != null) {
             String token = oidcClient.getToken();
             if (token != null && !"".equals(token)) {
                 request = request.bearerTokenAuthentication(token);
             }
         }
-        request.sendJsonObjectAndForget(new JsonObject(event));
+        return request.sendBuffer(body)
+                .ifNoItem().after(options.getTimeout()).fail()
+                .onItem().transformToUni(this::checkResponse);
+    }
+
+    private Uni<Void> checkResponse(HttpResponse<Buffer> response) {
+        if (response.statusCode() >= 400) {
+            String message = String.format("Webhook '%s' replied with status code %d", endpoint, response.statusCode());
+            return Uni.createFrom().failure(new HTTPResponseException(message, response.statusCode()));
+        }
+        return Uni.createFrom().voidItem();
+    }
+
+    /**
+     * Checks that the event is a single JSON value by streaming its tokens, without building it in memory.
+     */
+    static boolean isJson(io.vertx.core.buffer.Buffer event) {
+        try (JsonParser parser = JSON_FACTORY.createParser(event.getBytes())) {
+            if (parser.nextToken() == null) {
+                return false;
+            }
+            parser.skipChildren();
+            return parser.nextToken() == null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    static boolean isRetryable(Throwable t) {
+        if (t instanceof HTTPResponseException) {
+            int statusCode = ((HTTPResponseException) t).getStatusCode();
+            return statusCode >= 500 || statusCode == TOO_MANY_REQUESTS;
+        }
+        return t instanceof TimeoutException || t instanceof IOException;
     }
 }
@@ -1,19 +1,25 @@
 package com.redhat.service.smartevents.processor.actions.webhook;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
 import com.redhat.service.smartevents.infra.auth.AbstractOidcClient;
 import com.redhat.service.smartevents.infra.auth.OidcClientConstants;
 import com.redhat.service.smartevents.infra.exceptions.definitions.platform.TechnicalBearerTokenNotConfiguredException;
 import com.redhat.service.smartevents.infra.exceptions.definitions.user.ActionProviderException;
 import com.redhat.service.smartevents.infra.models.actions.BaseAction;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.utils.InFlightLimiter;
 import com.redhat.service.smartevents.processor.actions.ActionInvoker;
 import com.redhat.service.smartevents.processor.actions.ActionInvokerBuilder;
 
@@ -27,15 +33,46 @@ public class WebhookActionInvokerBuilder implements WebhookAction,
 
     private WebClient client;
 
+    private WebhookDeliveryOptions deliveryOptions;
+
+    // Endpoints shared by several processors share the same in-flight limit
+    private final Map<String, InFlightLimiter> limiters = new ConcurrentHashMap<>();
+
     @Inject
     Instance<AbstractOidcClient> oidcClients;
 
     @Inject
     Vertx vertx;
 
+    @ConfigProperty(name = "event-bridge.webhook.timeout-seconds")
+    int timeoutSeconds;
+
+    @ConfigProperty(name = "event-bridge.webhook.max-retries")
+    int maxRetries;
+
+    @ConfigProperty(name = "event-bridge.webhook.backoff")
+    String backoff;
+
+    @ConfigProperty(name = "event-bridge.webhook.max-backoff")
+    String maxBackoff;
+
+    @ConfigProperty(name = "event-bridge.webhook.max-in-flight")
+    int maxInFlight;
+
+    @ConfigProperty(name = "event-bridge.webhook.max-pool-size")
+    int maxPoolSize;
+
+    @ConfigProperty(name = "event-bridge.webhook.keep-alive-timeout-seconds")
+    int keepAliveTimeoutSeconds;
+
     @PostConstruct
     private void onPostConstruct() {
-        client = WebClient.create(vertx, new WebClientOptions().setLogActivity(true));
+        client = WebClient.create(vertx, new WebClientOptions()
+                .setLogActivity(true)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(keepAliveTimeoutSeconds)
+                .setMaxPoolSize(maxPoolSize));
+        deliveryOptions = new WebhookDeliveryOptions(Duration.ofSeconds(timeoutSeconds), maxRetries, Duration.parse(backoff), Duration.parse(maxBackoff));
     }
 
     @Override
@@ -49,9 +86,13 @@ public class WebhookActionInvokerBuilder implements WebhookAction,
                             .filter(x -> Objects.equals(x.getName(), OidcClientConstants.WEBHOOK_OIDC_CLIENT_NAME))
                             .findFirst()
                             .orElseThrow(() -> new TechnicalBearerTokenNotConfiguredException("A webhook action needed the webhook oidc client bean but it was not configured."));
-            return new WebhookActionInvoker(endpoint, client, abstractOidcClient);
+            return new WebhookActionInvoker(endpoint, client, abstractOidcClient, deliveryOptions, getLimiter(endpoint));
         }
-        return new WebhookActionInvoker(endpoint, client);
+        return new WebhookActionInvoker(endpoint, client, null, deliveryOptions, getLimiter(endpoint));
+    }
+
+    private InFlightLimiter getLimiter(String endpoint) {
+        return limiters.computeIfAbsent(endpoint, e -> new InFlightLimiter(maxInFlight));
     }
 
     private ActionProviderException buildNoEndpointException(ProcessorDTO processor) {
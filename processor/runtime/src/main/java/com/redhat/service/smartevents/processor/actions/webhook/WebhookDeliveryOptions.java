@@ -0,0 +1,36 @@
+package com.redhat.service.smartevents.processor.actions.webhook;
+
+import java.time.Duration;
+
+public class WebhookDeliveryOptions {
+
+    public static final WebhookDeliveryOptions DEFAULT = new WebhookDeliveryOptions(Duration.ofSeconds(10), 3, Duration.ofMillis(200), Duration.ofSeconds(10));
+
+    private final Duration timeout;
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public WebhookDeliveryOptions(Duration timeout, int maxRetries, Duration initialBackoff, Duration maxBackoff) {
+        this.timeout = timeout;
+        this.maxRetries = maxRetries;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+}
@@ -1,5 +1,6 @@
 package com.redhat.service.smartevents.processor.actions.webhook;
 
+import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -10,6 +11,8 @@ import org.junit.jupiter.api.Test;
 
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.redhat.service.smartevents.infra.auth.AbstractOidcClient;
+import com.redhat.service.smartevents.infra.exceptions.definitions.platform.HTTPResponseException;
+import com.redhat.service.smartevents.infra.utils.InFlightLimiter;
 import com.redhat.service.smartevents.test.wiremock.AbstractWireMockTest;
 
 import io.quarkus.test.common.QuarkusTestResource;
@@ -23,7 +26,9 @@ import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -33,6 +38,7 @@ class WebhookActionInvokerTest extends AbstractWireMockTest {
 
     public static final String TEST_EVENT = "{\"specversion\":\"1.0\",\"type\":\"TestType\",\"source\":\"/test/src\",\"id\":\"1234\"}";
     public static final String TEST_WEBHOOK_PATH = "/webhook";
+    private static final WebhookDeliveryOptions TEST_OPTIONS = new WebhookDeliveryOptions(Duration.ofSeconds(5), 2, Duration.ofMillis(10), Duration.ofMillis(50));
 
     @Inject
     Vertx vertx;
@@ -49,7 +55,7 @@ class WebhookActionInvokerTest extends AbstractWireMockTest {
 
         String testSinkEndpoint = webhookSinkUrl + TEST_WEBHOOK_PATH;
         WebhookActionInvoker invoker = new WebhookActionInvoker(testSinkEndpoint, WebClient.create(vertx));
-        invoker.onEvent(TEST_EVENT);
+        invoker.onEvent(TEST_EVENT).await().atMost(Duration.ofSeconds(30));
 
         assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
 
@@ -58,6 +64,30 @@ class WebhookActionInvokerTest extends AbstractWireMockTest {
                 .withHeader("Content-Type", equalTo("application/json")));
     }
 
+    @Test
+    void testNonJsonEventIsSentAsText() {
+        wireMockServer.stubFor(post(urlEqualTo(TEST_WEBHOOK_PATH)).willReturn(aResponse().withStatus(200)));
+
+        String testSinkEndpoint = webhookSinkUrl + TEST_WEBHOOK_PATH;
+        WebhookActionInvoker invoker = new WebhookActionInvoker(testSinkEndpoint, WebClient.create(vertx));
+        // What a template such as "Event {data.id} was received" renders
+        invoker.onEvent("Event 1234 was received").await().atMost(Duration.ofSeconds(30));
+
+        wireMockServer.verify(postRequestedFor(urlEqualTo(TEST_WEBHOOK_PATH))
+                .withRequestBody(equalTo("Event 1234 was received"))
+                .withHeader("Content-Type", equalTo("text/plain")));
+    }
+
+    @Test
+    void testIsJson() {
+        assertThat(WebhookActionInvoker.isJson(io.vertx.core.buffer.Buffer.buffer(TEST_EVENT))).isTrue();
+        assertThat(WebhookActionInvoker.isJson(io.vertx.core.buffer.Buffer.buffer("[1, 2]"))).isTrue();
+        assertThat(WebhookActionInvoker.isJson(io.vertx.core.buffer.Buffer.buffer("Event 1234 was received"))).isFalse();
+        assertThat(WebhookActionInvoker.isJson(io.vertx.core.buffer.Buffer.buffer("{\"id\": 1} trailing"))).isFalse();
+        assertThat(WebhookActionInvoker.isJson(io.vertx.core.buffer.Buffer.buffer("{\"id\": "))).isFalse();
+        assertThat(WebhookActionInvoker.isJson(io.vertx.core.buffer.Buffer.buffer(""))).isFalse();
+    }
+
     @Test
     void testBearerToken() throws InterruptedException {
         wireMockServer.stubFor(post(urlEqualTo(TEST_WEBHOOK_PATH)).willReturn(aResponse().withStatus(200)));
@@ -70,7 +100,7 @@ class WebhookActionInvokerTest extends AbstractWireMockTest {
         when(abstractOidcClient.getToken()).thenReturn("token");
 
         WebhookActionInvoker invoker = new WebhookActionInvoker(testSinkEndpoint, WebClient.create(vertx), abstractOidcClient);
-        invoker.onEvent(TEST_EVENT);
+        invoker.onEvent(TEST_EVENT).await().atMost(Duration.ofSeconds(30));
 
         assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
 
@@ -79,4 +109,42 @@ class WebhookActionInvokerTest extends AbstractWireMockTest {
                 .withHeader("Content-Type", equalTo("application/json"))
                 .withHeader("Authorization", equalTo("Bearer token")));
     }
+
+    @Test
+    void testRetryOnServerError() {
+        wireMockServer.stubFor(post(urlEqualTo(TEST_WEBHOOK_PATH)).inScenario("retry").whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withStatus(503)).willSetStateTo("recovered"));
+        wireMockServer.stubFor(post(urlEqualTo(TEST_WEBHOOK_PATH)).inScenario("retry").whenScenarioStateIs("recovered")
+                .willReturn(aResponse().withStatus(200)));
+
+        String testSinkEndpoint = webhookSinkUrl + TEST_WEBHOOK_PATH;
+        WebhookActionInvoker invoker = new WebhookActionInvoker(testSinkEndpoint, WebClient.create(vertx), null, TEST_OPTIONS, new InFlightLimiter(1));
+        invoker.onEvent(TEST_EVENT).await().atMost(Duration.ofSeconds(30));
+
+        wireMockServer.verify(2, postRequestedFor(urlEqualTo(TEST_WEBHOOK_PATH)));
+    }
+
+    @Test
+    void testNoRetryOnClientError() {
+        wireMockServer.stubFor(post(urlEqualTo(TEST_WEBHOOK_PATH)).willReturn(aResponse().withStatus(400)));
+
+        String testSinkEndpoint = webhookSinkUrl + TEST_WEBHOOK_PATH;
+        WebhookActionInvoker invoker = new WebhookActionInvoker(testSinkEndpoint, WebClient.create(vertx), null, TEST_OPTIONS, new InFlightLimiter(1));
+
+        assertThatExceptionOfType(HTTPResponseException.class)
+                .isThrownBy(() -> invoker.onEvent(TEST_EVENT).await().atMost(Duration.ofSeconds(30)));
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo(TEST_WEBHOOK_PATH)));
+    }
+
+    @Test
+    void testRetriesExhausted() {
+        wireMockServer.stubFor(post(urlEqualTo(TEST_WEBHOOK_PATH)).willReturn(aResponse().withStatus(500)));
+
+        String testSinkEndpoint = webhookSinkUrl + TEST_WEBHOOK_PATH;
+        WebhookActionInvoker invoker = new WebhookActionInvoker(testSinkEndpoint, WebClient.create(vertx), null, TEST_OPTIONS, new InFlightLimiter(1));
+
+        assertThatExceptionOfType(HTTPResponseException.class)
+                .isThrownBy(() -> invoker.onEvent(TEST_EVENT).await().atMost(Duration.ofSeconds(30)));
+        wireMockServer.verify(TEST_OPTIONS.getMaxRetries() + 1, postRequestedFor(urlEqualTo(TEST_WEBHOOK_PATH)));
+    }
 }
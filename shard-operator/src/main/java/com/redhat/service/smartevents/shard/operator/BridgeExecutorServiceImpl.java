@@ -2,7 +2,10 @@ package com.redhat.service.smartevents.shard.operator;
 
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -18,17 +21,25 @@ import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
 import com.redhat.service.smartevents.shard.operator.providers.CustomerNamespaceProvider;
 import com.redhat.service.smartevents.shard.operator.providers.GlobalConfigurationsConstants;
 import com.redhat.service.smartevents.shard.operator.providers.GlobalConfigurationsProvider;
+import com.redhat.service.smartevents.shard.operator.providers.ResourceCacheProvider;
 import com.redhat.service.smartevents.shard.operator.providers.TemplateProvider;
 import com.redhat.service.smartevents.shard.operator.resources.BridgeExecutor;
+import com.redhat.service.smartevents.shard.operator.utils.ConflictRetryUtils;
 import com.redhat.service.smartevents.shard.operator.utils.Constants;
-import com.redhat.service.smartevents.shard.operator.utils.DeploymentSpecUtils;
 import com.redhat.service.smartevents.shard.operator.utils.LabelsBuilder;
+import com.redhat.service.smartevents.shard.operator.utils.SpecHashUtils;
 
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.VolumeBuilder;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.client.KubernetesClient;
 
@@ -37,12 +48,20 @@ public class BridgeExecutorServiceImpl implements BridgeExecutorService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BridgeExecutorServiceImpl.class);
 
+    private static final String PROCESSOR_DEFINITIONS_VOLUME = "processor-definitions";
+
     @ConfigProperty(name = "event-bridge.executor.image")
     String executorImage;
 
     @ConfigProperty(name = "event-bridge.executor.deployment.timeout-seconds")
     int deploymentTimeout;
 
+    @ConfigProperty(name = "event-bridge.executor.shared", defaultValue = "false")
+    boolean sharedExecutor;
+
+    @ConfigProperty(name = "event-bridge.k8s.server-side-apply.enabled", defaultValue = "true")
+    boolean serverSideApply;
+
     @Inject
     KubernetesClient kubernetesClient;
 
@@ -61,6 +80,9 @@ public class BridgeExecutorServiceImpl implements BridgeExecutorService {
     @Inject
     ManagerClient managerClient;
 
+    @Inject
+    ResourceCacheProvider resourceCacheProvider;
+
     @Override
     public void createBridgeExecutor(ProcessorDTO processorDTO) {
         final Namespace namespace = customerNamespaceProvider.fetchOrCreateCustomerNamespace(processorDTO.getCustomerId());
@@ -86,6 +108,10 @@ public class BridgeExecutorServiceImpl implements BridgeExecutorService {
 
     @Override
     public Deployment fetchOrCreateBridgeExecutorDeployment(BridgeExecutor bridgeExecutor, Secret secret) {
+        if (sharedExecutor) {
+            return fetchOrCreateSharedBridgeExecutorDeployment(bridgeExecutor, secret);
+        }
+
         Deployment expected = templateProvider.loadBridgeExecutorDeploymentTemplate(bridgeExecutor);
 
         // Specs
@@ -108,13 +134,152 @@ public class BridgeExecutorServiceImpl implements BridgeExecutorService {
 
         expected.getSpec().getTemplate().getSpec().getContainers().get(0).getEnvFrom().get(0).getSecretRef().setName(secret.getMetadata().getName());
 
-        Deployment existing = kubernetesClient.apps().deployments().inNamespace(bridgeExecutor.getMetadata().getNamespace()).withName(bridgeExecutor.getMetadata().getName()).get();
+        Deployment existing = fetchDeployment(bridgeExecutor.getMetadata().getNamespace(), bridgeExecutor.getMetadata().getName());
+
+        return SpecHashUtils.apply(kubernetesClient.apps().deployments().inNamespace(bridgeExecutor.getMetadata().getNamespace()).withName(bridgeExecutor.getMetadata().getName()),
+                existing, expected, serverSideApply);
+    }
+
+    /**
+     * All the Processors of a Bridge share a single executor Deployment, so that the events of the Bridge topic are consumed
+     * and decoded once. The Processor definitions are stored in a ConfigMap, one entry per Processor, that the executor
+     * mounts and reloads. The Deployment and the ConfigMap are owned by all the BridgeExecutors of the Bridge, so they
+     * are garbage collected with the last one.
+     */
+    private Deployment fetchOrCreateSharedBridgeExecutorDeployment(BridgeExecutor bridgeExecutor, Secret secret) {
+        String namespace = bridgeExecutor.getMetadata().getNamespace();
+        String name = BridgeExecutor.resolveSharedResourceName(bridgeExecutor.getSpec().getBridgeId());
+
+        createOrUpdateSharedBridgeExecutorDefinitions(bridgeExecutor, name);
+        Secret sharedSecret = createOrUpdateSharedBridgeExecutorSecret(bridgeExecutor, secret, name);
+
+        Deployment existing = fetchDeployment(namespace, name);
 
-        if (existing == null || !DeploymentSpecUtils.isDeploymentEqual(expected, existing)) {
-            return kubernetesClient.apps().deployments().inNamespace(bridgeExecutor.getMetadata().getNamespace()).createOrReplace(expected);
+        Deployment expected = templateProvider.loadBridgeExecutorDeploymentTemplate(bridgeExecutor);
+        expected.getMetadata().setName(name);
+        expected.getMetadata().setOwnerReferences(withOwner(existing == null ? null : existing.getMetadata().getOwnerReferences(), bridgeExecutor));
+
+        // Specs
+        expected.getSpec().getSelector().setMatchLabels(new LabelsBuilder().withAppInstance(name).build());
+        expected.getSpec().getTemplate().getMetadata().setLabels(new LabelsBuilder().withAppInstance(name).build());
+        expected.getSpec().getTemplate().getSpec().getContainers().get(0).setName(BridgeExecutor.COMPONENT_NAME);
+        expected.getSpec().getTemplate().getSpec().getContainers().get(0).setImage(bridgeExecutor.getSpec().getImage());
+        expected.getSpec().setProgressDeadlineSeconds(deploymentTimeout);
+
+        List<EnvVar> environmentVariables = new ArrayList<>();
+        environmentVariables.add(new EnvVarBuilder().withName(Constants.BRIDGE_EXECUTOR_WEBHOOK_SSO_ENV_VAR).withValue(globalConfigurationsProvider.getSsoUrl()).build());
+        environmentVariables.add(new EnvVarBuilder().withName(Constants.BRIDGE_EXECUTOR_WEBHOOK_CLIENT_ID_ENV_VAR).withValue(globalConfigurationsProvider.getSsoWebhookClientId()).build());
+        environmentVariables.add(new EnvVarBuilder().withName(Constants.BRIDGE_EXECUTOR_WEBHOOK_CLIENT_SECRET_ENV_VAR).withValue(globalConfigurationsProvider.getSsoWebhookClientSecret()).build());
+        environmentVariables.add(new EnvVarBuilder().withName(Constants.BRIDGE_EXECUTOR_PROCESSOR_DEFINITIONS_DIR_ENV_VAR).withValue(Constants.BRIDGE_EXECUTOR_PROCESSOR_DEFINITIONS_DIR).build());
+        // A single consumer group for the whole Bridge, instead of the group of the Processor that comes with the secret
+        environmentVariables.add(new EnvVarBuilder().withName(GlobalConfigurationsConstants.KAFKA_GROUP_ID_ENV_VAR).withValue(name).build());
+        expected.getSpec().getTemplate().getSpec().getContainers().get(0).setEnv(environmentVariables);
+
+        expected.getSpec().getTemplate().getSpec().getContainers().get(0).getEnvFrom().get(0).getSecretRef().setName(sharedSecret.getMetadata().getName());
+
+        expected.getSpec().getTemplate().getSpec().setVolumes(Collections.singletonList(new VolumeBuilder()
+                .withName(PROCESSOR_DEFINITIONS_VOLUME)
+                .withNewConfigMap().withName(name).endConfigMap()
+                .build()));
+        expected.getSpec().getTemplate().getSpec().getContainers().get(0).setVolumeMounts(Collections.singletonList(new VolumeMountBuilder()
+                .withName(PROCESSOR_DEFINITIONS_VOLUME)
+                .withMountPath(Constants.BRIDGE_EXECUTOR_PROCESSOR_DEFINITIONS_DIR)
+                .withReadOnly(true)
+                .build()));
+
+        // The owners are part of the hash, so a new Processor of the Bridge updates them
+        return SpecHashUtils.apply(kubernetesClient.apps().deployments().inNamespace(namespace).withName(name), existing, expected, serverSideApply);
+    }
+
+    private void createOrUpdateSharedBridgeExecutorDefinitions(BridgeExecutor bridgeExecutor, String name) {
+        String namespace = bridgeExecutor.getMetadata().getNamespace();
+        String definition;
+        try {
+            definition = objectMapper.writeValueAsString(bridgeExecutor.toDTO());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(String.format("Could not serialize Processor Definition for processorId: '%s'", bridgeExecutor.getSpec().getId()), e);
         }
 
-        return existing;
+        // The reconciles of the other Processors of the Bridge update the ConfigMap too: the write fails when it changed since it was read
+        ConflictRetryUtils.retryOnConflict(name, () -> {
+            ConfigMap existing = kubernetesClient.configMaps().inNamespace(namespace).withName(name).get();
+            Map<String, String> definitions = existing == null || existing.getData() == null ? new HashMap<>() : new HashMap<>(existing.getData());
+            List<OwnerReference> owners = withOwner(existing == null ? null : existing.getMetadata().getOwnerReferences(), bridgeExecutor);
+            String key = resolveDefinitionKey(bridgeExecutor);
+
+            if (existing == null || !definition.equals(definitions.get(key)) || !owners.equals(existing.getMetadata().getOwnerReferences())) {
+                definitions.put(key, definition);
+                ConfigMap expected = new ConfigMapBuilder()
+                        .withNewMetadata()
+                        .withName(name)
+                        .withNamespace(namespace)
+                        .withLabels(new LabelsBuilder()
+                                .withCustomerId(bridgeExecutor.getSpec().getCustomerId())
+                                .withComponent(BridgeExecutor.COMPONENT_NAME)
+                                .buildWithDefaults())
+                        .withOwnerReferences(owners)
+                        .endMetadata()
+                        .withData(definitions)
+                        .build();
+                if (existing == null) {
+                    kubernetesClient.configMaps().inNamespace(namespace).create(expected);
+                } else {
+                    kubernetesClient.configMaps().inNamespace(namespace).withName(name).lockResourceVersion(existing.getMetadata().getResourceVersion()).replace(expected);
+                }
+            }
+        });
+    }
+
+    // The Kafka connection is the same for all the Processors of a Bridge, but the secret of a Processor is deleted with it
+    private Secret createOrUpdateSharedBridgeExecutorSecret(BridgeExecutor bridgeExecutor, Secret secret, String name) {
+        String namespace = bridgeExecutor.getMetadata().getNamespace();
+        Secret existing = fetchSecret(namespace, name);
+        List<OwnerReference> owners = withOwner(existing == null ? null : existing.getMetadata().getOwnerReferences(), bridgeExecutor);
+        // The consumer group of the Processor is replaced by the one of the Bridge in the Deployment
+        Map<String, String> data = new HashMap<>(secret.getData());
+        data.remove(GlobalConfigurationsConstants.KAFKA_GROUP_ID_ENV_VAR);
+
+        Secret expected = templateProvider.loadBridgeExecutorSecretTemplate(bridgeExecutor);
+        expected.getMetadata().setName(name);
+        expected.getMetadata().setOwnerReferences(owners);
+        expected.setData(data);
+        return SpecHashUtils.apply(kubernetesClient.secrets().inNamespace(namespace).withName(name), existing, expected, serverSideApply);
+    }
+
+    @Override
+    public void removeFromSharedBridgeExecutor(BridgeExecutor bridgeExecutor) {
+        if (!sharedExecutor) {
+            return;
+        }
+        String namespace = bridgeExecutor.getMetadata().getNamespace();
+        String name = BridgeExecutor.resolveSharedResourceName(bridgeExecutor.getSpec().getBridgeId());
+        ConflictRetryUtils.retryOnConflict(name, () -> {
+            ConfigMap existing = kubernetesClient.configMaps().inNamespace(namespace).withName(name).get();
+            if (existing == null || existing.getData() == null || !existing.getData().containsKey(resolveDefinitionKey(bridgeExecutor))) {
+                return;
+            }
+            // The shared executor stops evaluating the Processor at its next reload
+            existing.getData().remove(resolveDefinitionKey(bridgeExecutor));
+            kubernetesClient.configMaps().inNamespace(namespace).withName(name).lockResourceVersion(existing.getMetadata().getResourceVersion()).replace(existing);
+        });
+    }
+
+    private static String resolveDefinitionKey(BridgeExecutor bridgeExecutor) {
+        return bridgeExecutor.getSpec().getId() + ".json";
+    }
+
+    private static List<OwnerReference> withOwner(List<OwnerReference> existingOwners, BridgeExecutor bridgeExecutor) {
+        List<OwnerReference> owners = existingOwners == null ? new ArrayList<>() : new ArrayList<>(existingOwners);
+        boolean isOwner = owners.stream().anyMatch(o -> bridgeExecutor.getKind().equals(o.getKind()) && bridgeExecutor.getMetadata().getName().equals(o.getName()));
+        if (!isOwner) {
+            owners.add(new OwnerReferenceBuilder()
+                    .withApiVersion(bridgeExecutor.getApiVersion())
+                    .withKind(bridgeExecutor.getKind())
+                    .withName(bridgeExecutor.getMetadata().getName())
+                    .withUid(bridgeExecutor.getMetadata().getUid())
+                    .build());
+        }
+        return owners;
     }
 
     @Override
@@ -123,13 +288,11 @@ public class BridgeExecutorServiceImpl implements BridgeExecutorService {
         // Specs
         expected.getSpec().setSelector(new LabelsBuilder().withAppInstance(deployment.getMetadata().getName()).build());
 
-        Service existing = kubernetesClient.services().inNamespace(bridgeExecutor.getMetadata().getNamespace()).withName(bridgeExecutor.getMetadata().getName()).get();
-
-        if (existing == null || !expected.getSpec().getSelector().equals(existing.getSpec().getSelector())) {
-            return kubernetesClient.services().inNamespace(bridgeExecutor.getMetadata().getNamespace()).createOrReplace(expected);
-        }
+        Service existing = resourceCacheProvider.get(Service.class, bridgeExecutor.getMetadata().getNamespace(), bridgeExecutor.getMetadata().getName())
+                .orElseGet(() -> kubernetesClient.services().inNamespace(bridgeExecutor.getMetadata().getNamespace()).withName(bridgeExecutor.getMetadata().getName()).get());
 
-        return existing;
+        return SpecHashUtils.apply(kubernetesClient.services().inNamespace(bridgeExecutor.getMetadata().getNamespace()).withName(bridgeExecutor.getMetadata().getName()),
+                existing, expected, serverSideApply);
     }
 
     @Override
@@ -158,29 +321,33 @@ public class BridgeExecutorServiceImpl implements BridgeExecutorService {
         expected.getData().put(GlobalConfigurationsConstants.KAFKA_CLIENT_SECRET_ENV_VAR, Base64.getEncoder().encodeToString(processorDTO.getKafkaConnection().getClientSecret().getBytes()));
         expected.getData().put(GlobalConfigurationsConstants.KAFKA_SECURITY_PROTOCOL_ENV_VAR, Base64.getEncoder().encodeToString(processorDTO.getKafkaConnection().getSecurityProtocol().getBytes()));
         expected.getData().put(GlobalConfigurationsConstants.KAFKA_TOPIC_ENV_VAR, Base64.getEncoder().encodeToString(processorDTO.getKafkaConnection().getTopic().getBytes()));
+        if (processorDTO.getKafkaConnection().getDeadLetterTopic() != null) {
+            expected.getData().put(GlobalConfigurationsConstants.KAFKA_DLQ_TOPIC_ENV_VAR, Base64.getEncoder().encodeToString(processorDTO.getKafkaConnection().getDeadLetterTopic().getBytes()));
+        }
         expected.getData().put(GlobalConfigurationsConstants.KAFKA_GROUP_ID_ENV_VAR, Base64.getEncoder().encodeToString(bridgeExecutor.getSpec().getId().getBytes()));
 
-        Secret existing = kubernetesClient
+        Secret existing = fetchBridgeExecutorSecret(bridgeExecutor);
+
+        SpecHashUtils.apply(kubernetesClient
                 .secrets()
                 .inNamespace(bridgeExecutor.getMetadata().getNamespace())
-                .withName(bridgeExecutor.getMetadata().getName())
-                .get();
-
-        if (existing == null || !expected.getData().equals(existing.getData())) {
-            kubernetesClient
-                    .secrets()
-                    .inNamespace(bridgeExecutor.getMetadata().getNamespace())
-                    .withName(bridgeExecutor.getMetadata().getName())
-                    .createOrReplace(expected);
-        }
+                .withName(bridgeExecutor.getMetadata().getName()),
+                existing, expected, serverSideApply);
     }
 
     @Override
     public Secret fetchBridgeExecutorSecret(BridgeExecutor bridgeExecutor) {
-        return kubernetesClient
-                .secrets()
-                .inNamespace(bridgeExecutor.getMetadata().getNamespace())
-                .withName(bridgeExecutor.getMetadata().getName())
-                .get();
+        return fetchSecret(bridgeExecutor.getMetadata().getNamespace(), bridgeExecutor.getMetadata().getName());
+    }
+
+    // The resources are read from the caches of the informers, the API server is only asked for the ones not cached yet
+    private Deployment fetchDeployment(String namespace, String name) {
+        return resourceCacheProvider.get(Deployment.class, namespace, name)
+                .orElseGet(() -> kubernetesClient.apps().deployments().inNamespace(namespace).withName(name).get());
+    }
+
+    private Secret fetchSecret(String namespace, String name) {
+        return resourceCacheProvider.get(Secret.class, namespace, name)
+                .orElseGet(() -> kubernetesClient.secrets().inNamespace(namespace).withName(name).get());
     }
 }
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -17,11 +18,12 @@ import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
 import com.redhat.service.smartevents.shard.operator.providers.CustomerNamespaceProvider;
 import com.redhat.service.smartevents.shard.operator.providers.GlobalConfigurationsConstants;
 import com.redhat.service.smartevents.shard.operator.providers.GlobalConfigurationsProvider;
+import com.redhat.service.smartevents.shard.operator.providers.ResourceCacheProvider;
 import com.redhat.service.smartevents.shard.operator.providers.TemplateProvider;
 import com.redhat.service.smartevents.shard.operator.resources.BridgeIngress;
 import com.redhat.service.smartevents.shard.operator.utils.Constants;
-import com.redhat.service.smartevents.shard.operator.utils.DeploymentSpecUtils;
 import com.redhat.service.smartevents.shard.operator.utils.LabelsBuilder;
+import com.redhat.service.smartevents.shard.operator.utils.SpecHashUtils;
 
 import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
@@ -42,6 +44,16 @@ public class BridgeIngressServiceImpl implements BridgeIngressService {
     @ConfigProperty(name = "event-bridge.ingress.deployment.timeout-seconds")
     int deploymentTimeout;
 
+    // The defaults for the Bridges that do not set their own rate limit
+    @ConfigProperty(name = "event-bridge.ingress.rate-limit.per-second")
+    Optional<Integer> rateLimitPerSecond;
+
+    @ConfigProperty(name = "event-bridge.ingress.rate-limit.burst")
+    Optional<Integer> rateLimitBurst;
+
+    @ConfigProperty(name = "event-bridge.k8s.server-side-apply.enabled", defaultValue = "true")
+    boolean serverSideApply;
+
     @Inject
     KubernetesClient kubernetesClient;
 
@@ -57,11 +69,20 @@ public class BridgeIngressServiceImpl implements BridgeIngressService {
     @Inject
     ManagerClient managerClient;
 
+    @Inject
+    ResourceCacheProvider resourceCacheProvider;
+
     @Override
     public void createBridgeIngress(BridgeDTO bridgeDTO) {
         final Namespace namespace = customerNamespaceProvider.fetchOrCreateCustomerNamespace(bridgeDTO.getCustomerId());
 
         BridgeIngress expected = BridgeIngress.fromDTO(bridgeDTO, namespace.getMetadata().getName(), ingressImage);
+        if (expected.getSpec().getRateLimitPerSecond() == null) {
+            expected.getSpec().setRateLimitPerSecond(rateLimitPerSecond.orElse(null));
+        }
+        if (expected.getSpec().getRateLimitBurst() == null) {
+            expected.getSpec().setRateLimitBurst(rateLimitBurst.orElse(null));
+        }
 
         BridgeIngress existing = kubernetesClient
                 .resources(BridgeIngress.class)
@@ -96,17 +117,21 @@ public class BridgeIngressServiceImpl implements BridgeIngressService {
         environmentVariables.add(new EnvVarBuilder().withName(GlobalConfigurationsConstants.SSO_CLIENT_ID_CONFIG_ENV_VAR).withValue(globalConfigurationsProvider.getSsoClientId()).build());
         environmentVariables.add(new EnvVarBuilder().withName(Constants.BRIDGE_INGRESS_CUSTOMER_ID_CONFIG_ENV_VAR).withValue(bridgeIngress.getSpec().getCustomerId()).build());
         environmentVariables.add(new EnvVarBuilder().withName(Constants.BRIDGE_INGRESS_WEBHOOK_TECHNICAL_ACCOUNT_ID).withValue(globalConfigurationsProvider.getSsoWebhookClientAccountId()).build());
+        if (bridgeIngress.getSpec().getRateLimitPerSecond() != null) {
+            environmentVariables.add(new EnvVarBuilder().withName(Constants.BRIDGE_INGRESS_RATE_LIMIT_PER_SECOND_ENV_VAR).withValue(bridgeIngress.getSpec().getRateLimitPerSecond().toString()).build());
+        }
+        if (bridgeIngress.getSpec().getRateLimitBurst() != null) {
+            environmentVariables.add(new EnvVarBuilder().withName(Constants.BRIDGE_INGRESS_RATE_LIMIT_BURST_ENV_VAR).withValue(bridgeIngress.getSpec().getRateLimitBurst().toString()).build());
+        }
 
         expected.getSpec().getTemplate().getSpec().getContainers().get(0).setEnv(environmentVariables);
         expected.getSpec().getTemplate().getSpec().getContainers().get(0).getEnvFrom().get(0).getSecretRef().setName(secret.getMetadata().getName());
 
-        Deployment existing = kubernetesClient.apps().deployments().inNamespace(bridgeIngress.getMetadata().getNamespace()).withName(bridgeIngress.getMetadata().getName()).get();
-
-        if (existing == null || !DeploymentSpecUtils.isDeploymentEqual(expected, existing)) {
-            return kubernetesClient.apps().deployments().inNamespace(bridgeIngress.getMetadata().getNamespace()).createOrReplace(expected);
-        }
+        Deployment existing = resourceCacheProvider.get(Deployment.class, bridgeIngress.getMetadata().getNamespace(), bridgeIngress.getMetadata().getName())
+                .orElseGet(() -> kubernetesClient.apps().deployments().inNamespace(bridgeIngress.getMetadata().getNamespace()).withName(bridgeIngress.getMetadata().getName()).get());
 
-        return existing;
+        return SpecHashUtils.apply(kubernetesClient.apps().deployments().inNamespace(bridgeIngress.getMetadata().getNamespace()).withName(bridgeIngress.getMetadata().getName()),
+                existing, expected, serverSideApply);
     }
 
     @Override
@@ -121,15 +146,11 @@ public class BridgeIngressServiceImpl implements BridgeIngressService {
         }
         expected.getMetadata().getLabels().putAll(new LabelsBuilder().withAppInstance(deployment.getMetadata().getName()).buildWithDefaults());
 
-        Service existing = kubernetesClient.services().inNamespace(bridgeIngress.getMetadata().getNamespace()).withName(bridgeIngress.getMetadata().getName()).get();
+        Service existing = resourceCacheProvider.get(Service.class, bridgeIngress.getMetadata().getNamespace(), bridgeIngress.getMetadata().getName())
+                .orElseGet(() -> kubernetesClient.services().inNamespace(bridgeIngress.getMetadata().getNamespace()).withName(bridgeIngress.getMetadata().getName()).get());
 
-        if (existing == null
-                || !expected.getSpec().getSelector().equals(existing.getSpec().getSelector())
-                || !expected.getMetadata().getLabels().equals(existing.getMetadata().getLabels())) {
-            return kubernetesClient.services().inNamespace(bridgeIngress.getMetadata().getNamespace()).createOrReplace(expected);
-        }
-
-        return existing;
+        return SpecHashUtils.apply(kubernetesClient.services().inNamespace(bridgeIngress.getMetadata().getNamespace()).withName(bridgeIngress.getMetadata().getName()),
+                existing, expected, serverSideApply);
     }
 
     @Override
@@ -160,27 +181,22 @@ public class BridgeIngressServiceImpl implements BridgeIngressService {
         expected.getData().put(GlobalConfigurationsConstants.KAFKA_SECURITY_PROTOCOL_ENV_VAR, Base64.getEncoder().encodeToString(bridgeDTO.getKafkaConnection().getSecurityProtocol().getBytes()));
         expected.getData().put(GlobalConfigurationsConstants.KAFKA_TOPIC_ENV_VAR, Base64.getEncoder().encodeToString(bridgeDTO.getKafkaConnection().getTopic().getBytes()));
 
-        Secret existing = kubernetesClient
+        Secret existing = fetchBridgeIngressSecret(bridgeIngress);
+
+        SpecHashUtils.apply(kubernetesClient
                 .secrets()
                 .inNamespace(bridgeIngress.getMetadata().getNamespace())
-                .withName(bridgeIngress.getMetadata().getName())
-                .get();
-
-        if (existing == null || !expected.getData().equals(existing.getData())) {
-            kubernetesClient
-                    .secrets()
-                    .inNamespace(bridgeIngress.getMetadata().getNamespace())
-                    .withName(bridgeIngress.getMetadata().getName())
-                    .createOrReplace(expected);
-        }
+                .withName(bridgeIngress.getMetadata().getName()),
+                existing, expected, serverSideApply);
     }
 
     @Override
     public Secret fetchBridgeIngressSecret(BridgeIngress bridgeIngress) {
-        return kubernetesClient
-                .secrets()
-                .inNamespace(bridgeIngress.getMetadata().getNamespace())
-                .withName(bridgeIngress.getMetadata().getName())
-                .get();
+        return resourceCacheProvider.get(Secret.class, bridgeIngress.getMetadata().getNamespace(), bridgeIngress.getMetadata().getName())
+                .orElseGet(() -> kubernetesClient
+                        .secrets()
+                        .inNamespace(bridgeIngress.getMetadata().getNamespace())
+                        .withName(bridgeIngress.getMetadata().getName())
+                        .get());
     }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.models.dto.ResourcesDeltaDTO;
 
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.core.buffer.Buffer;
@@ -15,6 +16,28 @@ public interface ManagerClient {
 
     Uni<List<ProcessorDTO>> fetchProcessorsToDeployOrDelete();
 
+    /**
+     * Fetches the Bridges to deploy or delete that changed on the manager since the given watermark.
+     *
+     * @param watermark the watermark returned by the previous call, or 0 to fetch all of them.
+     */
+    Uni<ResourcesDeltaDTO<BridgeDTO>> fetchBridgesChangedSince(long watermark);
+
+    /**
+     * Fetches the Processors to deploy or delete that changed on the manager since the given watermark.
+     *
+     * @param watermark the watermark returned by the previous call, or 0 to fetch all of them.
+     */
+    Uni<ResourcesDeltaDTO<ProcessorDTO>> fetchProcessorsChangedSince(long watermark);
+
+    /**
+     * Waits for the resources to deploy or delete to change on the manager.
+     *
+     * @param sinceVersion the version returned by the previous call, or null for the first call.
+     * @return the new version, or the same one if nothing changed before the manager timed out.
+     */
+    Uni<String> awaitChanges(String sinceVersion);
+
     Uni<HttpResponse<Buffer>> notifyBridgeStatusChange(BridgeDTO bridgeDTO);
 
     Uni<HttpResponse<Buffer>> notifyProcessorStatusChange(ProcessorDTO processorDTO);
@@ -1,11 +1,14 @@
 package com.redhat.service.smartevents.shard.operator;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Function;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,10 +19,13 @@ import com.redhat.service.smartevents.infra.api.APIConstants;
 import com.redhat.service.smartevents.infra.exceptions.definitions.platform.HTTPResponseException;
 import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.models.dto.ResourcesDeltaDTO;
+import com.redhat.service.smartevents.infra.models.dto.ShardChangesDTO;
 import com.redhat.service.smartevents.shard.operator.exceptions.DeserializationException;
 import com.redhat.service.smartevents.shard.operator.metrics.ManagerRequestStatus;
 import com.redhat.service.smartevents.shard.operator.metrics.ManagerRequestType;
 import com.redhat.service.smartevents.shard.operator.metrics.MetricsService;
+import com.redhat.service.smartevents.shard.operator.utils.StatusUpdateCoalescer;
 import com.redhat.service.smartevents.shard.operator.utils.WebClientUtils;
 
 import io.smallrye.mutiny.Uni;
@@ -45,6 +51,34 @@ public class ManagerClientImpl implements ManagerClient {
     @Inject
     ObjectMapper mapper;
 
+    /**
+     * How long to wait for the manager to answer a wait for changes. It must be longer than the timeout of the manager.
+     */
+    @ConfigProperty(name = "event-bridge.manager.sync.changes-timeout", defaultValue = "60s")
+    Duration changesTimeout;
+
+    /**
+     * Whether the status updates are buffered for a short window and sent to the manager together.
+     */
+    @ConfigProperty(name = "event-bridge.manager.status-updates.coalescing.enabled", defaultValue = "true")
+    boolean coalescingEnabled;
+
+    @ConfigProperty(name = "event-bridge.manager.status-updates.coalescing.window", defaultValue = "200ms")
+    Duration coalescingWindow;
+
+    @ConfigProperty(name = "event-bridge.manager.status-updates.coalescing.max-batch-size", defaultValue = "100")
+    int coalescingMaxBatchSize;
+
+    private StatusUpdateCoalescer<BridgeDTO, HttpResponse<Buffer>> bridgeStatusUpdates;
+
+    private StatusUpdateCoalescer<ProcessorDTO, HttpResponse<Buffer>> processorStatusUpdates;
+
+    @PostConstruct
+    void init() {
+        bridgeStatusUpdates = new StatusUpdateCoalescer<>(coalescingWindow, coalescingMaxBatchSize, BridgeDTO::getId, this::sendBridgeStatusChanges);
+        processorStatusUpdates = new StatusUpdateCoalescer<>(coalescingWindow, coalescingMaxBatchSize, ProcessorDTO::getId, this::sendProcessorStatusChanges);
+    }
+
     @Override
     public Uni<List<BridgeDTO>> fetchBridgesToDeployOrDelete() {
         return getAuthenticatedRequest(webClientManager.get(APIConstants.SHARD_API_BASE_PATH), HttpRequest::send)
@@ -71,25 +105,93 @@ public class ManagerClientImpl implements ManagerClient {
         });
     }
 
+    @Override
+    public Uni<ResourcesDeltaDTO<BridgeDTO>> fetchBridgesChangedSince(long watermark) {
+        return getAuthenticatedRequest(webClientManager.get(APIConstants.SHARD_API_BASE_PATH + "delta").addQueryParam("since", String.valueOf(watermark)), HttpRequest::send)
+                .onItem().invoke(success -> updateManagerRequestMetricsOnSuccess(ManagerRequestType.FETCH, success))
+                .onFailure().invoke(failure -> updateManagerRequestMetricsOnFailure(ManagerRequestType.FETCH, failure))
+                .onItem().transform(this::getBridgesDelta);
+    }
+
+    private ResourcesDeltaDTO<BridgeDTO> getBridgesDelta(HttpResponse<Buffer> httpResponse) {
+        return deserializeResponseBody(httpResponse, new TypeReference<>() {
+        });
+    }
+
+    @Override
+    public Uni<ResourcesDeltaDTO<ProcessorDTO>> fetchProcessorsChangedSince(long watermark) {
+        return getAuthenticatedRequest(webClientManager.get(APIConstants.SHARD_API_BASE_PATH + "processors/delta").addQueryParam("since", String.valueOf(watermark)),
+                HttpRequest::send)
+                .onItem().invoke(success -> updateManagerRequestMetricsOnSuccess(ManagerRequestType.FETCH, success))
+                .onFailure().invoke(failure -> updateManagerRequestMetricsOnFailure(ManagerRequestType.FETCH, failure))
+                .onItem().transform(this::getProcessorsDelta);
+    }
+
+    private ResourcesDeltaDTO<ProcessorDTO> getProcessorsDelta(HttpResponse<Buffer> httpResponse) {
+        return deserializeResponseBody(httpResponse, new TypeReference<>() {
+        });
+    }
+
+    @Override
+    public Uni<String> awaitChanges(String sinceVersion) {
+        HttpRequest<Buffer> request = webClientManager.get(APIConstants.SHARD_API_BASE_PATH + "changes").timeout(changesTimeout.toMillis());
+        if (sinceVersion != null) {
+            request.addQueryParam("since", sinceVersion);
+        }
+        return getAuthenticatedRequest(request, HttpRequest::send)
+                .onItem().invoke(success -> updateManagerRequestMetricsOnSuccess(ManagerRequestType.FETCH, success))
+                .onFailure().invoke(failure -> updateManagerRequestMetricsOnFailure(ManagerRequestType.FETCH, failure))
+                .onItem().transform(this::getVersion);
+    }
+
+    private String getVersion(HttpResponse<Buffer> httpResponse) {
+        try {
+            return mapper.readValue(httpResponse.bodyAsString(), ShardChangesDTO.class).getVersion();
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("Failed to deserialize response from Manager", e);
+            throw new DeserializationException("Failed to deserialize response from Manager.", e);
+        }
+    }
+
     @Override
     public Uni<HttpResponse<Buffer>> notifyBridgeStatusChange(BridgeDTO bridgeDTO) {
         LOGGER.debug("Notifying manager about the new status of the Bridge '{}'", bridgeDTO.getId());
-        return getAuthenticatedRequest(webClientManager.put(APIConstants.SHARD_API_BASE_PATH), request -> request.sendJson(bridgeDTO))
-                .onItem().invoke(success -> updateManagerRequestMetricsOnSuccess(ManagerRequestType.UPDATE, success))
-                .onFailure().invoke(failure -> updateManagerRequestMetricsOnFailure(ManagerRequestType.UPDATE, failure))
+        Uni<HttpResponse<Buffer>> notification = coalescingEnabled
+                ? bridgeStatusUpdates.submit(bridgeDTO)
+                : getAuthenticatedRequest(webClientManager.put(APIConstants.SHARD_API_BASE_PATH), request -> request.sendJson(bridgeDTO))
+                        .onItem().invoke(success -> updateManagerRequestMetricsOnSuccess(ManagerRequestType.UPDATE, success))
+                        .onFailure().invoke(failure -> updateManagerRequestMetricsOnFailure(ManagerRequestType.UPDATE, failure));
+        return notification
                 .onFailure().retry().withBackOff(WebClientUtils.DEFAULT_BACKOFF).withJitter(WebClientUtils.DEFAULT_JITTER).atMost(WebClientUtils.MAX_RETRIES);
     }
 
     @Override
     public Uni<HttpResponse<Buffer>> notifyProcessorStatusChange(ProcessorDTO processorDTO) {
         LOGGER.debug("Notifying manager about the new status of the Processor '{}'", processorDTO.getId());
-        return getAuthenticatedRequest(webClientManager.put(APIConstants.SHARD_API_BASE_PATH + "processors"), request -> request.sendJson(processorDTO))
-                .onItem().invoke(success -> updateManagerRequestMetricsOnSuccess(ManagerRequestType.UPDATE, success))
-                .onFailure().invoke(failure -> updateManagerRequestMetricsOnFailure(ManagerRequestType.UPDATE, failure))
+        Uni<HttpResponse<Buffer>> notification = coalescingEnabled
+                ? processorStatusUpdates.submit(processorDTO)
+                : getAuthenticatedRequest(webClientManager.put(APIConstants.SHARD_API_BASE_PATH + "processors"), request -> request.sendJson(processorDTO))
+                        .onItem().invoke(success -> updateManagerRequestMetricsOnSuccess(ManagerRequestType.UPDATE, success))
+                        .onFailure().invoke(failure -> updateManagerRequestMetricsOnFailure(ManagerRequestType.UPDATE, failure));
+        return notification
                 .onFailure().retry().withBackOff(WebClientUtils.DEFAULT_BACKOFF).withJitter(WebClientUtils.DEFAULT_JITTER).atMost(WebClientUtils.MAX_RETRIES);
     }
 
-    private <T> List<T> deserializeResponseBody(HttpResponse<Buffer> httpResponse, TypeReference<List<T>> typeReference) {
+    private Uni<HttpResponse<Buffer>> sendBridgeStatusChanges(List<BridgeDTO> bridgeDTOs) {
+        LOGGER.debug("Notifying manager about the new status of {} Bridge(s)", bridgeDTOs.size());
+        return getAuthenticatedRequest(webClientManager.put(APIConstants.SHARD_API_BASE_PATH + "batch"), request -> request.sendJson(bridgeDTOs))
+                .onItem().invoke(success -> updateManagerRequestMetricsOnSuccess(ManagerRequestType.UPDATE, success))
+                .onFailure().invoke(failure -> updateManagerRequestMetricsOnFailure(ManagerRequestType.UPDATE, failure));
+    }
+
+    private Uni<HttpResponse<Buffer>> sendProcessorStatusChanges(List<ProcessorDTO> processorDTOs) {
+        LOGGER.debug("Notifying manager about the new status of {} Processor(s)", processorDTOs.size());
+        return getAuthenticatedRequest(webClientManager.put(APIConstants.SHARD_API_BASE_PATH + "processors/batch"), request -> request.sendJson(processorDTOs))
+                .onItem().invoke(success -> updateManagerRequestMetricsOnSuccess(ManagerRequestType.UPDATE, success))
+                .onFailure().invoke(failure -> updateManagerRequestMetricsOnFailure(ManagerRequestType.UPDATE, failure));
+    }
+
+    private <T> T deserializeResponseBody(HttpResponse<Buffer> httpResponse, TypeReference<T> typeReference) {
         if (!isSuccessfulResponse(httpResponse)) {
             throw new DeserializationException(String.format("Got %d HTTP status code response, skipping deserialization process", httpResponse.statusCode()));
         }
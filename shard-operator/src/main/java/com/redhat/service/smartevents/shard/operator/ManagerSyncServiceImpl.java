@@ -1,25 +1,53 @@
 package com.redhat.service.smartevents.shard.operator;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
 import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.shard.operator.metrics.MetricsService;
+import com.redhat.service.smartevents.shard.operator.utils.RateLimitedWorkQueue;
+import com.redhat.service.smartevents.shard.operator.utils.RateLimitedWorkQueue.Priority;
 
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.Scheduled;
 import io.smallrye.mutiny.Uni;
 
+/**
+ * Deploys and deletes the Bridges and Processors the manager asks for. The manager pushes its changes: the shard keeps waiting
+ * for them with a long-polling request and syncs as soon as they happen. While the manager can not be reached that way, the shard
+ * falls back to polling it periodically.
+ * Each sync only fetches the resources that changed since the watermark of the previous one. The watermarks are reset
+ * every resync interval, so that a full sync catches up with any change that was missed.
+ * The resources are created and deleted on the cluster by a rate-limited work queue, so that a burst of changes on the
+ * manager does not saturate the API server. The manager is told that a resource is provisioning or deleting only when its work
+ * runs: the work that is still queued when the shard stops is fetched again by the next full sync.
+ */
 @ApplicationScoped
 public class ManagerSyncServiceImpl implements ManagerSyncService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ManagerSyncServiceImpl.class);
 
+    private static final String WORK_QUEUE_NAME = "manager-sync";
+
+    private static final Duration NOTIFICATION_TIMEOUT = Duration.ofSeconds(30);
+
     @Inject
     ManagerClient managerClient;
 
@@ -29,8 +57,132 @@ public class ManagerSyncServiceImpl implements ManagerSyncService {
     @Inject
     BridgeExecutorService bridgeExecutorService;
 
-    @Override
+    @ConfigProperty(name = "event-bridge.manager.sync.push.enabled", defaultValue = "true")
+    boolean pushEnabled;
+
+    @ConfigProperty(name = "event-bridge.manager.sync.push.retry-delay", defaultValue = "5s")
+    Duration pushRetryDelay;
+
+    /**
+     * How often to sync anyway while the manager pushes its changes, and to fetch all the resources rather than only the changed ones,
+     * in case one of the changes was missed.
+     */
+    @ConfigProperty(name = "event-bridge.manager.sync.resync-interval", defaultValue = "5m")
+    Duration resyncInterval;
+
+    @ConfigProperty(name = "event-bridge.manager.sync.workers", defaultValue = "4")
+    int workers;
+
+    @ConfigProperty(name = "event-bridge.manager.sync.rate-limit.per-namespace.per-second", defaultValue = "5")
+    double namespaceRateLimitPerSecond;
+
+    @ConfigProperty(name = "event-bridge.manager.sync.rate-limit.per-namespace.burst", defaultValue = "10")
+    int namespaceRateLimitBurst;
+
+    @Inject
+    MetricsService metricsService;
+
+    /**
+     * The creations and deletions of the resources on the cluster, the deletions first.
+     */
+    private RateLimitedWorkQueue workQueue;
+
+    /**
+     * The work queued for each resource, by id. The resources stay pending on the manager until their work runs, so the syncs
+     * in between fetch them again.
+     */
+    private final Map<String, PendingWork> pendingWork = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+
+    private volatile boolean pushConnected;
+
+    private volatile long lastSyncNanos;
+
+    private volatile long lastFullSyncNanos = System.nanoTime();
+
+    private final AtomicLong bridgesWatermark = new AtomicLong();
+
+    private final AtomicLong processorsWatermark = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        workQueue = new RateLimitedWorkQueue(WORK_QUEUE_NAME, workers, namespaceRateLimitPerSecond, namespaceRateLimitBurst);
+        metricsService.registerWorkQueueMetrics(WORK_QUEUE_NAME, workQueue::size);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (pushEnabled) {
+            running = true;
+            watchChanges(null);
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        running = false;
+        if (workQueue != null) {
+            workQueue.shutdown();
+        }
+    }
+
     @Scheduled(every = "30s")
+    void pollUpdatesFromManager() {
+        if (pushConnected && System.nanoTime() - lastSyncNanos < resyncInterval.toNanos()) {
+            return;
+        }
+        sync();
+    }
+
+    /**
+     * Waits for the next change on the manager, syncs when it happens and waits again. On failure, the shard polls until it can wait again.
+     */
+    void watchChanges(String version) {
+        if (!running) {
+            return;
+        }
+        managerClient.awaitChanges(version).subscribe().with(
+                newVersion -> {
+                    pushConnected = true;
+                    if (!newVersion.equals(version)) {
+                        LOGGER.debug("Manager notified changes with version '{}'", newVersion);
+                        sync();
+                    }
+                    watchChanges(newVersion);
+                },
+                failure -> {
+                    if (pushConnected) {
+                        LOGGER.warn("Failed to wait for changes from Manager. Falling back to polling.", failure);
+                    }
+                    pushConnected = false;
+                    // Waiting again without a version syncs right away, so that the changes missed in between are caught up
+                    Uni.createFrom().voidItem().onItem().delayIt().by(pushRetryDelay).subscribe().with(x -> watchChanges(null));
+                });
+    }
+
+    boolean isPushConnected() {
+        return pushConnected;
+    }
+
+    long getBridgesWatermark() {
+        return bridgesWatermark.get();
+    }
+
+    long getProcessorsWatermark() {
+        return processorsWatermark.get();
+    }
+
+    private void sync() {
+        long now = System.nanoTime();
+        if (now - lastFullSyncNanos >= resyncInterval.toNanos()) {
+            lastFullSyncNanos = now;
+            bridgesWatermark.set(0);
+            processorsWatermark.set(0);
+        }
+        lastSyncNanos = now;
+        syncUpdatesFromManager();
+    }
+
+    @Override
     public void syncUpdatesFromManager() {
         LOGGER.debug("Fetching updates from Manager for Bridges and Processors to deploy and delete");
         doBridges().subscribe().with(
@@ -42,59 +194,116 @@ public class ManagerSyncServiceImpl implements ManagerSyncService {
                 failure -> processingFailed(ProcessorDTO.class, failure));
     }
 
-    protected Uni<Object> doBridges() {
-        return managerClient.fetchBridgesToDeployOrDelete()
-                .onItem().transformToUni(x -> Uni.createFrom().item(x.stream().map(y -> {
-                    if (y.getStatus().equals(ManagedResourceStatus.ACCEPTED)) { // Bridges to deploy
-                        y.setStatus(ManagedResourceStatus.PROVISIONING);
-                        return managerClient.notifyBridgeStatusChange(y)
-                                .subscribe().with(
-                                        success -> {
-                                            LOGGER.debug("Provisioning notification for Bridge '{}' has been sent to the manager successfully", y.getId());
-                                            bridgeIngressService.createBridgeIngress(y);
-                                        },
-                                        failure -> failedToSendUpdateToManager(y, failure));
-                    }
-                    if (y.getStatus().equals(ManagedResourceStatus.DEPROVISION)) { // Bridges to delete
-                        y.setStatus(ManagedResourceStatus.DELETING);
-                        return managerClient.notifyBridgeStatusChange(y)
-                                .subscribe().with(
-                                        success -> {
-                                            LOGGER.debug("Deleting notification for Bridge '{}' has been sent to the manager successfully", y.getId());
-                                            bridgeIngressService.deleteBridgeIngress(y);
-                                        },
-                                        failure -> failedToSendUpdateToManager(y, failure));
-                    }
-                    LOGGER.warn("Manager included a Bridge '{}' instance with an illegal status '{}'", y.getId(), y.getStatus());
-                    return Uni.createFrom().voidItem();
-                }).collect(Collectors.toList())));
-    }
-
-    protected Uni<Object> doProcessors() {
-        return managerClient.fetchProcessorsToDeployOrDelete()
-                .onItem().transformToUni(x -> Uni.createFrom().item(x.stream().map(y -> {
-                    if (ManagedResourceStatus.ACCEPTED.equals(y.getStatus())) {
-                        y.setStatus(ManagedResourceStatus.PROVISIONING);
-                        return managerClient.notifyProcessorStatusChange(y)
-                                .subscribe().with(
-                                        success -> {
-                                            LOGGER.debug("Provisioning notification for Processor '{}' has been sent to the manager successfully", y.getId());
-                                            bridgeExecutorService.createBridgeExecutor(y);
-                                        },
-                                        failure -> failedToSendUpdateToManager(y, failure));
+    protected Uni<Void> doBridges() {
+        return managerClient.fetchBridgesChangedSince(bridgesWatermark.get())
+                .onItem().transformToUni(delta -> handleAll(delta.getItems().stream().map(this::handleBridge).collect(Collectors.toList()))
+                        // The watermark only moves once every change is handled, so that the next sync fetches the ones that failed again
+                        .onItem().invoke(() -> bridgesWatermark.accumulateAndGet(delta.getWatermark(), Math::max)));
+    }
+
+    protected Uni<Void> doProcessors() {
+        return managerClient.fetchProcessorsChangedSince(processorsWatermark.get())
+                .onItem().transformToUni(delta -> handleAll(delta.getItems().stream().map(this::handleProcessor).collect(Collectors.toList()))
+                        .onItem().invoke(() -> processorsWatermark.accumulateAndGet(delta.getWatermark(), Math::max)));
+    }
+
+    private Uni<Void> handleBridge(BridgeDTO y) {
+        if (y.getStatus().equals(ManagedResourceStatus.ACCEPTED)) { // Bridges to deploy
+            return submit(y.getId(), y.getCustomerId(), y.getStatus(), Priority.CREATION, () -> {
+                y.setStatus(ManagedResourceStatus.PROVISIONING);
+                notifyManager(managerClient.notifyBridgeStatusChange(y), y);
+                LOGGER.debug("Provisioning notification for Bridge '{}' has been sent to the manager successfully", y.getId());
+                bridgeIngressService.createBridgeIngress(y);
+            });
+        }
+        if (y.getStatus().equals(ManagedResourceStatus.DEPROVISION)) { // Bridges to delete
+            return submit(y.getId(), y.getCustomerId(), y.getStatus(), Priority.DELETION, () -> {
+                y.setStatus(ManagedResourceStatus.DELETING);
+                notifyManager(managerClient.notifyBridgeStatusChange(y), y);
+                LOGGER.debug("Deleting notification for Bridge '{}' has been sent to the manager successfully", y.getId());
+                bridgeIngressService.deleteBridgeIngress(y);
+            });
+        }
+        LOGGER.warn("Manager included a Bridge '{}' instance with an illegal status '{}'", y.getId(), y.getStatus());
+        return Uni.createFrom().voidItem();
+    }
+
+    private Uni<Void> handleProcessor(ProcessorDTO y) {
+        if (ManagedResourceStatus.ACCEPTED.equals(y.getStatus())) {
+            return submit(y.getId(), y.getCustomerId(), y.getStatus(), Priority.CREATION, () -> {
+                y.setStatus(ManagedResourceStatus.PROVISIONING);
+                notifyManager(managerClient.notifyProcessorStatusChange(y), y);
+                LOGGER.debug("Provisioning notification for Processor '{}' has been sent to the manager successfully", y.getId());
+                bridgeExecutorService.createBridgeExecutor(y);
+            });
+        }
+        if (ManagedResourceStatus.DEPROVISION.equals(y.getStatus())) { // Processor to delete
+            return submit(y.getId(), y.getCustomerId(), y.getStatus(), Priority.DELETION, () -> {
+                y.setStatus(ManagedResourceStatus.DELETING);
+                notifyManager(managerClient.notifyProcessorStatusChange(y), y);
+                LOGGER.debug("Deleting notification for Processor '{}' has been sent to the manager successfully", y.getId());
+                bridgeExecutorService.deleteBridgeExecutor(y);
+            });
+        }
+        return Uni.createFrom().voidItem();
+    }
+
+    // The manager is told right before the work runs: until then, it keeps the resource in the status that makes it send it again
+    private void notifyManager(Uni<?> notification, Object entity) {
+        try {
+            notification.await().atMost(NOTIFICATION_TIMEOUT);
+        } catch (RuntimeException e) {
+            failedToSendUpdateToManager(entity, e);
+            throw e;
+        }
+    }
+
+    // Every change is handled even when some fail
+    private static Uni<Void> handleAll(List<Uni<Void>> changes) {
+        if (changes.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.join().all(changes).andCollectFailures().replaceWithVoid();
+    }
+
+    /**
+     * Queues the work of a resource, unless the same work is already queued for it. The work is skipped when a more recent change
+     * of the resource is queued before it runs.
+     * The resources of a customer are all in the namespace of the customer.
+     */
+    private Uni<Void> submit(String id, String customerId, ManagedResourceStatus status, Priority priority, Runnable task) {
+        return Uni.createFrom().completionStage(() -> {
+            PendingWork submitted = new PendingWork(status);
+            PendingWork pending = pendingWork.merge(id, submitted, (existing, added) -> existing.status == status ? existing : added);
+            if (pending == submitted) {
+                workQueue.submit(customerId, priority, () -> {
+                    try {
+                        if (pendingWork.get(id) == submitted) {
+                            task.run();
+                        }
+                    } finally {
+                        pendingWork.remove(id, submitted);
                     }
-                    if (ManagedResourceStatus.DEPROVISION.equals(y.getStatus())) { // Processor to delete
-                        y.setStatus(ManagedResourceStatus.DELETING);
-                        return managerClient.notifyProcessorStatusChange(y)
-                                .subscribe().with(
-                                        success -> {
-                                            LOGGER.debug("Deleting notification for Processor '{}' has been sent to the manager successfully", y.getId());
-                                            bridgeExecutorService.deleteBridgeExecutor(y);
-                                        },
-                                        failure -> failedToSendUpdateToManager(y, failure));
+                }).whenComplete((result, failure) -> {
+                    if (failure == null) {
+                        submitted.done.complete(null);
+                    } else {
+                        submitted.done.completeExceptionally(failure);
                     }
-                    return Uni.createFrom().voidItem();
-                }).collect(Collectors.toList())));
+                });
+            }
+            return pending.done;
+        });
+    }
+
+    private static class PendingWork {
+
+        private final ManagedResourceStatus status;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private PendingWork(ManagedResourceStatus status) {
+            this.status = status;
+        }
     }
 
     private void failedToSendUpdateToManager(Object entity, Throwable t) {
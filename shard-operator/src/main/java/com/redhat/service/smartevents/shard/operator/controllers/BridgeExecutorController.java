@@ -1,5 +1,6 @@
 package com.redhat.service.smartevents.shard.operator.controllers;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -17,7 +18,9 @@ import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
 import com.redhat.service.smartevents.shard.operator.BridgeExecutorService;
 import com.redhat.service.smartevents.shard.operator.ManagerClient;
+import com.redhat.service.smartevents.shard.operator.metrics.MetricsService;
 import com.redhat.service.smartevents.shard.operator.monitoring.ServiceMonitorService;
+import com.redhat.service.smartevents.shard.operator.providers.ResourceCacheProvider;
 import com.redhat.service.smartevents.shard.operator.resources.BridgeExecutor;
 import com.redhat.service.smartevents.shard.operator.resources.ConditionReason;
 import com.redhat.service.smartevents.shard.operator.resources.ConditionType;
@@ -62,13 +65,19 @@ public class BridgeExecutorController implements Reconciler<BridgeExecutor>,
     @Inject
     BridgeErrorService bridgeErrorService;
 
+    @Inject
+    ResourceCacheProvider resourceCacheProvider;
+
+    @Inject
+    MetricsService metricsService;
+
     @Override
     public List<EventSource> prepareEventSources(EventSourceContext<BridgeExecutor> eventSourceContext) {
 
         List<EventSource> eventSources = new ArrayList<>();
-        eventSources.add(EventSourceFactory.buildSecretsInformer(kubernetesClient, BridgeExecutor.COMPONENT_NAME));
-        eventSources.add(EventSourceFactory.buildDeploymentsInformer(kubernetesClient, BridgeExecutor.COMPONENT_NAME));
-        eventSources.add(EventSourceFactory.buildServicesInformer(kubernetesClient, BridgeExecutor.COMPONENT_NAME));
+        eventSources.add(EventSourceFactory.buildSecretsInformer(kubernetesClient, BridgeExecutor.COMPONENT_NAME, resourceCacheProvider));
+        eventSources.add(EventSourceFactory.buildDeploymentsInformer(kubernetesClient, BridgeExecutor.COMPONENT_NAME, resourceCacheProvider));
+        eventSources.add(EventSourceFactory.buildServicesInformer(kubernetesClient, BridgeExecutor.COMPONENT_NAME, resourceCacheProvider));
         eventSources.add(EventSourceFactory.buildServicesMonitorInformer(kubernetesClient, BridgeExecutor.COMPONENT_NAME));
 
         return eventSources;
@@ -76,6 +85,15 @@ public class BridgeExecutorController implements Reconciler<BridgeExecutor>,
 
     @Override
     public UpdateControl<BridgeExecutor> reconcile(BridgeExecutor bridgeExecutor, Context context) {
+        long start = System.nanoTime();
+        try {
+            return doReconcile(bridgeExecutor);
+        } finally {
+            metricsService.updateReconcileMetrics(BridgeExecutor.COMPONENT_NAME, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private UpdateControl<BridgeExecutor> doReconcile(BridgeExecutor bridgeExecutor) {
         LOGGER.debug("Create or update BridgeProcessor: '{}' in namespace '{}'", bridgeExecutor.getMetadata().getName(), bridgeExecutor.getMetadata().getNamespace());
 
         Secret secret = bridgeExecutorService.fetchBridgeExecutorSecret(bridgeExecutor);
@@ -144,7 +162,8 @@ public class BridgeExecutorController implements Reconciler<BridgeExecutor>,
     public DeleteControl cleanup(BridgeExecutor bridgeExecutor, Context context) {
         LOGGER.info("Deleted BridgeProcessor: '{}' in namespace '{}'", bridgeExecutor.getMetadata().getName(), bridgeExecutor.getMetadata().getNamespace());
 
-        // Linked resources are automatically deleted
+        // Linked resources are automatically deleted, the shared ones only with the last Processor of the Bridge
+        bridgeExecutorService.removeFromSharedBridgeExecutor(bridgeExecutor);
 
         notifyManager(bridgeExecutor, ManagedResourceStatus.DELETED);
 
@@ -1,5 +1,6 @@
 package com.redhat.service.smartevents.shard.operator.controllers;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -17,9 +18,11 @@ import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
 import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
 import com.redhat.service.smartevents.shard.operator.BridgeIngressService;
 import com.redhat.service.smartevents.shard.operator.ManagerClient;
+import com.redhat.service.smartevents.shard.operator.metrics.MetricsService;
 import com.redhat.service.smartevents.shard.operator.monitoring.ServiceMonitorService;
 import com.redhat.service.smartevents.shard.operator.networking.NetworkResource;
 import com.redhat.service.smartevents.shard.operator.networking.NetworkingService;
+import com.redhat.service.smartevents.shard.operator.providers.ResourceCacheProvider;
 import com.redhat.service.smartevents.shard.operator.resources.BridgeIngress;
 import com.redhat.service.smartevents.shard.operator.resources.ConditionReason;
 import com.redhat.service.smartevents.shard.operator.resources.ConditionType;
@@ -67,13 +70,19 @@ public class BridgeIngressController implements Reconciler<BridgeIngress>,
     @Inject
     BridgeErrorService bridgeErrorService;
 
+    @Inject
+    ResourceCacheProvider resourceCacheProvider;
+
+    @Inject
+    MetricsService metricsService;
+
     @Override
     public List<EventSource> prepareEventSources(EventSourceContext<BridgeIngress> eventSourceContext) {
 
         List<EventSource> eventSources = new ArrayList<>();
-        eventSources.add(EventSourceFactory.buildSecretsInformer(kubernetesClient, BridgeIngress.COMPONENT_NAME));
-        eventSources.add(EventSourceFactory.buildDeploymentsInformer(kubernetesClient, BridgeIngress.COMPONENT_NAME));
-        eventSources.add(EventSourceFactory.buildServicesInformer(kubernetesClient, BridgeIngress.COMPONENT_NAME));
+        eventSources.add(EventSourceFactory.buildSecretsInformer(kubernetesClient, BridgeIngress.COMPONENT_NAME, resourceCacheProvider));
+        eventSources.add(EventSourceFactory.buildDeploymentsInformer(kubernetesClient, BridgeIngress.COMPONENT_NAME, resourceCacheProvider));
+        eventSources.add(EventSourceFactory.buildServicesInformer(kubernetesClient, BridgeIngress.COMPONENT_NAME, resourceCacheProvider));
         eventSources.add(EventSourceFactory.buildServicesMonitorInformer(kubernetesClient, BridgeIngress.COMPONENT_NAME));
         eventSources.add(networkingService.buildInformerEventSource(BridgeIngress.COMPONENT_NAME));
 
@@ -82,6 +91,15 @@ public class BridgeIngressController implements Reconciler<BridgeIngress>,
 
     @Override
     public UpdateControl<BridgeIngress> reconcile(BridgeIngress bridgeIngress, Context context) {
+        long start = System.nanoTime();
+        try {
+            return doReconcile(bridgeIngress);
+        } finally {
+            metricsService.updateReconcileMetrics(BridgeIngress.COMPONENT_NAME, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private UpdateControl<BridgeIngress> doReconcile(BridgeIngress bridgeIngress) {
         LOGGER.debug("Create or update BridgeIngress: '{}' in namespace '{}'", bridgeIngress.getMetadata().getName(), bridgeIngress.getMetadata().getNamespace());
 
         Secret secret = bridgeIngressService.fetchBridgeIngressSecret(bridgeIngress);
@@ -1,5 +1,12 @@
 package com.redhat.service.smartevents.shard.operator.metrics;
 
+import java.time.Duration;
+import java.util.function.Supplier;
+
 public interface MetricsService {
     void updateManagerRequestMetrics(ManagerRequestType requestType, ManagerRequestStatus status, String statusCode);
+
+    void registerWorkQueueMetrics(String queue, Supplier<Number> depth);
+
+    void updateReconcileMetrics(String component, Duration duration);
 }
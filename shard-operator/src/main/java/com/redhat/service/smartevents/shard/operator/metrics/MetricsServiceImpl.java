@@ -1,7 +1,9 @@
 package com.redhat.service.smartevents.shard.operator.metrics;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -9,6 +11,7 @@ import javax.inject.Inject;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 
@@ -20,6 +23,10 @@ public class MetricsServiceImpl implements MetricsService {
     private static final String REQUEST_TYPE = "type";
     private static final String REQUEST_STATUS = "status";
     private static final String HTTP_STATUS_CODE = "statusCode";
+    private static final String WORK_QUEUE_DEPTH_METRICS = "shard.work.queue.depth";
+    private static final String WORK_QUEUE = "queue";
+    private static final String RECONCILE_METRICS = "shard.reconcile.duration";
+    private static final String COMPONENT = "component";
 
     @Inject
     MeterRegistry meterRegistry;
@@ -38,4 +45,16 @@ public class MetricsServiceImpl implements MetricsService {
         }
         meterRegistry.counter(MANAGER_REQUEST_METRICS, tags).increment();
     }
+
+    @Override
+    public void registerWorkQueueMetrics(String queue, Supplier<Number> depth) {
+        Gauge.builder(WORK_QUEUE_DEPTH_METRICS, depth)
+                .tags(List.of(Tag.of(SHARD_ID, shardId), Tag.of(WORK_QUEUE, queue)))
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void updateReconcileMetrics(String component, Duration duration) {
+        meterRegistry.timer(RECONCILE_METRICS, List.of(Tag.of(SHARD_ID, shardId), Tag.of(COMPONENT, component))).record(duration);
+    }
 }
@@ -27,10 +27,14 @@ public class CustomerNamespaceProviderImpl implements CustomerNamespaceProvider
     @Inject
     KubernetesClient kubernetesClient;
 
+    @Inject
+    ResourceCacheProvider resourceCacheProvider;
+
     @Override
     public Namespace fetchOrCreateCustomerNamespace(String customerId) {
         final String name = this.resolveName(customerId);
-        final Namespace namespace = kubernetesClient.namespaces().withName(name).get();
+        final Namespace namespace = resourceCacheProvider.get(Namespace.class, null, name)
+                .orElseGet(() -> kubernetesClient.namespaces().withName(name).get());
         if (namespace == null) {
             return kubernetesClient.namespaces().createOrReplace(
                     new NamespaceBuilder()
@@ -6,6 +6,7 @@ public class GlobalConfigurationsConstants {
     public static final String KAFKA_CLIENT_SECRET_ENV_VAR = "KAFKA_CLIENT_SECRET";
     public static final String KAFKA_SECURITY_PROTOCOL_ENV_VAR = "KAFKA_SECURITY_PROTOCOL";
     public static final String KAFKA_TOPIC_ENV_VAR = "KAFKA_TOPIC";
+    public static final String KAFKA_DLQ_TOPIC_ENV_VAR = "KAFKA_DLQ_TOPIC";
     public static final String KAFKA_GROUP_ID_ENV_VAR = "KAFKA_GROUP_ID";
     public static final String SSO_URL_CONFIG_ENV_VAR = "EVENT_BRIDGE_SSO_URL";
     public static final String SSO_CLIENT_ID_CONFIG_ENV_VAR = "EVENT_BRIDGE_SSO_CLIENT_ID";
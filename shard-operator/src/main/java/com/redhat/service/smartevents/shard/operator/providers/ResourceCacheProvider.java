@@ -0,0 +1,27 @@
+package com.redhat.service.smartevents.shard.operator.providers;
+
+import java.util.Optional;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+
+/**
+ * Serves the reads of the reconcilers from the caches of the informers that already watch the resources, instead of
+ * sending a request to the API server for every resource on every reconcile.
+ */
+public interface ResourceCacheProvider {
+
+    /**
+     * Adds the cache of the informer to the caches searched for the resources of the given type.
+     */
+    <T extends HasMetadata> void register(Class<T> type, SharedIndexInformer<T> informer);
+
+    /**
+     * The resource is shared with the informer and must not be modified. The cache may lag behind the API server, so a
+     * resource that is not found must be fetched from the API server before being created.
+     *
+     * @param namespace the namespace of the resource, or null for a cluster-scoped resource
+     * @return the resource when it is in the cache of an informer
+     */
+    <T extends HasMetadata> Optional<T> get(Class<T> type, String namespace, String name);
+}
@@ -0,0 +1,82 @@
+package com.redhat.service.smartevents.shard.operator.providers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.redhat.service.smartevents.shard.operator.utils.LabelsBuilder;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+
+@ApplicationScoped
+public class ResourceCacheProviderImpl implements ResourceCacheProvider {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceCacheProviderImpl.class);
+
+    @ConfigProperty(name = "event-bridge.k8s.informer-cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Inject
+    KubernetesClient kubernetesClient;
+
+    private final Map<Class<?>, List<SharedIndexInformer<?>>> informers = new ConcurrentHashMap<>();
+
+    private SharedIndexInformer<Namespace> namespacesInformer;
+
+    // No reconciler watches the customer namespaces, so they get their own informer
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        namespacesInformer = kubernetesClient.namespaces()
+                .withLabels(new LabelsBuilder().buildWithDefaults())
+                .runnableInformer(0);
+        register(Namespace.class, namespacesInformer);
+        try {
+            namespacesInformer.run();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not start the informer of the customer namespaces, they will be fetched from the API server", e);
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (namespacesInformer != null) {
+            namespacesInformer.stop();
+        }
+    }
+
+    @Override
+    public <T extends HasMetadata> void register(Class<T> type, SharedIndexInformer<T> informer) {
+        informers.computeIfAbsent(type, t -> new CopyOnWriteArrayList<>()).add(informer);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends HasMetadata> Optional<T> get(Class<T> type, String namespace, String name) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        // The key of the resources in the caches of the informers
+        String key = namespace == null ? name : namespace + "/" + name;
+        return informers.getOrDefault(type, List.of()).stream()
+                .map(informer -> (T) informer.getIndexer().getByKey(key))
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+}
@@ -88,6 +88,13 @@ public class BridgeExecutor extends CustomResource<BridgeExecutorSpec, BridgeExe
         return OB_RESOURCE_NAME_PREFIX + KubernetesResourceUtil.sanitizeName(id);
     }
 
+    /**
+     * Name of the executor resources shared by all the Processors of a Bridge.
+     */
+    public static String resolveSharedResourceName(String bridgeId) {
+        return OB_RESOURCE_NAME_PREFIX + KubernetesResourceUtil.sanitizeName(bridgeId) + "-" + COMPONENT_NAME;
+    }
+
     public static final class Builder {
 
         private String namespace;
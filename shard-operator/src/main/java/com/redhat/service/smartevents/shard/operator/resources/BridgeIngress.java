@@ -54,6 +54,8 @@ public class BridgeIngress extends CustomResource<BridgeIngressSpec, BridgeIngre
                 .withCustomerId(bridgeDTO.getCustomerId())
                 .withBridgeId(bridgeDTO.getId())
                 .withImageName(ingressImage)
+                .withRateLimitPerSecond(bridgeDTO.getRateLimitPerSecond())
+                .withRateLimitBurst(bridgeDTO.getRateLimitBurst())
                 .build();
     }
 
@@ -77,6 +79,8 @@ public class BridgeIngress extends CustomResource<BridgeIngressSpec, BridgeIngre
         private String bridgeName;
         private String customerId;
         private String imageName;
+        private Integer rateLimitPerSecond;
+        private Integer rateLimitBurst;
 
         private Builder() {
 
@@ -107,6 +111,16 @@ public class BridgeIngress extends CustomResource<BridgeIngressSpec, BridgeIngre
             return this;
         }
 
+        public Builder withRateLimitPerSecond(final Integer rateLimitPerSecond) {
+            this.rateLimitPerSecond = rateLimitPerSecond;
+            return this;
+        }
+
+        public Builder withRateLimitBurst(final Integer rateLimitBurst) {
+            this.rateLimitBurst = rateLimitBurst;
+            return this;
+        }
+
         public BridgeIngress build() {
             this.validate();
             ObjectMeta meta = new ObjectMetaBuilder()
@@ -123,6 +137,8 @@ public class BridgeIngress extends CustomResource<BridgeIngressSpec, BridgeIngre
             bridgeIngressSpec.setBridgeName(bridgeName);
             bridgeIngressSpec.setCustomerId(customerId);
             bridgeIngressSpec.setId(bridgeId);
+            bridgeIngressSpec.setRateLimitPerSecond(rateLimitPerSecond);
+            bridgeIngressSpec.setRateLimitBurst(rateLimitBurst);
 
             BridgeIngress bridgeIngress = new BridgeIngress();
             bridgeIngress.setSpec(bridgeIngressSpec);
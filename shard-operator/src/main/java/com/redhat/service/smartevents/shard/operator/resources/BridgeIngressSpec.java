@@ -17,6 +17,16 @@ public class BridgeIngressSpec {
 
     private String id;
 
+    /**
+     * Events per second each subject can send to the ingress of this Bridge. No limit when null.
+     */
+    private Integer rateLimitPerSecond;
+
+    /**
+     * Events each subject can send at once after being idle. One second of events when null.
+     */
+    private Integer rateLimitBurst;
+
     public String getImage() {
         return image;
     }
@@ -49,6 +59,22 @@ public class BridgeIngressSpec {
         this.id = id;
     }
 
+    public Integer getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public void setRateLimitPerSecond(Integer rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public Integer getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+
+    public void setRateLimitBurst(Integer rateLimitBurst) {
+        this.rateLimitBurst = rateLimitBurst;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -58,11 +84,12 @@ public class BridgeIngressSpec {
             return false;
         }
         BridgeIngressSpec that = (BridgeIngressSpec) o;
-        return Objects.equals(image, that.image) && Objects.equals(customerId, that.customerId) && Objects.equals(bridgeName, that.bridgeName) && Objects.equals(id, that.id);
+        return Objects.equals(image, that.image) && Objects.equals(customerId, that.customerId) && Objects.equals(bridgeName, that.bridgeName) && Objects.equals(id, that.id)
+                && Objects.equals(rateLimitPerSecond, that.rateLimitPerSecond) && Objects.equals(rateLimitBurst, that.rateLimitBurst);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(image, customerId, bridgeName, id);
+        return Objects.hash(image, customerId, bridgeName, id, rateLimitPerSecond, rateLimitBurst);
     }
 }
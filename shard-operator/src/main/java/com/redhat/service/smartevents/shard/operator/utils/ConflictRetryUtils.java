@@ -0,0 +1,36 @@
+package com.redhat.service.smartevents.shard.operator.utils;
+
+import java.net.HttpURLConnection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+/**
+ * Runs the read-modify-write of a resource shared by several reconciles again when it fails with a conflict, because the resource
+ * changed since it was read. The write must be locked on the resourceVersion that was read, or create the resource.
+ */
+public class ConflictRetryUtils {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConflictRetryUtils.class);
+
+    public static final int MAX_ATTEMPTS = 5;
+
+    private ConflictRetryUtils() {
+    }
+
+    public static void retryOnConflict(String resourceName, Runnable readModifyWrite) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                readModifyWrite.run();
+                return;
+            } catch (KubernetesClientException e) {
+                if (e.getCode() != HttpURLConnection.HTTP_CONFLICT || attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                LOGGER.debug("Resource '{}' changed since it was read. Attempt {} of {}.", resourceName, attempt + 1, MAX_ATTEMPTS);
+            }
+        }
+    }
+}
@@ -3,7 +3,11 @@ package com.redhat.service.smartevents.shard.operator.utils;
 public class Constants {
     public static final String BRIDGE_INGRESS_CUSTOMER_ID_CONFIG_ENV_VAR = "EVENT_BRIDGE_CUSTOMER_ID";
     public static final String BRIDGE_INGRESS_WEBHOOK_TECHNICAL_ACCOUNT_ID = "EVENT_BRIDGE_WEBHOOK_TECHNICAL_ACCOUNT_ID";
+    public static final String BRIDGE_INGRESS_RATE_LIMIT_PER_SECOND_ENV_VAR = "INGRESS_RATE_LIMIT_PER_SECOND";
+    public static final String BRIDGE_INGRESS_RATE_LIMIT_BURST_ENV_VAR = "INGRESS_RATE_LIMIT_BURST";
     public static final String BRIDGE_EXECUTOR_PROCESSOR_DEFINITION_ENV_VAR = "PROCESSOR_DEFINITION";
+    public static final String BRIDGE_EXECUTOR_PROCESSOR_DEFINITIONS_DIR_ENV_VAR = "PROCESSOR_DEFINITIONS_DIR";
+    public static final String BRIDGE_EXECUTOR_PROCESSOR_DEFINITIONS_DIR = "/etc/executor/processors";
     public static final String BRIDGE_EXECUTOR_WEBHOOK_SSO_ENV_VAR = "SSO_SERVER_URL";
     public static final String BRIDGE_EXECUTOR_WEBHOOK_CLIENT_ID_ENV_VAR = "WEBHOOK_CLIENT_ID";
     public static final String BRIDGE_EXECUTOR_WEBHOOK_CLIENT_SECRET_ENV_VAR = "WEBHOOK_CLIENT_SECRET";
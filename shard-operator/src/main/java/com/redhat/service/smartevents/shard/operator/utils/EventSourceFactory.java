@@ -3,6 +3,7 @@ package com.redhat.service.smartevents.shard.operator.utils;
 import java.util.Map;
 
 import com.redhat.service.smartevents.shard.operator.monitoring.ServiceMonitorClient;
+import com.redhat.service.smartevents.shard.operator.providers.ResourceCacheProvider;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Service;
@@ -17,9 +18,13 @@ import io.javaoperatorsdk.operator.processing.event.source.EventSource;
 import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
 import io.javaoperatorsdk.operator.processing.event.source.informer.Mappers;
 
+/**
+ * The informers of the Secrets, Deployments and Services are also registered in the {@link ResourceCacheProvider}, so that
+ * the reconcilers read them from the caches of the informers.
+ */
 public class EventSourceFactory {
 
-    public static EventSource buildSecretsInformer(KubernetesClient kubernetesClient, String componentName) {
+    public static EventSource buildSecretsInformer(KubernetesClient kubernetesClient, String componentName, ResourceCacheProvider resourceCacheProvider) {
         SharedIndexInformer<Secret> secretsInformer =
                 kubernetesClient
                         .secrets()
@@ -27,10 +32,12 @@ public class EventSourceFactory {
                         .withLabels(buildLabels(componentName))
                         .runnableInformer(0);
 
+        resourceCacheProvider.register(Secret.class, secretsInformer);
+
         return new InformerEventSource<>(secretsInformer, Mappers.fromOwnerReference());
     }
 
-    public static EventSource buildDeploymentsInformer(KubernetesClient kubernetesClient, String componentName) {
+    public static EventSource buildDeploymentsInformer(KubernetesClient kubernetesClient, String componentName, ResourceCacheProvider resourceCacheProvider) {
         SharedIndexInformer<Deployment> deploymentsInformer =
                 kubernetesClient
                         .apps()
@@ -39,10 +46,12 @@ public class EventSourceFactory {
                         .withLabels(buildLabels(componentName))
                         .runnableInformer(0);
 
+        resourceCacheProvider.register(Deployment.class, deploymentsInformer);
+
         return new InformerEventSource<>(deploymentsInformer, Mappers.fromOwnerReference());
     }
 
-    public static EventSource buildServicesInformer(KubernetesClient kubernetesClient, String componentName) {
+    public static EventSource buildServicesInformer(KubernetesClient kubernetesClient, String componentName, ResourceCacheProvider resourceCacheProvider) {
         SharedIndexInformer<Service> serviceInformer =
                 kubernetesClient
                         .services()
@@ -50,6 +59,8 @@ public class EventSourceFactory {
                         .withLabels(buildLabels(componentName))
                         .runnableInformer(0);
 
+        resourceCacheProvider.register(Service.class, serviceInformer);
+
         return new InformerEventSource<>(serviceInformer, Mappers.fromOwnerReference());
     }
 
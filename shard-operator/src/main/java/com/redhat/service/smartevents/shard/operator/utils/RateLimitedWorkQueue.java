@@ -0,0 +1,173 @@
+package com.redhat.service.smartevents.shard.operator.utils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the work on a fixed number of workers, in the order of its priority then in the order it was submitted.
+ * The work of a namespace is limited to a number of operations per second, with a burst, so that a namespace that gets
+ * many new resources at once neither saturates the API server nor holds up the work of the other namespaces.
+ * The work that exceeds the rate of its namespace reserves the next permit and waits for it outside the queue.
+ */
+public class RateLimitedWorkQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitedWorkQueue.class);
+
+    /**
+     * The priorities of the work, from the highest to the lowest.
+     */
+    public enum Priority {
+        DELETION,
+        CREATION
+    }
+
+    private final double permitsPerSecond;
+
+    private final int burst;
+
+    private final PriorityBlockingQueue<Work> queue = new PriorityBlockingQueue<>();
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final ExecutorService workers;
+
+    private final ScheduledExecutorService scheduler;
+
+    public RateLimitedWorkQueue(String name, int workers, double permitsPerSecond, int burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workers, r -> {
+            Thread thread = new Thread(r, name + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, name + "-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            this.workers.execute(this::work);
+        }
+    }
+
+    /**
+     * @return completes once the task has run, exceptionally when it failed.
+     */
+    public CompletableFuture<Void> submit(String namespace, Priority priority, Runnable task) {
+        Work work = new Work(namespace, priority, sequence.incrementAndGet(), task);
+        queue.add(work);
+        return work.done;
+    }
+
+    /**
+     * @return the number of tasks waiting for a worker or for a permit of their namespace.
+     */
+    public int size() {
+        return queue.size() + waiting.get();
+    }
+
+    public void shutdown() {
+        workers.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Work work;
+            try {
+                work = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!work.permitted) {
+                long waitNanos = buckets.computeIfAbsent(work.namespace, n -> new TokenBucket(permitsPerSecond, burst)).reserve(System.nanoTime());
+                if (waitNanos > 0) {
+                    work.permitted = true;
+                    waiting.incrementAndGet();
+                    scheduler.schedule(() -> {
+                        waiting.decrementAndGet();
+                        queue.add(work);
+                    }, waitNanos, TimeUnit.NANOSECONDS);
+                    continue;
+                }
+            }
+            try {
+                work.task.run();
+                work.done.complete(null);
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to run the work of namespace '{}'", work.namespace, e);
+                work.done.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static class Work implements Comparable<Work> {
+
+        private final String namespace;
+        private final Priority priority;
+        private final long sequence;
+        private final Runnable task;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile boolean permitted;
+
+        private Work(String namespace, Priority priority, long sequence, Runnable task) {
+            this.namespace = namespace;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(Work other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    static class TokenBucket {
+
+        private final double permitsPerNano;
+        private final int burst;
+        private double tokens;
+        private long lastNanos;
+
+        TokenBucket(double permitsPerSecond, int burst) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.burst = burst;
+            this.tokens = burst;
+            this.lastNanos = System.nanoTime();
+        }
+
+        /**
+         * Takes a permit, ahead of time when there is none left.
+         *
+         * @return how long to wait for the permit, in nanoseconds.
+         */
+        synchronized long reserve(long nowNanos) {
+            if (nowNanos > lastNanos) {
+                tokens = Math.min(burst, tokens + (nowNanos - lastNanos) * permitsPerNano);
+                lastNanos = nowNanos;
+            }
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.redhat.service.smartevents.shard.operator.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+/**
+ * Stores the hash of the desired state of a resource in an annotation when it is applied, so that the next reconciles
+ * compare the hashes instead of comparing the desired resource with the live one, which the API server completes with defaults.
+ */
+public class SpecHashUtils {
+
+    public static final String SPEC_HASH_ANNOTATION = "bridge.services.redhat.com/spec-hash";
+
+    public static final String FIELD_MANAGER = LabelsBuilder.OPERATOR_NAME;
+
+    // The maps are sorted so that the same resource always gets the same hash
+    private static final ObjectMapper MAPPER = Serialization.jsonMapper().copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private SpecHashUtils() {
+    }
+
+    /**
+     * Creates the resource when it does not exist, and updates it when the desired resource has changed since it was last applied.
+     * Both use a server-side apply with the same field manager, that only owns the fields set in the desired resource: the fields
+     * defaulted by the API server or set by other controllers are left untouched, and the fields removed from the desired resource
+     * are pruned. A resource created with another field manager would keep them forever.
+     *
+     * @param resource the operation on the resource
+     * @param existing the live resource, or null when it does not exist
+     * @param desired the desired resource, that gets the annotation with its hash
+     * @param serverSideApply false to replace the whole resource instead, for the API servers that do not support server-side apply
+     * @return the existing resource when it is up-to-date, the applied resource otherwise
+     */
+    public static <T extends HasMetadata> T apply(Resource<T> resource, T existing, T desired, boolean serverSideApply) {
+        String hash = hash(desired);
+        if (existing != null && hash.equals(getSpecHash(existing))) {
+            return existing;
+        }
+        Map<String, String> annotations = desired.getMetadata().getAnnotations() == null ? new HashMap<>() : new HashMap<>(desired.getMetadata().getAnnotations());
+        annotations.put(SPEC_HASH_ANNOTATION, hash);
+        desired.getMetadata().setAnnotations(annotations);
+        if (!serverSideApply) {
+            return resource.createOrReplace(desired);
+        }
+        return resource.patch(new PatchContext.Builder()
+                .withPatchType(PatchType.SERVER_SIDE_APPLY)
+                .withFieldManager(FIELD_MANAGER)
+                .withForce(true)
+                .build(), desired);
+    }
+
+    public static String hash(HasMetadata desired) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(MAPPER.writeValueAsString(desired).getBytes(StandardCharsets.UTF_8));
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(String.format("Could not hash resource '%s'", desired.getMetadata().getName()), e);
+        }
+    }
+
+    public static String getSpecHash(HasMetadata resource) {
+        Map<String, String> annotations = resource.getMetadata().getAnnotations();
+        return annotations == null ? null : annotations.get(SPEC_HASH_ANNOTATION);
+    }
+}
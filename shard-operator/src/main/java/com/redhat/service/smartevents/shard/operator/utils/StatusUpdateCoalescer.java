@@ -0,0 +1,85 @@
+package com.redhat.service.smartevents.shard.operator.utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Buffers the status updates sent to the manager for a short window and sends them together, so that a mass rollout
+ * does not send one request per resource. When a resource is updated several times within the window, only its
+ * latest update is sent.
+ *
+ * @param <T> the type of the status updates.
+ * @param <R> the type of the answer of the manager, shared by all the updates sent together.
+ */
+public class StatusUpdateCoalescer<T, R> {
+
+    private final Duration window;
+
+    private final int maxBatchSize;
+
+    private final Function<T, String> idOf;
+
+    private final Function<List<T>, Uni<R>> sender;
+
+    private Map<String, T> updates = new LinkedHashMap<>();
+
+    private List<CompletableFuture<R>> waiters = new ArrayList<>();
+
+    public StatusUpdateCoalescer(Duration window, int maxBatchSize, Function<T, String> idOf, Function<List<T>, Uni<R>> sender) {
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.idOf = idOf;
+        this.sender = sender;
+    }
+
+    /**
+     * Adds the update to the current batch. The returned {@link Uni} completes with the answer of the manager to the whole batch.
+     * The update is submitted on subscription, so that a retry submits it again.
+     */
+    public Uni<R> submit(T update) {
+        return Uni.createFrom().deferred(() -> {
+            CompletableFuture<R> waiter = new CompletableFuture<>();
+            boolean first;
+            boolean full;
+            synchronized (this) {
+                first = updates.isEmpty();
+                updates.put(idOf.apply(update), update);
+                waiters.add(waiter);
+                full = updates.size() >= maxBatchSize;
+            }
+            if (full) {
+                flush();
+            } else if (first) {
+                Uni.createFrom().voidItem().onItem().delayIt().by(window).subscribe().with(x -> flush());
+            }
+            return Uni.createFrom().completionStage(waiter);
+        });
+    }
+
+    /**
+     * Sends the updates of the current batch, if any.
+     */
+    public void flush() {
+        List<T> batch;
+        List<CompletableFuture<R>> batchWaiters;
+        synchronized (this) {
+            if (updates.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(updates.values());
+            batchWaiters = waiters;
+            updates = new LinkedHashMap<>();
+            waiters = new ArrayList<>();
+        }
+        sender.apply(batch).subscribe().with(
+                answer -> batchWaiters.forEach(w -> w.complete(answer)),
+                failure -> batchWaiters.forEach(w -> w.completeExceptionally(failure)));
+    }
+}
@@ -17,6 +17,7 @@ import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.redhat.service.smartevents.infra.api.APIConstants;
 import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.models.dto.ResourcesDeltaDTO;
 import com.redhat.service.smartevents.shard.operator.metrics.MetricsService;
 import com.redhat.service.smartevents.shard.operator.utils.KubernetesResourcePatcher;
 import com.redhat.service.smartevents.test.wiremock.AbstractWireMockTest;
@@ -28,6 +29,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.put;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -59,6 +61,10 @@ public abstract class AbstractShardWireMockTest extends AbstractWireMockTest {
                 .willReturn(aResponse()
                         .withHeader("Content-Type", "application/json")
                         .withBody(objectMapper.writeValueAsString(processorDTOS))));
+        wireMockServer.stubFor(get(urlPathEqualTo(APIConstants.SHARD_API_BASE_PATH + "processors/delta"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(objectMapper.writeValueAsString(new ResourcesDeltaDTO<>(processorDTOS, 1)))));
     }
 
     protected void stubBridgesToDeployOrDelete(List<BridgeDTO> bridgeDTOs) throws JsonProcessingException {
@@ -66,6 +72,10 @@ public abstract class AbstractShardWireMockTest extends AbstractWireMockTest {
                 .willReturn(aResponse()
                         .withHeader("Content-Type", "application/json")
                         .withBody(objectMapper.writeValueAsString(bridgeDTOs))));
+        wireMockServer.stubFor(get(urlPathEqualTo(APIConstants.SHARD_API_BASE_PATH + "delta"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(objectMapper.writeValueAsString(new ResourcesDeltaDTO<>(bridgeDTOs, 1)))));
     }
 
     protected void stubProcessorUpdate() {
@@ -9,15 +9,21 @@ import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
 import com.redhat.service.smartevents.shard.operator.providers.CustomerNamespaceProvider;
 import com.redhat.service.smartevents.shard.operator.providers.GlobalConfigurationsConstants;
+import com.redhat.service.smartevents.shard.operator.providers.GlobalConfigurationsProvider;
+import com.redhat.service.smartevents.shard.operator.providers.ResourceCacheProvider;
+import com.redhat.service.smartevents.shard.operator.providers.TemplateProvider;
 import com.redhat.service.smartevents.shard.operator.resources.BridgeExecutor;
 import com.redhat.service.smartevents.shard.operator.resources.BridgeIngress;
 import com.redhat.service.smartevents.shard.operator.utils.Constants;
 import com.redhat.service.smartevents.shard.operator.utils.KubernetesResourcePatcher;
+import com.redhat.service.smartevents.shard.operator.utils.SpecHashUtils;
 import com.redhat.service.smartevents.test.resource.KeycloakResource;
 
+import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
@@ -45,6 +51,18 @@ public class BridgeExecutorServiceTest {
     @Inject
     KubernetesResourcePatcher kubernetesResourcePatcher;
 
+    @Inject
+    TemplateProvider templateProvider;
+
+    @Inject
+    GlobalConfigurationsProvider globalConfigurationsProvider;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    ResourceCacheProvider resourceCacheProvider;
+
     @BeforeEach
     public void setup() {
         // Kubernetes Server must be cleaned up at startup of every test.
@@ -135,14 +153,68 @@ public class BridgeExecutorServiceTest {
                             assertThat(deployment).isNotNull();
                         });
 
-        // Patch the deployment and replace
+        // Unchanged, the deployment is not applied again
         Deployment deployment = fetchBridgeExecutorDeployment(dto);
-        deployment.getSpec().getTemplate().getSpec().getContainers().get(0).setImage(patchedImage);
-        kubernetesClient.apps().deployments().inNamespace(deployment.getMetadata().getNamespace()).createOrReplace(deployment);
+        BridgeExecutor bridgeExecutor = fetchBridgeIngress(dto);
+        assertThat(bridgeExecutorService.fetchOrCreateBridgeExecutorDeployment(bridgeExecutor, fetchBridgeExecutorSecret(dto)).getMetadata().getResourceVersion()).isEqualTo(deployment.getMetadata().getResourceVersion());
+
+        // Change the image of the BridgeExecutor
+        bridgeExecutor.getSpec().setImage(patchedImage);
+
+        // Then
+        deployment = bridgeExecutorService.fetchOrCreateBridgeExecutorDeployment(bridgeExecutor, fetchBridgeExecutorSecret(dto));
+        assertThat(deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getImage()).isEqualTo(patchedImage);
+        assertThat(SpecHashUtils.getSpecHash(deployment)).isNotNull();
+    }
+
+    @Test
+    public void testSharedBridgeExecutorDeployment() {
+        // Given
+        BridgeExecutorServiceImpl sharedBridgeExecutorService = new BridgeExecutorServiceImpl();
+        sharedBridgeExecutorService.kubernetesClient = kubernetesClient;
+        sharedBridgeExecutorService.templateProvider = templateProvider;
+        sharedBridgeExecutorService.globalConfigurationsProvider = globalConfigurationsProvider;
+        sharedBridgeExecutorService.objectMapper = objectMapper;
+        sharedBridgeExecutorService.resourceCacheProvider = resourceCacheProvider;
+        sharedBridgeExecutorService.deploymentTimeout = 60;
+        sharedBridgeExecutorService.sharedExecutor = true;
+
+        ProcessorDTO dto1 = TestSupport.newRequestedProcessorDTO();
+        ProcessorDTO dto2 = TestSupport.newRequestedProcessorDTO();
+        dto2.setId(TestSupport.PROCESSOR_ID + "-2");
+        bridgeExecutorService.createBridgeExecutor(dto1);
+        bridgeExecutorService.createBridgeExecutor(dto2);
+
+        // When
+        sharedBridgeExecutorService.fetchOrCreateBridgeExecutorDeployment(fetchBridgeIngress(dto1), fetchBridgeExecutorSecret(dto1));
+        Deployment deployment = sharedBridgeExecutorService.fetchOrCreateBridgeExecutorDeployment(fetchBridgeIngress(dto2), fetchBridgeExecutorSecret(dto2));
+
+        // Then
+        String sharedName = BridgeExecutor.resolveSharedResourceName(TestSupport.BRIDGE_ID);
+        String namespace = customerNamespaceProvider.resolveName(TestSupport.CUSTOMER_ID);
+        assertThat(deployment.getMetadata().getName()).isEqualTo(sharedName);
+        assertThat(deployment.getMetadata().getOwnerReferences().size()).isEqualTo(2);
+        List<EnvVar> environmentVariables = deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getEnv();
+        assertThat(environmentVariables.stream().anyMatch(x -> x.getName().equals(Constants.BRIDGE_EXECUTOR_PROCESSOR_DEFINITION_ENV_VAR))).isFalse();
+        assertThat(environmentVariables.stream().filter(x -> x.getName().equals(Constants.BRIDGE_EXECUTOR_PROCESSOR_DEFINITIONS_DIR_ENV_VAR)).findFirst().get().getValue())
+                .isEqualTo(Constants.BRIDGE_EXECUTOR_PROCESSOR_DEFINITIONS_DIR);
+        assertThat(environmentVariables.stream().filter(x -> x.getName().equals(GlobalConfigurationsConstants.KAFKA_GROUP_ID_ENV_VAR)).findFirst().get().getValue())
+                .isEqualTo(sharedName);
+        assertThat(deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getEnvFrom().get(0).getSecretRef().getName()).isEqualTo(sharedName);
+
+        ConfigMap definitions = kubernetesClient.configMaps().inNamespace(namespace).withName(sharedName).get();
+        assertThat(definitions.getData().keySet().size()).isEqualTo(2);
+        Secret sharedSecret = kubernetesClient.secrets().inNamespace(namespace).withName(sharedName).get();
+        assertThat(sharedSecret.getData().containsKey(GlobalConfigurationsConstants.KAFKA_TOPIC_ENV_VAR)).isTrue();
+        assertThat(sharedSecret.getData().containsKey(GlobalConfigurationsConstants.KAFKA_GROUP_ID_ENV_VAR)).isFalse();
+
+        // When
+        sharedBridgeExecutorService.removeFromSharedBridgeExecutor(fetchBridgeIngress(dto1));
 
         // Then
-        deployment = bridgeExecutorService.fetchOrCreateBridgeExecutorDeployment(fetchBridgeIngress(dto), fetchBridgeExecutorSecret(dto));
-        assertThat(deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getImage()).isEqualTo(TestSupport.EXECUTOR_IMAGE);
+        definitions = kubernetesClient.configMaps().inNamespace(namespace).withName(sharedName).get();
+        assertThat(definitions.getData().keySet().size()).isEqualTo(1);
+        assertThat(definitions.getData().containsKey(dto2.getId() + ".json")).isTrue();
     }
 
     @Test
@@ -16,6 +16,7 @@ import com.redhat.service.smartevents.shard.operator.providers.GlobalConfigurati
 import com.redhat.service.smartevents.shard.operator.resources.BridgeIngress;
 import com.redhat.service.smartevents.shard.operator.utils.Constants;
 import com.redhat.service.smartevents.shard.operator.utils.KubernetesResourcePatcher;
+import com.redhat.service.smartevents.shard.operator.utils.SpecHashUtils;
 import com.redhat.service.smartevents.test.resource.KeycloakResource;
 
 import io.fabric8.kubernetes.api.model.EnvVar;
@@ -148,14 +149,64 @@ public class BridgeIngressServiceTest {
                             assertThat(deployment).isNotNull();
                         });
 
-        // Patch the deployment and replace
+        // Unchanged, the deployment is not applied again
         Deployment deployment = fetchBridgeIngressDeployment(dto);
-        deployment.getSpec().getTemplate().getSpec().getContainers().get(0).setImage(patchedImage);
-        kubernetesClient.apps().deployments().inNamespace(deployment.getMetadata().getNamespace()).createOrReplace(deployment);
+        BridgeIngress bridgeIngress = fetchBridgeIngress(dto);
+        assertThat(bridgeIngressService.fetchOrCreateBridgeIngressDeployment(bridgeIngress, fetchBridgeIngressSecret(dto)).getMetadata().getResourceVersion()).isEqualTo(deployment.getMetadata().getResourceVersion());
+
+        // Change the image of the BridgeIngress
+        bridgeIngress.getSpec().setImage(patchedImage);
+
+        // Then
+        deployment = bridgeIngressService.fetchOrCreateBridgeIngressDeployment(bridgeIngress, fetchBridgeIngressSecret(dto));
+        assertThat(deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getImage()).isEqualTo(patchedImage);
+        assertThat(SpecHashUtils.getSpecHash(deployment)).isNotNull();
+    }
+
+    @Test
+    public void testBridgeIngressDeploymentWithRateLimit() {
+        // Given
+        BridgeDTO dto = TestSupport.newProvisioningBridgeDTO();
+        bridgeIngressService.createBridgeIngress(dto);
+        waitUntilBridgeIngressExists(dto);
+        BridgeIngress bridgeIngress = fetchBridgeIngress(dto);
+        bridgeIngress.getSpec().setRateLimitPerSecond(100);
+        bridgeIngress.getSpec().setRateLimitBurst(500);
+
+        // When
+        Deployment deployment = bridgeIngressService.fetchOrCreateBridgeIngressDeployment(bridgeIngress, fetchBridgeIngressSecret(dto));
 
         // Then
-        deployment = bridgeIngressService.fetchOrCreateBridgeIngressDeployment(fetchBridgeIngress(dto), fetchBridgeIngressSecret(dto));
-        assertThat(deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getImage()).isEqualTo(TestSupport.INGRESS_IMAGE);
+        List<EnvVar> environmentVariables = deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getEnv();
+        assertThat(environmentVariables.stream().filter(x -> x.getName().equals(Constants.BRIDGE_INGRESS_RATE_LIMIT_PER_SECOND_ENV_VAR)).findFirst().get().getValue()).isEqualTo("100");
+        assertThat(environmentVariables.stream().filter(x -> x.getName().equals(Constants.BRIDGE_INGRESS_RATE_LIMIT_BURST_ENV_VAR)).findFirst().get().getValue()).isEqualTo("500");
+    }
+
+    @Test
+    public void testBridgeIngressRateLimitIsSetPerBridge() {
+        // Given
+        BridgeDTO dto = TestSupport.newProvisioningBridgeDTO();
+        dto.setRateLimitPerSecond(10);
+        dto.setRateLimitBurst(20);
+        BridgeDTO other = TestSupport.newProvisioningBridgeDTO();
+        other.setId(dto.getId() + "-other");
+        other.setName(dto.getName() + "-other");
+        other.setRateLimitPerSecond(30);
+
+        // When
+        bridgeIngressService.createBridgeIngress(dto);
+        bridgeIngressService.createBridgeIngress(other);
+        waitUntilBridgeIngressExists(dto);
+        waitUntilBridgeIngressExists(other);
+
+        // Then
+        BridgeIngress bridgeIngress = fetchBridgeIngress(dto);
+        assertThat(bridgeIngress.getSpec().getRateLimitPerSecond()).isEqualTo(10);
+        assertThat(bridgeIngress.getSpec().getRateLimitBurst()).isEqualTo(20);
+        BridgeIngress otherBridgeIngress = fetchBridgeIngress(other);
+        assertThat(otherBridgeIngress.getSpec().getRateLimitPerSecond()).isEqualTo(30);
+        // The default of the operator applies to the Bridge that does not set a burst
+        assertThat(otherBridgeIngress.getSpec().getRateLimitBurst()).isEqualTo(1000);
     }
 
     @Test
@@ -0,0 +1,16 @@
+package com.redhat.service.smartevents.shard.operator;
+
+import java.util.Map;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+/**
+ * A Quarkus Test Profile that can be used to serve the reads of the reconcilers from the caches of the informers.
+ */
+public class InformerCacheTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of("event-bridge.k8s.informer-cache.enabled", "true");
+    }
+}
@@ -15,6 +15,7 @@ import com.redhat.service.smartevents.infra.exceptions.definitions.platform.HTTP
 import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
 import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
 import com.redhat.service.smartevents.infra.models.dto.ProcessorDTO;
+import com.redhat.service.smartevents.infra.models.dto.ResourcesDeltaDTO;
 import com.redhat.service.smartevents.shard.operator.metrics.ManagerRequestStatus;
 import com.redhat.service.smartevents.shard.operator.metrics.ManagerRequestType;
 import com.redhat.service.smartevents.test.resource.KeycloakResource;
@@ -25,10 +26,13 @@ import io.quarkus.test.kubernetes.client.WithOpenShiftTestServer;
 import io.vertx.mutiny.core.buffer.Buffer;
 import io.vertx.mutiny.ext.web.client.HttpResponse;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -120,4 +124,38 @@ public class ManagerClientTest extends AbstractShardWireMockTest {
 
         assertThat(managerClient.fetchProcessorsToDeployOrDelete().await().atMost(Duration.ofSeconds(10)).size()).isEqualTo(1);
     }
+
+    @Test
+    public void fetchBridgesChangedSince() {
+        wireMockServer.stubFor(get(urlPathEqualTo(APIConstants.SHARD_API_BASE_PATH + "delta"))
+                .withQueryParam("since", equalTo("4"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"items\": [], \"watermark\": 7}")));
+
+        ResourcesDeltaDTO<BridgeDTO> delta = managerClient.fetchBridgesChangedSince(4).await().atMost(Duration.ofSeconds(10));
+        assertThat(delta.getItems()).isEmpty();
+        assertThat(delta.getWatermark()).isEqualTo(7);
+    }
+
+    @Test
+    public void fetchProcessorsChangedSince() throws JsonProcessingException {
+        ProcessorDTO processor = TestSupport.newRequestedProcessorDTO();
+        stubProcessorsToDeployOrDelete(List.of(processor));
+
+        ResourcesDeltaDTO<ProcessorDTO> delta = managerClient.fetchProcessorsChangedSince(0).await().atMost(Duration.ofSeconds(10));
+        assertThat(delta.getItems()).hasSize(1);
+        assertThat(delta.getWatermark()).isEqualTo(1);
+    }
+
+    @Test
+    public void awaitChanges() {
+        wireMockServer.stubFor(get(urlPathEqualTo(APIConstants.SHARD_API_BASE_PATH + "changes"))
+                .withQueryParam("since", equalTo("instance:1"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"version\": \"instance:2\"}")));
+
+        assertThat(managerClient.awaitChanges("instance:1").await().atMost(Duration.ofSeconds(10))).isEqualTo("instance:2");
+    }
 }
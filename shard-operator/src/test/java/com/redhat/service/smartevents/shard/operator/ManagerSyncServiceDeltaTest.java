@@ -0,0 +1,111 @@
+package com.redhat.service.smartevents.shard.operator;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.service.smartevents.infra.models.dto.BridgeDTO;
+import com.redhat.service.smartevents.infra.models.dto.KafkaConnectionDTO;
+import com.redhat.service.smartevents.infra.models.dto.ManagedResourceStatus;
+import com.redhat.service.smartevents.infra.models.dto.ResourcesDeltaDTO;
+import com.redhat.service.smartevents.shard.operator.metrics.MetricsService;
+
+import io.smallrye.mutiny.Uni;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ManagerSyncServiceDeltaTest {
+
+    private ManagerSyncServiceImpl managerSyncService;
+
+    private ManagerClient managerClient;
+
+    private BridgeIngressService bridgeIngressService;
+
+    @BeforeEach
+    void setup() {
+        managerClient = mock(ManagerClient.class);
+        managerSyncService = new ManagerSyncServiceImpl();
+        managerSyncService.managerClient = managerClient;
+        managerSyncService.resyncInterval = Duration.ofMinutes(5);
+        bridgeIngressService = mock(BridgeIngressService.class);
+        managerSyncService.bridgeIngressService = bridgeIngressService;
+        managerSyncService.metricsService = mock(MetricsService.class);
+        managerSyncService.workers = 1;
+        managerSyncService.namespaceRateLimitPerSecond = 100;
+        managerSyncService.namespaceRateLimitBurst = 100;
+        managerSyncService.init();
+        when(managerClient.fetchBridgesChangedSince(anyLong())).thenReturn(Uni.createFrom().item(new ResourcesDeltaDTO<>(Collections.emptyList(), 5)));
+        when(managerClient.fetchProcessorsChangedSince(anyLong())).thenReturn(Uni.createFrom().item(new ResourcesDeltaDTO<>(Collections.emptyList(), 3)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        managerSyncService.onStop(null);
+    }
+
+    @Test
+    void testFetchesOnlyTheChangesSinceThePreviousSync() {
+        managerSyncService.pollUpdatesFromManager();
+
+        assertThat(managerSyncService.getBridgesWatermark()).isEqualTo(5);
+        assertThat(managerSyncService.getProcessorsWatermark()).isEqualTo(3);
+
+        managerSyncService.pollUpdatesFromManager();
+
+        verify(managerClient).fetchBridgesChangedSince(0);
+        verify(managerClient).fetchBridgesChangedSince(5);
+        verify(managerClient).fetchProcessorsChangedSince(0);
+        verify(managerClient).fetchProcessorsChangedSince(3);
+    }
+
+    @Test
+    void testWatermarkMovesOnceTheChangesAreHandled() {
+        BridgeDTO bridge = new BridgeDTO("id", "name", "endpoint", "customerId", ManagedResourceStatus.ACCEPTED, new KafkaConnectionDTO());
+        when(managerClient.fetchBridgesChangedSince(anyLong())).thenReturn(Uni.createFrom().item(new ResourcesDeltaDTO<>(List.of(bridge), 5)));
+        when(managerClient.notifyBridgeStatusChange(any())).thenReturn(Uni.createFrom().nullItem());
+
+        managerSyncService.doBridges().await().atMost(Duration.ofSeconds(5));
+
+        assertThat(managerSyncService.getBridgesWatermark()).isEqualTo(5);
+        assertThat(bridge.getStatus()).isEqualTo(ManagedResourceStatus.PROVISIONING);
+        verify(bridgeIngressService).createBridgeIngress(bridge);
+    }
+
+    @Test
+    void testWatermarkDoesNotMoveWhenAChangeFails() {
+        BridgeDTO bridge = new BridgeDTO("id", "name", "endpoint", "customerId", ManagedResourceStatus.ACCEPTED, new KafkaConnectionDTO());
+        when(managerClient.fetchBridgesChangedSince(anyLong())).thenReturn(Uni.createFrom().item(new ResourcesDeltaDTO<>(List.of(bridge), 5)));
+        when(managerClient.notifyBridgeStatusChange(any())).thenReturn(Uni.createFrom().failure(new IllegalStateException("manager unavailable")));
+
+        assertThatThrownBy(() -> managerSyncService.doBridges().await().atMost(Duration.ofSeconds(5))).isInstanceOf(RuntimeException.class);
+
+        // The Bridge is not deployed before the manager knows it is provisioning, and is fetched again by the next sync
+        assertThat(managerSyncService.getBridgesWatermark()).isZero();
+        verify(bridgeIngressService, never()).createBridgeIngress(any());
+    }
+
+    @Test
+    void testFetchesEverythingOnResync() {
+        managerSyncService.resyncInterval = Duration.ZERO;
+
+        managerSyncService.pollUpdatesFromManager();
+        managerSyncService.pollUpdatesFromManager();
+
+        verify(managerClient, times(2)).fetchBridgesChangedSince(0);
+        verify(managerClient, never()).fetchBridgesChangedSince(5);
+        verify(managerClient, times(2)).fetchProcessorsChangedSince(0);
+    }
+}
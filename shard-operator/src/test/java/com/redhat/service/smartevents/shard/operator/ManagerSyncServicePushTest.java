@@ -0,0 +1,79 @@
+package com.redhat.service.smartevents.shard.operator;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ManagerSyncServicePushTest {
+
+    private final AtomicInteger syncs = new AtomicInteger();
+
+    private ManagerSyncServiceImpl managerSyncService;
+
+    @BeforeEach
+    void setup() {
+        managerSyncService = new ManagerSyncServiceImpl() {
+            @Override
+            public void syncUpdatesFromManager() {
+                syncs.incrementAndGet();
+            }
+        };
+        managerSyncService.managerClient = mock(ManagerClient.class);
+        managerSyncService.pushEnabled = true;
+        managerSyncService.pushRetryDelay = Duration.ofHours(1);
+        managerSyncService.resyncInterval = Duration.ofMinutes(5);
+    }
+
+    @Test
+    void testSyncsOnChanges() {
+        when(managerSyncService.managerClient.awaitChanges(null)).thenReturn(Uni.createFrom().item("v1"));
+        when(managerSyncService.managerClient.awaitChanges("v1")).thenReturn(Uni.createFrom().item("v2"));
+        when(managerSyncService.managerClient.awaitChanges("v2")).thenReturn(Uni.createFrom().nothing());
+
+        managerSyncService.onStart(new StartupEvent());
+
+        assertThat(syncs).hasValue(2);
+        assertThat(managerSyncService.isPushConnected()).isTrue();
+    }
+
+    @Test
+    void testDoesNotSyncWhenNothingChanged() {
+        when(managerSyncService.managerClient.awaitChanges(null)).thenReturn(Uni.createFrom().item("v1"));
+        when(managerSyncService.managerClient.awaitChanges("v1")).thenReturn(Uni.createFrom().item("v1"), Uni.createFrom().nothing());
+
+        managerSyncService.onStart(new StartupEvent());
+
+        assertThat(syncs).hasValue(1);
+    }
+
+    @Test
+    void testFallsBackToPollingOnFailure() {
+        when(managerSyncService.managerClient.awaitChanges(null)).thenReturn(Uni.createFrom().failure(new IllegalStateException("manager down")));
+
+        managerSyncService.onStart(new StartupEvent());
+        assertThat(managerSyncService.isPushConnected()).isFalse();
+
+        managerSyncService.pollUpdatesFromManager();
+        assertThat(syncs).hasValue(1);
+    }
+
+    @Test
+    void testDoesNotPollWhilePushIsConnected() {
+        when(managerSyncService.managerClient.awaitChanges(null)).thenReturn(Uni.createFrom().item("v1"));
+        when(managerSyncService.managerClient.awaitChanges("v1")).thenReturn(Uni.createFrom().nothing());
+        managerSyncService.onStart(new StartupEvent());
+
+        managerSyncService.pollUpdatesFromManager();
+
+        assertThat(syncs).hasValue(1);
+    }
+}
@@ -0,0 +1,156 @@
+package com.redhat.service.smartevents.shard.operator.controllers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.service.smartevents.infra.models.processors.ProcessorDefinition;
+import com.redhat.service.smartevents.shard.operator.InformerCacheTestProfile;
+import com.redhat.service.smartevents.shard.operator.TestSupport;
+import com.redhat.service.smartevents.shard.operator.providers.CustomerNamespaceProvider;
+import com.redhat.service.smartevents.shard.operator.providers.ResourceCacheProvider;
+import com.redhat.service.smartevents.shard.operator.resources.BridgeExecutor;
+import com.redhat.service.smartevents.shard.operator.utils.KubernetesResourcePatcher;
+import com.redhat.service.smartevents.shard.operator.utils.LabelsBuilder;
+import com.redhat.service.smartevents.test.resource.KeycloakResource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
+import io.javaoperatorsdk.operator.api.reconciler.UpdateControl;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.kubernetes.client.KubernetesTestServer;
+import io.quarkus.test.kubernetes.client.WithKubernetesTestServer;
+
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the requests sent to the API server by a reconcile, once the informers have received the resources.
+ */
+@QuarkusTest
+@TestProfile(InformerCacheTestProfile.class)
+@WithKubernetesTestServer
+@QuarkusTestResource(value = KeycloakResource.class, restrictToAnnotatedClass = true)
+public class BridgeExecutorControllerApiCallsTest {
+
+    @KubernetesTestServer
+    KubernetesServer mockServer;
+
+    @Inject
+    BridgeExecutorController bridgeExecutorController;
+
+    @Inject
+    CustomerNamespaceProvider customerNamespaceProvider;
+
+    @Inject
+    ResourceCacheProvider resourceCacheProvider;
+
+    @Inject
+    KubernetesClient kubernetesClient;
+
+    @Inject
+    KubernetesResourcePatcher kubernetesResourcePatcher;
+
+    @BeforeEach
+    void setup() {
+        kubernetesResourcePatcher.cleanUp();
+    }
+
+    @Test
+    void testReconcileReadsFromTheInformers() throws InterruptedException {
+        // Given
+        BridgeExecutor bridgeExecutor = buildBridgeExecutor();
+        deployBridgeExecutorSecret(bridgeExecutor);
+        bridgeExecutorController.reconcile(bridgeExecutor, null);
+        awaitCached(Secret.class, bridgeExecutor.getMetadata().getNamespace(), bridgeExecutor.getMetadata().getName());
+        awaitCached(Deployment.class, bridgeExecutor.getMetadata().getNamespace(), bridgeExecutor.getMetadata().getName());
+        takeApiCalls();
+
+        // When
+        UpdateControl<BridgeExecutor> updateControl = bridgeExecutorController.reconcile(bridgeExecutor, null);
+
+        // Then
+        assertThat(updateControl.isUpdateStatus()).isTrue();
+        assertThat(takeApiCalls()).isEmpty();
+    }
+
+    @Test
+    void testCustomerNamespaceIsReadFromTheInformer() throws InterruptedException {
+        // Given
+        Namespace namespace = customerNamespaceProvider.fetchOrCreateCustomerNamespace(TestSupport.CUSTOMER_ID);
+        awaitCached(Namespace.class, null, namespace.getMetadata().getName());
+        takeApiCalls();
+
+        // When
+        Namespace fetched = customerNamespaceProvider.fetchOrCreateCustomerNamespace(TestSupport.CUSTOMER_ID);
+
+        // Then
+        assertThat(fetched.getMetadata().getName()).isEqualTo(namespace.getMetadata().getName());
+        assertThat(takeApiCalls()).isEmpty();
+    }
+
+    private <T extends HasMetadata> void awaitCached(Class<T> type, String namespace, String name) {
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(30))
+                .pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> assertThat(resourceCacheProvider.get(type, namespace, name)).isPresent());
+    }
+
+    private List<String> takeApiCalls() throws InterruptedException {
+        List<String> apiCalls = new ArrayList<>();
+        RecordedRequest request;
+        while ((request = mockServer.getKubernetesMockServer().takeRequest(200, TimeUnit.MILLISECONDS)) != null) {
+            // The watches are opened by the informers, not by the reconcile
+            if (!request.getPath().contains("watch=true")) {
+                apiCalls.add(request.getMethod() + " " + request.getPath());
+            }
+        }
+        return apiCalls;
+    }
+
+    private void deployBridgeExecutorSecret(BridgeExecutor bridgeExecutor) {
+        // The informers only watch the resources of the operator
+        Secret secret = new SecretBuilder()
+                .withMetadata(
+                        new ObjectMetaBuilder()
+                                .withNamespace(bridgeExecutor.getMetadata().getNamespace())
+                                .withName(bridgeExecutor.getMetadata().getName())
+                                .withLabels(new LabelsBuilder().withManagedByOperator().withComponent(BridgeExecutor.COMPONENT_NAME).build())
+                                .build())
+                .build();
+        kubernetesClient
+                .secrets()
+                .inNamespace(bridgeExecutor.getMetadata().getNamespace())
+                .withName(bridgeExecutor.getMetadata().getName())
+                .createOrReplace(secret);
+    }
+
+    private BridgeExecutor buildBridgeExecutor() {
+        return BridgeExecutor.fromBuilder()
+                .withNamespace(KubernetesResourceUtil.sanitizeName(TestSupport.CUSTOMER_ID))
+                .withImageName(TestSupport.EXECUTOR_IMAGE)
+                .withProcessorId(TestSupport.PROCESSOR_ID)
+                .withProcessorName(TestSupport.PROCESSOR_NAME)
+                .withBridgeId(TestSupport.BRIDGE_ID)
+                .withCustomerId(TestSupport.CUSTOMER_ID)
+                .withDefinition(new ProcessorDefinition())
+                .build();
+    }
+}
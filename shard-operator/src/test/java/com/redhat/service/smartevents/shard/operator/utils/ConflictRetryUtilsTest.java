@@ -0,0 +1,47 @@
+package com.redhat.service.smartevents.shard.operator.utils;
+
+import java.net.HttpURLConnection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConflictRetryUtilsTest {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void testRetriesOnConflict() {
+        ConflictRetryUtils.retryOnConflict("name", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new KubernetesClientException("conflict", HttpURLConnection.HTTP_CONFLICT, null);
+            }
+        });
+
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testGivesUpAfterTheMaxAttempts() {
+        assertThatThrownBy(() -> ConflictRetryUtils.retryOnConflict("name", () -> {
+            attempts.incrementAndGet();
+            throw new KubernetesClientException("conflict", HttpURLConnection.HTTP_CONFLICT, null);
+        })).isInstanceOf(KubernetesClientException.class);
+
+        assertThat(attempts.get()).isEqualTo(ConflictRetryUtils.MAX_ATTEMPTS);
+    }
+
+    @Test
+    void testDoesNotRetryOtherFailures() {
+        assertThatThrownBy(() -> ConflictRetryUtils.retryOnConflict("name", () -> {
+            attempts.incrementAndGet();
+            throw new KubernetesClientException("forbidden", HttpURLConnection.HTTP_FORBIDDEN, null);
+        })).isInstanceOf(KubernetesClientException.class);
+
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,101 @@
+package com.redhat.service.smartevents.shard.operator.utils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.service.smartevents.shard.operator.utils.RateLimitedWorkQueue.Priority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.awaitility.Awaitility.await;
+
+public class RateLimitedWorkQueueTest {
+
+    private final List<String> runs = new CopyOnWriteArrayList<>();
+
+    private RateLimitedWorkQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    void testDeletionsRunFirst() throws InterruptedException {
+        queue = new RateLimitedWorkQueue("test", 1, 100, 100);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        queue.submit("ns", Priority.CREATION, () -> {
+            started.countDown();
+            awaitRelease(blocked);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        queue.submit("ns", Priority.CREATION, () -> runs.add("creation"));
+        queue.submit("ns", Priority.DELETION, () -> runs.add("deletion"));
+        assertThat(queue.size()).isEqualTo(2);
+        blocked.countDown();
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(runs).containsExactly("deletion", "creation"));
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void testNamespacesAreRateLimitedSeparately() {
+        queue = new RateLimitedWorkQueue("test", 2, 1, 1);
+
+        queue.submit("a", Priority.CREATION, () -> runs.add("a1"));
+        queue.submit("a", Priority.CREATION, () -> runs.add("a2"));
+        queue.submit("b", Priority.CREATION, () -> runs.add("b1"));
+
+        await().atMost(Duration.ofMillis(500)).untilAsserted(() -> {
+            assertThat(runs).containsExactlyInAnyOrder("a1", "b1");
+            assertThat(queue.size()).isEqualTo(1);
+        });
+        await().atMost(Duration.ofSeconds(3)).untilAsserted(() -> assertThat(runs).containsExactlyInAnyOrder("a1", "b1", "a2"));
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void testFailedWorkDoesNotStopTheWorkers() {
+        queue = new RateLimitedWorkQueue("test", 1, 100, 100);
+
+        queue.submit("ns", Priority.CREATION, () -> {
+            throw new IllegalStateException("failure");
+        });
+        queue.submit("ns", Priority.CREATION, () -> runs.add("next"));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(runs).containsExactly("next"));
+    }
+
+    @Test
+    void testTokenBucketReservesThePermitsAheadOfTime() {
+        RateLimitedWorkQueue.TokenBucket bucket = new RateLimitedWorkQueue.TokenBucket(2, 2);
+        long now = System.nanoTime();
+
+        assertThat(bucket.reserve(now)).isZero();
+        assertThat(bucket.reserve(now)).isZero();
+        assertThat(bucket.reserve(now)).isCloseTo(TimeUnit.MILLISECONDS.toNanos(500), within(1L));
+        assertThat(bucket.reserve(now)).isCloseTo(TimeUnit.SECONDS.toNanos(1), within(1L));
+        // The bucket never holds more than the burst
+        assertThat(bucket.reserve(now + TimeUnit.HOURS.toNanos(1))).isZero();
+        assertThat(bucket.reserve(now + TimeUnit.HOURS.toNanos(1))).isZero();
+        assertThat(bucket.reserve(now + TimeUnit.HOURS.toNanos(1))).isCloseTo(TimeUnit.MILLISECONDS.toNanos(500), within(1L));
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
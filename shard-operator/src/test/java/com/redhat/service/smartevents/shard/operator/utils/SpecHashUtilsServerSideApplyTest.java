@@ -0,0 +1,116 @@
+package com.redhat.service.smartevents.shard.operator.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the requests the client sends for a server-side apply. The CRUD mock API server of the other tests does not
+ * support it, so they run with it disabled.
+ */
+public class SpecHashUtilsServerSideApplyTest {
+
+    private static final String NAMESPACE = "ns";
+
+    private static final String NAME = "name";
+
+    private final List<RecordedRequest> requests = new ArrayList<>();
+
+    private MockWebServer server;
+
+    private KubernetesClient client;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                synchronized (requests) {
+                    requests.add(request);
+                }
+                return new MockResponse().setResponseCode(200).setHeader("Content-Type", "application/json").setBody(Serialization.asJson(buildDeployment("image")));
+            }
+        });
+        server.start();
+        client = new DefaultKubernetesClient(new ConfigBuilder().withMasterUrl(server.url("/").toString()).withNamespace(NAMESPACE).build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void applyCreatesTheMissingResourceWithTheFieldManager() {
+        Deployment desired = buildDeployment("image");
+
+        SpecHashUtils.apply(client.apps().deployments().inNamespace(NAMESPACE).withName(NAME), null, desired, true);
+
+        assertServerSideApply(desired);
+    }
+
+    @Test
+    void applyUpdatesTheChangedResourceWithTheFieldManager() {
+        Deployment existing = buildDeployment("image");
+        existing.getMetadata().setAnnotations(Map.of(SpecHashUtils.SPEC_HASH_ANNOTATION, SpecHashUtils.hash(existing)));
+        Deployment desired = buildDeployment("image-patched");
+
+        SpecHashUtils.apply(client.apps().deployments().inNamespace(NAMESPACE).withName(NAME), existing, desired, true);
+
+        assertServerSideApply(desired);
+    }
+
+    private void assertServerSideApply(Deployment desired) {
+        synchronized (requests) {
+            // The resource is never created nor replaced with the default field manager, that would keep owning the removed fields
+            assertThat(requests).extracting(RecordedRequest::getMethod).doesNotContain("POST", "PUT");
+            assertThat(requests).filteredOn(r -> "PATCH".equals(r.getMethod())).singleElement().satisfies(patch -> {
+                assertThat(patch.getPath()).startsWith("/apis/apps/v1/namespaces/" + NAMESPACE + "/deployments/" + NAME)
+                        .contains("fieldManager=" + SpecHashUtils.FIELD_MANAGER)
+                        .contains("force=true");
+                assertThat(patch.getHeader("Content-Type")).startsWith("application/apply-patch");
+                assertThat(patch.getBody().readUtf8()).contains(SpecHashUtils.getSpecHash(desired));
+            });
+        }
+    }
+
+    private static Deployment buildDeployment(String image) {
+        return new DeploymentBuilder()
+                .withNewMetadata()
+                .withName(NAME)
+                .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                .withNewTemplate()
+                .withNewSpec()
+                .addNewContainer()
+                .withName("container")
+                .withImage(image)
+                .endContainer()
+                .endSpec()
+                .endTemplate()
+                .endSpec()
+                .build();
+    }
+}
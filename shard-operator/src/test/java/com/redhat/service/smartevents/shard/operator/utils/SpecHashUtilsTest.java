@@ -0,0 +1,114 @@
+package com.redhat.service.smartevents.shard.operator.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class SpecHashUtilsTest {
+
+    @Test
+    public void hashDoesNotDependOnTheOrderOfTheLabels() {
+        Map<String, String> labels = new LinkedHashMap<>();
+        labels.put("a", "1");
+        labels.put("b", "2");
+        Map<String, String> reversed = new LinkedHashMap<>();
+        reversed.put("b", "2");
+        reversed.put("a", "1");
+
+        assertThat(SpecHashUtils.hash(buildDeployment("image", labels))).isEqualTo(SpecHashUtils.hash(buildDeployment("image", reversed)));
+        assertThat(SpecHashUtils.hash(buildDeployment("image", labels))).isNotEqualTo(SpecHashUtils.hash(buildDeployment("image-patched", labels)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void applyCreatesTheMissingResourceServerSide() {
+        Resource<Deployment> resource = mock(Resource.class);
+        Deployment desired = buildDeployment("image", Map.of());
+        String hash = SpecHashUtils.hash(desired);
+
+        SpecHashUtils.apply(resource, null, desired, true);
+
+        ArgumentCaptor<PatchContext> patchContext = ArgumentCaptor.forClass(PatchContext.class);
+        verify(resource).patch(patchContext.capture(), any(Deployment.class));
+        verify(resource, never()).createOrReplace(any(Deployment.class));
+        assertThat(patchContext.getValue().getPatchType()).isEqualTo(PatchType.SERVER_SIDE_APPLY);
+        assertThat(patchContext.getValue().getFieldManager()).isEqualTo(SpecHashUtils.FIELD_MANAGER);
+        assertThat(SpecHashUtils.getSpecHash(desired)).isEqualTo(hash);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void applyReplacesTheResourceWithoutServerSideApply() {
+        Resource<Deployment> resource = mock(Resource.class);
+        Deployment desired = buildDeployment("image", Map.of());
+
+        SpecHashUtils.apply(resource, null, desired, false);
+
+        verify(resource).createOrReplace(desired);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void applySkipsTheUnchangedResource() {
+        Resource<Deployment> resource = mock(Resource.class);
+        Deployment existing = buildDeployment("image", Map.of());
+        existing.getMetadata().setAnnotations(Map.of(SpecHashUtils.SPEC_HASH_ANNOTATION, SpecHashUtils.hash(existing)));
+
+        Deployment applied = SpecHashUtils.apply(resource, existing, buildDeployment("image", Map.of()), true);
+
+        assertThat(applied).isSameAs(existing);
+        verifyNoInteractions(resource);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void applyPatchesTheChangedResourceServerSide() {
+        Resource<Deployment> resource = mock(Resource.class);
+        Deployment existing = buildDeployment("image", Map.of());
+        existing.getMetadata().setAnnotations(Map.of(SpecHashUtils.SPEC_HASH_ANNOTATION, SpecHashUtils.hash(existing)));
+        Deployment desired = buildDeployment("image-patched", Map.of());
+        when(resource.patch(any(PatchContext.class), any(Deployment.class))).thenReturn(desired);
+
+        SpecHashUtils.apply(resource, existing, desired, true);
+
+        ArgumentCaptor<PatchContext> patchContext = ArgumentCaptor.forClass(PatchContext.class);
+        verify(resource).patch(patchContext.capture(), any(Deployment.class));
+        assertThat(patchContext.getValue().getPatchType()).isEqualTo(PatchType.SERVER_SIDE_APPLY);
+        assertThat(patchContext.getValue().getFieldManager()).isEqualTo(SpecHashUtils.FIELD_MANAGER);
+        assertThat(SpecHashUtils.getSpecHash(desired)).isNotEqualTo(SpecHashUtils.getSpecHash(existing));
+    }
+
+    private static Deployment buildDeployment(String image, Map<String, String> labels) {
+        return new DeploymentBuilder()
+                .withNewMetadata()
+                .withName("name")
+                .withLabels(labels)
+                .endMetadata()
+                .withNewSpec()
+                .withNewTemplate()
+                .withNewSpec()
+                .addNewContainer()
+                .withImage(image)
+                .endContainer()
+                .endSpec()
+                .endTemplate()
+                .endSpec()
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.redhat.service.smartevents.shard.operator.utils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StatusUpdateCoalescerTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    private StatusUpdateCoalescer<String, Integer> coalescer(Duration window, int maxBatchSize, Uni<Integer> answer) {
+        return new StatusUpdateCoalescer<>(window, maxBatchSize, update -> update.substring(0, update.indexOf(':')), batch -> {
+            batches.add(batch);
+            return answer;
+        });
+    }
+
+    @Test
+    void testSendsTheUpdatesOfTheWindowTogether() {
+        StatusUpdateCoalescer<String, Integer> coalescer = coalescer(Duration.ofHours(1), 100, Uni.createFrom().item(200));
+
+        CompletableFuture<Integer> first = coalescer.submit("a:PROVISIONING").subscribeAsCompletionStage();
+        CompletableFuture<Integer> second = coalescer.submit("b:PROVISIONING").subscribeAsCompletionStage();
+        assertThat(batches).isEmpty();
+
+        coalescer.flush();
+
+        assertThat(batches).containsExactly(List.of("a:PROVISIONING", "b:PROVISIONING"));
+        assertThat(first).isCompletedWithValue(200);
+        assertThat(second).isCompletedWithValue(200);
+    }
+
+    @Test
+    void testSendsOnlyTheLatestUpdateOfAResource() {
+        StatusUpdateCoalescer<String, Integer> coalescer = coalescer(Duration.ofHours(1), 100, Uni.createFrom().item(200));
+
+        coalescer.submit("a:PROVISIONING").subscribe().with(x -> {
+        });
+        coalescer.submit("a:READY").subscribe().with(x -> {
+        });
+        coalescer.flush();
+
+        assertThat(batches).containsExactly(List.of("a:READY"));
+    }
+
+    @Test
+    void testSendsAFullBatchRightAway() {
+        StatusUpdateCoalescer<String, Integer> coalescer = coalescer(Duration.ofHours(1), 2, Uni.createFrom().item(200));
+
+        coalescer.submit("a:READY").subscribe().with(x -> {
+        });
+        coalescer.submit("b:READY").subscribe().with(x -> {
+        });
+        coalescer.submit("c:READY").subscribe().with(x -> {
+        });
+
+        assertThat(batches).containsExactly(List.of("a:READY", "b:READY"));
+    }
+
+    @Test
+    void testSendsAfterTheWindow() {
+        StatusUpdateCoalescer<String, Integer> coalescer = coalescer(Duration.ofMillis(10), 100, Uni.createFrom().item(200));
+
+        assertThat(coalescer.submit("a:READY").await().atMost(Duration.ofSeconds(5))).isEqualTo(200);
+        assertThat(batches).containsExactly(List.of("a:READY"));
+    }
+
+    @Test
+    void testFailsAllTheUpdatesOfAFailedBatch() {
+        StatusUpdateCoalescer<String, Integer> coalescer = coalescer(Duration.ofMillis(10), 100, Uni.createFrom().failure(new IllegalStateException("manager down")));
+
+        assertThatThrownBy(() -> coalescer.submit("a:READY").await().atMost(Duration.ofSeconds(5))).isInstanceOf(IllegalStateException.class);
+    }
+}